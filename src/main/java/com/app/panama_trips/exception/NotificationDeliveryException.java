@@ -0,0 +1,16 @@
+package com.app.panama_trips.exception;
+
+public class NotificationDeliveryException extends RuntimeException {
+
+    // false when retrying cannot help (bad address, unknown channel), the row is failed at once
+    private final boolean retryable;
+
+    public NotificationDeliveryException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.panama_trips.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
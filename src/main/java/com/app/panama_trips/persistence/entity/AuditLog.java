@@ -22,8 +22,10 @@ import java.util.Map;
 })
 public class AuditLog {
 
+    // Pooled sequence ids let Hibernate batch the write-behind inserts (IDENTITY disables JDBC batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+    @SequenceGenerator(name = "audit_log_seq", sequenceName = "audit_log_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "entity_type", nullable = false, length = 50)
@@ -11,7 +11,8 @@ import java.time.LocalTime;
 
 /**
  * Entity representing the available_tours database view.
- * This is a read-only entity as it maps to a database view.
+ * This is a read-only entity as it maps to a database view; booking counts come
+ * from the tour_inventory read model rather than an aggregate over reservations.
  */
 @Getter
 @Entity
@@ -78,7 +79,7 @@ public class AvailableTourView {
     private Integer totalBookings;
     private String externalId;
 
-    // Fields calculated by the view
+    // Fields read from tour_inventory
     private Long activeBookings;
     private Long remainingSpots;
 
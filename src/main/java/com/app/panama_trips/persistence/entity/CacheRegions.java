@@ -0,0 +1,22 @@
+package com.app.panama_trips.persistence.entity;
+
+/**
+ * Names of the Hibernate second-level cache regions. They must match the
+ * cache aliases declared in ehcache.xml.
+ */
+public final class CacheRegions {
+
+    private CacheRegions() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static final String TOUR_PLAN = "tour-plan";
+    public static final String PROVIDER = "provider";
+    public static final String ADDRESS = "address";
+    public static final String CANCELLATION_POLICY = "cancellation-policy";
+    public static final String LANGUAGE = "language";
+
+    // Hibernate's default regions for cached query results and table timestamps
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+}
@@ -2,6 +2,8 @@ package com.app.panama_trips.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -10,6 +12,8 @@ import lombok.*;
 @NoArgsConstructor
 @Entity
 @Table(name = "languages")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LANGUAGE)
 public class Language {
 
     @Id
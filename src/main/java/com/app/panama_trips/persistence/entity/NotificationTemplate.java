@@ -30,4 +30,13 @@ public class NotificationTemplate {
 
     @Column(name = "variables", columnDefinition = "JSONB")
     private String variables;
-}
\ No newline at end of file
+
+    @Builder.Default
+    @Column(name = "version", nullable = false)
+    private Integer version = 0;
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.version = version == null ? 1 : version + 1;
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDate;
 public class PaymentInstallment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_installment_seq")
+    @SequenceGenerator(name = "payment_installment_seq", sequenceName = "payment_installments_id_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -20,6 +20,10 @@ public final class PaymentInstallmentConstants {
 
     // Business rules
     public static final int REMINDER_DAYS_BEFORE_DUE = 3;
+    // Reminders are queued in notification_history with these templates (notification_templates.name)
+    public static final String REMINDER_DUE_TEMPLATE = "PAYMENT_REMINDER_DUE";
+    public static final String REMINDER_OVERDUE_TEMPLATE = "PAYMENT_REMINDER_OVERDUE";
+    public static final String REMINDER_CHANNEL = "EMAIL";
     public static final BigDecimal MINIMUM_AMOUNT = new BigDecimal("0.01");
     public static final BigDecimal LATE_FEE_MONTHLY_RATE = new BigDecimal("0.05"); // 5% per month
     public static final int DAYS_PER_MONTH = 30;
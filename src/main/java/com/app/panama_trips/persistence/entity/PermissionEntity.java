@@ -1,5 +1,6 @@
 package com.app.panama_trips.persistence.entity;
 
+import com.app.panama_trips.persistence.listener.RoleAuthorityCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(RoleAuthorityCacheListener.class)
 @Table(name = "permissions")
 public class PermissionEntity {
     @Id
@@ -1,5 +1,6 @@
 package com.app.panama_trips.persistence.entity;
 
+import com.app.panama_trips.persistence.listener.GeoReferenceCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +12,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(GeoReferenceCacheListener.class)
 @Table(name = "provinces")
 public class Province {
 
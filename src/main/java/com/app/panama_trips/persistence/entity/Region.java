@@ -1,5 +1,6 @@
 package com.app.panama_trips.persistence.entity;
 
+import com.app.panama_trips.persistence.listener.GeoReferenceCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,6 +10,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(GeoReferenceCacheListener.class)
 @Table(name = "regions")
 public class Region {
 
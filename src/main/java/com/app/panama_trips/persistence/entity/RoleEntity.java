@@ -1,5 +1,6 @@
 package com.app.panama_trips.persistence.entity;
 
+import com.app.panama_trips.persistence.listener.RoleAuthorityCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.util.HashSet;
@@ -11,6 +12,7 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(RoleAuthorityCacheListener.class)
 @Table(name = "roles")
 public class RoleEntity {
 
@@ -0,0 +1,33 @@
+package com.app.panama_trips.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model with the booked persons per tour plan. Rows are maintained by the
+ * trg_reservations_tour_inventory trigger, so the application never writes them.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "tour_inventory")
+@Immutable
+public class TourInventory {
+
+    @Id
+    @Column(name = "tour_plan_id")
+    private Integer tourPlanId;
+
+    @Column(name = "active_bookings")
+    private Long activeBookings;
+
+    @Column(name = "booked_persons")
+    private Long bookedPersons;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
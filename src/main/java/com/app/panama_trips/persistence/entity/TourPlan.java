@@ -5,6 +5,8 @@ import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
 import com.app.panama_trips.persistence.entity.enums.TourPlanStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
@@ -24,6 +26,8 @@ import java.util.List;
         @Index(name = "idx_tour_plans_price", columnList = "price"),
         @Index(name = "idx_tour_plans_created_at", columnList = "created_at")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TOUR_PLAN)
 public class TourPlan {
 
     @Id
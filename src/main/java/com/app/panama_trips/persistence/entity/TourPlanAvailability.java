@@ -37,4 +37,9 @@ public class TourPlanAvailability {
 
     @Column(name = "price_override", precision = 10, scale = 2)
     private BigDecimal priceOverride;
+
+    // Closed by the generator because the day left the schedule; only these are reopened when it returns
+    @Column(name = "closed_off_schedule", nullable = false, columnDefinition = "BOOLEAN DEFAULT false")
+    @Builder.Default
+    private Boolean closedOffSchedule = false;
 }
@@ -1,5 +1,6 @@
 package com.app.panama_trips.persistence.entity;
 
+import com.app.panama_trips.persistence.listener.TourPricingCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,6 +13,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(TourPricingCacheListener.class)
 @Table(name = "tour_plan_special_prices", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"tour_plan_id", "start_date", "end_date"})
 })
@@ -0,0 +1,64 @@
+package com.app.panama_trips.persistence.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
+
+/**
+ * Reloads the in-memory geographic reference data after a province, district,
+ * comarca or region is written. The reload runs once per transaction, after
+ * commit, so the new snapshot is built from committed rows only.
+ */
+@Slf4j
+@Component
+public class GeoReferenceCacheListener {
+
+    private static final Object REFRESH_SCHEDULED = GeoReferenceCacheListener.class.getName() + ".refresh";
+
+    private final ObjectProvider<IGeoReferenceService> geoReferenceService;
+
+    public GeoReferenceCacheListener(ObjectProvider<IGeoReferenceService> geoReferenceService) {
+        this.geoReferenceService = geoReferenceService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(REFRESH_SCHEDULED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REFRESH_SCHEDULED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REFRESH_SCHEDULED);
+            }
+        });
+    }
+
+    private void refresh() {
+        try {
+            geoReferenceService.ifAvailable(IGeoReferenceService::refresh);
+        } catch (RuntimeException e) {
+            // The write is already committed; keep serving the previous snapshot rather than failing the request
+            log.warn("Could not refresh geographic reference data: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.app.panama_trips.persistence.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
+
+/**
+ * Clears the role authority cache whenever a role or permission is written.
+ * Instantiated by Hibernate through Spring, so the service is looked up lazily
+ * to avoid a cycle with the EntityManagerFactory.
+ */
+@Component
+public class RoleAuthorityCacheListener {
+
+    private final ObjectProvider<IRoleAuthorityService> roleAuthorityService;
+
+    public RoleAuthorityCacheListener(ObjectProvider<IRoleAuthorityService> roleAuthorityService) {
+        this.roleAuthorityService = roleAuthorityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Again after commit, so a load that raced the flush cannot keep the old authorities
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    private void invalidate() {
+        roleAuthorityService.ifAvailable(IRoleAuthorityService::invalidateAll);
+    }
+}
@@ -0,0 +1,54 @@
+package com.app.panama_trips.persistence.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.panama_trips.persistence.entity.TourPlanSpecialPrice;
+import com.app.panama_trips.service.interfaces.ITourPricingService;
+
+/**
+ * Drops the in-memory special-price periods of a tour when one of its periods is
+ * written. An update can move a period to another tour and the previous owner is
+ * not known here, so updates clear every tour.
+ */
+@Component
+public class TourPricingCacheListener {
+
+    private final ObjectProvider<ITourPricingService> tourPricingService;
+
+    public TourPricingCacheListener(ObjectProvider<ITourPricingService> tourPricingService) {
+        this.tourPricingService = tourPricingService;
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onInsertOrDelete(TourPlanSpecialPrice specialPrice) {
+        Integer tourPlanId = specialPrice.getTourPlan().getId();
+        invalidateNowAndAfterCommit(service -> service.invalidate(tourPlanId));
+    }
+
+    @PostUpdate
+    public void onUpdate(TourPlanSpecialPrice specialPrice) {
+        invalidateNowAndAfterCommit(ITourPricingService::invalidateAll);
+    }
+
+    private void invalidateNowAndAfterCommit(Consumer<ITourPricingService> invalidation) {
+        tourPricingService.ifAvailable(invalidation);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Again after commit, so a load that raced the flush cannot keep the old periods
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tourPricingService.ifAvailable(invalidation);
+                }
+            });
+        }
+    }
+}
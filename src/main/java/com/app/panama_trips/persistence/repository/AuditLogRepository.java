@@ -2,19 +2,29 @@ package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.AuditLog;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.presentation.dto.AuditLogActivityResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Integer> {
 
+        // Keyset scrolling: seeks past the last id instead of OFFSET + COUNT(*)
+        Window<AuditLog> findAllByOrderByIdDesc(ScrollPosition position, Limit limit);
+
         // --- Existing methods ---
         List<AuditLog> findByEntityTypeAndEntityId(String entityType, Integer entityId);
 
@@ -126,7 +136,105 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Integer> {
 
         void deleteByAction(String action);
 
-        void deleteByActionTimestampBefore(LocalDateTime timestamp);
+        // Set-based deletes: a range on action_timestamp only touches the partitions it overlaps
+        @Modifying
+        @Query("DELETE FROM AuditLog a WHERE a.actionTimestamp < :timestamp")
+        int deleteByActionTimestampBefore(@Param("timestamp") LocalDateTime timestamp);
+
+        @Modifying
+        @Query("DELETE FROM AuditLog a WHERE a.actionTimestamp BETWEEN :start AND :end")
+        int deleteByActionTimestampBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+        // --- Partition maintenance (functions from v1.13) ---
+        @Query(value = "SELECT create_audit_log_partition(CAST(:monthStart AS date))", nativeQuery = true)
+        String createMonthlyPartition(@Param("monthStart") LocalDate monthStart);
+
+        @Query(value = "SELECT drop_audit_log_partitions_before(CAST(:cutoff AS timestamp))", nativeQuery = true)
+        Integer dropPartitionsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+        // --- Aggregation queries (grouped, ordered and limited by the database) ---
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "CAST(a.user.id AS String), COUNT(a), MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a WHERE a.user IS NOT NULL " +
+                        "GROUP BY a.user.id ORDER BY COUNT(a) DESC")
+        List<AuditLogActivityResponse> countActivityByUser(Pageable pageable);
+
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "a.entityType, COUNT(a), MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a GROUP BY a.entityType ORDER BY COUNT(a) DESC")
+        List<AuditLogActivityResponse> countActivityByEntityType(Pageable pageable);
+
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "a.action, COUNT(a), MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a GROUP BY a.action ORDER BY COUNT(a) DESC")
+        List<AuditLogActivityResponse> countActivityByAction(Pageable pageable);
+
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "a.ipAddress, COUNT(a), MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a WHERE a.ipAddress IS NOT NULL " +
+                        "GROUP BY a.ipAddress ORDER BY COUNT(a) DESC")
+        List<AuditLogActivityResponse> countActivityByIpAddress(Pageable pageable);
+
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "CAST(EXTRACT(MONTH FROM a.actionTimestamp) AS String), COUNT(a), " +
+                        "MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a GROUP BY EXTRACT(MONTH FROM a.actionTimestamp) " +
+                        "ORDER BY EXTRACT(MONTH FROM a.actionTimestamp)")
+        List<AuditLogActivityResponse> countActivityByMonth();
+
+        // HQL "day of week" is 1-based starting on Sunday, independent of the dialect
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "CAST(EXTRACT(DAY OF WEEK FROM a.actionTimestamp) AS String), COUNT(a), " +
+                        "MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a GROUP BY EXTRACT(DAY OF WEEK FROM a.actionTimestamp) " +
+                        "ORDER BY EXTRACT(DAY OF WEEK FROM a.actionTimestamp)")
+        List<AuditLogActivityResponse> countActivityByDayOfWeek();
+
+        @Query("SELECT new com.app.panama_trips.presentation.dto.AuditLogActivityResponse(" +
+                        "CAST(EXTRACT(HOUR FROM a.actionTimestamp) AS String), COUNT(a), " +
+                        "MIN(a.actionTimestamp), MAX(a.actionTimestamp)) " +
+                        "FROM AuditLog a GROUP BY EXTRACT(HOUR FROM a.actionTimestamp) " +
+                        "ORDER BY EXTRACT(HOUR FROM a.actionTimestamp)")
+        List<AuditLogActivityResponse> countActivityByHour();
+
+        // --- JSONB searches over old_values/new_values (GIN indexed) ---
+        // The key test (doc ? key) is what the GIN indexes serve; ->> then compares the value as text,
+        // so numbers and booleans match as well as strings ("42", "true"). The order comes from the Pageable,
+        // whose sort must name columns (AuditLogService maps entity properties before calling these)
+        String JSON_FIELD_EQUALS = "(jsonb_has_key(a.old_values, :fieldName) AND a.old_values ->> :fieldName = :fieldValue) " +
+                        "OR (jsonb_has_key(a.new_values, :fieldName) AND a.new_values ->> :fieldName = :fieldValue) ";
+
+        @Query(value = "SELECT a.* FROM audit_log a WHERE " + JSON_FIELD_EQUALS,
+                        countQuery = "SELECT COUNT(*) FROM audit_log a WHERE " + JSON_FIELD_EQUALS,
+                        nativeQuery = true)
+        Page<AuditLog> findByJsonFieldValue(@Param("fieldName") String fieldName,
+                        @Param("fieldValue") String fieldValue, Pageable pageable);
+
+        // :pattern must already have %, _ and \ escaped (backslash is PostgreSQL's default LIKE escape)
+        String JSON_FIELD_LIKE = "(jsonb_has_key(a.old_values, :fieldName) AND a.old_values ->> :fieldName LIKE CONCAT('%', :pattern, '%')) " +
+                        "OR (jsonb_has_key(a.new_values, :fieldName) AND a.new_values ->> :fieldName LIKE CONCAT('%', :pattern, '%')) ";
+
+        @Query(value = "SELECT a.* FROM audit_log a WHERE " + JSON_FIELD_LIKE,
+                        countQuery = "SELECT COUNT(*) FROM audit_log a WHERE " + JSON_FIELD_LIKE,
+                        nativeQuery = true)
+        Page<AuditLog> findByJsonFieldValueContaining(@Param("fieldName") String fieldName,
+                        @Param("pattern") String pattern, Pageable pageable);
+
+        @Query(value = "SELECT a.* FROM audit_log a " +
+                        "WHERE jsonb_has_key(a.old_values, :fieldName) OR jsonb_has_key(a.new_values, :fieldName)",
+                        countQuery = "SELECT COUNT(*) FROM audit_log a " +
+                                        "WHERE jsonb_has_key(a.old_values, :fieldName) OR jsonb_has_key(a.new_values, :fieldName)",
+                        nativeQuery = true)
+        Page<AuditLog> findByJsonFieldExists(@Param("fieldName") String fieldName, Pageable pageable);
+
+        @Query(value = "SELECT a.* FROM audit_log a " +
+                        "WHERE NOT COALESCE(jsonb_has_key(a.old_values, :fieldName), FALSE) " +
+                        "AND NOT COALESCE(jsonb_has_key(a.new_values, :fieldName), FALSE)",
+                        countQuery = "SELECT COUNT(*) FROM audit_log a " +
+                                        "WHERE NOT COALESCE(jsonb_has_key(a.old_values, :fieldName), FALSE) " +
+                                        "AND NOT COALESCE(jsonb_has_key(a.new_values, :fieldName), FALSE)",
+                        nativeQuery = true)
+        Page<AuditLog> findByJsonFieldNotExists(@Param("fieldName") String fieldName, Pageable pageable);
 
         // --- Keyword search ---
         @Query("SELECT a FROM AuditLog a WHERE LOWER(a.entityType) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
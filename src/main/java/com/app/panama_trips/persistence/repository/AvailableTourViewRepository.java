@@ -31,12 +31,16 @@ public interface AvailableTourViewRepository extends JpaRepository<AvailableTour
     // Find wheelchair accessible tours
     List<AvailableTourView> findByWheelchairAccessibleTrue();
 
-    // Search by title or description
-    @Query("SELECT a FROM AvailableTourView a WHERE LOWER(a.title) LIKE LOWER(concat('%', :keyword, '%')) OR LOWER(a.description) LIKE LOWER(concat('%', :keyword, '%'))")
+    // Search by title or description through the full-text index on tour_plans, best match first
+    @Query(value = "SELECT a.* FROM available_tours a JOIN tour_plans t ON t.id = a.id "
+            + "CROSS JOIN (SELECT websearch_to_tsquery('tour_es', :keyword) || websearch_to_tsquery('tour_en', :keyword) AS query) q "
+            + "WHERE t.search_vector @@ q.query "
+            + "ORDER BY ts_rank_cd(t.search_vector, q.query, 32) DESC, a.id", nativeQuery = true)
     List<AvailableTourView> searchByTitleOrDescription(@Param("keyword") String keyword);
 
-    // Find tours by tags
-    @Query("SELECT a FROM AvailableTourView a WHERE a.tags LIKE %:tag%")
+    // Find tours carrying the exact tag, answered by the GIN index on tour_plans.tags
+    @Query(value = "SELECT a.* FROM available_tours a WHERE a.tags @> jsonb_build_array(CAST(:tag AS text))",
+            nativeQuery = true)
     List<AvailableTourView> findByTag(@Param("tag") String tag);
 
     // Find highly rated tours
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,4 +34,14 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     BigDecimal calculateRevenueForPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     Optional<DailyStatistics> findTopByOrderByTotalRevenueDesc();
+
+    // Recomputes and upserts the given days (function from v1.22), returns the rows that changed
+    @Transactional
+    @Query(value = "SELECT rollup_daily_statistics(CAST(:days AS date[]))", nativeQuery = true)
+    Integer rollupDays(@Param("days") LocalDate[] days);
+
+    // Consumes tracked reservation and user changes and recomputes their days, returns the changes consumed
+    @Transactional
+    @Query(value = "SELECT rollup_changed_daily_statistics(:maxChanges)", nativeQuery = true)
+    Integer rollupChangedDays(@Param("maxChanges") int maxChanges);
 }
\ No newline at end of file
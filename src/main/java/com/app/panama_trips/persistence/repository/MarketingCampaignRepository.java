@@ -8,12 +8,15 @@ import com.app.panama_trips.persistence.entity.enums.CampaignType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +66,18 @@ public interface MarketingCampaignRepository extends JpaRepository<MarketingCamp
     @Query(value = "SELECT mc.* FROM marketing_campaigns mc ORDER BY mc.actual_clicks DESC LIMIT :limit", nativeQuery = true)
     List<MarketingCampaign> findTopByActualClicksDescLimit(@Param("limit") int limit);
 
+    // Click counters
+    @Query("SELECT mc.id FROM MarketingCampaign mc WHERE mc.id IN :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    // One statement for the whole flush: ids[i] receives deltas[i], concurrent writers never lose increments
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE marketing_campaigns mc SET actual_clicks = COALESCE(mc.actual_clicks, 0) + d.delta " +
+                   "FROM unnest(CAST(:ids AS integer[]), CAST(:deltas AS bigint[])) AS d(id, delta) " +
+                   "WHERE mc.id = d.id", nativeQuery = true)
+    int addClicks(@Param("ids") Integer[] ids, @Param("deltas") Long[] deltas);
+
     // Derived queries for filtering
     List<MarketingCampaign> findByStatus(CampaignStatus status);
     List<MarketingCampaign> findByType(CampaignType type);
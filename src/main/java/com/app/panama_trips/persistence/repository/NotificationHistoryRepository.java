@@ -4,19 +4,28 @@ import com.app.panama_trips.persistence.entity.NotificationHistory;
 import com.app.panama_trips.persistence.entity.NotificationTemplate;
 import com.app.panama_trips.persistence.entity.Reservation;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationHistoryRepository extends JpaRepository<NotificationHistory, Integer> {
 
+    // Keyset scrolling: seeks past the last id instead of OFFSET + COUNT(*)
+    Window<NotificationHistory> findAllByOrderByIdDesc(ScrollPosition position, Limit limit);
+
     List<NotificationHistory> findByUser(UserEntity user);
 
     List<NotificationHistory> findByReservation(Reservation reservation);
@@ -66,4 +75,71 @@ public interface NotificationHistoryRepository extends JpaRepository<Notificatio
 
     // Delete old records
     void deleteBySentAtBefore(LocalDateTime cutoff);
+
+    // Dispatch queue: PENDING rows whose next attempt is due. SKIP LOCKED lets every worker of
+    // every node claim a disjoint batch without waiting on the rows another worker holds.
+    @Query(value = "SELECT nh.id FROM notification_history nh " +
+                   "WHERE nh.delivery_status = 'PENDING' AND (nh.next_attempt_at IS NULL OR nh.next_attempt_at <= :now) " +
+                   "ORDER BY nh.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Integer> lockDueForDispatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // The lease keeps claimed rows out of the next claims until the worker reports back
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationHistory nh SET nh.attempts = nh.attempts + 1, nh.nextAttemptAt = :leaseUntil " +
+           "WHERE nh.id IN :ids")
+    int leaseForDispatch(@Param("ids") Collection<Integer> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // Rows without a user come back too, so the claim can fail them instead of leasing them forever
+    @Query("SELECT nh FROM NotificationHistory nh LEFT JOIN FETCH nh.template LEFT JOIN FETCH nh.user " +
+           "WHERE nh.id IN :ids ORDER BY nh.id")
+    List<NotificationHistory> findAllForDispatch(@Param("ids") Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationHistory nh SET nh.deliveryStatus = 'DELIVERED', nh.sentAt = :sentAt, " +
+           "nh.nextAttemptAt = NULL, nh.lastError = NULL " +
+           "WHERE nh.id IN :ids AND nh.deliveryStatus = 'PENDING'")
+    int markDelivered(@Param("ids") Collection<Integer> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE NotificationHistory nh SET nh.deliveryStatus = 'PENDING', nh.attempts = 0, " +
+           "nh.nextAttemptAt = NULL, nh.lastError = NULL WHERE nh.deliveryStatus = 'FAILED'")
+    int requeueFailed();
+
+    // Installment reminders are queued in one statement each, and dedup_key makes a second run
+    // (or a second node) a no-op. Only installments that got a queued row are flipped to
+    // reminder_sent, so one without a reservation or a user keeps waiting for it instead of losing it.
+    @Modifying
+    @Query(value = "WITH due AS (" +
+                   "    SELECT pi.id, pi.amount, pi.due_date, r.id AS reservation_id, r.user_id " +
+                   "    FROM payment_installments pi JOIN reservations r ON r.id = pi.reservation_id " +
+                   "    WHERE pi.status = 'PENDING' AND pi.reminder_sent = false AND pi.due_date <= :until " +
+                   "    AND r.user_id IS NOT NULL " +
+                   "    FOR UPDATE OF pi SKIP LOCKED), " +
+                   "inserted AS (" +
+                   "    INSERT INTO notification_history (template_id, user_id, reservation_id, sent_at, delivery_status, " +
+                   "        channel, attempts, next_attempt_at, payload, dedup_key) " +
+                   "    SELECT :templateId, due.user_id, due.reservation_id, now(), 'PENDING', :channel, 0, now(), " +
+                   "        jsonb_build_object('installmentId', due.id, 'reservationId', due.reservation_id, " +
+                   "            'amount', CAST(due.amount AS text), 'dueDate', CAST(due.due_date AS text)), " +
+                   "        'installment-due:' || due.id " +
+                   "    FROM due " +
+                   "    ON CONFLICT (dedup_key) DO NOTHING " +
+                   "    RETURNING CAST(payload ->> 'installmentId' AS integer) AS installment_id) " +
+                   "UPDATE payment_installments SET reminder_sent = true " +
+                   "WHERE id IN (SELECT installment_id FROM inserted)", nativeQuery = true)
+    int enqueueDueInstallmentReminders(@Param("templateId") Integer templateId, @Param("channel") String channel,
+                                       @Param("until") LocalDate until);
+
+    @Modifying
+    @Query(value = "INSERT INTO notification_history (template_id, user_id, reservation_id, sent_at, delivery_status, " +
+                   "    channel, attempts, next_attempt_at, payload, dedup_key) " +
+                   "SELECT :templateId, r.user_id, r.id, now(), 'PENDING', :channel, 0, now(), " +
+                   "    jsonb_build_object('installmentId', pi.id, 'reservationId', r.id, " +
+                   "        'amount', CAST(pi.amount AS text), 'dueDate', CAST(pi.due_date AS text)), " +
+                   "    'installment-overdue:' || pi.id " +
+                   "FROM payment_installments pi JOIN reservations r ON r.id = pi.reservation_id " +
+                   "WHERE pi.status = 'OVERDUE' AND r.user_id IS NOT NULL AND NOT EXISTS (" +
+                   "    SELECT 1 FROM notification_history nh WHERE nh.dedup_key = 'installment-overdue:' || pi.id) " +
+                   "ON CONFLICT (dedup_key) DO NOTHING", nativeQuery = true)
+    int enqueueOverdueInstallmentReminders(@Param("templateId") Integer templateId, @Param("channel") String channel);
 }
@@ -2,22 +2,39 @@ package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.Payment;
 import com.app.panama_trips.persistence.entity.PaymentInstallment;
-import com.app.panama_trips.persistence.entity.Reservation;
+import com.app.panama_trips.presentation.dto.PaymentInstallmentResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentInstallmentRepository extends JpaRepository<PaymentInstallment, Integer> {
 
-    List<PaymentInstallment> findByReservation(Reservation reservation);
+    // List views select the response columns straight into PaymentInstallmentResponse, so the
+    // reservation and payment are joined once instead of lazily loaded per installment
+    String RESPONSE_SELECT = "SELECT new com.app.panama_trips.presentation.dto.PaymentInstallmentResponse("
+            + "pi.id, r.id, r.reservationDate, pi.amount, pi.dueDate, pay.id, pay.paymentStatus, "
+            + "pi.status, pi.reminderSent, pi.createdAt) "
+            + "FROM PaymentInstallment pi JOIN pi.reservation r LEFT JOIN pi.payment pay ";
+
+    // Keyset scrolling: seeks past the last id instead of OFFSET + COUNT(*)
+    Window<PaymentInstallment> findAllByOrderByIdDesc(ScrollPosition position, Limit limit);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(pi) FROM PaymentInstallment pi")
+    Page<PaymentInstallmentResponse> findAllResponses(Pageable pageable);
 
     List<PaymentInstallment> findByPayment(Payment payment);
 
@@ -27,13 +44,30 @@ public interface PaymentInstallmentRepository extends JpaRepository<PaymentInsta
 
     List<PaymentInstallment> findByDueDateBetween(LocalDate startDate, LocalDate endDate);
 
-    List<PaymentInstallment> findByReminderSent(Boolean reminderSent);
-
     @Query("SELECT pi FROM PaymentInstallment pi WHERE pi.reservation.id = :reservationId AND pi.status = :status")
     List<PaymentInstallment> findByReservationIdAndStatus(@Param("reservationId") Integer reservationId, @Param("status") String status);
 
-    @Query("SELECT pi FROM PaymentInstallment pi WHERE pi.reminderSent = false AND pi.dueDate <= :date AND pi.status = 'PENDING'")
-    List<PaymentInstallment> findPendingInstallmentsWithoutReminder(@Param("date") LocalDate date);
+    // Response projections of the entity finders above, for the read-only list endpoints
+    @Query(RESPONSE_SELECT + "WHERE pi.status = :status")
+    List<PaymentInstallmentResponse> findResponsesByStatus(@Param("status") String status);
+
+    @Query(RESPONSE_SELECT + "WHERE pi.dueDate < :date")
+    List<PaymentInstallmentResponse> findResponsesByDueDateBefore(@Param("date") LocalDate date);
+
+    @Query(RESPONSE_SELECT + "WHERE pi.dueDate BETWEEN :startDate AND :endDate")
+    List<PaymentInstallmentResponse> findResponsesByDueDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(RESPONSE_SELECT + "WHERE r.id = :reservationId AND pi.status = :status")
+    List<PaymentInstallmentResponse> findResponsesByReservationIdAndStatus(@Param("reservationId") Integer reservationId, @Param("status") String status);
+
+    @Query(RESPONSE_SELECT + "WHERE pi.status = :status AND pi.dueDate < :date")
+    List<PaymentInstallmentResponse> findResponsesByStatusAndDueDateBefore(@Param("status") String status, @Param("date") LocalDate date);
+
+    @Query(RESPONSE_SELECT + "WHERE pi.reminderSent = :reminderSent")
+    List<PaymentInstallmentResponse> findByReminderSent(@Param("reminderSent") Boolean reminderSent);
+
+    @Query(RESPONSE_SELECT + "WHERE pi.reminderSent = false AND pi.dueDate <= :date AND pi.status = 'PENDING'")
+    List<PaymentInstallmentResponse> findPendingInstallmentsWithoutReminder(@Param("date") LocalDate date);
 
     @Query("SELECT SUM(pi.amount) FROM PaymentInstallment pi WHERE pi.reservation.id = :reservationId AND pi.status = 'PENDING'")
     BigDecimal sumPendingAmountByReservation(@Param("reservationId") Integer reservationId);
@@ -55,27 +89,32 @@ public interface PaymentInstallmentRepository extends JpaRepository<PaymentInsta
 
     long countByReminderSent(Boolean reminderSent);
 
-    // Derived query methods for finding
-    List<PaymentInstallment> findByAmountBetween(BigDecimal minAmount, BigDecimal maxAmount);
+    // Finders for list views
+    @Query(RESPONSE_SELECT + "WHERE pi.amount BETWEEN :minAmount AND :maxAmount")
+    List<PaymentInstallmentResponse> findByAmountBetween(@Param("minAmount") BigDecimal minAmount, @Param("maxAmount") BigDecimal maxAmount);
 
-    List<PaymentInstallment> findByAmount(BigDecimal amount);
+    @Query(RESPONSE_SELECT + "WHERE pi.amount = :amount")
+    List<PaymentInstallmentResponse> findByAmount(@Param("amount") BigDecimal amount);
 
-    List<PaymentInstallment> findByPayment_Id(Integer paymentId);
+    @Query(RESPONSE_SELECT + "WHERE pay.id = :paymentId")
+    List<PaymentInstallmentResponse> findByPayment_Id(@Param("paymentId") Long paymentId);
 
-    List<PaymentInstallment> findByReservation_Id(Integer reservationId);
+    @Query(RESPONSE_SELECT + "WHERE r.id = :reservationId")
+    List<PaymentInstallmentResponse> findByReservation_Id(@Param("reservationId") Integer reservationId);
 
     List<PaymentInstallment> findByStatusAndDueDateBefore(String status, LocalDate date);
 
     Optional<PaymentInstallment> findFirstByReservation_IdOrderByDueDateDesc(Integer reservationId);
 
-    List<PaymentInstallment> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query(RESPONSE_SELECT + "ORDER BY pi.createdAt DESC")
+    List<PaymentInstallmentResponse> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
     // @Query methods for JOINs and aggregations
-    @Query("SELECT pi FROM PaymentInstallment pi JOIN pi.reservation r WHERE r.user.id = :userId")
-    List<PaymentInstallment> findByReservationUserId(@Param("userId") Long userId);
+    @Query(RESPONSE_SELECT + "WHERE r.user.id = :userId")
+    List<PaymentInstallmentResponse> findByReservationUserId(@Param("userId") Long userId);
 
-    @Query("SELECT pi FROM PaymentInstallment pi JOIN pi.reservation r WHERE r.tourPlan.id = :tourPlanId")
-    List<PaymentInstallment> findByReservationTourPlanId(@Param("tourPlanId") Integer tourPlanId);
+    @Query(RESPONSE_SELECT + "WHERE r.tourPlan.id = :tourPlanId")
+    List<PaymentInstallmentResponse> findByReservationTourPlanId(@Param("tourPlanId") Integer tourPlanId);
 
     @Query("SELECT COALESCE(SUM(pi.amount), 0) FROM PaymentInstallment pi WHERE pi.reservation.id = :reservationId")
     BigDecimal sumAmountByReservationId(@Param("reservationId") Integer reservationId);
@@ -85,4 +124,28 @@ public interface PaymentInstallmentRepository extends JpaRepository<PaymentInsta
 
     @Query("SELECT COALESCE(SUM(pi.amount), 0) FROM PaymentInstallment pi WHERE pi.status = :status")
     BigDecimal sumAmountByStatus(@Param("status") String status);
+
+    // Bulk operations: one statement per call instead of loading, mutating and saving each row.
+    // They bypass the persistence context, so it is flushed before and cleared after.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentInstallment pi SET pi.status = :status WHERE pi.id IN :ids AND pi.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Integer> ids, @Param("status") String status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentInstallment pi SET pi.reminderSent = true WHERE pi.id IN :ids AND pi.reminderSent = false")
+    int markReminderSentByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentInstallment pi SET pi.status = :overdueStatus "
+            + "WHERE pi.status = :pendingStatus AND pi.dueDate < :date")
+    int markOverdue(@Param("pendingStatus") String pendingStatus, @Param("overdueStatus") String overdueStatus,
+            @Param("date") LocalDate date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PaymentInstallment pi WHERE pi.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PaymentInstallment pi WHERE pi.dueDate < :date")
+    int deleteByDueDateBeforeInBulk(@Param("date") LocalDate date);
 }
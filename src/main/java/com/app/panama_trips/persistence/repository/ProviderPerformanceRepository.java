@@ -2,9 +2,11 @@ package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.ProviderPerformance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -27,4 +29,10 @@ public interface ProviderPerformanceRepository extends JpaRepository<ProviderPer
 
     @Query("SELECT pp FROM ProviderPerformance pp WHERE LOWER(pp.providerName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<ProviderPerformance> searchByProviderName(@Param("keyword") String keyword);
+
+    // Rebuilds the materialized view (v1.23) while it stays readable
+    @Transactional
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY provider_performance", nativeQuery = true)
+    void refresh();
 }
\ No newline at end of file
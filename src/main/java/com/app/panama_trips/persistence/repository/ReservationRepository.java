@@ -2,8 +2,12 @@ package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.Reservation;
 import com.app.panama_trips.persistence.entity.ReservationStatus;
+import com.app.panama_trips.presentation.dto.ReservationResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,32 +21,53 @@ import java.util.Optional;
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Integer> {
 
+        // Keyset scrolling: seeks past the last id instead of OFFSET + COUNT(*)
+        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
+        Window<Reservation> findAllByOrderByIdDesc(ScrollPosition position, Limit limit);
+
         @Override
         @NonNull
         @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
         Optional<Reservation> findById(@NonNull Integer id);
 
+        // List views select the nine response columns straight into ReservationResponse
+        // instead of hydrating Reservation, UserEntity, TourPlan and Provider per row
+        String RESPONSE_SELECT = "SELECT new com.app.panama_trips.presentation.dto.ReservationResponse("
+                        + "r.id, u.name, u.lastname, tp.title, p.name, r.reservationStatus, r.reservationDate, "
+                        + "tp.duration, tp.pricing.price, r.totalPrice) "
+                        + "FROM Reservation r JOIN r.user u JOIN r.tourPlan tp JOIN tp.provider p ";
+
+        @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(r) FROM Reservation r")
+        Page<ReservationResponse> findAllResponses(Pageable pageable);
+
         // Search by user, travel plan, status, and date
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByUser_Id(Long userId, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE u.id = :userId",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.user.id = :userId")
+        Page<ReservationResponse> findByUser_Id(@Param("userId") Long userId, Pageable pageable);
 
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByTourPlan_Id(Integer tourPlanId, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE tp.id = :tourPlanId",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.tourPlan.id = :tourPlanId")
+        Page<ReservationResponse> findByTourPlan_Id(@Param("tourPlanId") Integer tourPlanId, Pageable pageable);
 
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByReservationStatus(ReservationStatus reservationStatus, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE r.reservationStatus = :status",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.reservationStatus = :status")
+        Page<ReservationResponse> findByReservationStatus(@Param("status") ReservationStatus reservationStatus,
+                        Pageable pageable);
 
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByReservationDate(LocalDate reservationDate, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE r.reservationDate = :date",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.reservationDate = :date")
+        Page<ReservationResponse> findByReservationDate(@Param("date") LocalDate reservationDate, Pageable pageable);
 
         // Searched by user and status, travel plan and status
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByUser_IdAndReservationStatus(Long userId, ReservationStatus reservationStatus,
-                        Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE u.id = :userId AND r.reservationStatus = :status",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.user.id = :userId AND r.reservationStatus = :status")
+        Page<ReservationResponse> findByUser_IdAndReservationStatus(@Param("userId") Long userId,
+                        @Param("status") ReservationStatus reservationStatus, Pageable pageable);
 
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByTourPlan_IdAndReservationStatus(Integer tourPlanId, ReservationStatus reservationStatus,
-                        Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE tp.id = :tourPlanId AND r.reservationStatus = :status",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.tourPlan.id = :tourPlanId AND r.reservationStatus = :status")
+        Page<ReservationResponse> findByTourPlan_IdAndReservationStatus(@Param("tourPlanId") Integer tourPlanId,
+                        @Param("status") ReservationStatus reservationStatus, Pageable pageable);
 
         // Count reservations by status and travel plan
         Long countByReservationStatus(ReservationStatus reservationStatus);
@@ -52,45 +77,59 @@ public interface ReservationRepository extends JpaRepository<Reservation, Intege
         boolean existsByUser_IdAndTourPlanId(Long userId, Integer tourPlanId);
 
         // Search by date range, month, year
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByReservationDateBetween(LocalDate reservationDateAfter, LocalDate reservationDateBefore,
+        @Query(value = RESPONSE_SELECT + "WHERE r.reservationDate BETWEEN :startDate AND :endDate",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.reservationDate BETWEEN :startDate AND :endDate")
+        Page<ReservationResponse> findByReservationDateBetween(@Param("startDate") LocalDate reservationDateAfter,
+                        @Param("endDate") LocalDate reservationDateBefore, Pageable pageable);
+
+        @Query(value = RESPONSE_SELECT + "WHERE EXTRACT(MONTH FROM r.reservationDate) = :month",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE EXTRACT(MONTH FROM r.reservationDate) = :month")
+        Page<ReservationResponse> findByReservationDate_Month(@Param("month") short reservationDateMonth,
                         Pageable pageable);
 
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByReservationDate_Month(short reservationDateMonth, Pageable pageable);
-
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByReservationDate_Year(int reservationDateYear, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE EXTRACT(YEAR FROM r.reservationDate) = :year",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE EXTRACT(YEAR FROM r.reservationDate) = :year")
+        Page<ReservationResponse> findByReservationDate_Year(@Param("year") int reservationDateYear, Pageable pageable);
 
         // Search by price
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByTotalPriceGreaterThan(BigDecimal totalPriceIsGreaterThan, Pageable pageable);
-
-        @EntityGraph(attributePaths = { "user", "tourPlan", "tourPlan.provider", "tourPlan.provider.address" })
-        Page<Reservation> findByTotalPriceBetween(BigDecimal totalPriceAfter, BigDecimal totalPriceBefore,
+        @Query(value = RESPONSE_SELECT + "WHERE r.totalPrice > :price",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.totalPrice > :price")
+        Page<ReservationResponse> findByTotalPriceGreaterThan(@Param("price") BigDecimal totalPriceIsGreaterThan,
                         Pageable pageable);
 
+        @Query(value = RESPONSE_SELECT + "WHERE r.totalPrice BETWEEN :minPrice AND :maxPrice",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.totalPrice BETWEEN :minPrice AND :maxPrice")
+        Page<ReservationResponse> findByTotalPriceBetween(@Param("minPrice") BigDecimal totalPriceAfter,
+                        @Param("maxPrice") BigDecimal totalPriceBefore, Pageable pageable);
+
         // Search by price range with specific status
-        Page<Reservation> findByTotalPriceBetweenAndReservationStatus(
-                        BigDecimal minPrice,
-                        BigDecimal maxPrice,
-                        ReservationStatus status,
+        @Query(value = RESPONSE_SELECT
+                        + "WHERE r.totalPrice BETWEEN :minPrice AND :maxPrice AND r.reservationStatus = :status",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r "
+                                        + "WHERE r.totalPrice BETWEEN :minPrice AND :maxPrice AND r.reservationStatus = :status")
+        Page<ReservationResponse> findByTotalPriceBetweenAndReservationStatus(
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("status") ReservationStatus status,
                         Pageable pageable);
 
         // Custom query to search for a user's recent reservations
-        @Query("SELECT r FROM Reservation r WHERE r.user.id = :userId AND r.createdAt >= :recentDate")
-        Page<Reservation> findRecentReservationsByUser(
+        @Query(value = RESPONSE_SELECT + "WHERE u.id = :userId AND r.createdAt >= :recentDate",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.user.id = :userId AND r.createdAt >= :recentDate")
+        Page<ReservationResponse> findRecentReservationsByUser(
                         @Param("userId") Long userId,
                         @Param("recentDate") LocalDate recentDate,
                         Pageable pageable);
 
         // Search for reservations by day of the week
-        @Query("SELECT r FROM Reservation r WHERE DAYOFWEEK(r.reservationDate) = :dayOfWeek")
-        Page<Reservation> findByDayOfWeek(@Param("dayOfWeek") int dayOfWeek, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE DAYOFWEEK(r.reservationDate) = :dayOfWeek",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE DAYOFWEEK(r.reservationDate) = :dayOfWeek")
+        Page<ReservationResponse> findByDayOfWeek(@Param("dayOfWeek") int dayOfWeek, Pageable pageable);
 
         // Search for tour reservations in a specific province
-        @Query("SELECT r FROM Reservation r JOIN r.tourPlan tp JOIN tp.provider.province reg WHERE reg.id = :provinceId")
-        Page<Reservation> findByRegion(@Param("provinceId") Integer provinceId, Pageable pageable);
+        @Query(value = RESPONSE_SELECT + "WHERE p.province.id = :provinceId",
+                        countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.tourPlan.provider.province.id = :provinceId")
+        Page<ReservationResponse> findByRegion(@Param("provinceId") Integer provinceId, Pageable pageable);
 
         // Booking statistics
         @Query("SELECT " +
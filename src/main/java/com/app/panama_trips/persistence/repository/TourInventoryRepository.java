@@ -0,0 +1,14 @@
+package com.app.panama_trips.persistence.repository;
+
+import com.app.panama_trips.persistence.entity.TourInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TourInventoryRepository extends JpaRepository<TourInventory, Integer> {
+
+    // Repairs drifted rows from a full recount (function from v1.14) and returns how many were fixed
+    @Query(value = "SELECT reconcile_tour_inventory()", nativeQuery = true)
+    Integer reconcile();
+}
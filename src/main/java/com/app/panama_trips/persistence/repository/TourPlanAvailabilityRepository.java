@@ -2,13 +2,17 @@ package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.persistence.entity.TourPlanAvailability;
+import com.app.panama_trips.presentation.dto.DailyPriceOverride;
+import com.app.panama_trips.presentation.dto.DailySpots;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +45,82 @@ public interface TourPlanAvailabilityRepository extends JpaRepository<TourPlanAv
     void deleteByTourPlan(TourPlan tourPlan);
 
     boolean existsByTourPlanAndAvailableDate(TourPlan tourPlan, LocalDate availableDate);
-}
\ No newline at end of file
+
+    // --- Seat inventory (the WHERE clause is the capacity check, so concurrent bookings cannot oversell) ---
+    @Modifying
+    @Query(value = "UPDATE tour_plan_availability SET available_spots = available_spots - :seats " +
+            "WHERE tour_plan_id = :tourPlanId AND available_date = :date " +
+            "AND is_available = true AND available_spots >= :seats", nativeQuery = true)
+    int decrementAvailableSpots(@Param("tourPlanId") Integer tourPlanId, @Param("date") LocalDate date, @Param("seats") Integer seats);
+
+    @Modifying
+    @Query(value = "UPDATE tour_plan_availability SET available_spots = available_spots + :seats " +
+            "WHERE tour_plan_id = :tourPlanId AND available_date = :date", nativeQuery = true)
+    int incrementAvailableSpots(@Param("tourPlanId") Integer tourPlanId, @Param("date") LocalDate date, @Param("seats") Integer seats);
+
+    @Query("SELECT tpa.availableSpots FROM TourPlanAvailability tpa WHERE tpa.tourPlan.id = :tourPlanId AND tpa.availableDate = :date")
+    Optional<Integer> findAvailableSpots(@Param("tourPlanId") Integer tourPlanId, @Param("date") LocalDate date);
+
+    // A date without a row starts from the capacity minus the persons its committed bookings already hold
+    @Modifying
+    @Query(value = "INSERT INTO tour_plan_availability (tour_plan_id, available_date, available_spots, is_available) " +
+            "SELECT :tourPlanId, :date, GREATEST(:capacity - COALESCE(SUM(r.number_of_persons), 0), 0), true " +
+            "FROM reservations r WHERE r.tour_plan_id = :tourPlanId AND r.reservation_date = :date " +
+            "AND r.reservation_status <> 'cancelled' " +
+            "ON CONFLICT (tour_plan_id, available_date) DO NOTHING", nativeQuery = true)
+    int seedAvailableSpots(@Param("tourPlanId") Integer tourPlanId, @Param("date") LocalDate date, @Param("capacity") Integer capacity);
+
+    // --- Calendar engine: set-based statements over the (tour_plan_id, available_date) unique index ---
+
+    // A schedule day is inside [openFrom, openTo] and on one of the ISO weekdays (1 = Monday)
+    String OFF_SCHEDULE = "NOT (a.available_date BETWEEN :openFrom AND :openTo " +
+            "AND CAST(EXTRACT(ISODOW FROM a.available_date) AS integer) IN (:isoDays)) ";
+
+    // New days start from the capacity minus what committed bookings already hold (as seedAvailableSpots);
+    // days that already have a row are left to reopenScheduledDays
+    @Modifying
+    @Query(value = "INSERT INTO tour_plan_availability (tour_plan_id, available_date, available_spots, is_available) " +
+            "SELECT :tourPlanId, CAST(d AS date), GREATEST(:spots - COALESCE((SELECT SUM(r.number_of_persons) " +
+            "FROM reservations r WHERE r.tour_plan_id = :tourPlanId AND r.reservation_date = CAST(d AS date) " +
+            "AND r.reservation_status <> 'cancelled'), 0), 0), true " +
+            "FROM generate_series(CAST(:openFrom AS date), CAST(:openTo AS date), interval '1 day') AS d " +
+            "WHERE CAST(EXTRACT(ISODOW FROM d) AS integer) IN (:isoDays) " +
+            "ON CONFLICT (tour_plan_id, available_date) DO NOTHING", nativeQuery = true)
+    int insertScheduledDays(@Param("tourPlanId") Integer tourPlanId, @Param("openFrom") LocalDate openFrom,
+            @Param("openTo") LocalDate openTo, @Param("isoDays") Collection<Integer> isoDays,
+            @Param("spots") Integer spots);
+
+    // Days the generator closed when they left the schedule open again once they are back on it;
+    // days closed by hand are left alone
+    @Modifying
+    @Query(value = "UPDATE tour_plan_availability a SET is_available = true, closed_off_schedule = false " +
+            "WHERE a.tour_plan_id = :tourPlanId AND a.closed_off_schedule = true " +
+            "AND a.available_date BETWEEN :openFrom AND :openTo " +
+            "AND CAST(EXTRACT(ISODOW FROM a.available_date) AS integer) IN (:isoDays)", nativeQuery = true)
+    int reopenScheduledDays(@Param("tourPlanId") Integer tourPlanId, @Param("openFrom") LocalDate openFrom,
+            @Param("openTo") LocalDate openTo, @Param("isoDays") Collection<Integer> isoDays);
+
+    // Off-schedule days are closed, never deleted: the row keeps its seat count and is reopened if the day returns
+    @Modifying
+    @Query(value = "UPDATE tour_plan_availability a SET is_available = false, closed_off_schedule = true " +
+            "WHERE a.tour_plan_id = :tourPlanId AND a.available_date BETWEEN :startDate AND :endDate " +
+            "AND a.is_available = true AND " + OFF_SCHEDULE, nativeQuery = true)
+    int closeOffScheduleDays(@Param("tourPlanId") Integer tourPlanId, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate, @Param("openFrom") LocalDate openFrom,
+            @Param("openTo") LocalDate openTo, @Param("isoDays") Collection<Integer> isoDays);
+
+    @Query("SELECT new com.app.panama_trips.presentation.dto.DailySpots(tpa.availableDate, tpa.availableSpots) " +
+            "FROM TourPlanAvailability tpa WHERE tpa.tourPlan.id = :tourPlanId AND tpa.isAvailable = true " +
+            "AND tpa.availableDate BETWEEN :startDate AND :endDate")
+    List<DailySpots> findOpenDailySpots(@Param("tourPlanId") Integer tourPlanId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.app.panama_trips.presentation.dto.DailyPriceOverride(tpa.availableDate, tpa.priceOverride) " +
+            "FROM TourPlanAvailability tpa WHERE tpa.tourPlan.id = :tourPlanId AND tpa.priceOverride IS NOT NULL " +
+            "AND tpa.availableDate BETWEEN :startDate AND :endDate")
+    List<DailyPriceOverride> findPriceOverrides(@Param("tourPlanId") Integer tourPlanId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MAX(tpa.availableDate) FROM TourPlanAvailability tpa WHERE tpa.tourPlan.id = :tourPlanId")
+    Optional<LocalDate> findLastAvailableDate(@Param("tourPlanId") Integer tourPlanId);
+}
@@ -0,0 +1,26 @@
+package com.app.panama_trips.persistence.repository;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.presentation.dto.FacetCountResponse;
+import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface TourPlanDiscoveryRepository {
+
+    // One page of TourPlanResponse for the tours matching the specification
+    List<TourPlanResponse> findResponses(Specification<TourPlan> spec, Pageable pageable);
+
+    // One grouped pass: a row per difficulty with its total and the count per price range
+    List<DifficultyPriceFacet> countByDifficultyAndPriceRange(Specification<TourPlan> spec,
+            List<BigDecimal> priceBounds);
+
+    // Region counts; a tour linked to several regions counts once in each of them
+    List<FacetCountResponse> countByRegion(Specification<TourPlan> spec);
+
+    record DifficultyPriceFacet(String difficulty, long count, List<Long> priceRangeCounts) {
+    }
+}
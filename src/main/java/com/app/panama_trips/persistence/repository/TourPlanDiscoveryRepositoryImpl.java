@@ -0,0 +1,121 @@
+package com.app.panama_trips.persistence.repository;
+
+import com.app.panama_trips.persistence.entity.Address;
+import com.app.panama_trips.persistence.entity.Provider;
+import com.app.panama_trips.persistence.entity.Region;
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.TourPlanRegion;
+import com.app.panama_trips.presentation.dto.FacetCountResponse;
+import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TourPlanDiscoveryRepositoryImpl implements TourPlanDiscoveryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TourPlanResponse> findResponses(Specification<TourPlan> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TourPlanResponse> query = cb.createQuery(TourPlanResponse.class);
+        Root<TourPlan> tour = query.from(TourPlan.class);
+        Join<TourPlan, Provider> provider = tour.join("provider");
+        Join<Provider, Address> address = provider.join("address", JoinType.LEFT);
+        Path<Object> schedule = tour.get("schedule");
+
+        // Same columns as TourPlanRepository.RESPONSE_SELECT
+        query.select(cb.construct(TourPlanResponse.class,
+                tour.get("id"), tour.get("title"), tour.get("description"), tour.get("pricing").get("price"),
+                tour.get("duration"), tour.get("availableSpots"),
+                provider.get("name"), provider.get("email"), provider.get("phone"), address.get("street"),
+                tour.get("status"), tour.get("difficultyLevel"),
+                schedule.get("startTime"), schedule.get("endTime"), tour.get("createdAt"),
+                tour.get("includedServices"), tour.get("excludedServices"), tour.get("whatToBring"),
+                tour.get("tags"), tour.get("languageOptions"),
+                schedule.get("availableDays"), tour.get("media").get("imageGallery")));
+        query.where(spec.toPredicate(tour, query, cb));
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), tour, cb));
+        orders.add(cb.asc(tour.get("id")));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<DifficultyPriceFacet> countByDifficultyAndPriceRange(Specification<TourPlan> spec,
+            List<BigDecimal> priceBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TourPlan> tour = query.from(TourPlan.class);
+        Path<Object> difficulty = tour.get("difficultyLevel");
+        Path<BigDecimal> price = tour.get("pricing").<BigDecimal>get("price");
+
+        // Price ranges are conditional sums rather than a GROUP BY on a CASE, so the
+        // bounds can be bind parameters without breaking the grouping
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(difficulty);
+        selections.add(cb.count(tour));
+        for (int i = 0; i <= priceBounds.size(); i++) {
+            Predicate inRange;
+            if (i == 0) {
+                inRange = cb.lessThan(price, priceBounds.getFirst());
+            } else if (i == priceBounds.size()) {
+                inRange = cb.greaterThanOrEqualTo(price, priceBounds.getLast());
+            } else {
+                inRange = cb.and(cb.greaterThanOrEqualTo(price, priceBounds.get(i - 1)),
+                        cb.lessThan(price, priceBounds.get(i)));
+            }
+            selections.add(cb.sum(cb.<Integer>selectCase().when(inRange, 1).otherwise(0)));
+        }
+
+        query.multiselect(selections)
+                .where(spec.toPredicate(tour, query, cb))
+                .groupBy(difficulty);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> {
+                    List<Long> ranges = new ArrayList<>(priceBounds.size() + 1);
+                    for (int i = 0; i <= priceBounds.size(); i++) {
+                        Number sum = row.get(i + 2, Number.class);
+                        ranges.add(sum == null ? 0L : sum.longValue());
+                    }
+                    Object level = row.get(0);
+                    return new DifficultyPriceFacet(level == null ? null : level.toString(),
+                            row.get(1, Long.class), ranges);
+                })
+                .toList();
+    }
+
+    @Override
+    public List<FacetCountResponse> countByRegion(Specification<TourPlan> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TourPlanRegion> tourRegion = query.from(TourPlanRegion.class);
+        Join<TourPlanRegion, Region> region = tourRegion.join("region");
+        Root<TourPlan> tour = query.from(TourPlan.class);
+        Expression<Long> count = cb.count(tour);
+
+        query.multiselect(region.get("id"), region.get("name"), count)
+                .where(cb.equal(tourRegion.get("tourPlan"), tour), spec.toPredicate(tour, query, cb))
+                .groupBy(region.get("id"), region.get("name"))
+                .orderBy(cb.desc(count), cb.asc(region.get("name")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new FacetCountResponse(String.valueOf(row.get(0)), row.get(1, String.class),
+                        row.get(2, Long.class)))
+                .toList();
+    }
+}
@@ -1,13 +1,16 @@
 package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -15,53 +18,140 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TourPlanRepository extends JpaRepository<TourPlan, Integer> {
+public interface TourPlanRepository extends JpaRepository<TourPlan, Integer>, TourPlanDiscoveryRepository {
 
         @EntityGraph(attributePaths = { "provider", "provider.address" })
         Optional<TourPlan> findById(Integer id);
 
-        @Override
-        @NonNull
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findAll(@NonNull Pageable pageable);
-
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
         Optional<TourPlan> findByTitleIgnoreCase(String title);
 
         boolean existsByTitleIgnoreCase(String title);
 
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        List<TourPlan> findByPricing_Price(BigDecimal price);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findByPricing_PriceBetween(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        List<TourPlan> findByDuration(Integer duration);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findByDurationBetween(Integer minDuration, Integer maxDuration, Pageable pageable);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        List<TourPlan> findByAvailableSpots(Integer availableSpots);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findByAvailableSpotsBetween(Integer minSpots, Integer maxSpots, Pageable pageable);
-
-        List<TourPlan> findByProvider_Id(Integer providerId);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        List<TourPlan> findByTitleContainingIgnoreCaseAndPricing_Price(String title, BigDecimal price);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findByTitleContainingIgnoreCaseAndPricing_PriceBetween(String title, BigDecimal minPrice,
-                        BigDecimal maxPrice, Pageable pageable);
-
-        @EntityGraph(attributePaths = { "provider", "provider.address" })
-        Page<TourPlan> findByTitleContainingIgnoreCaseAndPricing_PriceBetweenAndDurationBetween(String title,
-                        BigDecimal minPrice, BigDecimal maxPrice, Integer minDuration, Integer maxDuration,
+        // List views read the response columns straight into TourPlanResponse: no managed
+        // TourPlan/Provider/Address instances and no dirty-checking copies of the JSONB lists.
+        // Their results sit in the query cache until tour_plans, providers or address change.
+        String RESPONSE_SELECT = "SELECT new com.app.panama_trips.presentation.dto.TourPlanResponse("
+                        + "t.id, t.title, t.description, t.pricing.price, t.duration, t.availableSpots, "
+                        + "p.name, p.email, p.phone, a.street, t.status, t.difficultyLevel, "
+                        + "t.schedule.startTime, t.schedule.endTime, t.createdAt, "
+                        + "t.includedServices, t.excludedServices, t.whatToBring, t.tags, t.languageOptions, "
+                        + "t.schedule.availableDays, t.media.imageGallery) "
+                        + "FROM TourPlan t JOIN t.provider p LEFT JOIN p.address a ";
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(t) FROM TourPlan t")
+        Page<TourPlanResponse> findAllResponses(Pageable pageable);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(RESPONSE_SELECT + "WHERE t.pricing.price = :price")
+        List<TourPlanResponse> findByPricing_Price(@Param("price") BigDecimal price);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT + "WHERE t.pricing.price BETWEEN :minPrice AND :maxPrice",
+                        countQuery = "SELECT COUNT(t) FROM TourPlan t WHERE t.pricing.price BETWEEN :minPrice AND :maxPrice")
+        Page<TourPlanResponse> findByPricing_PriceBetween(@Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice, Pageable pageable);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(RESPONSE_SELECT + "WHERE t.duration = :duration")
+        List<TourPlanResponse> findByDuration(@Param("duration") Integer duration);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT + "WHERE t.duration BETWEEN :minDuration AND :maxDuration",
+                        countQuery = "SELECT COUNT(t) FROM TourPlan t WHERE t.duration BETWEEN :minDuration AND :maxDuration")
+        Page<TourPlanResponse> findByDurationBetween(@Param("minDuration") Integer minDuration,
+                        @Param("maxDuration") Integer maxDuration, Pageable pageable);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(RESPONSE_SELECT + "WHERE t.availableSpots = :availableSpots")
+        List<TourPlanResponse> findByAvailableSpots(@Param("availableSpots") Integer availableSpots);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT + "WHERE t.availableSpots BETWEEN :minSpots AND :maxSpots",
+                        countQuery = "SELECT COUNT(t) FROM TourPlan t WHERE t.availableSpots BETWEEN :minSpots AND :maxSpots")
+        Page<TourPlanResponse> findByAvailableSpotsBetween(@Param("minSpots") Integer minSpots,
+                        @Param("maxSpots") Integer maxSpots, Pageable pageable);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(RESPONSE_SELECT + "WHERE p.id = :providerId")
+        List<TourPlanResponse> findByProvider_Id(@Param("providerId") Integer providerId);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(RESPONSE_SELECT
+                        + "WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) AND t.pricing.price = :price")
+        List<TourPlanResponse> findByTitleContainingIgnoreCaseAndPricing_Price(@Param("title") String title,
+                        @Param("price") BigDecimal price);
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT + "WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                        + "AND t.pricing.price BETWEEN :minPrice AND :maxPrice",
+                        countQuery = "SELECT COUNT(t) FROM TourPlan t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                                        + "AND t.pricing.price BETWEEN :minPrice AND :maxPrice")
+        Page<TourPlanResponse> findByTitleContainingIgnoreCaseAndPricing_PriceBetween(@Param("title") String title,
+                        @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice,
                         Pageable pageable);
 
-        @Query("SELECT t FROM TourPlan t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY t.title ASC")
-        List<TourPlan> findTop10ByTitleContainingIgnoreCaseOrderByTitleAsc(@Param("keyword") String keyword,
-                        Pageable pageable);
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        @Query(value = RESPONSE_SELECT + "WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                        + "AND t.pricing.price BETWEEN :minPrice AND :maxPrice "
+                        + "AND t.duration BETWEEN :minDuration AND :maxDuration",
+                        countQuery = "SELECT COUNT(t) FROM TourPlan t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+                                        + "AND t.pricing.price BETWEEN :minPrice AND :maxPrice "
+                                        + "AND t.duration BETWEEN :minDuration AND :maxDuration")
+        Page<TourPlanResponse> findByTitleContainingIgnoreCaseAndPricing_PriceBetweenAndDurationBetween(
+                        @Param("title") String title, @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice, @Param("minDuration") Integer minDuration,
+                        @Param("maxDuration") Integer maxDuration, Pageable pageable);
+
+        // Full-text search over tour_plans.search_vector, kept current by triggers on tour_plans and
+        // tour_translations (v1.16). The query is parsed with both the Spanish and English
+        // configurations so either language matches its own stems.
+        String SEARCH_FROM = "FROM tour_plans t JOIN providers p ON p.id = t.provider_id "
+                        + "CROSS JOIN (SELECT websearch_to_tsquery('tour_es', :q) || websearch_to_tsquery('tour_en', :q) AS query) q "
+                        + "WHERE t.status = 'ACTIVE' AND t.search_vector @@ q.query ";
+
+        @Query(value = "SELECT t.id AS id, t.title AS title, t.short_description AS \"shortDescription\", "
+                        + "t.price AS price, t.duration AS duration, p.name AS \"providerName\", "
+                        + "ts_rank_cd(t.search_vector, q.query, 32) AS rank, "
+                        + "ts_headline('tour_es', COALESCE(t.short_description, t.description), q.query, "
+                        + "'MaxFragments=1, MinWords=10, MaxWords=30') AS headline "
+                        + SEARCH_FROM + "ORDER BY rank DESC, t.id",
+                        countQuery = "SELECT COUNT(*) " + SEARCH_FROM, nativeQuery = true)
+        Page<SearchHit> searchRanked(@Param("q") String query, Pageable pageable);
+
+        // Typeahead over the trigram index on the accent-folded title: substring matches and
+        // fuzzy word matches, closest first.
+        @Query(value = "SELECT t.id AS id, t.title AS title FROM tour_plans t "
+                        + "WHERE t.status = 'ACTIVE' "
+                        + "AND (immutable_unaccent(lower(t.title)) LIKE '%' || immutable_unaccent(lower(:pattern)) || '%' "
+                        + "OR immutable_unaccent(lower(:term)) <% immutable_unaccent(lower(t.title))) "
+                        + "ORDER BY word_similarity(immutable_unaccent(lower(:term)), immutable_unaccent(lower(t.title))) DESC, "
+                        + "t.title LIMIT :limit", nativeQuery = true)
+        List<TitleSuggestion> suggestTitles(@Param("term") String term, @Param("pattern") String pattern,
+                        @Param("limit") int limit);
+
+        interface SearchHit {
+                Integer getId();
+
+                String getTitle();
+
+                String getShortDescription();
+
+                BigDecimal getPrice();
+
+                Integer getDuration();
+
+                String getProviderName();
+
+                Float getRank();
+
+                String getHeadline();
+        }
+
+        interface TitleSuggestion {
+                Integer getId();
+
+                String getTitle();
+        }
 }
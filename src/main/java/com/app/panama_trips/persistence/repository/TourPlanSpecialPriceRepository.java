@@ -19,21 +19,37 @@ public interface TourPlanSpecialPriceRepository extends JpaRepository<TourPlanSp
 
     List<TourPlanSpecialPrice> findByTourPlanOrderByStartDateAsc(TourPlan tourPlan);
 
+    List<TourPlanSpecialPrice> findByTourPlan_Id(Integer tourPlanId);
+
     List<TourPlanSpecialPrice> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
 
     List<TourPlanSpecialPrice> findByEndDateBetween(LocalDate startDate, LocalDate endDate);
 
-    @Query("SELECT tpsp FROM TourPlanSpecialPrice tpsp WHERE tpsp.tourPlan.id = :tourPlanId AND :date BETWEEN tpsp.startDate AND tpsp.endDate")
+    String OVERLAP_CONSTRAINT = "ex_tour_plan_special_prices_overlap";
+
+    String PERIOD_COLUMNS = "SELECT id, tour_plan_id, start_date, end_date, price, description FROM tour_plan_special_prices ";
+
+    // Range lookups on the generated period column, served by the GiST index of the
+    // exclusion constraint (v1.18); at most one period can contain a given date.
+    @Query(value = PERIOD_COLUMNS + "WHERE tour_plan_id = :tourPlanId " +
+            "AND period @> CAST(:date AS DATE)", nativeQuery = true)
     Optional<TourPlanSpecialPrice> findByTourPlanIdAndDate(@Param("tourPlanId") Integer tourPlanId, @Param("date") LocalDate date);
 
-    @Query("SELECT tpsp FROM TourPlanSpecialPrice tpsp WHERE tpsp.tourPlan.id = :tourPlanId AND " +
-            "((tpsp.startDate BETWEEN :startDate AND :endDate) OR " +
-            "(tpsp.endDate BETWEEN :startDate AND :endDate) OR " +
-            "(:startDate BETWEEN tpsp.startDate AND tpsp.endDate))")
+    @Query(value = PERIOD_COLUMNS + "WHERE tour_plan_id = :tourPlanId " +
+            "AND period && daterange(CAST(:startDate AS DATE), CAST(:endDate AS DATE), '[]') " +
+            "ORDER BY start_date", nativeQuery = true)
     List<TourPlanSpecialPrice> findOverlappingPricePeriodsForTourPlan(@Param("tourPlanId") Integer tourPlanId,
                                                                       @Param("startDate") LocalDate startDate,
                                                                       @Param("endDate") LocalDate endDate);
 
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tour_plan_special_prices WHERE tour_plan_id = :tourPlanId " +
+            "AND id <> :excludedId " +
+            "AND period && daterange(CAST(:startDate AS DATE), CAST(:endDate AS DATE), '[]'))", nativeQuery = true)
+    boolean existsOverlappingPeriodExcluding(@Param("tourPlanId") Integer tourPlanId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("excludedId") Integer excludedId);
+
     List<TourPlanSpecialPrice> findByTourPlanAndPriceGreaterThan(TourPlan tourPlan, BigDecimal price);
 
     List<TourPlanSpecialPrice> findByTourPlanAndStartDateGreaterThanEqual(TourPlan tourPlan, LocalDate date);
@@ -1,8 +1,11 @@
 package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.TourPriceHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +19,9 @@ import java.util.Optional;
 @Repository
 public interface TourPriceHistoryRepository extends JpaRepository<TourPriceHistory, Integer> {
 
+    // Keyset scrolling: seeks past the last id instead of OFFSET + COUNT(*)
+    Window<TourPriceHistory> findAllByOrderByIdDesc(ScrollPosition position, Limit limit);
+
     // ID-based queries (avoid fetching full entities)
     @Query("SELECT tph FROM TourPriceHistory tph WHERE tph.tourPlan.id = :tourPlanId ORDER BY tph.changedAt DESC")
     List<TourPriceHistory> findByTourPlanIdOrderByChangedAtDesc(@Param("tourPlanId") Integer tourPlanId);
@@ -1,9 +1,14 @@
 package com.app.panama_trips.persistence.repository;
 
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.presentation.dto.UserCredentials;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +19,13 @@ public interface UserEntityRepository extends JpaRepository<UserEntity, Long> {
 
     @EntityGraph(attributePaths = {"role", "role.permissions"})
     Optional<UserEntity> findUserEntitiesByEmail(String email);
+
+    @Query("SELECT new com.app.panama_trips.presentation.dto.UserCredentials(u.id, u.name, u.passwordHash, r.roleEnum) " +
+            "FROM UserEntity u JOIN u.role r WHERE u.name = :name")
+    Optional<UserCredentials> findCredentialsByName(@Param("name") String name);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.passwordHash = :passwordHash, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") Long id, @Param("passwordHash") String passwordHash);
 }
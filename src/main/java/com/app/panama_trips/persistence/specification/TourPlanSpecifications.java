@@ -0,0 +1,161 @@
+package com.app.panama_trips.persistence.specification;
+
+import com.app.panama_trips.persistence.entity.TourInventory;
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.TourPlanAvailability;
+import com.app.panama_trips.persistence.entity.TourPlanRegion;
+import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
+import com.app.panama_trips.persistence.entity.enums.TourPlanStatus;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Building blocks of the tour discovery search. Each criterion is a plain predicate or an
+ * EXISTS over an indexed child table, so the combined filter stays one SQL statement.
+ */
+public final class TourPlanSpecifications {
+
+    private TourPlanSpecifications() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static Specification<TourPlan> matching(TourDiscoveryFilter filter) {
+        List<Specification<TourPlan>> specs = new ArrayList<>();
+        specs.add(isActive());
+        if (filter.minPrice() != null) {
+            specs.add(priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            specs.add(priceAtMost(filter.maxPrice()));
+        }
+        if (filter.minDuration() != null) {
+            specs.add(durationAtLeast(filter.minDuration()));
+        }
+        if (filter.maxDuration() != null) {
+            specs.add(durationAtMost(filter.maxDuration()));
+        }
+        if (filter.difficulty() != null && !filter.difficulty().isEmpty()) {
+            specs.add(difficultyIn(filter.difficulty()));
+        }
+        if (filter.regionId() != null) {
+            specs.add(inRegion(filter.regionId()));
+        }
+        if (filter.provinceId() != null) {
+            specs.add(inProvince(filter.provinceId()));
+        }
+        if (filter.language() != null && !filter.language().isBlank()) {
+            specs.add(offersLanguage(filter.language().strip().toLowerCase()));
+        }
+        if (Boolean.TRUE.equals(filter.wheelchairAccessible())) {
+            specs.add(wheelchairAccessible());
+        }
+        if (filter.minRating() != null) {
+            specs.add(ratingAtLeast(filter.minRating()));
+        }
+        int spots = filter.spots() == null ? 1 : Math.max(filter.spots(), 1);
+        if (filter.date() != null) {
+            specs.add(availableOn(filter.date(), spots));
+        } else if (filter.spots() != null) {
+            specs.add(remainingSpotsAtLeast(spots));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<TourPlan> isActive() {
+        return (root, query, cb) -> cb.equal(root.get("status"), TourPlanStatus.ACTIVE);
+    }
+
+    public static Specification<TourPlan> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("pricing").<BigDecimal>get("price"), minPrice);
+    }
+
+    public static Specification<TourPlan> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pricing").<BigDecimal>get("price"), maxPrice);
+    }
+
+    public static Specification<TourPlan> durationAtLeast(Integer minDuration) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Integer>get("duration"), minDuration);
+    }
+
+    public static Specification<TourPlan> durationAtMost(Integer maxDuration) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<Integer>get("duration"), maxDuration);
+    }
+
+    public static Specification<TourPlan> difficultyIn(Set<DifficultyLevel> levels) {
+        return (root, query, cb) -> root.get("difficultyLevel").in(levels);
+    }
+
+    // EXISTS on tour_plan_regions(region_id, tour_plan_id)
+    public static Specification<TourPlan> inRegion(Integer regionId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> link = query.subquery(Integer.class);
+            Root<TourPlanRegion> tourRegion = link.from(TourPlanRegion.class);
+            link.select(tourRegion.get("region").<Integer>get("id"))
+                    .where(cb.equal(tourRegion.get("tourPlan"), root),
+                            cb.equal(tourRegion.get("region").get("id"), regionId));
+            return cb.exists(link);
+        };
+    }
+
+    public static Specification<TourPlan> inProvince(Integer provinceId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> link = query.subquery(Integer.class);
+            Root<TourPlanRegion> tourRegion = link.from(TourPlanRegion.class);
+            link.select(tourRegion.get("region").<Integer>get("id"))
+                    .where(cb.equal(tourRegion.get("tourPlan"), root),
+                            cb.equal(tourRegion.get("region").get("province").get("id"), provinceId));
+            return cb.exists(link);
+        };
+    }
+
+    // language_options is a JSONB array of codes; jsonb_exists is the function behind the ? operator
+    public static Specification<TourPlan> offersLanguage(String languageCode) {
+        return (root, query, cb) -> cb.isTrue(
+                cb.function("jsonb_exists", Boolean.class, root.get("languageOptions"), cb.literal(languageCode)));
+    }
+
+    public static Specification<TourPlan> wheelchairAccessible() {
+        return (root, query, cb) -> cb.isTrue(root.get("wheelchairAccessible"));
+    }
+
+    public static Specification<TourPlan> ratingAtLeast(BigDecimal minRating) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<BigDecimal>get("averageRating"), minRating);
+    }
+
+    // EXISTS on the unique (tour_plan_id, available_date) index of tour_plan_availability
+    public static Specification<TourPlan> availableOn(LocalDate date, int spots) {
+        return (root, query, cb) -> {
+            Subquery<Integer> slot = query.subquery(Integer.class);
+            Root<TourPlanAvailability> availability = slot.from(TourPlanAvailability.class);
+            slot.select(availability.<Integer>get("id"))
+                    .where(cb.equal(availability.get("tourPlan"), root),
+                            cb.equal(availability.get("availableDate"), date),
+                            cb.isTrue(availability.get("isAvailable")),
+                            cb.greaterThanOrEqualTo(availability.<Integer>get("availableSpots"), spots));
+            return cb.exists(slot);
+        };
+    }
+
+    // Same arithmetic as available_tours.remaining_spots: booked_persons only counts live bookings
+    // with a tour plan, and a tour without inventory row has no bookings
+    public static Specification<TourPlan> remainingSpotsAtLeast(int spots) {
+        return (root, query, cb) -> {
+            Subquery<Integer> overbooked = query.subquery(Integer.class);
+            Root<TourInventory> inventory = overbooked.from(TourInventory.class);
+            overbooked.select(inventory.<Integer>get("tourPlanId"))
+                    .where(cb.equal(inventory.get("tourPlanId"), root.get("id")),
+                            cb.gt(inventory.<Long>get("bookedPersons"),
+                                    cb.diff(root.<Integer>get("availableSpots"), spots)));
+            return cb.and(cb.greaterThanOrEqualTo(root.<Integer>get("availableSpots"), spots),
+                    cb.not(cb.exists(overbooked)));
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.presentation.dto.AddressRequest;
 import com.app.panama_trips.presentation.dto.AddressResponse;
 import com.app.panama_trips.service.implementation.AddressService;
+import com.app.panama_trips.utility.Pagination;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -26,9 +27,7 @@ public class AddressController {
             @RequestParam(defaultValue = "false") Boolean enabledPagination
 
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.addressService.getAllAddresses(pageable));
     }
 
@@ -14,8 +14,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.app.panama_trips.exception.TooManyRequestsException;
 import com.app.panama_trips.persistence.entity.AuditLog;
+import com.app.panama_trips.presentation.dto.AuditLogActivityResponse;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
 import com.app.panama_trips.service.implementation.AuditLogService;
+import com.app.panama_trips.presentation.dto.ScrollResponse;
+import com.app.panama_trips.utility.ScrollCursor;
 
 import lombok.RequiredArgsConstructor;
 import java.time.LocalDateTime;
@@ -34,6 +39,14 @@ public class AuditLogController {
         return ResponseEntity.ok(auditLogService.getAllAuditLogs(pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<AuditLog>> scrollAuditLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(ScrollResponse.of(auditLogService.scrollAuditLogs(ScrollCursor.decode(cursor), size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AuditLog> getById(@PathVariable Integer id) {
         return ResponseEntity.ok(auditLogService.getAuditLogById(id));
@@ -45,6 +58,15 @@ public class AuditLogController {
                 .body(auditLogService.saveAuditLog(request));
     }
 
+    // Fire-and-forget ingestion through the write-behind buffer: no id comes back, 429 when the buffer is full
+    @PostMapping("/async")
+    public ResponseEntity<Void> record(@RequestBody AuditLog request) {
+        if (!auditLogService.recordAuditLog(request)) {
+            throw new TooManyRequestsException("Audit log buffer is full, retry later");
+        }
+        return ResponseEntity.accepted().build();
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<AuditLog> update(@PathVariable Integer id, @RequestBody AuditLog request) {
         return ResponseEntity.ok(auditLogService.updateAuditLog(id, request));
@@ -337,6 +359,11 @@ public class AuditLogController {
         return ResponseEntity.ok(auditLogService.getAuditTrailForUserAndDateRange(userId, startDate, endDate));
     }
 
+    @GetMapping("/write-behind/stats")
+    public ResponseEntity<AuditLogWriterStatsResponse> getWriteBehindStats() {
+        return ResponseEntity.ok(auditLogService.getWriteBehindStats());
+    }
+
     // Statistics and analytics
     @GetMapping("/stats/total")
     public ResponseEntity<Long> getTotalAuditLogs() {
@@ -370,37 +397,37 @@ public class AuditLogController {
     }
 
     @GetMapping("/stats/top-users/{limit}")
-    public ResponseEntity<List<AuditLog>> getTopUsersByActivity(@PathVariable int limit) {
+    public ResponseEntity<List<AuditLogActivityResponse>> getTopUsersByActivity(@PathVariable int limit) {
         return ResponseEntity.ok(auditLogService.getTopUsersByActivity(limit));
     }
 
     @GetMapping("/stats/top-entity-types/{limit}")
-    public ResponseEntity<List<AuditLog>> getTopEntityTypesByActivity(@PathVariable int limit) {
+    public ResponseEntity<List<AuditLogActivityResponse>> getTopEntityTypesByActivity(@PathVariable int limit) {
         return ResponseEntity.ok(auditLogService.getTopEntityTypesByActivity(limit));
     }
 
     @GetMapping("/stats/top-actions/{limit}")
-    public ResponseEntity<List<AuditLog>> getTopActionsByActivity(@PathVariable int limit) {
+    public ResponseEntity<List<AuditLogActivityResponse>> getTopActionsByActivity(@PathVariable int limit) {
         return ResponseEntity.ok(auditLogService.getTopActionsByActivity(limit));
     }
 
     @GetMapping("/stats/top-ips/{limit}")
-    public ResponseEntity<List<AuditLog>> getTopIpAddressesByActivity(@PathVariable int limit) {
+    public ResponseEntity<List<AuditLogActivityResponse>> getTopIpAddressesByActivity(@PathVariable int limit) {
         return ResponseEntity.ok(auditLogService.getTopIpAddressesByActivity(limit));
     }
 
     @GetMapping("/stats/by-month")
-    public ResponseEntity<List<AuditLog>> getActivityByMonth() {
+    public ResponseEntity<List<AuditLogActivityResponse>> getActivityByMonth() {
         return ResponseEntity.ok(auditLogService.getActivityByMonth());
     }
 
     @GetMapping("/stats/by-day-of-week")
-    public ResponseEntity<List<AuditLog>> getActivityByDayOfWeek() {
+    public ResponseEntity<List<AuditLogActivityResponse>> getActivityByDayOfWeek() {
         return ResponseEntity.ok(auditLogService.getActivityByDayOfWeek());
     }
 
     @GetMapping("/stats/by-hour")
-    public ResponseEntity<List<AuditLog>> getActivityByHour() {
+    public ResponseEntity<List<AuditLogActivityResponse>> getActivityByHour() {
         return ResponseEntity.ok(auditLogService.getActivityByHour());
     }
 
@@ -518,24 +545,26 @@ public class AuditLogController {
     }
 
     @GetMapping("/json-field/{fieldName}/{fieldValue}")
-    public ResponseEntity<List<AuditLog>> getAuditLogsByJsonField(
-            @PathVariable String fieldName, @PathVariable String fieldValue) {
-        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonField(fieldName, fieldValue));
+    public ResponseEntity<Page<AuditLog>> getAuditLogsByJsonField(
+            @PathVariable String fieldName, @PathVariable String fieldValue, Pageable pageable) {
+        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonField(fieldName, fieldValue, pageable));
     }
 
     @GetMapping("/json-field/containing/{fieldName}/{fieldValue}")
-    public ResponseEntity<List<AuditLog>> getAuditLogsByJsonFieldContaining(
-            @PathVariable String fieldName, @PathVariable String fieldValue) {
-        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldContaining(fieldName, fieldValue));
+    public ResponseEntity<Page<AuditLog>> getAuditLogsByJsonFieldContaining(
+            @PathVariable String fieldName, @PathVariable String fieldValue, Pageable pageable) {
+        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldContaining(fieldName, fieldValue, pageable));
     }
 
     @GetMapping("/json-field/exists/{fieldName}")
-    public ResponseEntity<List<AuditLog>> getAuditLogsByJsonFieldExists(@PathVariable String fieldName) {
-        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldExists(fieldName));
+    public ResponseEntity<Page<AuditLog>> getAuditLogsByJsonFieldExists(@PathVariable String fieldName,
+            Pageable pageable) {
+        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldExists(fieldName, pageable));
     }
 
     @GetMapping("/json-field/not-exists/{fieldName}")
-    public ResponseEntity<List<AuditLog>> getAuditLogsByJsonFieldNotExists(@PathVariable String fieldName) {
-        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldNotExists(fieldName));
+    public ResponseEntity<Page<AuditLog>> getAuditLogsByJsonFieldNotExists(@PathVariable String fieldName,
+            Pageable pageable) {
+        return ResponseEntity.ok(auditLogService.getAuditLogsByJsonFieldNotExists(fieldName, pageable));
     }
 }
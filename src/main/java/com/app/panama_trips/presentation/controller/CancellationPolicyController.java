@@ -3,9 +3,12 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.presentation.dto.CancellationPolicyRequest;
 import com.app.panama_trips.presentation.dto.CancellationPolicyResponse;
 import com.app.panama_trips.service.implementation.CancellationPolicyService;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+import com.app.panama_trips.utility.Pagination;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.RequestBody;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,17 +23,18 @@ import java.util.Optional;
 public class CancellationPolicyController {
 
     private final CancellationPolicyService service;
+    private final ResponseCacheService responseCacheService;
 
     @GetMapping
-    public ResponseEntity<Page<CancellationPolicyResponse>> getAllCancellationPolicies(
+    public ResponseEntity<byte[]> getAllCancellationPolicies(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "false") boolean enabledPagination
+            @RequestParam(defaultValue = "false") boolean enabledPagination,
+            HttpServletRequest request
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
-        return ResponseEntity.ok(this.service.getAllCancellationPolicies(pageable));
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
+        return this.responseCacheService.respond(IResponseCacheService.CANCELLATION_POLICIES, request,
+                () -> this.service.getAllCancellationPolicies(pageable));
     }
 
     @GetMapping("/{id}")
@@ -95,8 +99,8 @@ public class CancellationPolicyController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<CancellationPolicyResponse>> getActivePolicies() {
-        return ResponseEntity.ok(this.service.getActivePolicies());
+    public ResponseEntity<byte[]> getActivePolicies(HttpServletRequest request) {
+        return this.responseCacheService.respond(IResponseCacheService.CANCELLATION_POLICIES, request, this.service::getActivePolicies);
     }
 
     @PostMapping("/bulk")
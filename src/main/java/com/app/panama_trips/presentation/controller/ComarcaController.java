@@ -2,9 +2,12 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.presentation.dto.ComarcaRequest;
 import com.app.panama_trips.presentation.dto.ComarcaResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.interfaces.IComarcaService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,8 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/comarcas")
 @RequiredArgsConstructor
@@ -22,11 +23,12 @@ import java.util.List;
 public class ComarcaController {
 
   private final IComarcaService comarcaService;
+  private final ResponseCacheService responseCacheService;
 
   @GetMapping
   @Operation(summary = "Get all comarcas")
-  public ResponseEntity<List<ComarcaResponse>> findAllComarcas() {
-    return ResponseEntity.ok(this.comarcaService.getAllComarcas());
+  public ResponseEntity<byte[]> findAllComarcas(HttpServletRequest request) {
+    return this.responseCacheService.respond(IResponseCacheService.COMARCAS, request, this.comarcaService::getAllComarcas);
   }
 
   @GetMapping("/{id}")
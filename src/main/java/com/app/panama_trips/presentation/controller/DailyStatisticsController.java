@@ -1,13 +1,17 @@
 package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.persistence.entity.DailyStatistics;
+import com.app.panama_trips.presentation.dto.DailyStatisticsBackfillResponse;
 import com.app.panama_trips.presentation.dto.DailyStatisticsRequest;
 import com.app.panama_trips.presentation.dto.DailyStatisticsResponse;
+import com.app.panama_trips.service.implementation.DailyStatisticsRollupService;
 import com.app.panama_trips.service.implementation.DailyStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -24,11 +28,12 @@ import java.util.List;
 public class DailyStatisticsController {
 
     private final DailyStatisticsService dailyStatisticsService;
+    private final DailyStatisticsRollupService dailyStatisticsRollupService;
 
     @GetMapping
     @Operation(
             summary = "Get all daily statistics",
-            description = "Get all daily statistics in the system",
+            description = "Get a page of daily statistics in the system",
             tags = {"DailyStatistics"},
             responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200",
@@ -39,8 +44,8 @@ public class DailyStatisticsController {
                     )
             )
     )
-    public ResponseEntity<List<DailyStatisticsResponse>> findAllDailyStatistics() {
-        return ResponseEntity.ok(this.dailyStatisticsService.getAllDailyStatistics());
+    public ResponseEntity<Page<DailyStatisticsResponse>> findAllDailyStatistics(Pageable pageable) {
+        return ResponseEntity.ok(this.dailyStatisticsService.getAllDailyStatistics(pageable));
     }
 
     @PostMapping
@@ -145,4 +150,22 @@ public class DailyStatisticsController {
         this.dailyStatisticsService.deleteDailyStatistics(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/rollup/backfill")
+    @Operation(
+            summary = "Recompute daily statistics for a date range",
+            description = "Recompute the daily statistics of every day between two dates, in parallel chunks. Safe to repeat. Admin only; ranges longer than daily-statistics.backfill.max-days are rejected",
+            tags = {"DailyStatistics"},
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Daily statistics recomputed",
+                    content = @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = DailyStatisticsBackfillResponse.class)
+                    )
+            )
+    )
+    public ResponseEntity<DailyStatisticsBackfillResponse> backfillDailyStatistics(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        return ResponseEntity.ok(this.dailyStatisticsRollupService.backfill(from, to));
+    }
 }
@@ -4,9 +4,12 @@ import com.app.panama_trips.persistence.entity.District;
 import com.app.panama_trips.presentation.dto.DistrictRequest;
 import com.app.panama_trips.presentation.dto.DistrictResponse;
 import com.app.panama_trips.service.implementation.DistrictService;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,6 +24,7 @@ import java.util.List;
 public class DistrictController {
 
     private final DistrictService districtService;
+    private final ResponseCacheService responseCacheService;
 
     @GetMapping
     @Operation(
@@ -36,8 +40,8 @@ public class DistrictController {
                     )
             )
     )
-    public ResponseEntity<List<DistrictResponse>> findAllDistricts() {
-        return ResponseEntity.ok(this.districtService.getAllDistricts());
+    public ResponseEntity<byte[]> findAllDistricts(HttpServletRequest request) {
+        return this.responseCacheService.respond(IResponseCacheService.DISTRICTS, request, this.districtService::getAllDistricts);
     }
 
     @PostMapping
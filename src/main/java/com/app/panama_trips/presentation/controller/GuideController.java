@@ -12,6 +12,7 @@ import com.app.panama_trips.presentation.dto.GuideRequest;
 import com.app.panama_trips.presentation.dto.GuideResponse;
 import com.app.panama_trips.persistence.entity.Provider;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.utility.Pagination;
 import java.util.List;
 
 @RestController
@@ -27,9 +28,7 @@ public class GuideController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(guideService.findAll(pageable));
     }
 
@@ -13,6 +13,10 @@ import org.springframework.web.bind.annotation.*;
 import com.app.panama_trips.presentation.dto.LanguageRequest;
 import com.app.panama_trips.presentation.dto.LanguageResponse;
 import com.app.panama_trips.service.implementation.LanguageService;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import lombok.RequiredArgsConstructor;
 import java.util.List;
@@ -22,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LanguageController {
     private final LanguageService service;
+    private final ResponseCacheService responseCacheService;
 
     // CRUD operations
     @GetMapping
@@ -55,8 +60,8 @@ public class LanguageController {
 
     // Business operations
     @GetMapping("/active")
-    public ResponseEntity<List<LanguageResponse>> getAllActiveLanguages() {
-        return ResponseEntity.ok(service.getAllActiveLanguages());
+    public ResponseEntity<byte[]> getAllActiveLanguages(HttpServletRequest request) {
+        return responseCacheService.respond(IResponseCacheService.ACTIVE_LANGUAGES, request, service::getAllActiveLanguages);
     }
 
     @GetMapping("/name/{name}")
@@ -6,9 +6,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
 import com.app.panama_trips.presentation.dto.NotificationHistoryRequest;
 import com.app.panama_trips.presentation.dto.NotificationHistoryResponse;
 import com.app.panama_trips.service.implementation.NotificationHistoryService;
+import com.app.panama_trips.presentation.dto.ScrollResponse;
+import com.app.panama_trips.utility.ScrollCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +31,14 @@ public class NotificationHistoryController {
         return ResponseEntity.ok(service.getAllNotificationHistory(pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<NotificationHistoryResponse>> scrollNotificationHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(ScrollResponse.of(service.scrollNotificationHistory(ScrollCursor.decode(cursor), size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<NotificationHistoryResponse> getById(@PathVariable Integer id) {
         return ResponseEntity.ok(service.getNotificationHistoryById(id));
@@ -190,4 +201,9 @@ public class NotificationHistoryController {
         service.retryFailedNotifications();
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/dispatch/stats")
+    public ResponseEntity<NotificationDispatchStatsResponse> getDispatchStats() {
+        return ResponseEntity.ok(service.getDispatchStats());
+    }
 }
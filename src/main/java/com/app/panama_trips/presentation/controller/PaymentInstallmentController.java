@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.*;
 import com.app.panama_trips.presentation.dto.PaymentInstallmentRequest;
 import com.app.panama_trips.presentation.dto.PaymentInstallmentResponse;
 import com.app.panama_trips.service.implementation.PaymentInstallmentService;
+import com.app.panama_trips.presentation.dto.ScrollResponse;
+import com.app.panama_trips.utility.ScrollCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +31,14 @@ public class PaymentInstallmentController {
         return ResponseEntity.ok(service.getAllPaymentInstallments(pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<PaymentInstallmentResponse>> scrollPaymentInstallments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(ScrollResponse.of(service.scrollPaymentInstallments(ScrollCursor.decode(cursor), size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PaymentInstallmentResponse> getById(@PathVariable Integer id) {
         return ResponseEntity.ok(service.getPaymentInstallmentById(id));
@@ -182,16 +192,14 @@ public class PaymentInstallmentController {
     }
 
     @PutMapping("/bulk/status")
-    public ResponseEntity<Void> bulkUpdateStatus(@RequestBody List<Integer> installmentIds,
+    public ResponseEntity<Integer> bulkUpdateStatus(@RequestBody List<Integer> installmentIds,
             @RequestParam String newStatus) {
-        service.bulkUpdateStatus(installmentIds, newStatus);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(service.bulkUpdateStatus(installmentIds, newStatus));
     }
 
     @PutMapping("/bulk/reminder-sent")
-    public ResponseEntity<Void> bulkMarkAsReminderSent(@RequestBody List<Integer> installmentIds) {
-        service.bulkMarkAsReminderSent(installmentIds);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Integer> bulkMarkAsReminderSent(@RequestBody List<Integer> installmentIds) {
+        return ResponseEntity.ok(service.bulkMarkAsReminderSent(installmentIds));
     }
 
     // Check operations
@@ -380,15 +388,13 @@ public class PaymentInstallmentController {
 
     // Utility operations
     @PostMapping("/recalculate-overdue")
-    public ResponseEntity<Void> recalculateOverdueStatus() {
-        service.recalculateOverdueStatus();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Integer> recalculateOverdueStatus() {
+        return ResponseEntity.ok(service.recalculateOverdueStatus());
     }
 
     @DeleteMapping("/cleanup/{daysToKeep}")
-    public ResponseEntity<Void> cleanupOldInstallments(@PathVariable int daysToKeep) {
-        service.cleanupOldInstallments(daysToKeep);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Integer> cleanupOldInstallments(@PathVariable int daysToKeep) {
+        return ResponseEntity.ok(service.cleanupOldInstallments(daysToKeep));
     }
 
     @GetMapping("/search/amount/{amount}")
@@ -2,7 +2,10 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.presentation.dto.ProviderRequest;
 import com.app.panama_trips.presentation.dto.ProviderResponse;
+import com.app.panama_trips.service.implementation.ProviderPerformanceService;
 import com.app.panama_trips.service.implementation.ProviderService;
+import com.app.panama_trips.utility.Pagination;
+import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +22,7 @@ import java.util.List;
 public class ProviderController {
 
     private final ProviderService providerService;
+    private final ProviderPerformanceService providerPerformanceService;
 
     @GetMapping
     public ResponseEntity<Page<ProviderResponse>> findAllProviders(
@@ -26,9 +30,7 @@ public class ProviderController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.providerService.getAllProviders(pageable));
     }
 
@@ -97,4 +99,28 @@ public class ProviderController {
     public ResponseEntity<List<ProviderResponse>> searchProviders(@RequestParam String q) {
         return ResponseEntity.ok(this.providerService.getProvidersByNameFragment(q));
     }
+
+    // Called by import jobs once their data is committed; 202 when it joined a refresh already running
+    @PostMapping("/performance/refresh")
+    @Operation(
+            summary = "Refresh provider performance",
+            description = "Recompute the provider performance view after a bulk import. Admin only. "
+                    + "A call that arrives during a refresh joins it and triggers one more run once it finishes",
+            tags = {"Provider"},
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "204",
+                            description = "Provider performance refreshed"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "202",
+                            description = "Joined a refresh already running; the follow-up run will include this call's data"
+                    )
+            }
+    )
+    public ResponseEntity<Void> refreshProviderPerformance() {
+        return this.providerPerformanceService.refresh() > 0
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.accepted().build();
+    }
 }
@@ -3,9 +3,13 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.persistence.entity.Province;
 import com.app.panama_trips.presentation.dto.ProvinceRequest;
 import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
 import com.app.panama_trips.service.implementation.ProvinceService;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,6 +26,7 @@ import java.util.List;
 public class ProvinceController {
 
     private final ProvinceService provinceService;
+    private final ResponseCacheService responseCacheService;
 
     @GetMapping
     @Operation(
@@ -37,8 +42,28 @@ public class ProvinceController {
                     )
             )
     )
-    public ResponseEntity<List<ProvinceResponse>> findAllProvinces() {
-        return ResponseEntity.ok(this.provinceService.getAllProvinces());
+    public ResponseEntity<byte[]> findAllProvinces(HttpServletRequest request) {
+        return this.responseCacheService.respond(IResponseCacheService.PROVINCES, request, this.provinceService::getAllProvinces);
+    }
+
+    @GetMapping("/tree")
+    @Operation(
+            summary = "Get the province tree",
+            description = "Get all provinces with their districts and regions",
+            tags = {"Province"}
+    )
+    public ResponseEntity<List<ProvinceTreeResponse>> findProvinceTrees() {
+        return ResponseEntity.ok(this.provinceService.getProvinceTrees());
+    }
+
+    @GetMapping("/{id}/tree")
+    @Operation(
+            summary = "Get a province tree",
+            description = "Get a province with its districts and regions",
+            tags = {"Province"}
+    )
+    public ResponseEntity<ProvinceTreeResponse> findProvinceTree(@PathVariable Integer id) {
+        return ResponseEntity.ok(this.provinceService.getProvinceTree(id));
     }
 
     @PostMapping
@@ -3,9 +3,9 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.presentation.dto.RegionRequest;
 import com.app.panama_trips.presentation.dto.RegionResponse;
 import com.app.panama_trips.service.implementation.RegionService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,9 +24,7 @@ public class RegionController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(regionService.getAllRegions(pageable));
     }
 
@@ -63,9 +61,7 @@ public class RegionController {
             @RequestParam(defaultValue = "false") boolean enabledPagination,
             @RequestParam String q
     ) {
-        Pageable pageable = enabledPagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.regionService.getRegionsByName(q, pageable));
     }
 
@@ -76,9 +72,7 @@ public class RegionController {
             @RequestParam(defaultValue = "false") boolean enabledPagination,
             @PathVariable Integer provinceId
     ) {
-        Pageable pageable = enabledPagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.regionService.getRegionByProvinceId(provinceId, pageable));
     }
 
@@ -89,9 +83,7 @@ public class RegionController {
             @RequestParam(defaultValue = "false") boolean enabledPagination,
             @PathVariable Integer comarcaId
     ) {
-        Pageable pageable = enabledPagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.regionService.getRegionByComarcaId(comarcaId, pageable));
     }
 
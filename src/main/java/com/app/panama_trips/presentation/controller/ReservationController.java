@@ -4,6 +4,9 @@ import com.app.panama_trips.persistence.entity.ReservationStatus;
 import com.app.panama_trips.presentation.dto.ReservationRequest;
 import com.app.panama_trips.presentation.dto.ReservationResponse;
 import com.app.panama_trips.service.implementation.ReservationService;
+import com.app.panama_trips.utility.Pagination;
+import com.app.panama_trips.presentation.dto.ScrollResponse;
+import com.app.panama_trips.utility.ScrollCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,12 +30,18 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getAllReservations(pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<ReservationResponse>> scrollReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(ScrollResponse.of(this.reservationService.scrollReservations(ScrollCursor.decode(cursor), size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ReservationResponse> getReservationById(@PathVariable Integer id) {
         return ResponseEntity.ok(this.reservationService.getReservationById(id));
@@ -61,9 +70,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationByUserId(userId, pageable));
     }
 
@@ -74,9 +81,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationByTourPlanId(tourPlanId, pageable));
     }
 
@@ -87,9 +92,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationByReservationStatus(status, pageable));
     }
 
@@ -100,9 +103,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationByReservationDate(reservationDate, pageable));
     }
 
@@ -114,9 +115,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByUserAndStatus(userId, status, pageable));
     }
 
@@ -128,9 +127,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByTourPlanAndStatus(tourPlanId, status, pageable));
     }
 
@@ -142,9 +139,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsBetweenDates(LocalDate.parse(startDate), LocalDate.parse(endDate), pageable));
     }
 
@@ -155,9 +150,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByMonth(month, pageable));
     }
 
@@ -168,9 +161,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByYear(year, pageable));
     }
 
@@ -181,9 +172,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsWithPriceGreaterThan(price, pageable));
     }
 
@@ -195,9 +184,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByPriceRange(min, max, pageable));
     }
 
@@ -209,9 +196,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getRecentReservationsByUser(userId, LocalDate.parse(date), pageable));
     }
 
@@ -222,9 +207,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByDayOfWeek(dayOfWeek, pageable));
     }
 
@@ -235,9 +218,7 @@ public class ReservationController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.reservationService.getReservationsByProvince(provinceId, pageable));
     }
 
@@ -1,6 +1,5 @@
 package com.app.panama_trips.presentation.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,7 +7,11 @@ import org.springframework.web.bind.annotation.*;
 
 import com.app.panama_trips.presentation.dto.ReviewCategoryRequest;
 import com.app.panama_trips.presentation.dto.ReviewCategoryResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.implementation.ReviewCategoryService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,10 +21,12 @@ import lombok.RequiredArgsConstructor;
 public class ReviewCategoryController {
 
   private final ReviewCategoryService service;
+  private final ResponseCacheService responseCacheService;
 
   @GetMapping
-  public ResponseEntity<Page<ReviewCategoryResponse>> getAllReviewCategories(Pageable pageable) {
-    return ResponseEntity.ok(service.getAllReviewCategories(pageable));
+  public ResponseEntity<byte[]> getAllReviewCategories(Pageable pageable, HttpServletRequest request) {
+    return responseCacheService.respond(IResponseCacheService.REVIEW_CATEGORIES, request,
+        () -> service.getAllReviewCategories(pageable));
   }
 
   @GetMapping("/{id}")
@@ -5,6 +5,7 @@ import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.presentation.dto.TourAssignmentRequest;
 import com.app.panama_trips.presentation.dto.TourAssignmentResponse;
 import com.app.panama_trips.service.implementation.TourAssignmentService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,9 +30,7 @@ public class TourAssignmentController {
             @RequestParam(defaultValue = "0") int size,
             @RequestParam(defaultValue = "false") boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-            ? Pageable.ofSize(size).withPage(page)
-            : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(service.getAllAssignments(pageable));
     }
 
@@ -1,17 +1,22 @@
 package com.app.panama_trips.presentation.controller;
 
+import com.app.panama_trips.presentation.dto.AvailabilityCalendarResponse;
+import com.app.panama_trips.presentation.dto.AvailabilityGenerationResponse;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityRequest;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityResponse;
 import com.app.panama_trips.service.implementation.TourPlanAvailabilityService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -27,9 +32,7 @@ public class TourPlanAvailabilityController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(tourPlanAvailabilityService.getAllTourPlanAvailabilities(pageable));
     }
 
@@ -115,6 +118,30 @@ public class TourPlanAvailabilityController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/tour-plan/{tourPlanId}/generate")
+    public ResponseEntity<AvailabilityGenerationResponse> generateAvailability(
+            @PathVariable Integer tourPlanId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(tourPlanAvailabilityService.generateAvailability(tourPlanId, startDate, endDate));
+    }
+
+    @PostMapping("/tour-plan/{tourPlanId}/regenerate")
+    public ResponseEntity<AvailabilityGenerationResponse> regenerateAvailability(
+            @PathVariable Integer tourPlanId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(tourPlanAvailabilityService.regenerateAvailability(tourPlanId, startDate, endDate));
+    }
+
+    @GetMapping("/tour-plan/{tourPlanId}/calendar")
+    public ResponseEntity<AvailabilityCalendarResponse> getMonthCalendar(
+            @PathVariable Integer tourPlanId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(tourPlanAvailabilityService.getMonthCalendar(tourPlanId, month));
+    }
+
     @GetMapping("/tour-plan/{tourPlanId}/exists/{date}")
     public ResponseEntity<Boolean> existsAvailabilityForTourPlanAndDate(@PathVariable Integer tourPlanId, @PathVariable LocalDate date) {
         return ResponseEntity.ok(tourPlanAvailabilityService.existsAvailabilityForTourPlanAndDate(tourPlanId, date));
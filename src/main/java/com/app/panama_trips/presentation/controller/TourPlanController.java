@@ -1,12 +1,19 @@
 package com.app.panama_trips.presentation.controller;
 
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import com.app.panama_trips.presentation.dto.TourDiscoveryResponse;
 import com.app.panama_trips.presentation.dto.TourPlanRequest;
 import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import com.app.panama_trips.presentation.dto.TourSearchResultResponse;
+import com.app.panama_trips.presentation.dto.TourSuggestionResponse;
 import com.app.panama_trips.service.implementation.TourPlanService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,9 +34,7 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getAllTourPlan(pageable));
     }
 
@@ -59,6 +64,11 @@ public class TourPlanController {
         return ResponseEntity.ok(this.tourPlanService.countTourPlan());
     }
 
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SecondLevelCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(this.tourPlanService.getCacheStats());
+    }
+
     @GetMapping("/title")
     public ResponseEntity<TourPlanResponse> findAllTourPlanTitle(@RequestParam String q) {
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByTitle(q));
@@ -77,9 +87,7 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByPriceBetween(min, max, pageable));
     }
 
@@ -96,9 +104,7 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByDurationBetween(min, max, pageable));
     }
 
@@ -115,9 +121,7 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByAvailableSpotsBetween(min, max, pageable));
     }
 
@@ -143,9 +147,7 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByTitleAndPriceBetween(t, min, max, pageable));
     }
 
@@ -160,21 +162,37 @@ public class TourPlanController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanService.getTourPlanByTitleAndPriceBetweenAndDurationBetween(t, minP, maxP, minD, maxD, pageable));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<TourPlanResponse>> searchTourPlans(
+    public ResponseEntity<Page<TourSearchResultResponse>> searchTourPlans(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        List<TourPlanResponse> tourPlans = tourPlanService.getTop10TourPlanByTitleContaining(q, pageable);
+        return ResponseEntity.ok(tourPlanService.searchTourPlans(q, pageable));
+    }
+
+    @GetMapping("/discover")
+    public ResponseEntity<TourDiscoveryResponse> discoverTourPlans(
+            @ModelAttribute TourDiscoveryFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+
+        Sort sort = sortBy == null ? Sort.unsorted() : Sort.by(direction, sortBy);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Pagination.clampSize(size), sort);
+        return ResponseEntity.ok(tourPlanService.discoverTourPlans(filter, pageable));
+    }
 
-        return ResponseEntity.ok(tourPlans);
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TourSuggestionResponse>> suggestTourPlanTitles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(tourPlanService.suggestTourPlanTitles(q, limit));
     }
 }
@@ -3,6 +3,7 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.presentation.dto.TourPlanImageRequest;
 import com.app.panama_trips.presentation.dto.TourPlanImageResponse;
 import com.app.panama_trips.service.implementation.TourPlanImageService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,9 +26,7 @@ public class TourPlanImageController {
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "false") Boolean enabledPagination
     ) {
-        Pageable pageable = enabledPagination
-                ? Pageable.ofSize(size).withPage(page)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return ResponseEntity.ok(this.tourPlanImageService.getAllTourPlanImages(pageable));
     }
 
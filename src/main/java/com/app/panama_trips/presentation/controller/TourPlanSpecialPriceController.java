@@ -4,9 +4,9 @@ import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.presentation.dto.TourPlanSpecialPriceRequest;
 import com.app.panama_trips.presentation.dto.TourPlanSpecialPriceResponse;
 import com.app.panama_trips.service.implementation.TourPlanSpecialPriceService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -31,9 +31,7 @@ public class TourPlanSpecialPriceController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean enablePagination
     ) {
-        Pageable pageable = enablePagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enablePagination);
 
         return ResponseEntity.ok(this.service.getAll(pageable));
     }
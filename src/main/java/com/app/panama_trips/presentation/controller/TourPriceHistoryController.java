@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.*;
 import com.app.panama_trips.presentation.dto.TourPriceHistoryRequest;
 import com.app.panama_trips.presentation.dto.TourPriceHistoryResponse;
 import com.app.panama_trips.service.implementation.TourPriceHistoryService;
+import com.app.panama_trips.presentation.dto.ScrollResponse;
+import com.app.panama_trips.utility.ScrollCursor;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,14 @@ public class TourPriceHistoryController {
         return ResponseEntity.ok(service.getAllTourPriceHistories(pageable));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResponse<TourPriceHistoryResponse>> scrollTourPriceHistories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(ScrollResponse.of(service.scrollTourPriceHistories(ScrollCursor.decode(cursor), size)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TourPriceHistoryResponse> getById(@PathVariable Integer id) {
         return ResponseEntity.ok(service.getTourPriceHistoryById(id));
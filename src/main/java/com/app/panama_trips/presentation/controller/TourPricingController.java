@@ -0,0 +1,40 @@
+package com.app.panama_trips.presentation.controller;
+
+import com.app.panama_trips.presentation.dto.PriceQuoteResponse;
+import com.app.panama_trips.service.implementation.TourPricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tour-pricing")
+@RequiredArgsConstructor
+public class TourPricingController {
+
+    private final TourPricingService tourPricingService;
+
+    @GetMapping("/tour-plan/{tourPlanId}/quote")
+    public ResponseEntity<PriceQuoteResponse> quote(
+            @PathVariable Integer tourPlanId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "1") int adults,
+            @RequestParam(defaultValue = "0") int children,
+            @RequestParam(required = false) String coupon) {
+        return ResponseEntity.ok(tourPricingService.quote(tourPlanId, date, adults, children, coupon));
+    }
+
+    @GetMapping("/tour-plan/{tourPlanId}/quote/month")
+    public ResponseEntity<List<PriceQuoteResponse>> quoteMonth(
+            @PathVariable Integer tourPlanId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(defaultValue = "1") int adults,
+            @RequestParam(defaultValue = "0") int children,
+            @RequestParam(required = false) String coupon) {
+        return ResponseEntity.ok(tourPricingService.quoteMonth(tourPlanId, month, adults, children, coupon));
+    }
+}
@@ -2,6 +2,7 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.persistence.entity.UserEntity;
 import com.app.panama_trips.presentation.dto.AuthCreateUserRequest;
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
 import com.app.panama_trips.presentation.dto.UserRequest;
 import com.app.panama_trips.presentation.dto.UserResponse;
 import com.app.panama_trips.service.implementation.UserEntityService;
@@ -142,4 +143,14 @@ public class UserEntityController {
         userEntityService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/password-hashing/stats")
+    @Operation(
+            summary = "Get password hashing stats",
+            description = "Queue depth, rejections and average latencies of the bcrypt worker pool",
+            tags = {"User"}
+    )
+    public ResponseEntity<PasswordHashingStatsResponse> getPasswordHashingStats() {
+        return ResponseEntity.ok(userEntityService.getPasswordHashingStats());
+    }
 }
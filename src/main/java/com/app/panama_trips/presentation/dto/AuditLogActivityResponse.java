@@ -0,0 +1,13 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.time.LocalDateTime;
+
+public record AuditLogActivityResponse(
+        String key,
+        Long count,
+        LocalDateTime firstActivity,
+        LocalDateTime lastActivity) {
+    public AuditLogActivityResponse withKey(String newKey) {
+        return new AuditLogActivityResponse(newKey, count, firstActivity, lastActivity);
+    }
+}
@@ -0,0 +1,12 @@
+package com.app.panama_trips.presentation.dto;
+
+public record AuditLogWriterStatsResponse(
+        int pending,
+        int capacity,
+        long accepted,
+        long rejected,
+        long written,
+        long failed,
+        long lastBatchSize,
+        long lastFlushMillis) {
+}
@@ -0,0 +1,7 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.time.YearMonth;
+
+// spots[i] holds the open spots of day i + 1; 0 means closed, sold out or not generated
+public record AvailabilityCalendarResponse(Integer tourPlanId, YearMonth month, int[] spots) {
+}
@@ -0,0 +1,12 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.time.LocalDate;
+
+public record AvailabilityGenerationResponse(
+        Integer tourPlanId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int created,
+        int reopened,
+        int closed) {
+}
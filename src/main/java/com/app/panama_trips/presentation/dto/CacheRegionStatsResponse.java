@@ -0,0 +1,10 @@
+package com.app.panama_trips.presentation.dto;
+
+public record CacheRegionStatsResponse(
+        String region,
+        long hitCount,
+        long missCount,
+        long putCount,
+        long elementCountInMemory,
+        double hitRatio) {
+}
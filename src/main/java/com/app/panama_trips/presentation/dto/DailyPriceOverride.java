@@ -0,0 +1,7 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyPriceOverride(LocalDate date, BigDecimal price) {
+}
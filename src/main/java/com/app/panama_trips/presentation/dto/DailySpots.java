@@ -0,0 +1,6 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.time.LocalDate;
+
+public record DailySpots(LocalDate date, Integer spots) {
+}
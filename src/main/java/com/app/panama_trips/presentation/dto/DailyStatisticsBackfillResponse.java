@@ -0,0 +1,15 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DailyStatisticsBackfillResponse(
+    LocalDate from,
+    LocalDate to,
+    int days,
+    int chunks,
+    int rowsChanged,
+    List<String> failedChunks,
+    long elapsedMillis
+) {
+}
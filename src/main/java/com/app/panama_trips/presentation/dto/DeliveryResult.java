@@ -0,0 +1,16 @@
+package com.app.panama_trips.presentation.dto;
+
+public record DeliveryResult(
+        Integer notificationId,
+        boolean delivered,
+        boolean retryable,
+        String error) {
+
+    public static DeliveryResult delivered(Integer notificationId) {
+        return new DeliveryResult(notificationId, true, false, null);
+    }
+
+    public static DeliveryResult failed(Integer notificationId, boolean retryable, String error) {
+        return new DeliveryResult(notificationId, false, retryable, error);
+    }
+}
@@ -0,0 +1,4 @@
+package com.app.panama_trips.presentation.dto;
+
+public record FacetCountResponse(String value, String label, long count) {
+}
@@ -27,6 +27,11 @@ public record MarketingCampaignResponse(
         LocalDateTime updatedAt,
         List<Integer> tourIds) {
     public MarketingCampaignResponse(MarketingCampaign entity) {
+        this(entity, 0L);
+    }
+
+    // pendingClicks: clicks still buffered in memory, added so callers read their own clicks
+    public MarketingCampaignResponse(MarketingCampaign entity, long pendingClicks) {
         this(
                 entity.getId(),
                 entity.getName(),
@@ -35,7 +40,8 @@ public record MarketingCampaignResponse(
                 entity.getStatus(),
                 entity.getBudget(),
                 entity.getTargetClicks(),
-                entity.getActualClicks(),
+                pendingClicks == 0 ? entity.getActualClicks()
+                        : (entity.getActualClicks() != null ? entity.getActualClicks() : 0L) + pendingClicks,
                 entity.getTargetAudience(),
                 entity.getStartDate(),
                 entity.getEndDate(),
@@ -0,0 +1,13 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.util.Map;
+
+public record NotificationDispatchStatsResponse(
+        long claimed,
+        long delivered,
+        long failedAttempts,
+        Map<String, Integer> inFlightByChannel,
+        long lastBatchSize,
+        long lastBatchMillis,
+        double lastBatchPerSecond) {
+}
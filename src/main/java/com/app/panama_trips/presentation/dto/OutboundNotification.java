@@ -0,0 +1,11 @@
+package com.app.panama_trips.presentation.dto;
+
+public record OutboundNotification(
+        Integer id,
+        String channel,
+        Long userId,
+        String recipient,
+        String subject,
+        String body,
+        int attempt) {
+}
@@ -0,0 +1,11 @@
+package com.app.panama_trips.presentation.dto;
+
+public record PasswordHashingStatsResponse(
+        int threads,
+        int queued,
+        int queueCapacity,
+        long completed,
+        long rejected,
+        double averageHashMillis,
+        double averageQueueWaitMillis) {
+}
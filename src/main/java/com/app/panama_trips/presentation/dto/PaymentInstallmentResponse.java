@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import com.app.panama_trips.persistence.entity.Payment;
 import com.app.panama_trips.persistence.entity.PaymentInstallment;
+import com.app.panama_trips.persistence.entity.PaymentStatus;
 import com.app.panama_trips.persistence.entity.Reservation;
 
 public record PaymentInstallmentResponse(
@@ -36,6 +37,24 @@ public record PaymentInstallmentResponse(
                 paymentInstallment.getCreatedAt());
     }
 
+    // Projection constructor used by PaymentInstallmentRepository list queries
+    public PaymentInstallmentResponse(Integer id, Integer reservationId, LocalDate reservationDate,
+            BigDecimal amount, LocalDate dueDate, Long paymentId, PaymentStatus paymentStatus,
+            String status, Boolean reminderSent, LocalDate createdAt) {
+        this(
+                id,
+                reservationId,
+                reservationId != null ? "RES-" + reservationId : null,
+                reservationDate,
+                amount,
+                dueDate,
+                paymentId != null ? paymentId.intValue() : null,
+                paymentStatus != null ? paymentStatus.name() : null,
+                status,
+                reminderSent,
+                createdAt);
+    }
+
     // Helper methods with proper Optional handling and descriptive names
     private static Integer extractReservationId(Reservation reservation) {
         return Optional.ofNullable(reservation)
@@ -0,0 +1,21 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// priceSource tells which rule set the per-person price: BASE, SPECIAL_PRICE or DATE_OVERRIDE
+public record PriceQuoteResponse(
+        Integer tourPlanId,
+        LocalDate date,
+        String currency,
+        String priceSource,
+        BigDecimal adultPrice,
+        BigDecimal childPrice,
+        int adults,
+        int children,
+        BigDecimal subtotal,
+        BigDecimal couponDiscount,
+        BigDecimal tax,
+        BigDecimal total
+) {
+}
@@ -0,0 +1,10 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.util.List;
+
+public record ProvinceTreeResponse(
+        Integer id,
+        String name,
+        List<DistrictResponse> districts,
+        List<RegionResponse> regions) {
+}
@@ -21,5 +21,16 @@ public record ReservationRequest(
 
         @NotNull(message = "El precio total es obligatorio")
         @DecimalMin(value = "0.00", message = "El precio total no puede ser negativo")
-        BigDecimal totalPrice
-) { }
+        BigDecimal totalPrice,
+
+        @Positive(message = "La cantidad de personas debe ser un número positivo")
+        Integer numberOfPersons
+) {
+    public ReservationRequest(Long userId, Integer tourPlanId, LocalDate reservationDate, BigDecimal totalPrice) {
+        this(userId, tourPlanId, reservationDate, totalPrice, 1);
+    }
+
+    public int seats() {
+        return numberOfPersons != null ? numberOfPersons : 1;
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.panama_trips.presentation.dto;
 
 import com.app.panama_trips.persistence.entity.Reservation;
+import com.app.panama_trips.persistence.entity.ReservationStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,4 +29,20 @@ public record ReservationResponse(
                         : null,
                 reservation.getTotalPrice());
     }
+
+    // Projection constructor used by ReservationRepository list queries
+    public ReservationResponse(Integer id, String userName, String userLastname, String tourTitle,
+            String providerName, ReservationStatus reservationStatus, LocalDate reservationDate,
+            Integer duration, BigDecimal price, BigDecimal totalPrice) {
+        this(
+                id,
+                userName + " " + userLastname,
+                tourTitle,
+                providerName,
+                reservationStatus.name(),
+                reservationDate,
+                duration,
+                price,
+                totalPrice);
+    }
 }
@@ -0,0 +1,17 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Window;
+
+import com.app.panama_trips.utility.ScrollCursor;
+
+public record ScrollResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+    public static <T> ScrollResponse<T> of(Window<T> window) {
+        return new ScrollResponse<>(window.getContent(), window.size(), window.hasNext(), ScrollCursor.encode(window));
+    }
+}
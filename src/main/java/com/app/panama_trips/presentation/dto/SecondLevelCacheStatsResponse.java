@@ -0,0 +1,16 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.util.List;
+
+public record SecondLevelCacheStatsResponse(
+        boolean statisticsEnabled,
+        long hitCount,
+        long missCount,
+        long putCount,
+        double hitRatio,
+        long queryCacheHitCount,
+        long queryCacheMissCount,
+        long queryCachePutCount,
+        double queryCacheHitRatio,
+        List<CacheRegionStatsResponse> regions) {
+}
@@ -0,0 +1,40 @@
+package com.app.panama_trips.presentation.dto;
+
+import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+// Every criterion is optional; the ones present are combined with AND
+public record TourDiscoveryFilter(
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minDuration,
+        Integer maxDuration,
+        Set<DifficultyLevel> difficulty,
+        Integer provinceId,
+        Integer regionId,
+        String language,
+        Boolean wheelchairAccessible,
+        BigDecimal minRating,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        Integer spots) {
+
+    // The same filter minus one facet's own criterion, for counting that facet's alternatives
+    public TourDiscoveryFilter withoutDifficulty() {
+        return new TourDiscoveryFilter(minPrice, maxPrice, minDuration, maxDuration, null, provinceId, regionId,
+                language, wheelchairAccessible, minRating, date, spots);
+    }
+
+    public TourDiscoveryFilter withoutPrice() {
+        return new TourDiscoveryFilter(null, null, minDuration, maxDuration, difficulty, provinceId, regionId,
+                language, wheelchairAccessible, minRating, date, spots);
+    }
+
+    public TourDiscoveryFilter withoutRegion() {
+        return new TourDiscoveryFilter(minPrice, maxPrice, minDuration, maxDuration, difficulty, provinceId, null,
+                language, wheelchairAccessible, minRating, date, spots);
+    }
+}
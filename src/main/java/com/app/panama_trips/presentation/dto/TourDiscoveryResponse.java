@@ -0,0 +1,6 @@
+package com.app.panama_trips.presentation.dto;
+
+import org.springframework.data.domain.Page;
+
+public record TourDiscoveryResponse(Page<TourPlanResponse> tours, TourFacetsResponse facets) {
+}
@@ -0,0 +1,10 @@
+package com.app.panama_trips.presentation.dto;
+
+import java.util.List;
+
+public record TourFacetsResponse(
+        long total,
+        List<FacetCountResponse> difficulty,
+        List<FacetCountResponse> priceRanges,
+        List<FacetCountResponse> regions) {
+}
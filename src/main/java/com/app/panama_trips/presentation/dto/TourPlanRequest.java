@@ -5,6 +5,7 @@ import com.app.panama_trips.persistence.entity.enums.TourPlanStatus;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
@@ -52,5 +53,11 @@ public record TourPlanRequest(
 
                 List<String> availableDays,
 
-                List<String> imageGallery) {
+                List<String> imageGallery,
+
+                Boolean isSeasonal,
+
+                LocalDate seasonStartDate,
+
+                LocalDate seasonEndDate) {
 }
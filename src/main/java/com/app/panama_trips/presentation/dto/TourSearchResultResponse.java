@@ -0,0 +1,21 @@
+package com.app.panama_trips.presentation.dto;
+
+import com.app.panama_trips.persistence.repository.TourPlanRepository;
+
+import java.math.BigDecimal;
+
+public record TourSearchResultResponse(
+        Integer id,
+        String title,
+        String shortDescription,
+        BigDecimal price,
+        Integer duration,
+        String providerName,
+        float rank,
+        String headline) {
+
+    public TourSearchResultResponse(TourPlanRepository.SearchHit hit) {
+        this(hit.getId(), hit.getTitle(), hit.getShortDescription(), hit.getPrice(), hit.getDuration(),
+                hit.getProviderName(), hit.getRank() == null ? 0f : hit.getRank(), hit.getHeadline());
+    }
+}
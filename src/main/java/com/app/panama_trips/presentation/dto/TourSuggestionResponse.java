@@ -0,0 +1,10 @@
+package com.app.panama_trips.presentation.dto;
+
+import com.app.panama_trips.persistence.repository.TourPlanRepository;
+
+public record TourSuggestionResponse(Integer id, String title) {
+
+    public TourSuggestionResponse(TourPlanRepository.TitleSuggestion suggestion) {
+        this(suggestion.getId(), suggestion.getTitle());
+    }
+}
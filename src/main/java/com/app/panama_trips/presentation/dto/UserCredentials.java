@@ -0,0 +1,11 @@
+package com.app.panama_trips.presentation.dto;
+
+import com.app.panama_trips.persistence.entity.RoleEnum;
+
+// Login projection: everything authentication needs, read in one query. Never returned by a controller.
+public record UserCredentials(
+        Long id,
+        String name,
+        String passwordHash,
+        RoleEnum role) {
+}
@@ -5,6 +5,7 @@ import com.app.panama_trips.security.filter.JwtTokenValidator;
 import com.app.panama_trips.service.implementation.UserDetailServiceImpl;
 import com.app.panama_trips.utility.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +28,10 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
 
+    // Per-environment bcrypt work factor; hashes with a lower cost are upgraded on login
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
@@ -50,6 +55,9 @@ public class SecurityConfig {
                             .authenticated();
                     auth.requestMatchers("/api/coupons/**").hasRole(RoleEnum.ADMIN.name());
                     auth.requestMatchers("/api/discounts/**").hasRole(RoleEnum.ADMIN.name());
+                    auth.requestMatchers("/api/tour-plan/cache/**").hasRole(RoleEnum.ADMIN.name());
+                    auth.requestMatchers("/api/daily-statistics/rollup/**").hasRole(RoleEnum.ADMIN.name());
+                    auth.requestMatchers("/api/providers/performance/refresh").hasRole(RoleEnum.ADMIN.name());
                     auth.anyRequest().authenticated();
                 })
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -72,6 +80,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 }
@@ -16,14 +16,37 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class JwtTokenValidator extends OncePerRequestFilter {
 
+    static final int MAX_CACHED_TOKENS = 10_000;
+
     private final JwtUtil jwtUtil;
 
+    // Verified token -> username and authorities, kept no longer than the token's own exp.
+    // Keyed by the full token (not the jti) so a forged token can never hit a cached entry.
+    // Access-ordered and bounded: once full, the least recently used token makes room, so
+    // both a hit and a miss stay O(1). Every operation is a few pointer moves under the lock.
+    private final Map<String, CachedAuthentication> authenticationCache;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
     public JwtTokenValidator(JwtUtil jwtUtil) {
+        this(jwtUtil, MAX_CACHED_TOKENS);
+    }
+
+    JwtTokenValidator(JwtUtil jwtUtil, int maxCachedTokens) {
         this.jwtUtil = jwtUtil;
+        this.authenticationCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > maxCachedTokens;
+            }
+        };
     }
 
     @Override
@@ -38,26 +61,76 @@ public class JwtTokenValidator extends OncePerRequestFilter {
             // Remove Bearer from the token to get the token itself
             jwtToken = jwtToken.substring(7);
 
-            // Validate the token and get the username and authorities
-            DecodedJWT decodedJWT = jwtUtil.validateToken(jwtToken);
-            if(decodedJWT == null) {
-                filterChain.doFilter(request, response);
-                return;
-            }
+            CachedAuthentication cached = getCachedAuthentication(jwtToken);
+            if (cached == null) {
+                // Validate the token and get the username and authorities
+                DecodedJWT decodedJWT = jwtUtil.validateToken(jwtToken);
+                if(decodedJWT == null) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-            String username = jwtUtil.getUsernameFromToken(decodedJWT);
-            String stringAuthorities = jwtUtil.getSpecificClaim(decodedJWT, "authorities").asString();
+                String username = jwtUtil.getUsernameFromToken(decodedJWT);
+                String stringAuthorities = jwtUtil.getSpecificClaim(decodedJWT, "authorities").asString();
 
-            // Create a collection of authorities
-            Collection<? extends GrantedAuthority> authorities = AuthorityUtils.commaSeparatedStringToAuthorityList(stringAuthorities);
+                // Create a collection of authorities
+                List<GrantedAuthority> authorities = List.copyOf(AuthorityUtils.commaSeparatedStringToAuthorityList(stringAuthorities));
+
+                cached = cacheAuthentication(jwtToken, username, authorities, decodedJWT.getExpiresAt());
+            }
+
+            // A fresh authentication per request: downstream code may set details on it or erase it
+            Authentication authentication = new UsernamePasswordAuthenticationToken(cached.username(), null, cached.authorities());
 
-            // Create an authentication object
             SecurityContext context = SecurityContextHolder.getContext();
-            Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
             context.setAuthentication(authentication);
             SecurityContextHolder.setContext(context);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    int cachedTokenCount() {
+        cacheLock.lock();
+        try {
+            return authenticationCache.size();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private CachedAuthentication getCachedAuthentication(String token) {
+        cacheLock.lock();
+        try {
+            CachedAuthentication cached = authenticationCache.get(token);
+            if (cached != null && cached.isExpired(System.currentTimeMillis())) {
+                authenticationCache.remove(token);
+                return null;
+            }
+            return cached;
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private CachedAuthentication cacheAuthentication(String token, String username, List<GrantedAuthority> authorities, Date expiresAt) {
+        if (expiresAt == null) {
+            // Cannot bound its lifetime, so it is used for this request only
+            return new CachedAuthentication(username, authorities, Long.MIN_VALUE);
+        }
+        CachedAuthentication cached = new CachedAuthentication(username, authorities, expiresAt.getTime());
+        cacheLock.lock();
+        try {
+            authenticationCache.put(token, cached);
+        } finally {
+            cacheLock.unlock();
+        }
+        return cached;
+    }
+
+    private record CachedAuthentication(String username, List<GrantedAuthority> authorities, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
 }
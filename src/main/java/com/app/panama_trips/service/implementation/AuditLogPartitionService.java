@@ -0,0 +1,65 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.service.interfaces.IAuditLogPartitionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogPartitionService implements IAuditLogPartitionService {
+
+    private final AuditLogRepository repository;
+
+    @Value("${audit.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 disables partition-drop retention; cleanup endpoints still work on demand
+    @Value("${audit.partitions.retention-months:0}")
+    private int retentionMonths;
+
+    @Override
+    @Transactional
+    public List<String> createUpcomingPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        List<String> partitions = new ArrayList<>(monthsAhead + 1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitions.add(repository.createMonthlyPartition(currentMonth.plusMonths(i)));
+        }
+        return partitions;
+    }
+
+    @Override
+    @Transactional
+    public int dropPartitionsBefore(LocalDateTime cutoff) {
+        Integer dropped = repository.dropPartitionsBefore(cutoff);
+        int count = dropped != null ? dropped : 0;
+        if (count > 0) {
+            log.info("Dropped {} audit_log partitions older than {}", count, cutoff);
+        }
+        return count;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${audit.partitions.cron:0 30 2 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions();
+        if (retentionMonths > 0) {
+            LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+            dropPartitionsBefore(cutoff.atStartOfDay());
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.app.panama_trips.service.implementation;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.Month;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +23,12 @@ import com.app.panama_trips.persistence.entity.AuditLog;
 import com.app.panama_trips.persistence.entity.UserEntity;
 import com.app.panama_trips.persistence.entity.enums.AuditAction;
 import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.presentation.dto.AuditLogActivityResponse;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
+import com.app.panama_trips.service.interfaces.IAuditLogPartitionService;
 import com.app.panama_trips.service.interfaces.IAuditLogService;
+import com.app.panama_trips.service.interfaces.IAuditLogWriterService;
+import com.app.panama_trips.utility.Pagination;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -28,8 +40,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AuditLogService implements IAuditLogService {
 
+    private static final int MAX_RESULTS_LIMIT = 1000;
+
+    // The JSON searches are native SQL, so a sort by entity property has to name the column instead
+    private static final Map<String, String> NATIVE_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "entityType", "entity_type",
+            "entityId", "entity_id",
+            "action", "action",
+            "actionTimestamp", "action_timestamp",
+            "ipAddress", "ip_address");
+    private static final Sort NATIVE_DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "action_timestamp");
+
     private final AuditLogRepository repository;
     private final ObjectMapper objectMapper;
+    private final IAuditLogWriterService auditLogWriter;
+    private final IAuditLogPartitionService partitionService;
 
     // CRUD operations
     @Override
@@ -38,6 +64,12 @@ public class AuditLogService implements IAuditLogService {
         return repository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Window<AuditLog> scrollAuditLogs(ScrollPosition position, int size) {
+        return repository.findAllByOrderByIdDesc(position, Limit.of(Pagination.clampSize(size)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AuditLog getAuditLogById(Integer id) {
@@ -52,6 +84,22 @@ public class AuditLogService implements IAuditLogService {
         return repository.save(auditLog);
     }
 
+    @Override
+    public boolean recordAuditLog(AuditLog auditLog) {
+        validateAuditLog(auditLog);
+        boolean accepted = auditLogWriter.enqueue(auditLog);
+        if (!accepted) {
+            log.warn("Audit log buffer full, dropping {} {} on {}", auditLog.getAction(), auditLog.getEntityType(),
+                    auditLog.getEntityId());
+        }
+        return accepted;
+    }
+
+    @Override
+    public AuditLogWriterStatsResponse getWriteBehindStats() {
+        return auditLogWriter.getStats();
+    }
+
     @Override
     @Transactional
     public AuditLog updateAuditLog(Integer id, AuditLog auditLog) {
@@ -159,7 +207,7 @@ public class AuditLogService implements IAuditLogService {
     @Override
     @Transactional(readOnly = true)
     public List<AuditLog> getRecentActivity(int limit) {
-        return repository.findRecentActivity(PageRequest.of(0, limit));
+        return repository.findRecentActivity(firstResults(limit));
     }
 
     @Override
@@ -289,8 +337,7 @@ public class AuditLogService implements IAuditLogService {
     @Override
     @Transactional
     public void bulkDeleteAuditLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        List<AuditLog> logsToDelete = repository.findByActionTimestampBetween(startDate, endDate);
-        repository.deleteAll(logsToDelete);
+        repository.deleteByActionTimestampBetween(startDate, endDate);
     }
 
     @Override
@@ -449,98 +496,48 @@ public class AuditLogService implements IAuditLogService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getTopUsersByActivity(int limit) {
-        List<AuditLog> allLogs = repository.findAll();
-        return allLogs.stream()
-                .filter(log -> log.getUser() != null)
-                .collect(Collectors.groupingBy(log -> log.getUser().getId(), Collectors.counting()))
-                .entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(limit)
-                .map(entry -> allLogs.stream()
-                        .filter(log -> log.getUser() != null && entry.getKey().equals(log.getUser().getId()))
-                        .findFirst().orElse(null))
-                .filter(log -> log != null)
-                .toList();
+    public List<AuditLogActivityResponse> getTopUsersByActivity(int limit) {
+        return repository.countActivityByUser(firstResults(limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getTopEntityTypesByActivity(int limit) {
-        List<AuditLog> allLogs = repository.findAll();
-        return allLogs.stream()
-                .collect(Collectors.groupingBy(AuditLog::getEntityType, Collectors.counting()))
-                .entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(limit)
-                .map(entry -> allLogs.stream()
-                        .filter(log -> entry.getKey().equals(log.getEntityType()))
-                        .findFirst().orElse(null))
-                .filter(log -> log != null)
-                .toList();
+    public List<AuditLogActivityResponse> getTopEntityTypesByActivity(int limit) {
+        return repository.countActivityByEntityType(firstResults(limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getTopActionsByActivity(int limit) {
-        List<AuditLog> allLogs = repository.findAll();
-        return allLogs.stream()
-                .collect(Collectors.groupingBy(AuditLog::getAction, Collectors.counting()))
-                .entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(limit)
-                .map(entry -> allLogs.stream()
-                        .filter(log -> entry.getKey().equals(log.getAction()))
-                        .findFirst().orElse(null))
-                .filter(log -> log != null)
-                .toList();
+    public List<AuditLogActivityResponse> getTopActionsByActivity(int limit) {
+        return repository.countActivityByAction(firstResults(limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getTopIpAddressesByActivity(int limit) {
-        List<AuditLog> allLogs = repository.findAll();
-        return allLogs.stream()
-                .filter(log -> log.getIpAddress() != null)
-                .collect(Collectors.groupingBy(AuditLog::getIpAddress, Collectors.counting()))
-                .entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(limit)
-                .map(entry -> allLogs.stream()
-                        .filter(log -> entry.getKey().equals(log.getIpAddress()))
-                        .findFirst().orElse(null))
-                .filter(log -> log != null)
-                .toList();
+    public List<AuditLogActivityResponse> getTopIpAddressesByActivity(int limit) {
+        return repository.countActivityByIpAddress(firstResults(limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getActivityByMonth() {
-        return repository.findAll().stream()
-                .collect(Collectors.groupingBy(log -> log.getActionTimestamp().getMonth(), Collectors.toList()))
-                .values().stream()
-                .flatMap(List::stream)
+    public List<AuditLogActivityResponse> getActivityByMonth() {
+        return repository.countActivityByMonth().stream()
+                .map(bucket -> bucket.withKey(Month.of(Integer.parseInt(bucket.key())).name()))
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getActivityByDayOfWeek() {
-        return repository.findAll().stream()
-                .collect(Collectors.groupingBy(log -> log.getActionTimestamp().getDayOfWeek(), Collectors.toList()))
-                .values().stream()
-                .flatMap(List::stream)
+    public List<AuditLogActivityResponse> getActivityByDayOfWeek() {
+        return repository.countActivityByDayOfWeek().stream()
+                .map(bucket -> bucket.withKey(DayOfWeek.SUNDAY.plus(Integer.parseInt(bucket.key()) - 1L).name()))
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getActivityByHour() {
-        return repository.findAll().stream()
-                .collect(Collectors.groupingBy(log -> log.getActionTimestamp().getHour(), Collectors.toList()))
-                .values().stream()
-                .flatMap(List::stream)
-                .toList();
+    public List<AuditLogActivityResponse> getActivityByHour() {
+        return repository.countActivityByHour();
     }
 
     // Security and monitoring operations
@@ -646,12 +643,14 @@ public class AuditLogService implements IAuditLogService {
     @Transactional
     public void cleanupOldAuditLogs(int daysToKeep) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysToKeep);
-        repository.deleteByActionTimestampBefore(cutoffDate);
+        deleteOldAuditLogs(cutoffDate);
     }
 
     @Override
     @Transactional
     public void deleteOldAuditLogs(LocalDateTime beforeDate) {
+        // Whole months go away as partition drops; only the boundary partition needs a row delete
+        partitionService.dropPartitionsBefore(beforeDate);
         repository.deleteByActionTimestampBefore(beforeDate);
     }
 
@@ -688,37 +687,60 @@ public class AuditLogService implements IAuditLogService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getAuditLogsByJsonField(String fieldName, String fieldValue) {
-        return repository.findAll().stream()
-                .filter(log -> hasJsonFieldWithValue(log, fieldName, fieldValue, false))
-                .toList();
+    public Page<AuditLog> getAuditLogsByJsonField(String fieldName, String fieldValue, Pageable pageable) {
+        return repository.findByJsonFieldValue(fieldName, fieldValue, toNativeSort(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getAuditLogsByJsonFieldContaining(String fieldName, String fieldValue) {
-        return repository.findAll().stream()
-                .filter(log -> hasJsonFieldWithValue(log, fieldName, fieldValue, true))
-                .toList();
+    public Page<AuditLog> getAuditLogsByJsonFieldContaining(String fieldName, String fieldValue, Pageable pageable) {
+        return repository.findByJsonFieldValueContaining(fieldName, escapeLikePattern(fieldValue), toNativeSort(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getAuditLogsByJsonFieldExists(String fieldName) {
-        return repository.findAll().stream()
-                .filter(log -> hasJsonField(log, fieldName))
-                .toList();
+    public Page<AuditLog> getAuditLogsByJsonFieldExists(String fieldName, Pageable pageable) {
+        return repository.findByJsonFieldExists(fieldName, toNativeSort(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AuditLog> getAuditLogsByJsonFieldNotExists(String fieldName) {
-        return repository.findAll().stream()
-                .filter(log -> !hasJsonField(log, fieldName))
-                .toList();
+    public Page<AuditLog> getAuditLogsByJsonFieldNotExists(String fieldName, Pageable pageable) {
+        return repository.findByJsonFieldNotExists(fieldName, toNativeSort(pageable));
     }
 
     // Private helper methods
+    // PageRequest rejects a size below 1 with an exception that would surface as a 500
+    private static PageRequest firstResults(int limit) {
+        if (limit < 1 || limit > MAX_RESULTS_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RESULTS_LIMIT);
+        }
+        return PageRequest.of(0, limit);
+    }
+
+    // Newest first unless the client asks otherwise; unknown properties are a 400, not an SQL error
+    private static Pageable toNativeSort(Pageable pageable) {
+        Sort sort = NATIVE_DEFAULT_SORT;
+        if (pageable.getSort().isSorted()) {
+            sort = Sort.by(pageable.getSort().stream()
+                    .map(order -> {
+                        String column = NATIVE_SORT_COLUMNS.get(order.getProperty());
+                        if (column == null) {
+                            throw new IllegalArgumentException("Cannot sort audit logs by " + order.getProperty());
+                        }
+                        return new Sort.Order(order.getDirection(), column);
+                    })
+                    .toList());
+        }
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
+    private static String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private AuditLog findAuditLogOrFail(Integer id) {
         return repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Audit log not found with id: " + id));
@@ -768,29 +790,4 @@ public class AuditLogService implements IAuditLogService {
             existingAuditLog.setUserAgent(auditLog.getUserAgent());
         }
     }
-
-    private boolean hasJsonField(AuditLog auditLog, String fieldName) {
-        if (auditLog.getOldValues() != null && auditLog.getOldValues().containsKey(fieldName)) {
-            return true;
-        }
-        return auditLog.getNewValues() != null && auditLog.getNewValues().containsKey(fieldName);
-    }
-
-    private boolean hasJsonFieldWithValue(AuditLog auditLog, String fieldName, String fieldValue, boolean contains) {
-        if (auditLog.getOldValues() != null && auditLog.getOldValues().containsKey(fieldName)) {
-            Object value = auditLog.getOldValues().get(fieldName);
-            if (value != null && matchesValue(value.toString(), fieldValue, contains)) {
-                return true;
-            }
-        }
-        if (auditLog.getNewValues() != null && auditLog.getNewValues().containsKey(fieldName)) {
-            Object value = auditLog.getNewValues().get(fieldName);
-            return value != null && matchesValue(value.toString(), fieldValue, contains);
-        }
-        return false;
-    }
-
-    private boolean matchesValue(String actual, String expected, boolean contains) {
-        return contains ? actual.contains(expected) : expected.equals(actual);
-    }
 }
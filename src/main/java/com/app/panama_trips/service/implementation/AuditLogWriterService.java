@@ -0,0 +1,184 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.app.panama_trips.persistence.entity.AuditLog;
+import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
+import com.app.panama_trips.service.interfaces.IAuditLogWriterService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for audit logs. Request threads only pay for a
+ * non-blocking offer; a scheduled drainer persists the buffer in batches.
+ */
+@Slf4j
+@Service
+public class AuditLogWriterService implements IAuditLogWriterService {
+
+    private final AuditLogRepository repository;
+    private final BlockingQueue<AuditLog> buffer;
+    private final int capacity;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile long lastBatchSize;
+    private volatile long lastFlushMillis;
+
+    public AuditLogWriterService(AuditLogRepository repository,
+            @Value("${audit.write-behind.capacity:10000}") int capacity,
+            @Value("${audit.write-behind.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean enqueue(AuditLog auditLog) {
+        if (buffer.offer(auditLog)) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${audit.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        // A flush already in progress will pick up whatever arrives meanwhile
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            drain();
+            log.info("Audit log writer stopped, {} entries left unwritten", buffer.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public AuditLogWriterStatsResponse getStats() {
+        return new AuditLogWriterStatsResponse(
+                buffer.size(),
+                capacity,
+                accepted.sum(),
+                rejected.sum(),
+                written.sum(),
+                failed.sum(),
+                lastBatchSize,
+                lastFlushMillis);
+    }
+
+    private void drain() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            boolean done = writeBatch(batch);
+            batch.clear();
+            if (!done) {
+                // The database is unavailable: leave the rest for the next flush
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns false when the database was unavailable and the batch went back
+     * into the buffer.
+     */
+    private boolean writeBatch(List<AuditLog> batch) {
+        long start = System.currentTimeMillis();
+        try {
+            persist(batch);
+            return true;
+        } catch (RuntimeException ex) {
+            requeue(batch, ex);
+            return false;
+        } finally {
+            lastBatchSize = batch.size();
+            lastFlushMillis = System.currentTimeMillis() - start;
+        }
+    }
+
+    // A rejected batch is split in halves until the entries the database refuses are isolated;
+    // those are dead-lettered and everything else in the batch is still written. Failures that
+    // say nothing about the data propagate so the batch is retried as a whole.
+    private void persist(List<AuditLog> batch) {
+        try {
+            repository.saveAll(batch);
+            written.add(batch.size());
+        } catch (RuntimeException ex) {
+            // The rolled back attempt already handed out ids; they would be merged as existing rows
+            batch.forEach(auditLog -> auditLog.setId(null));
+            if (isUnavailable(ex)) {
+                throw ex;
+            }
+            if (batch.size() == 1) {
+                deadLetter(batch.getFirst(), ex);
+                return;
+            }
+            int middle = batch.size() / 2;
+            persist(batch.subList(0, middle));
+            persist(batch.subList(middle, batch.size()));
+        }
+    }
+
+    private void requeue(List<AuditLog> batch, RuntimeException ex) {
+        int lost = 0;
+        for (AuditLog auditLog : batch) {
+            if (!buffer.offer(auditLog)) {
+                lost++;
+            }
+        }
+        failed.add(lost);
+        log.warn("Audit log database unavailable, {} entries kept for the next flush, {} dropped: {}",
+                batch.size() - lost, lost, ex.getMessage());
+    }
+
+    private void deadLetter(AuditLog auditLog, RuntimeException ex) {
+        failed.increment();
+        log.error("Dropping audit log rejected by the database: entityType={}, entityId={}, action={}, userId={}, "
+                + "timestamp={}, oldValues={}, newValues={}: {}",
+                auditLog.getEntityType(), auditLog.getEntityId(), auditLog.getAction(),
+                auditLog.getUser() != null ? auditLog.getUser().getId() : null, auditLog.getActionTimestamp(),
+                auditLog.getOldValues(), auditLog.getNewValues(), ex.getMessage());
+    }
+
+    private static boolean isUnavailable(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof CannotCreateTransactionException;
+    }
+}
@@ -6,6 +6,7 @@ import com.app.panama_trips.persistence.repository.CancellationPolicyRepository;
 import com.app.panama_trips.presentation.dto.CancellationPolicyRequest;
 import com.app.panama_trips.presentation.dto.CancellationPolicyResponse;
 import com.app.panama_trips.service.interfaces.ICancellationPolicyService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,7 @@ import java.util.Optional;
 public class CancellationPolicyService implements ICancellationPolicyService {
 
     private final CancellationPolicyRepository repository;
+    private final IResponseCacheService responseCacheService;
 
     @Override
     @Transactional(readOnly = true)
@@ -42,6 +44,7 @@ public class CancellationPolicyService implements ICancellationPolicyService {
     public CancellationPolicyResponse saveCancellationPolicy(CancellationPolicyRequest request) {
         validateCancellationPolicy(request, null);
         CancellationPolicy policy = buildFromRequest(request);
+        responseCacheService.invalidate(IResponseCacheService.CANCELLATION_POLICIES);
         return new CancellationPolicyResponse(repository.save(policy));
     }
 
@@ -51,6 +54,7 @@ public class CancellationPolicyService implements ICancellationPolicyService {
         validateCancellationPolicy(request, id);
         CancellationPolicy policy = findCancellationPolicyOrFail(id);
         updateFromRequest(policy, request);
+        responseCacheService.invalidate(IResponseCacheService.CANCELLATION_POLICIES);
         return new CancellationPolicyResponse(repository.save(policy));
     }
 
@@ -67,6 +71,7 @@ public class CancellationPolicyService implements ICancellationPolicyService {
         }
 
         repository.deleteById(id);
+        responseCacheService.invalidate(IResponseCacheService.CANCELLATION_POLICIES);
     }
 
     @Override
@@ -155,6 +160,7 @@ public class CancellationPolicyService implements ICancellationPolicyService {
                 .toList();
 
         repository.saveAll(policies);
+        responseCacheService.invalidate(IResponseCacheService.CANCELLATION_POLICIES);
     }
 
     @Override
@@ -173,6 +179,7 @@ public class CancellationPolicyService implements ICancellationPolicyService {
                 }
             }
         }
+        responseCacheService.invalidate(IResponseCacheService.CANCELLATION_POLICIES);
     }
 
     @Override
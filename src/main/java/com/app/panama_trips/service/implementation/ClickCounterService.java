@@ -0,0 +1,114 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.repository.MarketingCampaignRepository;
+import com.app.panama_trips.service.interfaces.IClickCounterService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind click counters for marketing campaigns. A click only bumps a striped
+ * LongAdder, so a hot campaign never serializes its visitors on the row; the deltas are
+ * added to actual_clicks in a single UPDATE by the flush job. A failed flush puts the
+ * deltas back, so every click reaches the database at least once. Deltas taken by a
+ * flush stay visible through pendingClicks until the UPDATE has returned.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClickCounterService implements IClickCounterService {
+
+    private final MarketingCampaignRepository repository;
+
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    // Deltas a flush has taken out of the adders and not yet seen committed
+    private final Map<Integer, Long> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public void record(Integer campaignId, long clicks) {
+        if (campaignId == null) {
+            throw new IllegalArgumentException("The campaign id is required");
+        }
+        if (clicks <= 0) {
+            throw new IllegalArgumentException("Clicks must be greater than zero");
+        }
+        pending.computeIfAbsent(campaignId, id -> new LongAdder()).add(clicks);
+    }
+
+    @Override
+    public long pendingClicks(Integer campaignId) {
+        LongAdder adder = pending.get(campaignId);
+        return (adder == null ? 0 : adder.sum()) + inFlight.getOrDefault(campaignId, 0L);
+    }
+
+    @Override
+    public int flush() {
+        // A flush already in progress leaves whatever arrives meanwhile for the next run
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            return drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            drain();
+        } catch (RuntimeException ex) {
+            log.error("Click counters could not be flushed on shutdown, {} campaigns keep unwritten clicks: {}",
+                    pending.values().stream().filter(adder -> adder.sum() > 0).count(), ex.getMessage(), ex);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int drain() {
+        List<Integer> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        // Adders are never removed from the map, otherwise a click landing on a removed adder would be lost.
+        // sumThenReset swaps every cell to zero atomically, so clicks racing with the drain stay for the next one.
+        // A reader between the reset and the in-flight entry can still miss the delta, for those two statements
+        // only instead of the whole UPDATE round-trip.
+        pending.forEach((campaignId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                inFlight.put(campaignId, delta);
+                ids.add(campaignId);
+                deltas.add(delta);
+            }
+        });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int updated = repository.addClicks(ids.toArray(Integer[]::new), deltas.toArray(Long[]::new));
+            log.debug("Flushed clicks of {} campaigns", updated);
+            return updated;
+        } catch (RuntimeException ex) {
+            for (int i = 0; i < ids.size(); i++) {
+                record(ids.get(i), deltas.get(i));
+            }
+            throw ex;
+        } finally {
+            // Committed or back in the adders: either way no longer in flight
+            ids.forEach(inFlight::remove);
+        }
+    }
+}
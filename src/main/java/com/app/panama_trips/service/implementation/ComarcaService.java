@@ -6,6 +6,7 @@ import com.app.panama_trips.persistence.repository.ComarcaRepository;
 import com.app.panama_trips.presentation.dto.ComarcaRequest;
 import com.app.panama_trips.presentation.dto.ComarcaResponse;
 import com.app.panama_trips.service.interfaces.IComarcaService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,28 +18,23 @@ import java.util.List;
 public class ComarcaService implements IComarcaService {
 
   private final ComarcaRepository comarcaRepository;
+  private final IGeoReferenceService geoReferenceService;
 
+  // Reads are served from the in-memory reference data; writes go to the database and refresh it after commit
   @Override
-  @Transactional(readOnly = true)
   public List<ComarcaResponse> getAllComarcas() {
-    return this.comarcaRepository.findAll().stream()
-        .map(ComarcaResponse::new)
-        .toList();
+    return this.geoReferenceService.getComarcas();
   }
 
   @Override
-  @Transactional(readOnly = true)
   public ComarcaResponse getComarcaById(Integer id) {
-    return this.comarcaRepository.findById(id)
-        .map(ComarcaResponse::new)
+    return this.geoReferenceService.findComarca(id)
         .orElseThrow(() -> new ResourceNotFoundException("Comarca not found with id " + id));
   }
 
   @Override
-  @Transactional(readOnly = true)
   public ComarcaResponse getComarcaByName(String name) {
-    return this.comarcaRepository.findByName(name)
-        .map(ComarcaResponse::new)
+    return this.geoReferenceService.findComarcaByName(name)
         .orElseThrow(() -> new ResourceNotFoundException("Comarca not found with name " + name));
   }
 
@@ -0,0 +1,129 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.repository.DailyStatisticsRepository;
+import com.app.panama_trips.presentation.dto.DailyStatisticsBackfillResponse;
+import com.app.panama_trips.service.interfaces.IDailyStatisticsRollupService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps daily_statistics in step with reservations and users. Triggers record the days
+ * every write touches; a frequent run recomputes those days, a nightly run closes the day
+ * before, and a backfill recomputes any range. Every path goes through the same set-based
+ * function (v1.22), which overwrites whole rows, so runs can overlap or repeat safely.
+ * Each repository call is its own transaction.
+ */
+@Slf4j
+@Service
+public class DailyStatisticsRollupService implements IDailyStatisticsRollupService {
+
+    private final DailyStatisticsRepository repository;
+    private final int batchSize;
+    private final int chunkDays;
+    private final int parallelism;
+    private final int maxDays;
+
+    public DailyStatisticsRollupService(DailyStatisticsRepository repository,
+            @Value("${daily-statistics.rollup.batch-size:10000}") int batchSize,
+            @Value("${daily-statistics.backfill.chunk-days:31}") int chunkDays,
+            @Value("${daily-statistics.backfill.parallelism:4}") int parallelism,
+            @Value("${daily-statistics.backfill.max-days:366}") int maxDays) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.chunkDays = chunkDays;
+        this.parallelism = parallelism;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${daily-statistics.rollup.interval-ms:300000}")
+    public int rollupChangedDays() {
+        int total = 0;
+        int consumed;
+        do {
+            Integer result = repository.rollupChangedDays(batchSize);
+            consumed = result != null ? result : 0;
+            total += consumed;
+        } while (consumed == batchSize);
+        if (total > 0) {
+            log.debug("Rolled up daily statistics for {} tracked changes", total);
+        }
+        return total;
+    }
+
+    @Override
+    @Scheduled(cron = "${daily-statistics.rollup.close-day-cron:0 10 0 * * *}")
+    public int closePreviousDay() {
+        Integer changed = repository.rollupDays(new LocalDate[] { LocalDate.now().minusDays(1) });
+        return changed != null ? changed : 0;
+    }
+
+    @Override
+    public DailyStatisticsBackfillResponse backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("The backfill range must have a start date on or before its end date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            // Every chunk holds a connection for its whole run; larger ranges go in several requests
+            throw new IllegalArgumentException("The backfill range cannot span more than " + maxDays + " days");
+        }
+        long start = System.currentTimeMillis();
+        List<LocalDate[]> chunks = chunks(from, to);
+
+        List<Future<Integer>> futures = new ArrayList<>(chunks.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()))) {
+            for (LocalDate[] chunk : chunks) {
+                futures.add(executor.submit(() -> repository.rollupDays(chunk)));
+            }
+        }
+
+        int rowsChanged = 0;
+        List<String> failedChunks = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            LocalDate[] chunk = chunks.get(i);
+            String range = chunk[0] + ".." + chunk[chunk.length - 1];
+            try {
+                Integer changed = futures.get(i).get();
+                rowsChanged += changed != null ? changed : 0;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failedChunks.add(range);
+            } catch (ExecutionException ex) {
+                log.error("Daily statistics backfill failed for {}: {}", range, ex.getCause().getMessage(), ex.getCause());
+                failedChunks.add(range);
+            }
+        }
+
+        return new DailyStatisticsBackfillResponse(from, to, days, chunks.size(), rowsChanged, failedChunks,
+                System.currentTimeMillis() - start);
+    }
+
+    // Private methods
+    private List<LocalDate[]> chunks(LocalDate from, LocalDate to) {
+        List<LocalDate[]> chunks = new ArrayList<>();
+        LocalDate chunkStart = from;
+        while (!chunkStart.isAfter(to)) {
+            LocalDate chunkEnd = chunkStart.plusDays(chunkDays - 1L);
+            if (chunkEnd.isAfter(to)) {
+                chunkEnd = to;
+            }
+            chunks.add(chunkStart.datesUntil(chunkEnd.plusDays(1)).toArray(LocalDate[]::new));
+            chunkStart = chunkEnd.plusDays(1);
+        }
+        return chunks;
+    }
+}
@@ -7,6 +7,8 @@ import com.app.panama_trips.presentation.dto.DailyStatisticsRequest;
 import com.app.panama_trips.presentation.dto.DailyStatisticsResponse;
 import com.app.panama_trips.service.interfaces.IDailyStatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,10 +23,9 @@ public class DailyStatisticsService implements IDailyStatisticsService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<DailyStatisticsResponse> getAllDailyStatistics() {
-        return this.dailyStatisticsRepository.findAll().stream()
-                .map(DailyStatisticsResponse::from)
-                .toList();
+    public Page<DailyStatisticsResponse> getAllDailyStatistics(Pageable pageable) {
+        return this.dailyStatisticsRepository.findAll(pageable)
+                .map(DailyStatisticsResponse::from);
     }
 
     @Override
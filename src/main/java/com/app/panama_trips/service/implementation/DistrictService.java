@@ -8,6 +8,7 @@ import com.app.panama_trips.persistence.repository.ProvinceRepository;
 import com.app.panama_trips.presentation.dto.DistrictRequest;
 import com.app.panama_trips.presentation.dto.DistrictResponse;
 import com.app.panama_trips.service.interfaces.IDistrictService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,35 +20,30 @@ public class DistrictService implements IDistrictService {
 
     private final DistrictRepository districtRepository;
     private final ProvinceRepository provinceRepository;
+    private final IGeoReferenceService geoReferenceService;
 
-
+    // Reads are served from the in-memory reference data; writes go to the database and refresh it after commit
     @Override
-    @Transactional(readOnly = true)
     public List<DistrictResponse> getAllDistricts() {
-        return this.districtRepository.findAll().stream().map(DistrictResponse::new).toList();
+        return this.geoReferenceService.getDistricts();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public DistrictResponse getDistrictById(Integer id) {
-        return this.districtRepository.findById(id)
-                .map(DistrictResponse::new)
+        return this.geoReferenceService.findDistrict(id)
                 .orElseThrow(() -> new ResourceNotFoundException("District not found with id " + id));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public DistrictResponse getDistrictByName(String name) {
-        return this.districtRepository.findByName(name)
-                .map(DistrictResponse::new)
+        return this.geoReferenceService.findDistrictByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("District not found with name " + name));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<DistrictResponse> getDistrictsByProvinceId(Integer provinceId) {
-        List<District> districts = this.districtRepository.findDistrictByProvinceId_Id(provinceId);
-        return districts.isEmpty() ? null : districts.stream().map(DistrictResponse::new).toList();
+        List<DistrictResponse> districts = this.geoReferenceService.getDistrictsByProvince(provinceId);
+        return districts.isEmpty() ? null : districts;
     }
 
     @Override
@@ -0,0 +1,12 @@
+package com.app.panama_trips.service.implementation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmailNotificationSender extends LoggingNotificationSender {
+
+    public EmailNotificationSender(@Value("${notifications.channels.email.max-concurrency:50}") int maxConcurrency) {
+        super("EMAIL", maxConcurrency);
+    }
+}
@@ -0,0 +1,323 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.entity.Comarca;
+import com.app.panama_trips.persistence.entity.District;
+import com.app.panama_trips.persistence.entity.Province;
+import com.app.panama_trips.persistence.entity.Region;
+import com.app.panama_trips.persistence.repository.ComarcaRepository;
+import com.app.panama_trips.persistence.repository.DistrictRepository;
+import com.app.panama_trips.persistence.repository.ProvinceRepository;
+import com.app.panama_trips.persistence.repository.RegionRepository;
+import com.app.panama_trips.presentation.dto.ComarcaResponse;
+import com.app.panama_trips.presentation.dto.DistrictResponse;
+import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
+import com.app.panama_trips.presentation.dto.RegionResponse;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the whole administrative hierarchy in memory as one immutable snapshot.
+ * Readers only dereference a volatile field; a refresh builds a complete new
+ * snapshot and swaps it in, so nobody ever sees a half-built hierarchy.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoReferenceService implements IGeoReferenceService {
+
+    private final ProvinceRepository provinceRepository;
+    private final DistrictRepository districtRepository;
+    private final ComarcaRepository comarcaRepository;
+    private final RegionRepository regionRepository;
+    private final IResponseCacheService responseCacheService;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // The first read retries the load, so a database that is late to start does not block boot
+            log.warn("Could not preload geographic reference data: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void refresh() {
+        // Serialized so a slow load can never overwrite the result of a newer one
+        refreshLock.lock();
+        try {
+            Snapshot loaded = Snapshot.build(
+                    provinceRepository.findAll(),
+                    districtRepository.findAll(),
+                    comarcaRepository.findAll(),
+                    regionRepository.findAll());
+            snapshot = loaded;
+            // Serialized list responses are derived from the snapshot and must follow it
+            responseCacheService.invalidate(IResponseCacheService.PROVINCES);
+            responseCacheService.invalidate(IResponseCacheService.DISTRICTS);
+            responseCacheService.invalidate(IResponseCacheService.COMARCAS);
+            log.debug("Geographic reference data loaded: {} provinces, {} districts, {} comarcas, {} regions",
+                    loaded.provinceList.size(), loaded.districtList.size(),
+                    loaded.comarcaList.size(), loaded.regionList.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public List<ProvinceResponse> getProvinces() {
+        return snapshot().provinceList;
+    }
+
+    @Override
+    public Optional<ProvinceResponse> findProvince(Integer id) {
+        return Optional.ofNullable(at(snapshot().provinces, id));
+    }
+
+    @Override
+    public Optional<ProvinceResponse> findProvinceByName(String name) {
+        return Optional.ofNullable(snapshot().provinceByName.get(name));
+    }
+
+    @Override
+    public List<DistrictResponse> getDistricts() {
+        return snapshot().districtList;
+    }
+
+    @Override
+    public Optional<DistrictResponse> findDistrict(Integer id) {
+        return Optional.ofNullable(at(snapshot().districts, id));
+    }
+
+    @Override
+    public Optional<DistrictResponse> findDistrictByName(String name) {
+        return Optional.ofNullable(snapshot().districtByName.get(name));
+    }
+
+    @Override
+    public List<DistrictResponse> getDistrictsByProvince(Integer provinceId) {
+        return children(snapshot().districtsByProvince, provinceId);
+    }
+
+    @Override
+    public List<ComarcaResponse> getComarcas() {
+        return snapshot().comarcaList;
+    }
+
+    @Override
+    public Optional<ComarcaResponse> findComarca(Integer id) {
+        return Optional.ofNullable(at(snapshot().comarcas, id));
+    }
+
+    @Override
+    public Optional<ComarcaResponse> findComarcaByName(String name) {
+        return Optional.ofNullable(snapshot().comarcaByName.get(name));
+    }
+
+    @Override
+    public List<RegionResponse> getRegions() {
+        return snapshot().regionList;
+    }
+
+    @Override
+    public Optional<RegionResponse> findRegion(Integer id) {
+        return Optional.ofNullable(at(snapshot().regions, id));
+    }
+
+    @Override
+    public Optional<RegionResponse> findRegionByName(String name) {
+        return name == null
+                ? Optional.empty()
+                : Optional.ofNullable(snapshot().regionByName.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    @Override
+    public List<RegionResponse> getRegionsByProvince(Integer provinceId) {
+        return children(snapshot().regionsByProvince, provinceId);
+    }
+
+    @Override
+    public List<RegionResponse> getRegionsByComarca(Integer comarcaId) {
+        return children(snapshot().regionsByComarca, comarcaId);
+    }
+
+    @Override
+    public List<ProvinceTreeResponse> getProvinceTrees() {
+        return snapshot().provinceTreeList;
+    }
+
+    @Override
+    public Optional<ProvinceTreeResponse> findProvinceTree(Integer provinceId) {
+        return Optional.ofNullable(at(snapshot().provinceTrees, provinceId));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static <T> T at(T[] byId, Integer id) {
+        return id == null || id < 0 || id >= byId.length ? null : byId[id];
+    }
+
+    private static <T> List<T> children(List<List<T>> adjacency, Integer parentId) {
+        return parentId == null || parentId < 0 || parentId >= adjacency.size()
+                ? List.of()
+                : adjacency.get(parentId);
+    }
+
+    /**
+     * Id-indexed arrays (ids are small serials, so the arrays stay dense) plus
+     * parent-to-children adjacency lists. Every list is unmodifiable and shared.
+     */
+    private static final class Snapshot {
+
+        private final ProvinceResponse[] provinces;
+        private final DistrictResponse[] districts;
+        private final ComarcaResponse[] comarcas;
+        private final RegionResponse[] regions;
+        private final ProvinceTreeResponse[] provinceTrees;
+
+        private final List<ProvinceResponse> provinceList;
+        private final List<DistrictResponse> districtList;
+        private final List<ComarcaResponse> comarcaList;
+        private final List<RegionResponse> regionList;
+        private final List<ProvinceTreeResponse> provinceTreeList;
+
+        private final List<List<DistrictResponse>> districtsByProvince;
+        private final List<List<RegionResponse>> regionsByProvince;
+        private final List<List<RegionResponse>> regionsByComarca;
+
+        private final Map<String, ProvinceResponse> provinceByName;
+        private final Map<String, DistrictResponse> districtByName;
+        private final Map<String, ComarcaResponse> comarcaByName;
+        private final Map<String, RegionResponse> regionByName;
+
+        private Snapshot(List<ProvinceResponse> provinceList, List<DistrictResponse> districtList,
+                List<ComarcaResponse> comarcaList, List<RegionResponse> regionList) {
+            this.provinceList = provinceList;
+            this.districtList = districtList;
+            this.comarcaList = comarcaList;
+            this.regionList = regionList;
+
+            this.provinces = index(provinceList, ProvinceResponse::id, ProvinceResponse[]::new);
+            this.districts = index(districtList, DistrictResponse::id, DistrictResponse[]::new);
+            this.comarcas = index(comarcaList, ComarcaResponse::id, ComarcaResponse[]::new);
+            this.regions = index(regionList, RegionResponse::id, RegionResponse[]::new);
+
+            this.districtsByProvince = adjacency(districtList, DistrictResponse::provinceId, provinces.length);
+            this.regionsByProvince = adjacency(regionList, RegionResponse::provinceId, provinces.length);
+            this.regionsByComarca = adjacency(regionList, RegionResponse::comarcaId, comarcas.length);
+
+            this.provinceByName = byName(provinceList, ProvinceResponse::name);
+            this.districtByName = byName(districtList, DistrictResponse::name);
+            this.comarcaByName = byName(comarcaList, ComarcaResponse::name);
+            this.regionByName = byName(regionList, region -> region.name().toLowerCase(Locale.ROOT));
+
+            this.provinceTrees = new ProvinceTreeResponse[provinces.length];
+            List<ProvinceTreeResponse> trees = new ArrayList<>(provinceList.size());
+            for (ProvinceResponse province : provinceList) {
+                ProvinceTreeResponse tree = new ProvinceTreeResponse(
+                        province.id(),
+                        province.name(),
+                        children(districtsByProvince, province.id()),
+                        children(regionsByProvince, province.id()));
+                provinceTrees[province.id()] = tree;
+                trees.add(tree);
+            }
+            this.provinceTreeList = Collections.unmodifiableList(trees);
+        }
+
+        static Snapshot build(List<Province> provinces, List<District> districts,
+                List<Comarca> comarcas, List<Region> regions) {
+            List<ProvinceResponse> provinceList = sorted(provinces.stream().map(ProvinceResponse::new).toList(),
+                    ProvinceResponse::id);
+            List<ComarcaResponse> comarcaList = sorted(comarcas.stream().map(ComarcaResponse::new).toList(),
+                    ComarcaResponse::id);
+            List<DistrictResponse> districtList = sorted(districts.stream().map(DistrictResponse::new).toList(),
+                    DistrictResponse::id);
+
+            // Only the parent ids are read from the entities; names come from the rows loaded above,
+            // so the lazy province/comarca associations are never initialized
+            Map<Integer, String> provinceNames = new HashMap<>();
+            provinceList.forEach(province -> provinceNames.put(province.id(), province.name()));
+            Map<Integer, String> comarcaNames = new HashMap<>();
+            comarcaList.forEach(comarca -> comarcaNames.put(comarca.id(), comarca.name()));
+
+            List<RegionResponse> regionList = sorted(regions.stream().map(region -> {
+                Integer provinceId = region.getProvince() != null ? region.getProvince().getId() : null;
+                Integer comarcaId = region.getComarca() != null ? region.getComarca().getId() : null;
+                return new RegionResponse(
+                        region.getId(),
+                        region.getName(),
+                        provinceId != null ? provinceNames.get(provinceId) : null,
+                        provinceId,
+                        comarcaId != null ? comarcaNames.get(comarcaId) : null,
+                        comarcaId);
+            }).toList(), RegionResponse::id);
+
+            return new Snapshot(provinceList, districtList, comarcaList, regionList);
+        }
+
+        private static <T> List<T> sorted(List<T> items, ToIntFunction<T> id) {
+            return items.stream().sorted(Comparator.comparingInt(id)).toList();
+        }
+
+        private static <T> T[] index(List<T> items, Function<T, Integer> id,
+                IntFunction<T[]> newArray) {
+            int maxId = items.stream().mapToInt(id::apply).max().orElse(-1);
+            T[] byId = newArray.apply(maxId + 1);
+            items.forEach(item -> byId[id.apply(item)] = item);
+            return byId;
+        }
+
+        private static <T> List<List<T>> adjacency(List<T> items, Function<T, Integer> parentId, int parents) {
+            List<List<T>> building = new ArrayList<>(parents);
+            for (int i = 0; i < parents; i++) {
+                building.add(new ArrayList<>());
+            }
+            for (T item : items) {
+                Integer parent = parentId.apply(item);
+                if (parent != null && parent >= 0 && parent < parents) {
+                    building.get(parent).add(item);
+                }
+            }
+            return building.stream().<List<T>>map(List::copyOf).toList();
+        }
+
+        private static <T> Map<String, T> byName(List<T> items, Function<T, String> name) {
+            Map<String, T> byName = new HashMap<>();
+            // Lists are sorted by id, so on duplicate names the lowest id wins
+            items.forEach(item -> byName.putIfAbsent(name.apply(item), item));
+            return Map.copyOf(byName);
+        }
+    }
+}
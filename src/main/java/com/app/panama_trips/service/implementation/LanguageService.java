@@ -13,6 +13,7 @@ import com.app.panama_trips.persistence.repository.LanguageRepository;
 import com.app.panama_trips.presentation.dto.LanguageRequest;
 import com.app.panama_trips.presentation.dto.LanguageResponse;
 import com.app.panama_trips.service.interfaces.ILanguageService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class LanguageService implements ILanguageService {
 
     private final LanguageRepository languageRepository;
+    private final IResponseCacheService responseCacheService;
     
     @Override
     @Transactional(readOnly = true)
@@ -42,6 +44,7 @@ public class LanguageService implements ILanguageService {
     public LanguageResponse saveLanguage(LanguageRequest request) {
         validateLanguage(request);
         Language language = buildLanguageFromRequest(request);
+        responseCacheService.invalidate(IResponseCacheService.ACTIVE_LANGUAGES);
         return new LanguageResponse(languageRepository.save(language));
     }
 
@@ -51,6 +54,7 @@ public class LanguageService implements ILanguageService {
         Language existingLanguage = languageRepository.findById(code)
                 .orElseThrow(() -> new ResourceNotFoundException("Language not found with code " + code));
         updateLanguageFields(existingLanguage, request);
+        responseCacheService.invalidate(IResponseCacheService.ACTIVE_LANGUAGES);
         return new LanguageResponse(languageRepository.save(existingLanguage));
     }
 
@@ -61,6 +65,7 @@ public class LanguageService implements ILanguageService {
             throw new ResourceNotFoundException("Language not found with code " + code);
         }
         languageRepository.deleteById(code);
+        responseCacheService.invalidate(IResponseCacheService.ACTIVE_LANGUAGES);
     }
 
     @Override
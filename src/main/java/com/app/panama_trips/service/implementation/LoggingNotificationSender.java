@@ -0,0 +1,43 @@
+package com.app.panama_trips.service.implementation;
+
+import com.app.panama_trips.exception.NotificationDeliveryException;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+import com.app.panama_trips.service.interfaces.INotificationSender;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Placeholder for a channel with no provider wired in yet: it validates the recipient and
+ * logs the message. A provider client, or a local fake, implements INotificationSender for
+ * the same channel and takes its place.
+ */
+@Slf4j
+public abstract class LoggingNotificationSender implements INotificationSender {
+
+    private final String channel;
+    private final int maxConcurrency;
+
+    protected LoggingNotificationSender(String channel, int maxConcurrency) {
+        this.channel = channel;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public String channel() {
+        return channel;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void send(OutboundNotification notification) {
+        if (notification.recipient() == null || notification.recipient().isBlank()) {
+            throw new NotificationDeliveryException("Notification " + notification.id() + " has no recipient", false);
+        }
+        log.debug("{} notification {} to {} (attempt {}): {}", channel, notification.id(), notification.recipient(),
+                notification.attempt(), notification.subject());
+    }
+}
@@ -11,6 +11,7 @@ import com.app.panama_trips.persistence.repository.TourPlanRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.MarketingCampaignRequest;
 import com.app.panama_trips.presentation.dto.MarketingCampaignResponse;
+import com.app.panama_trips.service.interfaces.IClickCounterService;
 import com.app.panama_trips.service.interfaces.IMarketingCampaignService;
 
 import lombok.RequiredArgsConstructor;
@@ -19,16 +20,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,6 +44,7 @@ public class MarketingCampaignService implements IMarketingCampaignService {
     private final MarketingCampaignRepository repository;
     private final TourPlanRepository tourPlanRepository;
     private final UserEntityRepository userEntityRepository;
+    private final IClickCounterService clickCounterService;
 
     // Constants for magic numbers
     private static final BigDecimal BUDGET_SEARCH_TOLERANCE = BigDecimal.valueOf(0.1);
@@ -64,7 +70,7 @@ public class MarketingCampaignService implements IMarketingCampaignService {
     @Override
     public MarketingCampaignResponse getMarketingCampaignById(Integer id) {
         return repository.findById(id)
-                .map(MarketingCampaignResponse::new)
+                .map(this::toResponseWithPendingClicks)
                 .orElseThrow(() -> new ResourceNotFoundException("Marketing campaign not found with id: " + id));
     }
 
@@ -251,11 +257,14 @@ public class MarketingCampaignService implements IMarketingCampaignService {
     }
 
     @Override
-    @Transactional
     public void bulkIncrementClicks(List<Integer> campaignIds) {
-        List<MarketingCampaign> campaigns = repository.findAllById(campaignIds);
-        campaigns.forEach(c -> c.setActualClicks(c.getActualClicks() + 1));
-        repository.saveAll(campaigns);
+        // Unknown and null ids are ignored and repeated ids count once, as the request is a set of campaigns
+        Set<Integer> ids = campaignIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.findExistingIds(ids)
+                .forEach(id -> clickCounterService.record(id, 1));
     }
 
     // ==================== Check Operations ====================
@@ -418,11 +427,10 @@ public class MarketingCampaignService implements IMarketingCampaignService {
     // ==================== Clicks Operations ====================
 
     @Override
-    @Transactional
     public MarketingCampaignResponse incrementClicks(Integer campaignId) {
         MarketingCampaign campaign = findCampaignOrThrow(campaignId);
-        campaign.setActualClicks(campaign.getActualClicks() + 1);
-        return new MarketingCampaignResponse(repository.save(campaign));
+        clickCounterService.record(campaignId, 1);
+        return toResponseWithPendingClicks(campaign);
     }
 
     @Override
@@ -435,9 +443,14 @@ public class MarketingCampaignService implements IMarketingCampaignService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${campaigns.clicks.flush-interval-ms:5000}")
     public void updateClicksForActiveCampaigns() {
-        log.info("updateClicksForActiveCampaigns: not yet implemented");
+        // Runs outside any transaction so the flush commits on its own and can restore the clicks if it fails
+        int updated = clickCounterService.flush();
+        if (updated > 0) {
+            log.debug("Flushed pending clicks of {} campaigns", updated);
+        }
     }
 
     // ==================== Utility Operations ====================
@@ -520,6 +533,10 @@ public class MarketingCampaignService implements IMarketingCampaignService {
         return new MarketingCampaignResponse(repository.save(campaign));
     }
 
+    private MarketingCampaignResponse toResponseWithPendingClicks(MarketingCampaign campaign) {
+        return new MarketingCampaignResponse(campaign, clickCounterService.pendingClicks(campaign.getId()));
+    }
+
     private List<MarketingCampaignResponse> toResponseList(List<MarketingCampaign> campaigns) {
         return campaigns.stream().map(MarketingCampaignResponse::new).toList();
     }
@@ -0,0 +1,201 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.exception.NotificationDeliveryException;
+import com.app.panama_trips.presentation.dto.DeliveryResult;
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+import com.app.panama_trips.service.interfaces.INotificationDispatcherService;
+import com.app.panama_trips.service.interfaces.INotificationQueueService;
+import com.app.panama_trips.service.interfaces.INotificationSender;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the notification queue. Each run starts a few workers that claim batches until the
+ * queue is empty; every message of a batch is sent on its own virtual thread, and a semaphore
+ * per channel keeps the number of calls to each provider under its limit. The lease must be
+ * longer than the slowest send, otherwise a row could be claimed again while still in flight.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcherService implements INotificationDispatcherService {
+
+    private final INotificationQueueService queue;
+    private final Map<String, INotificationSender> senders = new HashMap<>();
+    private final Map<String, Semaphore> permits = new HashMap<>();
+    private final int batchSize;
+    private final int workers;
+    private final Duration lease;
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private volatile boolean stopping;
+
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private volatile long lastBatchSize;
+    private volatile long lastBatchMillis;
+
+    public NotificationDispatcherService(INotificationQueueService queue, List<INotificationSender> senders,
+            @Value("${notifications.dispatch.batch-size:200}") int batchSize,
+            @Value("${notifications.dispatch.workers:4}") int workers,
+            @Value("${notifications.dispatch.lease-seconds:300}") long leaseSeconds) {
+        this.queue = queue;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        for (INotificationSender sender : senders) {
+            if (this.senders.putIfAbsent(sender.channel(), sender) != null) {
+                throw new IllegalStateException("More than one notification sender for channel " + sender.channel());
+            }
+            permits.put(sender.channel(), new Semaphore(sender.maxConcurrency()));
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${notifications.dispatch.interval-ms:1000}")
+    public int dispatch() {
+        // A run in progress already drains whatever was queued meanwhile
+        if (stopping || !dispatchLock.tryLock()) {
+            return 0;
+        }
+        try {
+            AtomicInteger processed = new AtomicInteger();
+            try (ExecutorService workerExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < workers; i++) {
+                    workerExecutor.submit(() -> drain(processed));
+                }
+            }
+            return processed.get();
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Workers finish the batch in hand; unsent claimed rows come back when their lease expires
+        stopping = true;
+        dispatchLock.lock();
+        try {
+            sendExecutor.shutdown();
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    @Override
+    public NotificationDispatchStatsResponse getStats() {
+        Map<String, Integer> inFlight = new HashMap<>();
+        senders.forEach((channel, sender) ->
+                inFlight.put(channel, sender.maxConcurrency() - permits.get(channel).availablePermits()));
+        long millis = lastBatchMillis;
+        return new NotificationDispatchStatsResponse(
+                claimed.sum(),
+                delivered.sum(),
+                failedAttempts.sum(),
+                inFlight,
+                lastBatchSize,
+                millis,
+                millis == 0 ? 0 : lastBatchSize * 1000.0 / millis);
+    }
+
+    private void drain(AtomicInteger processed) {
+        while (!stopping) {
+            List<OutboundNotification> batch;
+            try {
+                batch = queue.claim(batchSize, lease);
+            } catch (RuntimeException ex) {
+                log.error("Failed to claim pending notifications: {}", ex.getMessage(), ex);
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            claimed.add(batch.size());
+
+            long start = System.currentTimeMillis();
+            List<DeliveryResult> results = sendAll(batch);
+            try {
+                queue.complete(results);
+            } catch (RuntimeException ex) {
+                // The rows keep their lease and are sent again once it expires: at least once, never lost
+                log.error("Failed to record the outcome of {} notifications: {}", results.size(), ex.getMessage(), ex);
+                return;
+            }
+            lastBatchSize = batch.size();
+            lastBatchMillis = System.currentTimeMillis() - start;
+            processed.addAndGet(batch.size());
+        }
+    }
+
+    private List<DeliveryResult> sendAll(List<OutboundNotification> batch) {
+        List<Future<DeliveryResult>> futures = new ArrayList<>(batch.size());
+        for (OutboundNotification notification : batch) {
+            futures.add(sendExecutor.submit(() -> send(notification)));
+        }
+
+        List<DeliveryResult> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < futures.size(); i++) {
+            DeliveryResult result;
+            try {
+                result = futures.get(i).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result = DeliveryResult.failed(batch.get(i).id(), true, "Interrupted while sending");
+            } catch (ExecutionException ex) {
+                result = DeliveryResult.failed(batch.get(i).id(), true, String.valueOf(ex.getCause()));
+            }
+            if (result.delivered()) {
+                delivered.increment();
+            } else {
+                failedAttempts.increment();
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private DeliveryResult send(OutboundNotification notification) {
+        INotificationSender sender = senders.get(notification.channel());
+        if (sender == null) {
+            return DeliveryResult.failed(notification.id(), false, "No sender for channel " + notification.channel());
+        }
+        Semaphore semaphore = permits.get(notification.channel());
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return DeliveryResult.failed(notification.id(), true, "Interrupted while waiting for the channel");
+        }
+        try {
+            sender.send(notification);
+            return DeliveryResult.delivered(notification.id());
+        } catch (NotificationDeliveryException ex) {
+            return DeliveryResult.failed(notification.id(), ex.isRetryable(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            return DeliveryResult.failed(notification.id(), true, ex.getMessage());
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.app.panama_trips.service.implementation;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +18,12 @@ import com.app.panama_trips.persistence.repository.NotificationHistoryRepository
 import com.app.panama_trips.persistence.repository.NotificationTemplateRepository;
 import com.app.panama_trips.persistence.repository.ReservationRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
 import com.app.panama_trips.presentation.dto.NotificationHistoryRequest;
 import com.app.panama_trips.presentation.dto.NotificationHistoryResponse;
+import com.app.panama_trips.service.interfaces.INotificationDispatcherService;
 import com.app.panama_trips.service.interfaces.INotificationHistoryService;
+import com.app.panama_trips.utility.Pagination;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +53,7 @@ public class NotificationHistoryService implements INotificationHistoryService {
     private final NotificationTemplateRepository notificationTemplateRepository;
     private final UserEntityRepository userEntityRepository;
     private final ReservationRepository reservationRepository;
+    private final INotificationDispatcherService notificationDispatcherService;
 
     // CRUD operations
 
@@ -55,6 +62,11 @@ public class NotificationHistoryService implements INotificationHistoryService {
         return repository.findAll(pageable).map(NotificationHistoryResponse::new);
     }
 
+    @Override
+    public Window<NotificationHistoryResponse> scrollNotificationHistory(ScrollPosition position, int size) {
+        return repository.findAllByOrderByIdDesc(position, Limit.of(Pagination.clampSize(size))).map(NotificationHistoryResponse::new);
+    }
+
     @Override
     public NotificationHistoryResponse getNotificationHistoryById(Integer id) {
         return new NotificationHistoryResponse(findNotificationOrThrow(id));
@@ -277,10 +289,14 @@ public class NotificationHistoryService implements INotificationHistoryService {
     @Override
     @Transactional
     public void retryFailedNotifications() {
-        List<NotificationHistory> failedNotifications = repository.findByDeliveryStatus(STATUS_FAILED);
-        failedNotifications.forEach(notification -> notification.setDeliveryStatus(STATUS_PENDING));
-        repository.saveAll(failedNotifications);
-        log.info("Retried {} failed notifications", failedNotifications.size());
+        // Back in the dispatch queue with a fresh attempt budget; one statement whatever the count
+        int requeued = repository.requeueFailed();
+        log.info("Retried {} failed notifications", requeued);
+    }
+
+    @Override
+    public NotificationDispatchStatsResponse getDispatchStats() {
+        return notificationDispatcherService.getStats();
     }
 
     @Override
@@ -0,0 +1,165 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.panama_trips.persistence.entity.NotificationHistory;
+import com.app.panama_trips.persistence.entity.NotificationTemplate;
+import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.persistence.repository.NotificationHistoryRepository;
+import com.app.panama_trips.presentation.dto.DeliveryResult;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+import com.app.panama_trips.service.interfaces.INotificationQueueService;
+import com.app.panama_trips.service.interfaces.ITemplateRenderingService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The PENDING rows of notification_history are the queue. A claim locks a batch with
+ * SKIP LOCKED, pushes next_attempt_at forward as a lease and renders the content, all in
+ * one short transaction; sending happens outside of it. Failed attempts come back after
+ * an exponential backoff until max-attempts is reached.
+ */
+@Slf4j
+@Service
+public class NotificationQueueService implements INotificationQueueService {
+
+    private static final String STATUS_PENDING = "PENDING";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String CHANNEL_EMAIL = "EMAIL";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String NO_RECIPIENT_ERROR = "The notification has no user to send it to";
+
+    private final NotificationHistoryRepository repository;
+    private final ITemplateRenderingService renderer;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+
+    public NotificationQueueService(NotificationHistoryRepository repository, ITemplateRenderingService renderer,
+            @Value("${notifications.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${notifications.dispatch.backoff-base-seconds:30}") long backoffBaseSeconds,
+            @Value("${notifications.dispatch.backoff-max-seconds:3600}") long backoffMaxSeconds) {
+        this.repository = repository;
+        this.renderer = renderer;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofSeconds(backoffBaseSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboundNotification> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> ids = repository.lockDueForDispatch(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.leaseForDispatch(ids, now.plus(lease));
+        // Rendered content is stored on the row at commit, a retry sends exactly the same text
+        List<OutboundNotification> outbound = new ArrayList<>(ids.size());
+        for (NotificationHistory notification : repository.findAllForDispatch(ids)) {
+            if (notification.getUser() == null) {
+                // Nobody to send it to, and no retry will change that
+                notification.setDeliveryStatus(STATUS_FAILED);
+                notification.setNextAttemptAt(null);
+                notification.setLastError(NO_RECIPIENT_ERROR);
+                log.warn("Notification {} failed: {}", notification.getId(), NO_RECIPIENT_ERROR);
+                continue;
+            }
+            outbound.add(toOutbound(notification));
+        }
+        return outbound;
+    }
+
+    @Override
+    @Transactional
+    public void complete(List<DeliveryResult> results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> delivered = results.stream()
+                .filter(DeliveryResult::delivered)
+                .map(DeliveryResult::notificationId)
+                .toList();
+        if (!delivered.isEmpty()) {
+            repository.markDelivered(delivered, now);
+        }
+
+        Map<Integer, DeliveryResult> failures = results.stream()
+                .filter(result -> !result.delivered())
+                .collect(Collectors.toMap(DeliveryResult::notificationId, Function.identity()));
+        if (failures.isEmpty()) {
+            return;
+        }
+        List<NotificationHistory> failed = repository.findAllById(failures.keySet());
+        for (NotificationHistory notification : failed) {
+            // Rows changed by hand since the claim (retried, marked delivered) are left alone
+            if (!STATUS_PENDING.equals(notification.getDeliveryStatus())) {
+                continue;
+            }
+            DeliveryResult result = failures.get(notification.getId());
+            notification.setLastError(truncate(result.error()));
+            if (!result.retryable() || notification.getAttempts() >= maxAttempts) {
+                notification.setDeliveryStatus(STATUS_FAILED);
+                notification.setNextAttemptAt(null);
+                log.warn("Notification {} failed after {} attempts: {}", notification.getId(),
+                        notification.getAttempts(), result.error());
+            } else {
+                notification.setNextAttemptAt(now.plus(backoff(notification.getAttempts())));
+            }
+        }
+        repository.saveAll(failed);
+    }
+
+    // Private methods
+    private OutboundNotification toOutbound(NotificationHistory notification) {
+        NotificationTemplate template = notification.getTemplate();
+        UserEntity user = notification.getUser();
+        Map<String, Object> variables = variables(notification, user);
+
+        if (notification.getContent() == null && template != null) {
+            notification.setContent(renderer.renderBody(template, variables));
+        }
+        String subject = template != null ? renderer.renderSubject(template, variables) : null;
+        // Users have no phone or device column yet, SMS and PUSH providers resolve the user id
+        String recipient = CHANNEL_EMAIL.equals(notification.getChannel())
+                ? user.getEmail()
+                : String.valueOf(user.getId());
+
+        return new OutboundNotification(notification.getId(), notification.getChannel(), user.getId(), recipient,
+                subject, notification.getContent(), notification.getAttempts());
+    }
+
+    private Map<String, Object> variables(NotificationHistory notification, UserEntity user) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("userName", user.getName());
+        variables.put("userLastname", user.getLastname());
+        variables.put("userEmail", user.getEmail());
+        if (notification.getPayload() != null) {
+            variables.putAll(notification.getPayload());
+        }
+        return variables;
+    }
+
+    private Duration backoff(int attempts) {
+        // base, 2x base, 4x base ... capped; the shift is bounded so it cannot overflow
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
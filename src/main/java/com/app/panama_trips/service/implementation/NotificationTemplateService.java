@@ -7,6 +7,8 @@ import com.app.panama_trips.persistence.repository.NotificationTemplateRepositor
 import com.app.panama_trips.presentation.dto.NotificationTemplateRequest;
 import com.app.panama_trips.presentation.dto.NotificationTemplateResponse;
 import com.app.panama_trips.service.interfaces.INotificationTemplateService;
+import com.app.panama_trips.service.interfaces.ITemplateRenderingService;
+import com.app.panama_trips.utility.CompiledTemplate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,11 +16,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +28,7 @@ public class NotificationTemplateService implements INotificationTemplateService
 
     private final NotificationTemplateRepository notificationTemplateRepository;
     private final NotificationHistoryRepository notificationHistoryRepository;
-
-    private static final Pattern VARIABLE_PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+    private final ITemplateRenderingService templateRenderingService;
 
     // CRUD operations
     @Override
@@ -70,6 +70,7 @@ public class NotificationTemplateService implements INotificationTemplateService
             throw new IllegalArgumentException("Cannot delete a template that is being used by notifications");
         }
         notificationTemplateRepository.deleteById(id);
+        templateRenderingService.evict(id);
     }
 
     // Find operations
@@ -157,6 +158,7 @@ public class NotificationTemplateService implements INotificationTemplateService
             }
         }
         notificationTemplateRepository.deleteAllById(templateIds);
+        templateIds.forEach(templateRenderingService::evict);
     }
 
     // Check operations
@@ -177,11 +179,8 @@ public class NotificationTemplateService implements INotificationTemplateService
 
     @Override
     public boolean validateTemplateVariables(Integer templateId, List<String> variables) {
-        NotificationTemplate template = findTemplateOrThrow(templateId);
-        if (template.getVariables() == null) {
-            return variables.isEmpty();
-        }
-        Set<String> templateVars = Set.of(template.getVariables().split(","));
+        // Placeholders come from the compiled body, cached per template version
+        Set<String> templateVars = templateRenderingService.compileBody(findTemplateOrThrow(templateId)).variableNames();
         return variables.stream().allMatch(var -> templateVars.contains(var.trim()));
     }
 
@@ -208,18 +207,19 @@ public class NotificationTemplateService implements INotificationTemplateService
             return;
         }
 
-        Set<String> declaredVars = Set.of(request.variables().split(","));
+        Set<String> declaredVars = new LinkedHashSet<>();
+        for (String variable : request.variables().split(",")) {
+            declaredVars.add(variable.trim());
+        }
+        Set<String> usedVars = CompiledTemplate.parse(request.body()).variableNames();
 
         for (String variable : declaredVars) {
-            String placeholder = "${" + variable.trim() + "}";
-            if (!request.body().contains(placeholder)) {
-                throw new IllegalArgumentException("Variable '" + variable.trim() + "' is declared but not used in the template body");
+            if (!usedVars.contains(variable)) {
+                throw new IllegalArgumentException("Variable '" + variable + "' is declared but not used in the template body");
             }
         }
 
-        Matcher matcher = VARIABLE_PLACEHOLDER_PATTERN.matcher(request.body());
-        while (matcher.find()) {
-            String variable = matcher.group(1);
+        for (String variable : usedVars) {
             if (!declaredVars.contains(variable)) {
                 throw new IllegalArgumentException("Variable '" + variable + "' is used in the template body but not declared");
             }
@@ -0,0 +1,135 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.exception.TooManyRequestsException;
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
+import com.app.panama_trips.service.interfaces.IPasswordHashingService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs bcrypt on a small dedicated pool so a login burst cannot occupy every
+ * request thread. When the queue is full, callers are turned away with a 429
+ * instead of waiting behind work they cannot outrun.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements IPasswordHashingService {
+
+    private static final String REJECTED_MESSAGE = "Too many authentication requests, please retry shortly";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long maxWaitMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.hashing-threads:4}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.max-wait-ms:5000}") long maxWaitMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMillis = maxWaitMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String passwordHash) {
+        return execute(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    @Override
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    @Override
+    public PasswordHashingStatsResponse getStats() {
+        long done = completed.sum();
+        return new PasswordHashingStatsResponse(
+                executor.getCorePoolSize(),
+                executor.getQueue().size(),
+                queueCapacity,
+                done,
+                rejected.sum(),
+                done == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / done,
+                done == 0 ? 0 : queueWaitNanos.sum() / 1_000_000.0 / done);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return work.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new TooManyRequestsException(REJECTED_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.app.panama_trips.service.implementation;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,12 +16,15 @@ import com.app.panama_trips.persistence.entity.PaymentInstallmentBusinessLogic;
 import com.app.panama_trips.persistence.entity.PaymentInstallmentStatus;
 import com.app.panama_trips.persistence.entity.Payment;
 import com.app.panama_trips.persistence.entity.Reservation;
+import com.app.panama_trips.persistence.repository.NotificationHistoryRepository;
+import com.app.panama_trips.persistence.repository.NotificationTemplateRepository;
 import com.app.panama_trips.persistence.repository.PaymentInstallmentRepository;
 import com.app.panama_trips.persistence.repository.PaymentRepository;
 import com.app.panama_trips.persistence.repository.ReservationRepository;
 import com.app.panama_trips.presentation.dto.PaymentInstallmentRequest;
 import com.app.panama_trips.presentation.dto.PaymentInstallmentResponse;
 import com.app.panama_trips.service.interfaces.IPaymentInstallmentService;
+import com.app.panama_trips.utility.Pagination;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +32,10 @@ import lombok.extern.slf4j.Slf4j;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 import static com.app.panama_trips.persistence.entity.PaymentInstallmentConstants.*;
 
@@ -35,15 +44,26 @@ import static com.app.panama_trips.persistence.entity.PaymentInstallmentConstant
 @RequiredArgsConstructor
 public class PaymentInstallmentService implements IPaymentInstallmentService {
 
+    // Ids bound per IN list; keeps each statement well below the driver's parameter limit
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final PaymentInstallmentRepository repository;
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
+    private final NotificationHistoryRepository notificationHistoryRepository;
+    private final NotificationTemplateRepository notificationTemplateRepository;
 
     // CRUD operations
     @Override
     @Transactional(readOnly = true)
     public Page<PaymentInstallmentResponse> getAllPaymentInstallments(Pageable pageable) {
-        return repository.findAll(pageable).map(PaymentInstallmentResponse::new);
+        return repository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<PaymentInstallmentResponse> scrollPaymentInstallments(ScrollPosition position, int size) {
+        return repository.findAllByOrderByIdDesc(position, Limit.of(Pagination.clampSize(size))).map(PaymentInstallmentResponse::new);
     }
 
     @Override
@@ -83,52 +103,53 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByReservationId(Integer reservationId) {
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Reservation not found"));
-        return toResponseList(repository.findByReservation(reservation));
+        if (!reservationRepository.existsById(reservationId)) {
+            throw new ResourceNotFoundException("Reservation not found");
+        }
+        return repository.findByReservation_Id(reservationId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByPaymentId(Integer paymentId) {
-        return toResponseList(repository.findByPayment_Id(paymentId));
+        return repository.findByPayment_Id(paymentId.longValue());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByStatus(String status) {
-        return toResponseList(repository.findByStatus(status));
+        return repository.findResponsesByStatus(status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByDueDateBefore(LocalDate date) {
-        return toResponseList(repository.findByDueDateBefore(date));
+        return repository.findResponsesByDueDateBefore(date);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByDueDateBetween(LocalDate startDate, LocalDate endDate) {
-        return toResponseList(repository.findByDueDateBetween(startDate, endDate));
+        return repository.findResponsesByDueDateBetween(startDate, endDate);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByReminderSent(Boolean reminderSent) {
-        return toResponseList(repository.findByReminderSent(reminderSent));
+        return repository.findByReminderSent(reminderSent);
     }
 
     // Specialized queries from repository
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findByReservationIdAndStatus(Integer reservationId, String status) {
-        return toResponseList(repository.findByReservationIdAndStatus(reservationId, status));
+        return repository.findResponsesByReservationIdAndStatus(reservationId, status);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> findPendingInstallmentsWithoutReminder(LocalDate date) {
-        return toResponseList(repository.findPendingInstallmentsWithoutReminder(date));
+        return repository.findPendingInstallmentsWithoutReminder(date);
     }
 
     @Override
@@ -147,68 +168,68 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getOverdueInstallments() {
-        return toResponseList(repository.findByStatus(PaymentInstallmentStatus.OVERDUE.getCode()));
+        return repository.findResponsesByStatus(PaymentInstallmentStatus.OVERDUE.getCode());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getPendingInstallments() {
-        return toResponseList(repository.findByStatus(PaymentInstallmentStatus.PENDING.getCode()));
+        return repository.findResponsesByStatus(PaymentInstallmentStatus.PENDING.getCode());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getPaidInstallments() {
-        return toResponseList(repository.findByStatus(PaymentInstallmentStatus.PAID.getCode()));
+        return repository.findResponsesByStatus(PaymentInstallmentStatus.PAID.getCode());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getCancelledInstallments() {
-        return toResponseList(repository.findByStatus(PaymentInstallmentStatus.CANCELLED.getCode()));
+        return repository.findResponsesByStatus(PaymentInstallmentStatus.CANCELLED.getCode());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsRequiringReminder() {
-        return toResponseList(repository.findByReminderSent(false));
+        return repository.findByReminderSent(false);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return toResponseList(repository.findByDueDateBetween(startDate, endDate));
+        return repository.findResponsesByDueDateBetween(startDate, endDate);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsByReservationAndStatus(Integer reservationId, String status) {
-        return toResponseList(repository.findByReservationIdAndStatus(reservationId, status));
+        return repository.findResponsesByReservationIdAndStatus(reservationId, status);
     }
 
     // Advanced queries
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getRecentInstallments(int limit) {
-        return toResponseList(repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit)));
+        return repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
-        return toResponseList(repository.findByAmountBetween(minAmount, maxAmount));
+        return repository.findByAmountBetween(minAmount, maxAmount);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsByUser(Long userId) {
-        return toResponseList(repository.findByReservationUserId(userId));
+        return repository.findByReservationUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsByTourPlan(Integer tourPlanId) {
-        return toResponseList(repository.findByReservationTourPlanId(tourPlanId));
+        return repository.findByReservationTourPlanId(tourPlanId);
     }
 
     // Bulk operations
@@ -223,24 +244,21 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
 
     @Override
     @Transactional
-    public void bulkDeletePaymentInstallments(List<Integer> installmentIds) {
-        repository.deleteAllById(installmentIds);
+    public int bulkDeletePaymentInstallments(List<Integer> installmentIds) {
+        return inChunks(installmentIds, repository::deleteByIdIn);
     }
 
     @Override
     @Transactional
-    public void bulkUpdateStatus(List<Integer> installmentIds, String newStatus) {
-        List<PaymentInstallment> installments = repository.findAllById(installmentIds);
-        installments.forEach(installment -> installment.setStatus(newStatus));
-        repository.saveAll(installments);
+    public int bulkUpdateStatus(List<Integer> installmentIds, String newStatus) {
+        String status = PaymentInstallmentStatus.fromString(newStatus).getCode();
+        return inChunks(installmentIds, chunk -> repository.updateStatusByIdIn(chunk, status));
     }
 
     @Override
     @Transactional
-    public void bulkMarkAsReminderSent(List<Integer> installmentIds) {
-        List<PaymentInstallment> installments = repository.findAllById(installmentIds);
-        installments.forEach(installment -> installment.setReminderSent(true));
-        repository.saveAll(installments);
+    public int bulkMarkAsReminderSent(List<Integer> installmentIds) {
+        return inChunks(installmentIds, repository::markReminderSentByIdIn);
     }
 
     // Check operations
@@ -399,7 +417,7 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getTopReservationsByInstallmentCount(int limit) {
-        return toResponseList(repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit)));
+        return repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit));
     }
 
     @Override
@@ -480,41 +498,58 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsNeedingReminder() {
-        return toResponseList(repository.findByReminderSent(false));
+        return repository.findByReminderSent(false);
     }
 
+    // Both jobs only queue the reminders; NotificationDispatcherService sends them
     @Override
+    @Transactional
+    @Scheduled(cron = "${payment-installments.reminders-cron:0 0 8 * * *}")
     public void sendRemindersForDueInstallments() {
-        log.info("sendRemindersForDueInstallments: not yet implemented");
+        notificationTemplateRepository.findByName(REMINDER_DUE_TEMPLATE).ifPresentOrElse(
+                template -> log.info("Queued {} due installment reminders",
+                        notificationHistoryRepository.enqueueDueInstallmentReminders(template.getId(),
+                                REMINDER_CHANNEL, LocalDate.now().plusDays(REMINDER_DAYS_BEFORE_DUE))),
+                () -> log.warn("Notification template {} not found, due installment reminders not queued",
+                        REMINDER_DUE_TEMPLATE));
     }
 
     @Override
+    @Transactional
+    @Scheduled(cron = "${payment-installments.reminders-cron:0 0 8 * * *}")
     public void sendRemindersForOverdueInstallments() {
-        log.info("sendRemindersForOverdueInstallments: not yet implemented");
+        notificationTemplateRepository.findByName(REMINDER_OVERDUE_TEMPLATE).ifPresentOrElse(
+                template -> log.info("Queued {} overdue installment reminders",
+                        notificationHistoryRepository.enqueueOverdueInstallmentReminders(template.getId(),
+                                REMINDER_CHANNEL)),
+                () -> log.warn("Notification template {} not found, overdue installment reminders not queued",
+                        REMINDER_OVERDUE_TEMPLATE));
     }
 
     // Utility operations
     @Override
     @Transactional
-    public void recalculateOverdueStatus() {
-        List<PaymentInstallment> pendingOverdue = repository.findByStatusAndDueDateBefore(
-                PaymentInstallmentStatus.PENDING.getCode(), LocalDate.now());
-        pendingOverdue.forEach(installment -> installment.setStatus(PaymentInstallmentStatus.OVERDUE.getCode()));
-        repository.saveAll(pendingOverdue);
+    @Scheduled(cron = "${payment-installments.overdue-cron:0 5 0 * * *}")
+    public int recalculateOverdueStatus() {
+        int updated = repository.markOverdue(PaymentInstallmentStatus.PENDING.getCode(),
+                PaymentInstallmentStatus.OVERDUE.getCode(), LocalDate.now());
+        log.info("Marked {} payment installments as overdue", updated);
+        return updated;
     }
 
     @Override
     @Transactional
-    public void cleanupOldInstallments(int daysToKeep) {
-        LocalDate cutoffDate = LocalDate.now().minusDays(daysToKeep);
-        List<PaymentInstallment> oldInstallments = repository.findByDueDateBefore(cutoffDate);
-        repository.deleteAll(oldInstallments);
+    public int cleanupOldInstallments(int daysToKeep) {
+        if (daysToKeep < 0) {
+            throw new IllegalArgumentException("Days to keep cannot be negative");
+        }
+        return repository.deleteByDueDateBeforeInBulk(LocalDate.now().minusDays(daysToKeep));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> searchInstallmentsByAmount(BigDecimal amount) {
-        return toResponseList(repository.findByAmount(amount));
+        return repository.findByAmount(amount);
     }
 
     @Override
@@ -527,8 +562,8 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentInstallmentResponse> getInstallmentsWithLateFees() {
-        return toResponseList(repository.findByStatusAndDueDateBefore(
-                PaymentInstallmentStatus.OVERDUE.getCode(), LocalDate.now()));
+        return repository.findResponsesByStatusAndDueDateBefore(
+                PaymentInstallmentStatus.OVERDUE.getCode(), LocalDate.now());
     }
 
     @Override
@@ -549,6 +584,19 @@ public class PaymentInstallmentService implements IPaymentInstallmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Payment installment not found"));
     }
 
+    // Runs a set-based statement over distinct ids, BULK_CHUNK_SIZE at a time, and adds up the affected rows
+    private int inChunks(List<Integer> ids, ToIntFunction<List<Integer>> statement) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        List<Integer> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        int affected = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            affected += statement.applyAsInt(distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size())));
+        }
+        return affected;
+    }
+
     private List<PaymentInstallmentResponse> toResponseList(List<PaymentInstallment> installments) {
         return installments.stream().map(PaymentInstallmentResponse::new).toList();
     }
@@ -0,0 +1,49 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.repository.ProviderPerformanceRepository;
+import com.app.panama_trips.service.interfaces.IProviderPerformanceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes the provider_performance materialized view on a schedule and on demand after
+ * bulk imports. Requests that arrive while a refresh runs are coalesced into one more pass
+ * once it finishes: that pass starts after their data was committed, so it sees it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProviderPerformanceService implements IProviderPerformanceService {
+
+    private final ProviderPerformanceRepository repository;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+    @Override
+    @Scheduled(cron = "${provider-performance.refresh-cron:0 */15 * * * *}")
+    public int refresh() {
+        refreshRequested.set(true);
+        int refreshes = 0;
+        // Re-checked after unlocking: a request made just before the unlock must not be lost
+        while (refreshRequested.get() && refreshLock.tryLock()) {
+            try {
+                while (refreshRequested.getAndSet(false)) {
+                    long start = System.currentTimeMillis();
+                    repository.refresh();
+                    refreshes++;
+                    log.debug("Refreshed provider_performance in {} ms", System.currentTimeMillis() - start);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return refreshes;
+    }
+}
@@ -5,6 +5,8 @@ import com.app.panama_trips.persistence.entity.Province;
 import com.app.panama_trips.persistence.repository.ProvinceRepository;
 import com.app.panama_trips.presentation.dto.ProvinceRequest;
 import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import com.app.panama_trips.service.interfaces.IProvinceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,29 +18,37 @@ import java.util.List;
 public class ProvinceService implements IProvinceService {
 
     private final ProvinceRepository provinceRepository;
+    private final IGeoReferenceService geoReferenceService;
 
+    // Reads are served from the in-memory reference data; writes go to the database and refresh it after commit
     @Override
-    @Transactional(readOnly = true)
     public List<ProvinceResponse> getAllProvinces() {
-        return this.provinceRepository.findAll().stream().map(ProvinceResponse::new).toList();
+        return this.geoReferenceService.getProvinces();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ProvinceResponse getProvinceById(Integer id) {
-        return this.provinceRepository.findById(id)
-                .map(ProvinceResponse::new)
+        return this.geoReferenceService.findProvince(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Province not found with id " + id));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ProvinceResponse getProvinceByName(String name) {
-        return this.provinceRepository.findByName(name)
-                .map(ProvinceResponse::new)
+        return this.geoReferenceService.findProvinceByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("Province not found with name " + name));
     }
 
+    @Override
+    public List<ProvinceTreeResponse> getProvinceTrees() {
+        return this.geoReferenceService.getProvinceTrees();
+    }
+
+    @Override
+    public ProvinceTreeResponse getProvinceTree(Integer id) {
+        return this.geoReferenceService.findProvinceTree(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Province not found with id " + id));
+    }
+
     @Override
     @Transactional
     public ProvinceResponse saveProvince(ProvinceRequest provinceRequest) {
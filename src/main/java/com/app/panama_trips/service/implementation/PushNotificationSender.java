@@ -0,0 +1,12 @@
+package com.app.panama_trips.service.implementation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PushNotificationSender extends LoggingNotificationSender {
+
+    public PushNotificationSender(@Value("${notifications.channels.push.max-concurrency:50}") int maxConcurrency) {
+        super("PUSH", maxConcurrency);
+    }
+}
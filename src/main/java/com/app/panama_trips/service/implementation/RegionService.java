@@ -9,13 +9,18 @@ import com.app.panama_trips.persistence.repository.ProvinceRepository;
 import com.app.panama_trips.persistence.repository.RegionRepository;
 import com.app.panama_trips.presentation.dto.RegionRequest;
 import com.app.panama_trips.presentation.dto.RegionResponse;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import com.app.panama_trips.service.interfaces.IRegionService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 public class RegionService implements IRegionService {
@@ -23,18 +28,22 @@ public class RegionService implements IRegionService {
     private final RegionRepository regionRepository;
     private final ProvinceRepository provinceRepository;
     private final ComarcaRepository comarcaRepository;
+    private final IGeoReferenceService geoReferenceService;
 
+    // Reads are served from the in-memory reference data (ordered by id); a request with an
+    // explicit sort still goes to the database. Writes refresh the reference data after commit.
     @Override
     @Transactional(readOnly = true)
     public Page<RegionResponse> getAllRegions(Pageable pageable) {
-        return this.regionRepository.findAll(pageable).map(RegionResponse::new);
+        if (pageable.getSort().isSorted()) {
+            return this.regionRepository.findAll(pageable).map(RegionResponse::new);
+        }
+        return Pagination.slice(this.geoReferenceService.getRegions(), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public RegionResponse getRegionById(Integer id) {
-        return this.regionRepository.findById(id)
-                .map(RegionResponse::new)
+        return this.geoReferenceService.findRegion(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Region with id " + id + " not found"));
     }
 
@@ -66,46 +75,56 @@ public class RegionService implements IRegionService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public RegionResponse getRegionByName(String name) {
-        return this.regionRepository.findByNameIgnoreCase(name)
-                .map(RegionResponse::new)
+        return this.geoReferenceService.findRegionByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("Region with name " + name + " not found"));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RegionResponse> getRegionsByName(String name, Pageable pageable) {
-        return this.regionRepository.findByNameContainingIgnoreCase(name, pageable).map(RegionResponse::new);
+        if (pageable.getSort().isSorted()) {
+            return this.regionRepository.findByNameContainingIgnoreCase(name, pageable).map(RegionResponse::new);
+        }
+        String needle = name.toLowerCase(Locale.ROOT);
+        List<RegionResponse> matches = this.geoReferenceService.getRegions().stream()
+                .filter(region -> region.name().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+        return Pagination.slice(matches, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RegionResponse> getRegionByProvinceId(Integer provinceId, Pageable pageable) {
-        return this.regionRepository.findByProvince_Id(provinceId, pageable).map(RegionResponse::new);
+        if (pageable.getSort().isSorted()) {
+            return this.regionRepository.findByProvince_Id(provinceId, pageable).map(RegionResponse::new);
+        }
+        return Pagination.slice(this.geoReferenceService.getRegionsByProvince(provinceId), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RegionResponse> getRegionByComarcaId(Integer comarcaId, Pageable pageable) {
-        return this.regionRepository.findByComarca_Id(comarcaId, pageable).map(RegionResponse::new);
+        if (pageable.getSort().isSorted()) {
+            return this.regionRepository.findByComarca_Id(comarcaId, pageable).map(RegionResponse::new);
+        }
+        return Pagination.slice(this.geoReferenceService.getRegionsByComarca(comarcaId), pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Long countRegions() {
-        return this.regionRepository.count();
+        return (long) this.geoReferenceService.getRegions().size();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsRegionByName(String name) {
-        return this.regionRepository.existsByNameIgnoreCase(name);
+        return this.geoReferenceService.findRegionByName(name).isPresent();
     }
 
     // Private methods
     private void validateRegion(RegionRequest request) {
-        if (existsRegionByName(request.name())) {
+        // Uniqueness is checked against the database, not the snapshot, so two quick writes cannot both pass
+        if (this.regionRepository.existsByNameIgnoreCase(request.name())) {
             throw new IllegalArgumentException("Region with name " + request.name() + " already exists");
         }
 
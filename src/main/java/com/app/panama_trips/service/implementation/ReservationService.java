@@ -11,9 +11,15 @@ import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.ReservationRequest;
 import com.app.panama_trips.presentation.dto.ReservationResponse;
 import com.app.panama_trips.service.interfaces.IReservationService;
+import com.app.panama_trips.service.interfaces.ISeatInventoryService;
+import com.app.panama_trips.service.interfaces.ITourPricingService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,10 +35,17 @@ public class ReservationService implements IReservationService {
     private final ReservationRepository reservationRepository;
     private final UserEntityRepository userEntityRepository;
     private final TourPlanRepository tourPlanRepository;
+    private final ISeatInventoryService seatInventory;
+    private final ITourPricingService tourPricingService;
 
     @Override
     public Page<ReservationResponse> getAllReservations(Pageable pageable) {
-        return reservationRepository.findAll(pageable).map(ReservationResponse::new);
+        return reservationRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    public Window<ReservationResponse> scrollReservations(ScrollPosition position, int size) {
+        return reservationRepository.findAllByOrderByIdDesc(position, Limit.of(Pagination.clampSize(size))).map(ReservationResponse::new);
     }
 
     @Override
@@ -46,6 +59,9 @@ public class ReservationService implements IReservationService {
         TourPlan tourPlan = findTourPlanOrFail(reservationRequest.tourPlanId());
         UserEntity user = findUserEntityOrFail(reservationRequest.userId());
         validateReservation(reservationRequest, tourPlan);
+        if (!seatInventory.tryReserve(tourPlan, reservationRequest.reservationDate(), reservationRequest.seats())) {
+            throw new IllegalStateException("No hay cupos disponibles para este tour");
+        }
         Reservation reservation = buildReservationFromRequest(reservationRequest, user, tourPlan);
         return new ReservationResponse(reservationRepository.save(reservation));
     }
@@ -86,29 +102,25 @@ public class ReservationService implements IReservationService {
     @Override
     @Transactional
     public void deleteReservation(Integer id) {
-        if (!reservationRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Reservation with id " + id + " not found");
-        }
-        reservationRepository.deleteById(id);
+        Reservation reservation = findReservationOrThrow(id);
+        releaseSeats(reservation);
+        reservationRepository.delete(reservation);
     }
 
     @Override
     public Page<ReservationResponse> getReservationByUserId(Long userId, Pageable pageable) {
-        return reservationRepository.findRecentReservationsByUser(userId, LocalDate.now(), pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findRecentReservationsByUser(userId, LocalDate.now(), pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationByTourPlanId(Integer tourPlanId, Pageable pageable) {
-        return reservationRepository.findByTourPlan_Id(tourPlanId, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByTourPlan_Id(tourPlanId, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationByReservationStatus(String reservationStatus, Pageable pageable) {
         ReservationStatus status = getReservationStatus(reservationStatus);
-        return reservationRepository.findByReservationStatus(status, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByReservationStatus(status, pageable);
     }
 
     @Override
@@ -119,73 +131,62 @@ public class ReservationService implements IReservationService {
         } catch (Exception e) {
             throw new IllegalArgumentException("Invalid reservation date: " + reservationDate);
         }
-        return reservationRepository.findByReservationDate(date, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByReservationDate(date, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByUserAndStatus(Long userId, String status, Pageable pageable) {
         ReservationStatus reservationStatus = getReservationStatus(status);
-        return reservationRepository.findByUser_IdAndReservationStatus(userId, reservationStatus, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByUser_IdAndReservationStatus(userId, reservationStatus, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByTourPlanAndStatus(Integer tourPlanId, String status,
             Pageable pageable) {
         ReservationStatus reservationStatus = getReservationStatus(status);
-        return reservationRepository.findByTourPlan_IdAndReservationStatus(tourPlanId, reservationStatus, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByTourPlan_IdAndReservationStatus(tourPlanId, reservationStatus, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsBetweenDates(LocalDate startDate, LocalDate endDate,
             Pageable pageable) {
-        return reservationRepository.findByReservationDateBetween(startDate, endDate, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByReservationDateBetween(startDate, endDate, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByMonth(short month, Pageable pageable) {
-        return reservationRepository.findByReservationDate_Month(month, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByReservationDate_Month(month, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByYear(int year, Pageable pageable) {
-        return reservationRepository.findByReservationDate_Year(year, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByReservationDate_Year(year, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsWithPriceGreaterThan(BigDecimal price, Pageable pageable) {
-        return reservationRepository.findByTotalPriceGreaterThan(price, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByTotalPriceGreaterThan(price, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
             Pageable pageable) {
-        return reservationRepository.findByTotalPriceBetween(minPrice, maxPrice, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByTotalPriceBetween(minPrice, maxPrice, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getRecentReservationsByUser(Long userId, LocalDate recentDate, Pageable pageable) {
-        return reservationRepository.findRecentReservationsByUser(userId, recentDate, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findRecentReservationsByUser(userId, recentDate, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByDayOfWeek(int dayOfWeek, Pageable pageable) {
-        return reservationRepository.findByDayOfWeek(dayOfWeek, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByDayOfWeek(dayOfWeek, pageable);
     }
 
     @Override
     public Page<ReservationResponse> getReservationsByProvince(Integer provinceId, Pageable pageable) {
-        return reservationRepository.findByRegion(provinceId, pageable)
-                .map(ReservationResponse::new);
+        return reservationRepository.findByRegion(provinceId, pageable);
     }
 
     @Override
@@ -243,15 +244,14 @@ public class ReservationService implements IReservationService {
             throw new IllegalArgumentException("The booking date cannot be in the past");
         }
 
-        if (request.totalPrice().compareTo(tourPlan.getPricing().getPrice()) != 0) {
+        // The whole party at the effective price of that date: special prices, date overrides, discount and tax
+        BigDecimal quotedTotal = tourPricingService
+                .quote(tourPlan, request.reservationDate(), request.seats(), 0, null)
+                .total();
+        if (request.totalPrice().compareTo(quotedTotal) != 0) {
             throw new IllegalArgumentException("The booking price must match the tour price");
         }
 
-        long reservationCount = reservationRepository.countByTourPlan_Id(request.tourPlanId());
-        if (reservationCount >= tourPlan.getAvailableSpots()) {
-            throw new IllegalStateException("No hay cupos disponibles para este tour");
-        }
-
         if (reservationRepository.existsByUser_IdAndTourPlanId(request.userId(), request.tourPlanId())) {
             throw new IllegalArgumentException("User with id " + request.userId() + " already reserved this tour");
         }
@@ -264,6 +264,7 @@ public class ReservationService implements IReservationService {
                 .reservationStatus(ReservationStatus.pending)
                 .reservationDate(request.reservationDate())
                 .totalPrice(request.totalPrice())
+                .numberOfPersons(request.seats())
                 .build();
     }
 
@@ -295,9 +296,17 @@ public class ReservationService implements IReservationService {
     }
 
     private void handleCancellation(Reservation reservation) {
+        releaseSeats(reservation);
         reservation.setReservationStatus(ReservationStatus.cancelled);
     }
 
+    // A cancelled reservation already gave its seats back
+    private void releaseSeats(Reservation reservation) {
+        if (reservation.getReservationStatus() != ReservationStatus.cancelled && reservation.getTourPlan() != null) {
+            seatInventory.release(reservation.getTourPlan(), reservation.getReservationDate(), reservation.getNumberOfPersons());
+        }
+    }
+
     private void handleConfirmation(Reservation reservation) {
         reservation.setReservationStatus(ReservationStatus.confirmed);
     }
@@ -0,0 +1,241 @@
+package com.app.panama_trips.service.implementation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Stores the serialized JSON of read-mostly endpoints, keyed by request URL,
+ * together with a gzip copy and a strong ETag per variant derived from the bytes.
+ * A hit costs neither a query nor a Jackson pass, and the stored arrays are handed
+ * to the converter as they are. Each cache keeps its most recently used URLs.
+ */
+@Service
+public class ResponseCacheService implements IResponseCacheService {
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntriesPerCache;
+    private final ConcurrentHashMap<String, CacheRegion> caches = new ConcurrentHashMap<>();
+
+    public ResponseCacheService(
+            ObjectMapper objectMapper,
+            @Value("${response-cache.max-entries-per-cache:256}") int maxEntriesPerCache) {
+        this.objectMapper = objectMapper;
+        this.maxEntriesPerCache = maxEntriesPerCache;
+    }
+
+    @Override
+    public ResponseEntity<byte[]> respond(String cacheName, HttpServletRequest request, Supplier<?> body) {
+        CacheRegion region = caches.computeIfAbsent(cacheName, name -> new CacheRegion(maxEntriesPerCache));
+        String key = keyOf(request);
+        CachedResponse cached = region.get(key);
+        if (cached == null) {
+            long version = region.version();
+            cached = serialize(body.get());
+            region.store(key, cached, version);
+        }
+        return toResponse(cached, request);
+    }
+
+    @Override
+    public void invalidate(String cacheName) {
+        invalidateNow(cacheName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Again after commit, so a read that raced the write cannot keep the old bytes
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(cacheName);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        caches.values().forEach(CacheRegion::invalidate);
+    }
+
+    private void invalidateNow(String cacheName) {
+        CacheRegion region = caches.get(cacheName);
+        if (region != null) {
+            region.invalidate();
+        }
+    }
+
+    private CachedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String etag = etagOf(json);
+            return new CachedResponse(json, gzip(json), etag, gzipETagOf(etag));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+
+    // The two encodings are different representations, so each carries its own ETag and a
+    // validator is only honoured for the variant it was issued for
+    private static ResponseEntity<byte[]> toResponse(CachedResponse cached, HttpServletRequest request) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? cached.gzipEtag() : cached.etag();
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return builder.body(cached.json());
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String gzipETagOf(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private record CachedResponse(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+
+    // Access-ordered, so a full cache drops its least recently used URL instead of refusing new ones
+    private static final class CacheRegion {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, CachedResponse> entries;
+        private long version;
+
+        CacheRegion(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        CachedResponse get(String key) {
+            lock.lock();
+            try {
+                return entries.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void store(String key, CachedResponse response, long seenVersion) {
+            lock.lock();
+            try {
+                // An invalidation that ran while the body was being built must not leave stale bytes behind
+                if (version == seenVersion) {
+                    entries.put(key, response);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void invalidate() {
+            lock.lock();
+            try {
+                version++;
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.app.panama_trips.persistence.entity.ReviewCategory;
 import com.app.panama_trips.persistence.repository.ReviewCategoryRepository;
 import com.app.panama_trips.presentation.dto.ReviewCategoryRequest;
 import com.app.panama_trips.presentation.dto.ReviewCategoryResponse;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import com.app.panama_trips.service.interfaces.IReviewCategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class ReviewCategoryService implements IReviewCategoryService {
 
   private final ReviewCategoryRepository repository;
+  private final IResponseCacheService responseCacheService;
 
   @Override
   @Transactional(readOnly = true)
@@ -39,6 +41,7 @@ public class ReviewCategoryService implements IReviewCategoryService {
   @Transactional
   public ReviewCategoryResponse saveReviewCategory(ReviewCategoryRequest request) {
     ReviewCategory category = builderFromRequest(request);
+    responseCacheService.invalidate(IResponseCacheService.REVIEW_CATEGORIES);
     return new ReviewCategoryResponse(repository.save(category));
   }
 
@@ -48,6 +51,7 @@ public class ReviewCategoryService implements IReviewCategoryService {
     ReviewCategory category = repository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Review category not found"));
     updateCategoryFields(category, request);
+    responseCacheService.invalidate(IResponseCacheService.REVIEW_CATEGORIES);
     return new ReviewCategoryResponse(repository.save(category));
   }
 
@@ -58,6 +62,7 @@ public class ReviewCategoryService implements IReviewCategoryService {
       throw new ResourceNotFoundException("Review category not found");
     }
     repository.deleteById(id);
+    responseCacheService.invalidate(IResponseCacheService.REVIEW_CATEGORIES);
   }
 
   // Helper methods
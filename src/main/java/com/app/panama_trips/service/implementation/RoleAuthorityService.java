@@ -0,0 +1,50 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.panama_trips.persistence.entity.RoleEntity;
+import com.app.panama_trips.persistence.entity.RoleEnum;
+import com.app.panama_trips.persistence.repository.RoleRepository;
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class RoleAuthorityService implements IRoleAuthorityService {
+
+    private final RoleRepository roleRepository;
+
+    // Roles and permissions change rarely; RoleAuthorityCacheListener clears this on any change
+    private final Map<RoleEnum, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GrantedAuthority> getAuthorities(RoleEnum role) {
+        return authoritiesByRole.computeIfAbsent(role, this::loadAuthorities);
+    }
+
+    @Override
+    public void invalidateAll() {
+        authoritiesByRole.clear();
+    }
+
+    private List<GrantedAuthority> loadAuthorities(RoleEnum role) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_".concat(role.name())));
+        RoleEntity roleEntity = roleRepository.findByRoleEnum(role);
+        if (roleEntity != null) {
+            roleEntity.getPermissions()
+                    .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.getPermissionEnum().name())));
+        }
+        return List.copyOf(authorities);
+    }
+}
@@ -0,0 +1,68 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanSchedule;
+
+/**
+ * The part of [start, end] a tour schedule covers: clipped to the season for seasonal tours,
+ * with the weekdays as ISO numbers (1 = Monday). An empty window has openFrom after openTo.
+ * Shared by the availability generator and the seat inventory, so both agree on which days
+ * a tour runs.
+ */
+record ScheduleWindow(LocalDate openFrom, LocalDate openTo, List<Integer> isoDays) {
+
+    // ISO weekday 0 does not exist; it keeps IN (...) valid when no weekday is scheduled
+    private static final List<Integer> NO_DAYS = List.of(0);
+
+    static ScheduleWindow of(TourPlanSchedule schedule, LocalDate startDate, LocalDate endDate) {
+        LocalDate openFrom = startDate;
+        LocalDate openTo = endDate;
+        List<String> days = null;
+        if (schedule != null) {
+            days = schedule.getAvailableDays();
+            if (Boolean.TRUE.equals(schedule.getIsSeasonal())) {
+                if (schedule.getSeasonStartDate() != null && schedule.getSeasonStartDate().isAfter(openFrom)) {
+                    openFrom = schedule.getSeasonStartDate();
+                }
+                if (schedule.getSeasonEndDate() != null && schedule.getSeasonEndDate().isBefore(openTo)) {
+                    openTo = schedule.getSeasonEndDate();
+                }
+            }
+        }
+        return new ScheduleWindow(openFrom, openTo, toIsoDays(days));
+    }
+
+    // Whether the tour runs on that day: inside the season and on a scheduled weekday
+    static boolean runsOn(TourPlanSchedule schedule, LocalDate date) {
+        ScheduleWindow window = of(schedule, date, date);
+        return !window.isEmpty() && window.isoDays().contains(date.getDayOfWeek().getValue());
+    }
+
+    // Days are stored as "MON".."SUN"; no list at all means every day, like the column default
+    private static List<Integer> toIsoDays(List<String> days) {
+        if (days == null) {
+            return Arrays.stream(DayOfWeek.values()).map(DayOfWeek::getValue).toList();
+        }
+        Set<String> codes = days.stream()
+                .filter(Objects::nonNull)
+                .map(code -> code.strip().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        List<Integer> isoDays = Arrays.stream(DayOfWeek.values())
+                .filter(day -> codes.contains(day.name()) || codes.contains(day.name().substring(0, 3)))
+                .map(DayOfWeek::getValue)
+                .toList();
+        return isoDays.isEmpty() ? NO_DAYS : isoDays;
+    }
+
+    boolean isEmpty() {
+        return openFrom.isAfter(openTo) || NO_DAYS.equals(isoDays);
+    }
+}
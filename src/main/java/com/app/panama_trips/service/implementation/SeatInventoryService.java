@@ -0,0 +1,109 @@
+package com.app.panama_trips.service.implementation;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
+import com.app.panama_trips.service.interfaces.ISeatInventoryService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Seat inventory per (tour plan, date). Correctness comes from the conditional UPDATE
+ * in the database: it locks the availability row until the booking transaction ends,
+ * so bookings for the same departure queue on that row and a rolled-back booking
+ * gives its seats back. The sold-out marks let requests for a full departure fail
+ * without a round trip.
+ */
+@Slf4j
+@Service
+public class SeatInventoryService implements ISeatInventoryService {
+
+    private final TourPlanAvailabilityRepository availabilityRepository;
+    private final long soldOutTtlMillis;
+    private final Map<SeatKey, Long> soldOutUntil = new ConcurrentHashMap<>();
+
+    public SeatInventoryService(
+            TourPlanAvailabilityRepository availabilityRepository,
+            @Value("${inventory.sold-out-ttl-ms:2000}") long soldOutTtlMillis) {
+        this.availabilityRepository = availabilityRepository;
+        this.soldOutTtlMillis = soldOutTtlMillis;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryReserve(TourPlan tourPlan, LocalDate date, int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("The number of persons must be at least 1");
+        }
+        SeatKey key = new SeatKey(tourPlan.getId(), date);
+        if (isKnownSoldOut(key)) {
+            return false;
+        }
+
+        int updated = availabilityRepository.decrementAvailableSpots(key.tourPlanId(), date, seats);
+        if (updated == 0 && ScheduleWindow.runsOn(tourPlan.getSchedule(), date)
+                && !availabilityRepository.existsByTourPlanAndAvailableDate(tourPlan, date)) {
+            // First booking for a scheduled day the generator has not reached yet: seed the row, then retry once.
+            // Days off the schedule or season are never seeded, so closing them is enough to stop bookings.
+            availabilityRepository.seedAvailableSpots(key.tourPlanId(), date, tourPlan.getAvailableSpots());
+            updated = availabilityRepository.decrementAvailableSpots(key.tourPlanId(), date, seats);
+        }
+        if (updated == 0) {
+            return false;
+        }
+        // The row is still locked by this transaction, so nobody else has moved it since the decrement
+        if (availabilityRepository.findAvailableSpots(key.tourPlanId(), date).orElse(0) == 0) {
+            markSoldOutAfterCommit(key);
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void release(TourPlan tourPlan, LocalDate date, int seats) {
+        SeatKey key = new SeatKey(tourPlan.getId(), date);
+        availabilityRepository.incrementAvailableSpots(key.tourPlanId(), date, seats);
+        soldOutUntil.remove(key);
+    }
+
+    private boolean isKnownSoldOut(SeatKey key) {
+        Long until = soldOutUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            soldOutUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void markSoldOutAfterCommit(SeatKey key) {
+        if (soldOutTtlMillis <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            soldOutUntil.put(key, System.currentTimeMillis() + soldOutTtlMillis);
+            return;
+        }
+        // A rolled-back booking must not leave the departure flagged as full
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                soldOutUntil.put(key, System.currentTimeMillis() + soldOutTtlMillis);
+            }
+        });
+    }
+
+    private record SeatKey(Integer tourPlanId, LocalDate date) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.entity.CacheRegions;
+import com.app.panama_trips.presentation.dto.CacheRegionStatsResponse;
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.service.interfaces.ISecondLevelCacheService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Reads Hibernate's statistics for the catalogue regions declared in
+ * ehcache.xml. Counters are cumulative since startup and stay at zero while
+ * hibernate.generate_statistics is off.
+ */
+@Service
+public class SecondLevelCacheService implements ISecondLevelCacheService {
+
+    private static final List<String> REGIONS = List.of(
+            CacheRegions.TOUR_PLAN,
+            CacheRegions.PROVIDER,
+            CacheRegions.ADDRESS,
+            CacheRegions.CANCELLATION_POLICY,
+            CacheRegions.LANGUAGE,
+            CacheRegions.QUERY_RESULTS);
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public SecondLevelCacheStatsResponse getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsResponse> regions = REGIONS.stream()
+                .map(region -> toResponse(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new SecondLevelCacheStatsResponse(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()),
+                regions);
+    }
+
+    private static CacheRegionStatsResponse toResponse(String region, CacheRegionStatistics statistics) {
+        // Null when the region does not exist, e.g. with the second-level cache switched off
+        if (statistics == null) {
+            return null;
+        }
+        return new CacheRegionStatsResponse(
+                region,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory(),
+                ratio(statistics.getHitCount(), statistics.getMissCount()));
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
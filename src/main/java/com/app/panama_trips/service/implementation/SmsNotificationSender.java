@@ -0,0 +1,12 @@
+package com.app.panama_trips.service.implementation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SmsNotificationSender extends LoggingNotificationSender {
+
+    public SmsNotificationSender(@Value("${notifications.channels.sms.max-concurrency:10}") int maxConcurrency) {
+        super("SMS", maxConcurrency);
+    }
+}
@@ -0,0 +1,83 @@
+package com.app.panama_trips.service.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.app.panama_trips.persistence.entity.NotificationTemplate;
+import com.app.panama_trips.service.interfaces.ITemplateRenderingService;
+import com.app.panama_trips.utility.CompiledTemplate;
+
+/**
+ * Keeps the compiled subject and body of every template that has been rendered, keyed by
+ * id and checked against the version on each use. Templates are few and small, so the
+ * cache is not bounded; deleted templates are evicted by the template service.
+ */
+@Service
+public class TemplateRenderingService implements ITemplateRenderingService {
+
+    private record Compiled(Integer version, CompiledTemplate subject, CompiledTemplate body) {
+    }
+
+    private final Map<Integer, Compiled> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public CompiledTemplate compileBody(NotificationTemplate template) {
+        return compiled(template).body();
+    }
+
+    @Override
+    public String renderBody(NotificationTemplate template, Map<String, ?> variables) {
+        return compiled(template).body().render(variables);
+    }
+
+    @Override
+    public String renderSubject(NotificationTemplate template, Map<String, ?> variables) {
+        CompiledTemplate subject = compiled(template).subject();
+        return subject != null ? subject.render(variables) : null;
+    }
+
+    @Override
+    public List<String> renderBodies(NotificationTemplate template, List<? extends Map<String, ?>> variablesPerMessage) {
+        CompiledTemplate body = compiled(template).body();
+        List<String> rendered = new ArrayList<>(variablesPerMessage.size());
+        StringBuilder buffer = new StringBuilder(body.estimatedLength());
+        for (Map<String, ?> variables : variablesPerMessage) {
+            buffer.setLength(0);
+            body.renderTo(variables, buffer);
+            rendered.add(buffer.toString());
+        }
+        return rendered;
+    }
+
+    @Override
+    public void evict(Integer templateId) {
+        cache.remove(templateId);
+    }
+
+    // Private methods
+    private Compiled compiled(NotificationTemplate template) {
+        if (template.getId() == null) {
+            // Not saved yet: nothing stable to key it by
+            return compile(template);
+        }
+        Compiled cached = cache.get(template.getId());
+        if (cached != null && Objects.equals(cached.version(), template.getVersion())) {
+            return cached;
+        }
+        Compiled fresh = compile(template);
+        cache.put(template.getId(), fresh);
+        return fresh;
+    }
+
+    private static Compiled compile(NotificationTemplate template) {
+        return new Compiled(
+                template.getVersion(),
+                template.getSubject() != null ? CompiledTemplate.parse(template.getSubject()) : null,
+                CompiledTemplate.parse(template.getBody()));
+    }
+}
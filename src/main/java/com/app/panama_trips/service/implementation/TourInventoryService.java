@@ -0,0 +1,32 @@
+package com.app.panama_trips.service.implementation;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.panama_trips.persistence.repository.TourInventoryRepository;
+import com.app.panama_trips.service.interfaces.ITourInventoryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourInventoryService implements ITourInventoryService {
+
+    private final TourInventoryRepository repository;
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${inventory.reconcile-cron:0 15 3 * * *}")
+    public int reconcile() {
+        Integer repaired = repository.reconcile();
+        int count = repaired != null ? repaired : 0;
+        if (count > 0) {
+            // Drift means some write bypassed the trigger (manual SQL, a disabled trigger, a restore)
+            log.warn("Repaired {} drifted tour_inventory rows", count);
+        }
+        return count;
+    }
+}
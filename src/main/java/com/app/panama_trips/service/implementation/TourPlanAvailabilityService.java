@@ -5,6 +5,9 @@ import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.persistence.entity.TourPlanAvailability;
 import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
 import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.presentation.dto.AvailabilityCalendarResponse;
+import com.app.panama_trips.presentation.dto.AvailabilityGenerationResponse;
+import com.app.panama_trips.presentation.dto.DailySpots;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityRequest;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityResponse;
 import com.app.panama_trips.service.interfaces.ITourPlanAvailabilityService;
@@ -16,7 +19,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +32,9 @@ public class TourPlanAvailabilityService implements ITourPlanAvailabilityService
     private final TourPlanAvailabilityRepository availabilityRepository;
     private final TourPlanRepository tourPlanRepository;
 
+    // Upper bound for one generation call, so a typo in a year cannot insert decades of rows
+    private static final int MAX_GENERATION_DAYS = 366;
+
     @Override
     @Transactional(readOnly = true)
     public Page<TourPlanAvailabilityResponse> getAllTourPlanAvailabilities(Pageable pageable) {
@@ -178,7 +187,90 @@ public class TourPlanAvailabilityService implements ITourPlanAvailabilityService
         return availabilityRepository.existsByTourPlanAndAvailableDate(tourPlan, date);
     }
 
+    @Override
+    public AvailabilityGenerationResponse generateAvailability(Integer tourPlanId, LocalDate startDate, LocalDate endDate) {
+        validateGenerationRange(startDate, endDate);
+        TourPlan tourPlan = findTourPlanOrFail(tourPlanId);
+        ScheduleWindow window = ScheduleWindow.of(tourPlan.getSchedule(), startDate, endDate);
+
+        if (window.isEmpty()) {
+            return new AvailabilityGenerationResponse(tourPlanId, startDate, endDate, 0, 0, 0);
+        }
+        int reopened = availabilityRepository.reopenScheduledDays(tourPlanId, window.openFrom(), window.openTo(),
+                window.isoDays());
+        int created = availabilityRepository.insertScheduledDays(tourPlanId, window.openFrom(), window.openTo(),
+                window.isoDays(), tourPlan.getAvailableSpots());
+        return new AvailabilityGenerationResponse(tourPlanId, startDate, endDate, created, reopened, 0);
+    }
+
+    @Override
+    public AvailabilityGenerationResponse regenerateAvailability(Integer tourPlanId, LocalDate startDate, LocalDate endDate) {
+        TourPlan tourPlan = findTourPlanOrFail(tourPlanId);
+        if (endDate != null) {
+            validateGenerationRange(startDate, endDate);
+            return regenerateRange(tourPlan, startDate, endDate);
+        }
+        Optional<LocalDate> lastDate = availabilityRepository.findLastAvailableDate(tourPlanId);
+        if (startDate == null || lastDate.isEmpty() || lastDate.get().isBefore(startDate)) {
+            return new AvailabilityGenerationResponse(tourPlanId, startDate, startDate, 0, 0, 0);
+        }
+        // Everything generated so far, one allowed window at a time
+        int created = 0;
+        int reopened = 0;
+        int closed = 0;
+        for (LocalDate from = startDate; !from.isAfter(lastDate.get()); from = from.plusDays(MAX_GENERATION_DAYS)) {
+            LocalDate to = from.plusDays(MAX_GENERATION_DAYS - 1);
+            AvailabilityGenerationResponse window = regenerateRange(tourPlan, from,
+                    to.isAfter(lastDate.get()) ? lastDate.get() : to);
+            created += window.created();
+            reopened += window.reopened();
+            closed += window.closed();
+        }
+        return new AvailabilityGenerationResponse(tourPlanId, startDate, lastDate.get(), created, reopened, closed);
+    }
+
+    private AvailabilityGenerationResponse regenerateRange(TourPlan tourPlan, LocalDate startDate, LocalDate endDate) {
+        Integer tourPlanId = tourPlan.getId();
+        ScheduleWindow window = ScheduleWindow.of(tourPlan.getSchedule(), startDate, endDate);
+
+        int closed = availabilityRepository.closeOffScheduleDays(tourPlanId, startDate, endDate,
+                window.openFrom(), window.openTo(), window.isoDays());
+        if (window.isEmpty()) {
+            return new AvailabilityGenerationResponse(tourPlanId, startDate, endDate, 0, 0, closed);
+        }
+        int reopened = availabilityRepository.reopenScheduledDays(tourPlanId, window.openFrom(), window.openTo(),
+                window.isoDays());
+        int created = availabilityRepository.insertScheduledDays(tourPlanId, window.openFrom(), window.openTo(),
+                window.isoDays(), tourPlan.getAvailableSpots());
+        return new AvailabilityGenerationResponse(tourPlanId, startDate, endDate, created, reopened, closed);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityCalendarResponse getMonthCalendar(Integer tourPlanId, YearMonth month) {
+        if (!tourPlanRepository.existsById(tourPlanId)) {
+            throw new ResourceNotFoundException("TourPlan with id " + tourPlanId + " not found");
+        }
+        int[] spots = new int[month.lengthOfMonth()];
+        for (DailySpots day : availabilityRepository.findOpenDailySpots(tourPlanId, month.atDay(1), month.atEndOfMonth())) {
+            spots[day.date().getDayOfMonth() - 1] = day.spots();
+        }
+        return new AvailabilityCalendarResponse(tourPlanId, month, spots);
+    }
+
     // Private methods
+    private void validateGenerationRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start and end dates are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_GENERATION_DAYS) {
+            throw new IllegalArgumentException("Availability can be generated for at most " + MAX_GENERATION_DAYS + " days at a time");
+        }
+    }
+
     private void validateTourPlanAvailability(TourPlanAvailabilityRequest request) {
         // Validate required fields
         if (request == null) {
@@ -212,5 +304,7 @@ public class TourPlanAvailabilityService implements ITourPlanAvailabilityService
         availability.setAvailableSpots(request.availableSpots());
         availability.setIsAvailable(request.isAvailable());
         availability.setPriceOverride(request.priceOverride());
+        // An edited day is no longer the generator's to reopen
+        availability.setClosedOffSchedule(false);
     }
 }
@@ -4,19 +4,41 @@ import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.persistence.entity.Provider;
 import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.persistence.entity.embeddable.*;
+import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
 import com.app.panama_trips.persistence.repository.ProviderRepository;
+import com.app.panama_trips.persistence.repository.TourPlanDiscoveryRepository;
 import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.persistence.specification.TourPlanSpecifications;
+import com.app.panama_trips.presentation.dto.FacetCountResponse;
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import com.app.panama_trips.presentation.dto.TourDiscoveryResponse;
+import com.app.panama_trips.presentation.dto.TourFacetsResponse;
 import com.app.panama_trips.presentation.dto.TourPlanRequest;
 import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import com.app.panama_trips.presentation.dto.TourSearchResultResponse;
+import com.app.panama_trips.presentation.dto.TourSuggestionResponse;
+import com.app.panama_trips.service.interfaces.ISecondLevelCacheService;
+import com.app.panama_trips.service.interfaces.ITourPlanAvailabilityService;
 import com.app.panama_trips.service.interfaces.ITourPlanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,11 +47,27 @@ public class TourPlanService implements ITourPlanService {
 
     private final TourPlanRepository tourPlanRepository;
     private final ProviderRepository providerRepository;
+    private final ISecondLevelCacheService secondLevelCacheService;
+    private final ITourPlanAvailabilityService tourPlanAvailabilityService;
+
+    private static final int MIN_SUGGESTION_LENGTH = 2;
+    private static final int MAX_SUGGESTIONS = 20;
+
+    // Upper bounds of the price facet ranges; the last range is open-ended
+    private static final List<BigDecimal> PRICE_RANGE_BOUNDS = List.of(
+            BigDecimal.valueOf(50), BigDecimal.valueOf(100), BigDecimal.valueOf(250), BigDecimal.valueOf(500));
+
+    // Public sort keys of the discovery endpoint mapped to TourPlan attributes
+    private static final Map<String, String> DISCOVERY_SORT_PROPERTIES = Map.of(
+            "price", "pricing.price",
+            "duration", "duration",
+            "rating", "averageRating",
+            "title", "title",
+            "newest", "createdAt");
 
     @Override
     public Page<TourPlanResponse> getAllTourPlan(Pageable pageable) {
-        return tourPlanRepository.findAll(pageable)
-                .map(TourPlanResponse::new);
+        return tourPlanRepository.findAllResponses(pageable);
     }
 
     @Override
@@ -42,6 +80,7 @@ public class TourPlanService implements ITourPlanService {
     public TourPlanResponse saveTourPlan(TourPlanRequest tourPlanRequest) {
         validateTitleUniqueness(tourPlanRequest.title());
         TourPlan newTourPlan = buildTourPlanFromRequest(tourPlanRequest);
+        validateSeason(newTourPlan.getSchedule());
         return new TourPlanResponse(tourPlanRepository.save(newTourPlan));
     }
 
@@ -49,8 +88,15 @@ public class TourPlanService implements ITourPlanService {
     @Transactional
     public TourPlanResponse updateTourPlan(Integer id, TourPlanRequest tourPlanRequest) {
         TourPlan tourPlan = findTourPlanOrThrow(id);
+        List<Object> previousCalendar = calendarInputs(tourPlan.getSchedule());
         updateTourPlanEntity(tourPlan, tourPlanRequest);
-        return new TourPlanResponse(tourPlanRepository.save(tourPlan));
+        validateSeason(tourPlan.getSchedule());
+        TourPlanResponse response = new TourPlanResponse(tourPlanRepository.save(tourPlan));
+        // Days already generated follow the new weekdays and season instead of keeping the old ones
+        if (!previousCalendar.equals(calendarInputs(tourPlan.getSchedule()))) {
+            tourPlanAvailabilityService.regenerateAvailability(id, LocalDate.now(), null);
+        }
+        return response;
     }
 
     @Override
@@ -71,56 +117,52 @@ public class TourPlanService implements ITourPlanService {
 
     @Override
     public List<TourPlanResponse> getTourPlanByPrice(BigDecimal price) {
-        return toResponseList(tourPlanRepository.findByPricing_Price(price));
+        return tourPlanRepository.findByPricing_Price(price);
     }
 
     @Override
     public Page<TourPlanResponse> getTourPlanByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice,
             Pageable pageable) {
-        return tourPlanRepository.findByPricing_PriceBetween(minPrice, maxPrice, pageable)
-                .map(TourPlanResponse::new);
+        return tourPlanRepository.findByPricing_PriceBetween(minPrice, maxPrice, pageable);
     }
 
     @Override
     public List<TourPlanResponse> getTourPlanByDuration(Integer duration) {
-        return toResponseList(tourPlanRepository.findByDuration(duration));
+        return tourPlanRepository.findByDuration(duration);
     }
 
     @Override
     public Page<TourPlanResponse> getTourPlanByDurationBetween(Integer minDuration, Integer maxDuration,
             Pageable pageable) {
-        return tourPlanRepository.findByDurationBetween(minDuration, maxDuration, pageable)
-                .map(TourPlanResponse::new);
+        return tourPlanRepository.findByDurationBetween(minDuration, maxDuration, pageable);
     }
 
     @Override
     public List<TourPlanResponse> getTourPlanByAvailableSpots(Integer availableSpots) {
-        return toResponseList(tourPlanRepository.findByAvailableSpots(availableSpots));
+        return tourPlanRepository.findByAvailableSpots(availableSpots);
     }
 
     @Override
     public Page<TourPlanResponse> getTourPlanByAvailableSpotsBetween(Integer minSpots, Integer maxSpots,
             Pageable pageable) {
-        return tourPlanRepository.findByAvailableSpotsBetween(minSpots, maxSpots, pageable)
-                .map(TourPlanResponse::new);
+        return tourPlanRepository.findByAvailableSpotsBetween(minSpots, maxSpots, pageable);
     }
 
     @Override
     public List<TourPlanResponse> getTourPlanByProviderId(Integer providerId) {
-        return toResponseList(tourPlanRepository.findByProvider_Id(providerId));
+        return tourPlanRepository.findByProvider_Id(providerId);
     }
 
     @Override
     public List<TourPlanResponse> getTourPlanByTitleAndPrice(String title, BigDecimal price) {
-        return toResponseList(tourPlanRepository.findByTitleContainingIgnoreCaseAndPricing_Price(title, price));
+        return tourPlanRepository.findByTitleContainingIgnoreCaseAndPricing_Price(title, price);
     }
 
     @Override
     public Page<TourPlanResponse> getTourPlanByTitleAndPriceBetween(String title, BigDecimal minPrice,
             BigDecimal maxPrice, Pageable pageable) {
         return tourPlanRepository
-                .findByTitleContainingIgnoreCaseAndPricing_PriceBetween(title, minPrice, maxPrice, pageable)
-                .map(TourPlanResponse::new);
+                .findByTitleContainingIgnoreCaseAndPricing_PriceBetween(title, minPrice, maxPrice, pageable);
     }
 
     @Override
@@ -128,14 +170,68 @@ public class TourPlanService implements ITourPlanService {
             BigDecimal maxPrice, Integer minDuration, Integer maxDuration, Pageable pageable) {
         return tourPlanRepository
                 .findByTitleContainingIgnoreCaseAndPricing_PriceBetweenAndDurationBetween(title, minPrice, maxPrice,
-                        minDuration, maxDuration, pageable)
-                .map(TourPlanResponse::new);
+                        minDuration, maxDuration, pageable);
+    }
+
+    @Override
+    public Page<TourSearchResultResponse> searchTourPlans(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        // Results are ordered by rank in SQL; a client sort would not map onto the native columns
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return tourPlanRepository.searchRanked(query.strip(), unsorted).map(TourSearchResultResponse::new);
     }
 
     @Override
-    public List<TourPlanResponse> getTop10TourPlanByTitleContaining(String keyword, Pageable pageable) {
-        return toResponseList(
-                tourPlanRepository.findTop10ByTitleContainingIgnoreCaseOrderByTitleAsc(keyword, pageable));
+    public List<TourSuggestionResponse> suggestTourPlanTitles(String term, int limit) {
+        if (term == null || term.strip().length() < MIN_SUGGESTION_LENGTH) {
+            return List.of();
+        }
+        String stripped = term.strip();
+        int boundedLimit = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        return tourPlanRepository.suggestTitles(stripped, escapeLikePattern(stripped), boundedLimit).stream()
+                .map(TourSuggestionResponse::new)
+                .toList();
+    }
+
+    @Override
+    public TourDiscoveryResponse discoverTourPlans(TourDiscoveryFilter filter, Pageable pageable) {
+        validateRange(filter.minPrice(), filter.maxPrice(), "price");
+        validateRange(filter.minDuration(), filter.maxDuration(), "duration");
+        Specification<TourPlan> spec = TourPlanSpecifications.matching(filter);
+
+        // Each facet is counted with every criterion except its own, so choosing a value keeps its
+        // alternatives visible. Grouping by difficulty without the difficulty filter yields the
+        // difficulty facet, and the total is the sum of the selected difficulties.
+        TourDiscoveryFilter anyDifficulty = filter.withoutDifficulty();
+        List<TourPlanDiscoveryRepository.DifficultyPriceFacet> difficultyRows = tourPlanRepository
+                .countByDifficultyAndPriceRange(TourPlanSpecifications.matching(anyDifficulty), PRICE_RANGE_BOUNDS);
+        // Price ranges drop the price filter; without one, the same rows already count them
+        List<TourPlanDiscoveryRepository.DifficultyPriceFacet> priceRows = difficultyRows;
+        if (filter.minPrice() != null || filter.maxPrice() != null) {
+            priceRows = tourPlanRepository.countByDifficultyAndPriceRange(
+                    TourPlanSpecifications.matching(anyDifficulty.withoutPrice()), PRICE_RANGE_BOUNDS);
+        }
+        long total = selectedDifficulties(difficultyRows, filter.difficulty()).stream()
+                .mapToLong(TourPlanDiscoveryRepository.DifficultyPriceFacet::count).sum();
+
+        List<TourPlanResponse> content = List.of();
+        List<FacetCountResponse> regions = List.of();
+        if (filter.regionId() != null) {
+            regions = tourPlanRepository.countByRegion(TourPlanSpecifications.matching(filter.withoutRegion()));
+        } else if (total > 0) {
+            regions = tourPlanRepository.countByRegion(spec);
+        }
+        if (total > 0 && pageable.getOffset() < total) {
+            Pageable entityPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    toDiscoverySort(pageable.getSort()));
+            content = tourPlanRepository.findResponses(spec, entityPageable);
+        }
+
+        TourFacetsResponse facets = new TourFacetsResponse(total, difficultyFacets(difficultyRows),
+                priceRangeFacets(selectedDifficulties(priceRows, filter.difficulty())), regions);
+        return new TourDiscoveryResponse(new PageImpl<>(content, pageable, total), facets);
     }
 
     @Override
@@ -148,8 +244,75 @@ public class TourPlanService implements ITourPlanService {
         return tourPlanRepository.count();
     }
 
+    @Override
+    public SecondLevelCacheStatsResponse getCacheStats() {
+        return secondLevelCacheService.getStats();
+    }
+
     // Private helpers
 
+    private static <T extends Comparable<T>> void validateRange(T min, T max, String field) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum " + field + " must not be greater than maximum " + field);
+        }
+    }
+
+    private static Sort toDiscoverySort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Sort.by(Sort.Order.desc("featured"), Sort.Order.desc("averageRating"));
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String property = DISCOVERY_SORT_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orders.add(new Sort.Order(order.getDirection(), property));
+        }
+        return Sort.by(orders);
+    }
+
+    private static List<TourPlanDiscoveryRepository.DifficultyPriceFacet> selectedDifficulties(
+            List<TourPlanDiscoveryRepository.DifficultyPriceFacet> rows, Set<DifficultyLevel> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return rows;
+        }
+        return rows.stream()
+                .filter(row -> selected.stream().anyMatch(level -> level.name().equals(row.difficulty())))
+                .toList();
+    }
+
+    private static List<FacetCountResponse> difficultyFacets(
+            List<TourPlanDiscoveryRepository.DifficultyPriceFacet> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        rows.forEach(row -> counts.put(row.difficulty(), row.count()));
+        return Arrays.stream(DifficultyLevel.values())
+                .map(level -> new FacetCountResponse(level.name(), level.name(), counts.getOrDefault(level.name(), 0L)))
+                .toList();
+    }
+
+    private static List<FacetCountResponse> priceRangeFacets(
+            List<TourPlanDiscoveryRepository.DifficultyPriceFacet> rows) {
+        List<FacetCountResponse> facets = new ArrayList<>();
+        for (int i = 0; i <= PRICE_RANGE_BOUNDS.size(); i++) {
+            int range = i;
+            long count = rows.stream().mapToLong(row -> row.priceRangeCounts().get(range)).sum();
+            BigDecimal from = i == 0 ? BigDecimal.ZERO : PRICE_RANGE_BOUNDS.get(i - 1);
+            if (i == PRICE_RANGE_BOUNDS.size()) {
+                facets.add(new FacetCountResponse(from.toPlainString() + "+", from.toPlainString() + "+", count));
+            } else {
+                String to = PRICE_RANGE_BOUNDS.get(i).toPlainString();
+                facets.add(new FacetCountResponse(from.toPlainString() + "-" + to,
+                        from.toPlainString() + " - " + to, count));
+            }
+        }
+        return facets;
+    }
+
+    private static String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private TourPlan findTourPlanOrThrow(Integer id) {
         return tourPlanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tour Plan with id " + id + " not found"));
@@ -166,6 +329,22 @@ public class TourPlanService implements ITourPlanService {
         }
     }
 
+    private void validateSeason(TourPlanSchedule schedule) {
+        if (schedule.getSeasonStartDate() != null && schedule.getSeasonEndDate() != null
+                && schedule.getSeasonEndDate().isBefore(schedule.getSeasonStartDate())) {
+            throw new IllegalArgumentException("Season end date must not be before its start date");
+        }
+    }
+
+    // The schedule fields the availability generator reads
+    private static List<Object> calendarInputs(TourPlanSchedule schedule) {
+        if (schedule == null) {
+            return Arrays.asList(null, null, null, null);
+        }
+        return Arrays.asList(schedule.getAvailableDays(), schedule.getIsSeasonal(), schedule.getSeasonStartDate(),
+                schedule.getSeasonEndDate());
+    }
+
     private TourPlan buildTourPlanFromRequest(TourPlanRequest tourPlanRequest) {
         TourPlanPricing pricing = TourPlanPricing.builder()
                 .price(tourPlanRequest.price())
@@ -175,7 +354,12 @@ public class TourPlanService implements ITourPlanService {
                 .startTime(tourPlanRequest.startTime())
                 .endTime(tourPlanRequest.endTime())
                 .availableDays(tourPlanRequest.availableDays())
+                .seasonStartDate(tourPlanRequest.seasonStartDate())
+                .seasonEndDate(tourPlanRequest.seasonEndDate())
                 .build();
+        if (tourPlanRequest.isSeasonal() != null) {
+            schedule.setIsSeasonal(tourPlanRequest.isSeasonal());
+        }
 
         TourPlanMedia media = TourPlanMedia.builder()
                 .imageGallery(tourPlanRequest.imageGallery())
@@ -222,6 +406,15 @@ public class TourPlanService implements ITourPlanService {
         if (tourPlanRequest.availableDays() != null) {
             tourPlan.getSchedule().setAvailableDays(tourPlanRequest.availableDays());
         }
+        if (tourPlanRequest.isSeasonal() != null) {
+            tourPlan.getSchedule().setIsSeasonal(tourPlanRequest.isSeasonal());
+        }
+        if (tourPlanRequest.seasonStartDate() != null) {
+            tourPlan.getSchedule().setSeasonStartDate(tourPlanRequest.seasonStartDate());
+        }
+        if (tourPlanRequest.seasonEndDate() != null) {
+            tourPlan.getSchedule().setSeasonEndDate(tourPlanRequest.seasonEndDate());
+        }
 
         if (tourPlan.getMedia() == null) {
             tourPlan.setMedia(new TourPlanMedia());
@@ -245,10 +438,4 @@ public class TourPlanService implements ITourPlanService {
             tourPlan.setDifficultyLevel(tourPlanRequest.difficultyLevel());
         }
     }
-
-    private List<TourPlanResponse> toResponseList(List<TourPlan> tourPlans) {
-        return tourPlans.stream()
-                .map(TourPlanResponse::new)
-                .toList();
-    }
 }
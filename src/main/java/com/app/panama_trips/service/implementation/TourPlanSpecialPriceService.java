@@ -9,6 +9,7 @@ import com.app.panama_trips.presentation.dto.TourPlanSpecialPriceRequest;
 import com.app.panama_trips.presentation.dto.TourPlanSpecialPriceResponse;
 import com.app.panama_trips.service.interfaces.ITourPlanSpecialPriceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TourPlanSpecialPriceService implements ITourPlanSpecialPriceService {
 
+    private static final String OVERLAP_MESSAGE =
+            "There is already a special price defined for this tour plan during the specified date range";
+
     private final TourPlanSpecialPriceRepository tourPlanSpecialPriceRepository;
     private final TourPlanRepository tourPlanRepository;
 
@@ -46,7 +50,12 @@ public class TourPlanSpecialPriceService implements ITourPlanSpecialPriceService
     public TourPlanSpecialPriceResponse save(TourPlanSpecialPriceRequest request) {
         validateTourPlanSpecialService(request);
         TourPlanSpecialPrice tourPlanSpecialPrice = builderFromRequest(request);
-        return new TourPlanSpecialPriceResponse(this.tourPlanSpecialPriceRepository.save(tourPlanSpecialPrice));
+        try {
+            // IDENTITY ids insert on save, so a concurrent overlapping period fails right here
+            return new TourPlanSpecialPriceResponse(this.tourPlanSpecialPriceRepository.save(tourPlanSpecialPrice));
+        } catch (DataIntegrityViolationException e) {
+            throw overlapOrRethrow(e);
+        }
     }
 
     @Override
@@ -54,8 +63,16 @@ public class TourPlanSpecialPriceService implements ITourPlanSpecialPriceService
     public TourPlanSpecialPriceResponse update(Integer id, TourPlanSpecialPriceRequest tourPlanSpecialPrice) {
         TourPlanSpecialPrice existingTour = this.tourPlanSpecialPriceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TourPlanSpecialPrice with id " + id + " not found"));
+        if (this.tourPlanSpecialPriceRepository.existsOverlappingPeriodExcluding(tourPlanSpecialPrice.tourPlanId(),
+                tourPlanSpecialPrice.startDate(), tourPlanSpecialPrice.endDate(), id)) {
+            throw new IllegalArgumentException(OVERLAP_MESSAGE);
+        }
         updateTourPlanSpecialPrice(existingTour, tourPlanSpecialPrice);
-        return new TourPlanSpecialPriceResponse(this.tourPlanSpecialPriceRepository.save(existingTour));
+        try {
+            return new TourPlanSpecialPriceResponse(this.tourPlanSpecialPriceRepository.saveAndFlush(existingTour));
+        } catch (DataIntegrityViolationException e) {
+            throw overlapOrRethrow(e);
+        }
     }
 
     @Override
@@ -165,8 +182,7 @@ public class TourPlanSpecialPriceService implements ITourPlanSpecialPriceService
                         request.endDate());
 
         if (!overlappingPrices.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "There is already a special price defined for this tour plan during the specified date range");
+            throw new IllegalArgumentException(OVERLAP_MESSAGE);
         }
 
         // Check if the special price is lower than the regular tour price
@@ -182,6 +198,16 @@ public class TourPlanSpecialPriceService implements ITourPlanSpecialPriceService
         }
     }
 
+    // The exclusion constraint is the authority on overlaps; the lookup before the write only
+    // gives the common case a friendly message without a failed statement
+    private RuntimeException overlapOrRethrow(DataIntegrityViolationException e) {
+        String cause = e.getMostSpecificCause().getMessage();
+        if (cause != null && cause.contains(TourPlanSpecialPriceRepository.OVERLAP_CONSTRAINT)) {
+            return new IllegalArgumentException(OVERLAP_MESSAGE);
+        }
+        return e;
+    }
+
     private TourPlanSpecialPrice builderFromRequest(TourPlanSpecialPriceRequest request) {
         return TourPlanSpecialPrice.builder()
                 .tourPlan(findTourPlanOrFail(request.tourPlanId()))
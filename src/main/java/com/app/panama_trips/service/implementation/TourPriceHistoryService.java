@@ -8,9 +8,12 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.TourPriceHistoryRequest;
 import com.app.panama_trips.presentation.dto.TourPriceHistoryResponse;
 import com.app.panama_trips.service.interfaces.ITourPriceHistoryService;
+import com.app.panama_trips.utility.Pagination;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +47,11 @@ public class TourPriceHistoryService implements ITourPriceHistoryService {
         return repository.findAll(pageable).map(TourPriceHistoryResponse::new);
     }
 
+    @Override
+    public Window<TourPriceHistoryResponse> scrollTourPriceHistories(ScrollPosition position, int size) {
+        return repository.findAllByOrderByIdDesc(position, Limit.of(Pagination.clampSize(size))).map(TourPriceHistoryResponse::new);
+    }
+
     @Override
     public TourPriceHistoryResponse getTourPriceHistoryById(Integer id) {
         return new TourPriceHistoryResponse(findPriceHistoryOrThrow(id));
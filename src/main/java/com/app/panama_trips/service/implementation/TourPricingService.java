@@ -0,0 +1,196 @@
+package com.app.panama_trips.service.implementation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.panama_trips.exception.BusinessRuleException;
+import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.persistence.entity.Coupon;
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanPricing;
+import com.app.panama_trips.persistence.repository.CouponRepository;
+import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
+import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.persistence.repository.TourPlanSpecialPriceRepository;
+import com.app.panama_trips.presentation.dto.DailyPriceOverride;
+import com.app.panama_trips.presentation.dto.PriceQuoteResponse;
+import com.app.panama_trips.service.interfaces.ITourPricingService;
+import com.app.panama_trips.utility.DateIntervalTree;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the price of a tour for a date and party. The base pricing comes with the
+ * tour, the special-price periods of each tour are kept in an interval tree that
+ * TourPricingCacheListener drops on every write, and the per-date overrides are read
+ * with one range query per quote, so a whole month costs the same as a single day.
+ */
+@Service
+@RequiredArgsConstructor
+public class TourPricingService implements ITourPricingService {
+
+    static final String SOURCE_BASE = "BASE";
+    static final String SOURCE_SPECIAL_PRICE = "SPECIAL_PRICE";
+    static final String SOURCE_DATE_OVERRIDE = "DATE_OVERRIDE";
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final TourPlanRepository tourPlanRepository;
+    private final TourPlanSpecialPriceRepository specialPriceRepository;
+    private final TourPlanAvailabilityRepository availabilityRepository;
+    private final CouponRepository couponRepository;
+
+    private final Map<Integer, DateIntervalTree<BigDecimal>> specialPricesByTour = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public PriceQuoteResponse quote(Integer tourPlanId, LocalDate date, int adults, int children, String couponCode) {
+        return quote(findTourPlanOrFail(tourPlanId), date, adults, children, couponCode);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PriceQuoteResponse quote(TourPlan tourPlan, LocalDate date, int adults, int children, String couponCode) {
+        validateParty(adults, children);
+        if (date == null) {
+            throw new IllegalArgumentException("The tour date is required");
+        }
+        BigDecimal couponPercentage = couponPercentage(couponCode);
+        BigDecimal override = availabilityRepository.findPriceOverrides(tourPlan.getId(), date, date).stream()
+                .map(DailyPriceOverride::price)
+                .findFirst()
+                .orElse(null);
+        return price(tourPlan, specialPrices(tourPlan.getId()), date, override, adults, children, couponPercentage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PriceQuoteResponse> quoteMonth(Integer tourPlanId, YearMonth month, int adults, int children,
+            String couponCode) {
+        validateParty(adults, children);
+        TourPlan tourPlan = findTourPlanOrFail(tourPlanId);
+        BigDecimal couponPercentage = couponPercentage(couponCode);
+        DateIntervalTree<BigDecimal> specialPrices = specialPrices(tourPlanId);
+
+        Map<LocalDate, BigDecimal> overrides = new HashMap<>();
+        for (DailyPriceOverride override : availabilityRepository.findPriceOverrides(tourPlanId, month.atDay(1),
+                month.atEndOfMonth())) {
+            overrides.put(override.date(), override.price());
+        }
+
+        List<PriceQuoteResponse> days = new ArrayList<>(month.lengthOfMonth());
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            days.add(price(tourPlan, specialPrices, date, overrides.get(date), adults, children, couponPercentage));
+        }
+        return days;
+    }
+
+    @Override
+    public void invalidate(Integer tourPlanId) {
+        specialPricesByTour.remove(tourPlanId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        specialPricesByTour.clear();
+    }
+
+    // Private methods
+    private PriceQuoteResponse price(TourPlan tourPlan, DateIntervalTree<BigDecimal> specialPrices, LocalDate date,
+            BigDecimal override, int adults, int children, BigDecimal couponPercentage) {
+        TourPlanPricing pricing = tourPlan.getPricing();
+
+        String source = SOURCE_BASE;
+        BigDecimal unitPrice = pricing.getPrice();
+        if (override != null) {
+            source = SOURCE_DATE_OVERRIDE;
+            unitPrice = override;
+        } else {
+            // Overlapping periods can only come from edits; the customer gets the lowest of them
+            BigDecimal special = specialPrices.stab(date).stream().min(Comparator.naturalOrder()).orElse(null);
+            if (special != null) {
+                source = SOURCE_SPECIAL_PRICE;
+                unitPrice = special;
+            }
+        }
+
+        // A child never pays more than an adult on the same day
+        BigDecimal childUnitPrice = pricing.getChildPrice() == null ? unitPrice : pricing.getChildPrice().min(unitPrice);
+
+        BigDecimal adultPrice = money(discounted(unitPrice, pricing.getDiscountPercentage()));
+        BigDecimal childPrice = money(discounted(childUnitPrice, pricing.getDiscountPercentage()));
+        BigDecimal subtotal = adultPrice.multiply(BigDecimal.valueOf(adults))
+                .add(childPrice.multiply(BigDecimal.valueOf(children)));
+        BigDecimal couponDiscount = money(percentageOf(subtotal, couponPercentage));
+        BigDecimal tax = money(percentageOf(subtotal.subtract(couponDiscount), pricing.getTaxPercentage()));
+        BigDecimal total = subtotal.subtract(couponDiscount).add(tax);
+
+        return new PriceQuoteResponse(tourPlan.getId(), date, pricing.getCurrency(), source, adultPrice, childPrice,
+                adults, children, money(subtotal), couponDiscount, tax, money(total));
+    }
+
+    private DateIntervalTree<BigDecimal> specialPrices(Integer tourPlanId) {
+        return specialPricesByTour.computeIfAbsent(tourPlanId, this::loadSpecialPrices);
+    }
+
+    private DateIntervalTree<BigDecimal> loadSpecialPrices(Integer tourPlanId) {
+        List<DateIntervalTree.Interval<BigDecimal>> periods = specialPriceRepository.findByTourPlan_Id(tourPlanId)
+                .stream()
+                .map(period -> new DateIntervalTree.Interval<>(period.getStartDate(), period.getEndDate(), period.getPrice()))
+                .toList();
+        return periods.isEmpty() ? DateIntervalTree.empty() : DateIntervalTree.of(periods);
+    }
+
+    private BigDecimal couponPercentage(String couponCode) {
+        if (couponCode == null || couponCode.isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        Coupon coupon = couponRepository.findByCode(couponCode.strip())
+                .orElseThrow(() -> new ResourceNotFoundException("Coupon with code " + couponCode + " not found"));
+        if (coupon.getExpirationDate().isBefore(LocalDate.now())) {
+            throw new BusinessRuleException("Coupon with code " + couponCode + " has expired");
+        }
+        return BigDecimal.valueOf(coupon.getDiscountPercentage());
+    }
+
+    private static BigDecimal discounted(BigDecimal amount, BigDecimal percentage) {
+        return amount.subtract(percentageOf(amount, percentage));
+    }
+
+    private static BigDecimal percentageOf(BigDecimal amount, BigDecimal percentage) {
+        if (percentage == null || percentage.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return amount.multiply(percentage).divide(ONE_HUNDRED, 4, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private void validateParty(int adults, int children) {
+        if (adults < 0 || children < 0) {
+            throw new IllegalArgumentException("The number of adults and children cannot be negative");
+        }
+        if (adults + children < 1) {
+            throw new IllegalArgumentException("The party must include at least one person");
+        }
+    }
+
+    private TourPlan findTourPlanOrFail(Integer tourPlanId) {
+        return tourPlanRepository.findById(tourPlanId)
+                .orElseThrow(() -> new ResourceNotFoundException("TourPlan with id " + tourPlanId + " not found"));
+    }
+}
@@ -2,62 +2,62 @@ package com.app.panama_trips.service.implementation;
 
 import com.app.panama_trips.persistence.entity.RoleEnum;
 import com.app.panama_trips.persistence.entity.UserEntity;
-import com.app.panama_trips.persistence.repository.RoleRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.AuthCreateUserRequest;
 import com.app.panama_trips.presentation.dto.AuthLoginRequest;
 import com.app.panama_trips.presentation.dto.AuthResponse;
+import com.app.panama_trips.exception.TooManyRequestsException;
+import com.app.panama_trips.presentation.dto.UserCredentials;
+import com.app.panama_trips.service.interfaces.IPasswordHashingService;
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
 import com.app.panama_trips.utility.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import java.util.ArrayList;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAuthService {
 
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final IPasswordHashingService passwordHashingService;
     private final UserDetailServiceImpl userDetailService;
     private final UserEntityRepository userEntityRepository;
-    private final RoleRepository roleRepository;
+    private final IRoleAuthorityService roleAuthorityService;
 
-    @Transactional(readOnly = true)
+    // Not transactional: the bcrypt check may wait on the hashing pool, and no connection should be held
+    // meanwhile. The credential read and the rehash each run in their own short transaction.
     public AuthResponse login (AuthLoginRequest authLoginRequest) {
 
         String username = authLoginRequest.username();
         String password = authLoginRequest.password();
 
-        Authentication authentication = this.authentication(username, password);
+        // One projection query (id, hash, role) plus the bcrypt check; authorities come from the role cache
+        UserCredentials credentials = this.loadCredentials(username);
+        Authentication authentication = this.authentication(credentials, password);
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        this.rehashIfNeeded(credentials, password);
 
-        Long userId = this.userEntityRepository.findUserEntitiesByName(username)
-                .orElseThrow(() -> new BadCredentialsException("User not found"))
-                .getId();
-
-        String token = this.jwtUtil.generateToken(authentication, userId);
+        String token = this.jwtUtil.generateToken(authentication, credentials.id());
         return new AuthResponse(username, "Logged in successfully", token, true);
     }
 
-    @Transactional
+    // Not transactional either: the password is hashed first, and only the insert runs in a transaction
     public AuthResponse create(AuthCreateUserRequest authCreateUserRequest) {
         String name = authCreateUserRequest.name();
         String lastname = authCreateUserRequest.lastname();
         String dni = authCreateUserRequest.dni();
         String email = authCreateUserRequest.email();
         String password = authCreateUserRequest.password();
-        String role = RoleEnum.CUSTOMER.name();
+        RoleEnum role = RoleEnum.CUSTOMER;
 
-        // Check if the user already exists
+        // Check if the user already exists before paying for the hash; the insert checks again
         if(this.userEntityRepository.findUserEntitiesByEmail(email).isPresent()) {
             throw new BadCredentialsException("Email already exists");
         }
@@ -68,36 +68,50 @@ public class UserAuthService {
                 .lastname(lastname)
                 .dni(dni)
                 .email(email)
-                .passwordHash(this.passwordEncoder.encode(password))
-                .role(this.roleRepository.findByRoleEnum(RoleEnum.valueOf(role)))
+                .passwordHash(this.passwordHashingService.hash(password))
                 .build();
 
-        UserEntity savedUser = this.userEntityRepository.save(userEntity);
-
-        // Creating the authorities for the user
-        ArrayList<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_".concat(role)));
-        savedUser.getRole().getPermissions()
-                .forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.getPermissionEnum().name())));
+        UserEntity savedUser = this.userDetailService.createUser(userEntity, role);
 
         // Create the authentication
-        Authentication authentication = new UsernamePasswordAuthenticationToken(savedUser.getName(), savedUser.getPasswordHash(), authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                savedUser.getName(),
+                savedUser.getPasswordHash(),
+                this.roleAuthorityService.getAuthorities(role));
         String token = this.jwtUtil.generateToken(authentication, savedUser.getId());
 
         return new AuthResponse(savedUser.getName(), "User created successfully", token, true);
     }
 
-    private Authentication authentication(String username, String password) {
-        UserDetails userDetails = this.userDetailService.loadUserByUsername(username);
-
-        if(userDetails == null) {
+    private UserCredentials loadCredentials(String username) {
+        try {
+            return this.userDetailService.loadCredentials(username);
+        } catch (UsernameNotFoundException ex) {
             throw new BadCredentialsException("Invalid username or password");
         }
+    }
 
-        if(!this.passwordEncoder.matches(password, userDetails.getPassword())) {
+    private Authentication authentication(UserCredentials credentials, String password) {
+        if(!this.passwordHashingService.matches(password, credentials.passwordHash())) {
             throw new BadCredentialsException("Invalid password");
         }
 
-        return new UsernamePasswordAuthenticationToken(username, userDetails.getPassword(), userDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(
+                credentials.name(),
+                credentials.passwordHash(),
+                this.roleAuthorityService.getAuthorities(credentials.role()));
+    }
+
+    // The password was just verified, so a hash with an outdated work factor can be upgraded in place.
+    // Best effort: a saturated hashing pool must not turn a successful login into a failure.
+    private void rehashIfNeeded(UserCredentials credentials, String password) {
+        if(!this.passwordHashingService.needsRehash(credentials.passwordHash())) {
+            return;
+        }
+        try {
+            this.userEntityRepository.updatePasswordHash(credentials.id(), this.passwordHashingService.hash(password));
+        } catch (TooManyRequestsException ex) {
+            log.debug("Skipping password rehash for user {}: {}", credentials.id(), ex.getMessage());
+        }
     }
 }
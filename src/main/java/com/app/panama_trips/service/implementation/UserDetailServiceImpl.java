@@ -1,37 +1,52 @@
 package com.app.panama_trips.service.implementation;
 
+import com.app.panama_trips.persistence.entity.RoleEnum;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.persistence.repository.RoleRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.UserCredentials;
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import java.util.ArrayList;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserDetailServiceImpl implements UserDetailsService {
 
     private final UserEntityRepository userEntityRepository;
+    private final IRoleAuthorityService roleAuthorityService;
+    private final RoleRepository roleRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userEntity = userEntityRepository.findUserEntitiesByName(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-
-        List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
-        authorityList.add(new SimpleGrantedAuthority("ROLE_".concat(userEntity.getRole().getRoleEnum().toString())));
-        userEntity.getRole().getPermissions().stream()
-                .forEach(permission -> authorityList.add(new SimpleGrantedAuthority(permission.getPermissionEnum().toString())));
+        UserCredentials credentials = loadCredentials(username);
 
         return new User(
-                userEntity.getName(),
-                userEntity.getPasswordHash(),
-                authorityList
+                credentials.name(),
+                credentials.passwordHash(),
+                roleAuthorityService.getAuthorities(credentials.role())
         );
     }
+
+    @Transactional(readOnly = true)
+    public UserCredentials loadCredentials(String username) throws UsernameNotFoundException {
+        return userEntityRepository.findCredentialsByName(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    }
+
+    // The password is already hashed: only the email check, the role lookup and the insert run in the transaction
+    @Transactional
+    public UserEntity createUser(UserEntity userEntity, RoleEnum role) {
+        if(userEntityRepository.findUserEntitiesByEmail(userEntity.getEmail()).isPresent()) {
+            throw new BadCredentialsException("Email already exists");
+        }
+        userEntity.setRole(roleRepository.findByRoleEnum(role));
+        return userEntityRepository.save(userEntity);
+    }
 }
@@ -6,12 +6,14 @@ import com.app.panama_trips.persistence.entity.RoleEnum;
 import com.app.panama_trips.persistence.entity.UserEntity;
 import com.app.panama_trips.persistence.repository.RoleRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
 import com.app.panama_trips.presentation.dto.UserRequest;
 import com.app.panama_trips.presentation.dto.UserResponse;
+import com.app.panama_trips.service.interfaces.IPasswordHashingService;
 import com.app.panama_trips.service.interfaces.IUserEntityService;
+import com.app.panama_trips.utility.Pagination;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,16 +24,20 @@ public class UserEntityService implements IUserEntityService {
 
     private final UserEntityRepository userEntityRepository;
     private final RoleRepository roleRepository;
+    private final IPasswordHashingService passwordHashingService;
 
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponse> getAllUser(Integer page, Integer size, Boolean enabledPagination) {
-        Pageable pageable = enabledPagination
-                ? PageRequest.of(page, size)
-                : Pageable.unpaged();
+        Pageable pageable = Pagination.of(page, size, enabledPagination);
         return userEntityRepository.findAll(pageable).map(UserResponse::new);
     }
 
+    @Override
+    public PasswordHashingStatsResponse getPasswordHashingStats() {
+        return passwordHashingService.getStats();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
@@ -0,0 +1,27 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IAuditLogPartitionService {
+
+    /**
+     * Crea (si no existen) las particiones mensuales del mes actual y de los meses siguientes.
+     *
+     * @return nombres de las particiones aseguradas
+     */
+    List<String> createUpcomingPartitions();
+
+    /**
+     * Separa y elimina las particiones mensuales cuyo rango completo es anterior a la fecha de corte.
+     *
+     * @param cutoff fecha de corte
+     * @return cantidad de particiones eliminadas
+     */
+    int dropPartitionsBefore(LocalDateTime cutoff);
+
+    /**
+     * Tarea periodica: pre-crea particiones futuras y aplica la retencion configurada.
+     */
+    void maintainPartitions();
+}
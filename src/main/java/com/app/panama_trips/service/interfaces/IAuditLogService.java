@@ -2,8 +2,12 @@ package com.app.panama_trips.service.interfaces;
 
 import com.app.panama_trips.persistence.entity.AuditLog;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.presentation.dto.AuditLogActivityResponse;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +30,15 @@ public interface IAuditLogService {
      */
     Page<AuditLog> getAllAuditLogs(Pageable pageable);
 
+    /**
+     * Recorre registros de auditoria por cursor (keyset), del mas reciente al mas antiguo, sin consulta de conteo.
+     *
+     * @param position posicion a partir de la cual continuar
+     * @param size cantidad maxima de elementos a devolver
+     * @return ventana de registros de auditoria
+     */
+    Window<AuditLog> scrollAuditLogs(ScrollPosition position, int size);
+
     /**
      * Obtiene un registro de auditoria por su identificador.
      *
@@ -43,6 +56,22 @@ public interface IAuditLogService {
      */
     AuditLog saveAuditLog(AuditLog auditLog);
 
+    /**
+     * Registra un evento de auditoria de forma asincrona (escritura diferida en lotes).
+     * Pensado para los flujos de peticion que no necesitan el id generado.
+     *
+     * @param auditLog entidad del registro a guardar
+     * @return false si el buffer estaba lleno y el registro fue descartado
+     */
+    boolean recordAuditLog(AuditLog auditLog);
+
+    /**
+     * Obtiene las metricas del buffer de escritura diferida.
+     *
+     * @return estado y contadores del buffer
+     */
+    AuditLogWriterStatsResponse getWriteBehindStats();
+
     /**
      * Actualiza un registro de auditoria existente.
      *
@@ -190,6 +219,7 @@ public interface IAuditLogService {
      *
      * @param limit cantidad maxima de registros a retornar
      * @return lista de los registros mas recientes
+     * @throws IllegalArgumentException si el limite no esta entre 1 y 1000
      */
     List<AuditLog> getRecentActivity(int limit);
 
@@ -332,7 +362,8 @@ public interface IAuditLogService {
     // ==================== Bulk operations ====================
 
     /**
-     * Crea multiples registros de auditoria en lote.
+     * Crea multiples registros de auditoria en lote, de forma sincrona y en una sola
+     * transaccion: si alguno falla no se guarda ninguno.
      *
      * @param auditLogs lista de registros a crear
      */
@@ -581,54 +612,58 @@ public interface IAuditLogService {
      * Obtiene los usuarios con mayor actividad.
      *
      * @param limit cantidad maxima de resultados
-     * @return lista de registros de los usuarios mas activos
+     * @return conteo de actividad por id de usuario, ordenado de mayor a menor
+     * @throws IllegalArgumentException si el limite no esta entre 1 y 1000
      */
-    List<AuditLog> getTopUsersByActivity(int limit);
+    List<AuditLogActivityResponse> getTopUsersByActivity(int limit);
 
     /**
      * Obtiene los tipos de entidad con mayor actividad.
      *
      * @param limit cantidad maxima de resultados
-     * @return lista de registros de los tipos de entidad mas activos
+     * @return conteo de actividad por tipo de entidad, ordenado de mayor a menor
+     * @throws IllegalArgumentException si el limite no esta entre 1 y 1000
      */
-    List<AuditLog> getTopEntityTypesByActivity(int limit);
+    List<AuditLogActivityResponse> getTopEntityTypesByActivity(int limit);
 
     /**
      * Obtiene las acciones con mayor actividad.
      *
      * @param limit cantidad maxima de resultados
-     * @return lista de registros de las acciones mas frecuentes
+     * @return conteo de actividad por accion, ordenado de mayor a menor
+     * @throws IllegalArgumentException si el limite no esta entre 1 y 1000
      */
-    List<AuditLog> getTopActionsByActivity(int limit);
+    List<AuditLogActivityResponse> getTopActionsByActivity(int limit);
 
     /**
      * Obtiene las direcciones IP con mayor actividad.
      *
      * @param limit cantidad maxima de resultados
-     * @return lista de registros de las IPs mas activas
+     * @return conteo de actividad por direccion IP, ordenado de mayor a menor
+     * @throws IllegalArgumentException si el limite no esta entre 1 y 1000
      */
-    List<AuditLog> getTopIpAddressesByActivity(int limit);
+    List<AuditLogActivityResponse> getTopIpAddressesByActivity(int limit);
 
     /**
      * Obtiene la actividad agrupada por mes.
      *
-     * @return lista de registros agrupados por mes
+     * @return histograma de actividad por mes (JANUARY..DECEMBER)
      */
-    List<AuditLog> getActivityByMonth();
+    List<AuditLogActivityResponse> getActivityByMonth();
 
     /**
      * Obtiene la actividad agrupada por dia de la semana.
      *
-     * @return lista de registros agrupados por dia de la semana
+     * @return histograma de actividad por dia de la semana (SUNDAY..SATURDAY)
      */
-    List<AuditLog> getActivityByDayOfWeek();
+    List<AuditLogActivityResponse> getActivityByDayOfWeek();
 
     /**
      * Obtiene la actividad agrupada por hora del dia.
      *
-     * @return lista de registros agrupados por hora
+     * @return histograma de actividad por hora (0..23)
      */
-    List<AuditLog> getActivityByHour();
+    List<AuditLogActivityResponse> getActivityByHour();
 
     // ==================== Security and monitoring operations ====================
 
@@ -746,6 +781,8 @@ public interface IAuditLogService {
 
     /**
      * Elimina registros de auditoria anteriores a una fecha especifica.
+     * Los meses completos se eliminan descartando su particion; solo la particion
+     * limite se depura fila por fila.
      *
      * @param beforeDate fecha limite para la eliminacion
      */
@@ -794,33 +831,38 @@ public interface IAuditLogService {
      * Busca registros de auditoria por un campo y valor JSON especificos.
      *
      * @param fieldName nombre del campo JSON
-     * @param fieldValue valor exacto del campo
-     * @return lista de registros que coinciden
+     * @param fieldValue valor exacto del campo en forma de texto; tambien coincide con
+     *        numeros y booleanos ("42", "true")
+     * @param pageable informacion de paginacion
+     * @return pagina de registros que coinciden
      */
-    List<AuditLog> getAuditLogsByJsonField(String fieldName, String fieldValue);
+    Page<AuditLog> getAuditLogsByJsonField(String fieldName, String fieldValue, Pageable pageable);
 
     /**
      * Busca registros de auditoria donde un campo JSON contiene un valor.
      *
      * @param fieldName nombre del campo JSON
-     * @param fieldValue valor parcial a buscar
-     * @return lista de registros que coinciden
+     * @param fieldValue valor parcial a buscar; % y _ se buscan literalmente
+     * @param pageable informacion de paginacion
+     * @return pagina de registros que coinciden
      */
-    List<AuditLog> getAuditLogsByJsonFieldContaining(String fieldName, String fieldValue);
+    Page<AuditLog> getAuditLogsByJsonFieldContaining(String fieldName, String fieldValue, Pageable pageable);
 
     /**
      * Busca registros de auditoria donde existe un campo JSON especifico.
      *
      * @param fieldName nombre del campo JSON a verificar
-     * @return lista de registros que contienen el campo
+     * @param pageable informacion de paginacion
+     * @return pagina de registros que contienen el campo
      */
-    List<AuditLog> getAuditLogsByJsonFieldExists(String fieldName);
+    Page<AuditLog> getAuditLogsByJsonFieldExists(String fieldName, Pageable pageable);
 
     /**
      * Busca registros de auditoria donde no existe un campo JSON especifico.
      *
      * @param fieldName nombre del campo JSON a verificar
-     * @return lista de registros que no contienen el campo
+     * @param pageable informacion de paginacion
+     * @return pagina de registros que no contienen el campo
      */
-    List<AuditLog> getAuditLogsByJsonFieldNotExists(String fieldName);
+    Page<AuditLog> getAuditLogsByJsonFieldNotExists(String fieldName, Pageable pageable);
 }
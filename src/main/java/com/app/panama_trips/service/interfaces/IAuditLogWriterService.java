@@ -0,0 +1,27 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.persistence.entity.AuditLog;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
+
+public interface IAuditLogWriterService {
+
+    /**
+     * Encola un registro de auditoria sin bloquear al hilo que lo invoca.
+     *
+     * @param auditLog registro ya validado
+     * @return false si el buffer esta lleno y el registro fue rechazado
+     */
+    boolean enqueue(AuditLog auditLog);
+
+    /**
+     * Escribe en lotes todo lo pendiente en el buffer.
+     */
+    void flush();
+
+    /**
+     * Obtiene las metricas del buffer de escritura diferida.
+     *
+     * @return estado y contadores del buffer
+     */
+    AuditLogWriterStatsResponse getStats();
+}
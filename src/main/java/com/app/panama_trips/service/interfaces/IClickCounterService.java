@@ -0,0 +1,28 @@
+package com.app.panama_trips.service.interfaces;
+
+public interface IClickCounterService {
+
+    /**
+     * Acumula clics de una campana en memoria sin tocar la base de datos.
+     *
+     * @param campaignId identificador de la campana
+     * @param clicks cantidad de clics a sumar, mayor que cero
+     */
+    void record(Integer campaignId, long clicks);
+
+    /**
+     * Obtiene los clics acumulados de una campana que aun no se escribieron.
+     *
+     * @param campaignId identificador de la campana
+     * @return clics pendientes de escribir
+     */
+    long pendingClicks(Integer campaignId);
+
+    /**
+     * Escribe en una sola sentencia los clics acumulados de todas las campanas.
+     * Si la escritura falla, los clics vuelven a quedar pendientes.
+     *
+     * @return cantidad de campanas actualizadas
+     */
+    int flush();
+}
@@ -0,0 +1,35 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.time.LocalDate;
+
+import com.app.panama_trips.presentation.dto.DailyStatisticsBackfillResponse;
+
+public interface IDailyStatisticsRollupService {
+
+    /**
+     * Recalcula los dias cuyas reservas o usuarios cambiaron desde la ultima ejecucion,
+     * incluidas las actualizaciones tardias de dias pasados.
+     *
+     * @return cantidad de cambios procesados
+     */
+    int rollupChangedDays();
+
+    /**
+     * Recalcula el dia anterior aunque no haya tenido actividad, para que cada dia
+     * tenga su fila.
+     *
+     * @return cantidad de filas modificadas
+     */
+    int closePreviousDay();
+
+    /**
+     * Recalcula un rango de fechas en bloques que se procesan en paralelo. Es idempotente:
+     * un bloque fallido se puede volver a ejecutar sin efectos secundarios.
+     *
+     * @param from primer dia del rango
+     * @param to ultimo dia del rango, inclusive
+     * @return resumen del recalculo con los bloques que fallaron
+     * @throws IllegalArgumentException si el rango no es valido o supera el maximo de dias configurado
+     */
+    DailyStatisticsBackfillResponse backfill(LocalDate from, LocalDate to);
+}
@@ -2,6 +2,8 @@ package com.app.panama_trips.service.interfaces;
 
 import com.app.panama_trips.presentation.dto.DailyStatisticsRequest;
 import com.app.panama_trips.presentation.dto.DailyStatisticsResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -13,11 +15,12 @@ import java.util.List;
 public interface IDailyStatisticsService {
 
     /**
-     * Obtiene todas las estadisticas diarias registradas.
+     * Obtiene las estadisticas diarias registradas de forma paginada.
      *
-     * @return lista de todas las estadisticas diarias
+     * @param pageable configuracion de paginacion y orden
+     * @return pagina de estadisticas diarias
      */
-    List<DailyStatisticsResponse> getAllDailyStatistics();
+    Page<DailyStatisticsResponse> getAllDailyStatistics(Pageable pageable);
 
     /**
      * Obtiene una estadistica diaria por su identificador.
@@ -0,0 +1,136 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.presentation.dto.ComarcaResponse;
+import com.app.panama_trips.presentation.dto.DistrictResponse;
+import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
+import com.app.panama_trips.presentation.dto.RegionResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Datos de referencia geograficos (provincias, distritos, comarcas y regiones) servidos desde memoria.
+ * Las listas devueltas son inmutables y estan ordenadas por ID.
+ */
+public interface IGeoReferenceService {
+
+    /**
+     * Obtiene todas las provincias.
+     * @return lista de provincias
+     */
+    List<ProvinceResponse> getProvinces();
+
+    /**
+     * Busca una provincia por su ID.
+     * @param id identificador de la provincia
+     * @return la provincia, si existe
+     */
+    Optional<ProvinceResponse> findProvince(Integer id);
+
+    /**
+     * Busca una provincia por su nombre exacto.
+     * @param name nombre de la provincia
+     * @return la provincia, si existe
+     */
+    Optional<ProvinceResponse> findProvinceByName(String name);
+
+    /**
+     * Obtiene todos los distritos.
+     * @return lista de distritos
+     */
+    List<DistrictResponse> getDistricts();
+
+    /**
+     * Busca un distrito por su ID.
+     * @param id identificador del distrito
+     * @return el distrito, si existe
+     */
+    Optional<DistrictResponse> findDistrict(Integer id);
+
+    /**
+     * Busca un distrito por su nombre exacto; si hay varios con el mismo nombre devuelve el de menor ID.
+     * @param name nombre del distrito
+     * @return el distrito, si existe
+     */
+    Optional<DistrictResponse> findDistrictByName(String name);
+
+    /**
+     * Obtiene los distritos de una provincia.
+     * @param provinceId identificador de la provincia
+     * @return lista de distritos, vacia si la provincia no tiene o no existe
+     */
+    List<DistrictResponse> getDistrictsByProvince(Integer provinceId);
+
+    /**
+     * Obtiene todas las comarcas.
+     * @return lista de comarcas
+     */
+    List<ComarcaResponse> getComarcas();
+
+    /**
+     * Busca una comarca por su ID.
+     * @param id identificador de la comarca
+     * @return la comarca, si existe
+     */
+    Optional<ComarcaResponse> findComarca(Integer id);
+
+    /**
+     * Busca una comarca por su nombre exacto.
+     * @param name nombre de la comarca
+     * @return la comarca, si existe
+     */
+    Optional<ComarcaResponse> findComarcaByName(String name);
+
+    /**
+     * Obtiene todas las regiones.
+     * @return lista de regiones
+     */
+    List<RegionResponse> getRegions();
+
+    /**
+     * Busca una region por su ID.
+     * @param id identificador de la region
+     * @return la region, si existe
+     */
+    Optional<RegionResponse> findRegion(Integer id);
+
+    /**
+     * Busca una region por su nombre sin distinguir mayusculas.
+     * @param name nombre de la region
+     * @return la region, si existe
+     */
+    Optional<RegionResponse> findRegionByName(String name);
+
+    /**
+     * Obtiene las regiones de una provincia.
+     * @param provinceId identificador de la provincia
+     * @return lista de regiones
+     */
+    List<RegionResponse> getRegionsByProvince(Integer provinceId);
+
+    /**
+     * Obtiene las regiones de una comarca.
+     * @param comarcaId identificador de la comarca
+     * @return lista de regiones
+     */
+    List<RegionResponse> getRegionsByComarca(Integer comarcaId);
+
+    /**
+     * Obtiene el arbol de todas las provincias con sus distritos y regiones.
+     * @return lista de provincias con sus hijos
+     */
+    List<ProvinceTreeResponse> getProvinceTrees();
+
+    /**
+     * Obtiene el arbol de una provincia con sus distritos y regiones.
+     * @param provinceId identificador de la provincia
+     * @return la provincia con sus hijos, si existe
+     */
+    Optional<ProvinceTreeResponse> findProvinceTree(Integer provinceId);
+
+    /**
+     * Recarga los datos desde la base de datos y reemplaza la copia en memoria de forma atomica.
+     */
+    void refresh();
+}
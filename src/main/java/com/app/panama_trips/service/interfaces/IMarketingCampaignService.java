@@ -252,7 +252,8 @@ public interface IMarketingCampaignService {
     void bulkUpdateStatus(List<Integer> campaignIds, CampaignStatus newStatus);
 
     /**
-     * Incrementa los clics de multiples campanas.
+     * Incrementa los clics de multiples campanas. Los identificadores inexistentes
+     * se ignoran y los repetidos cuentan una sola vez.
      *
      * @param campaignIds lista de identificadores de campanas
      */
@@ -443,10 +444,11 @@ public interface IMarketingCampaignService {
     // ==================== Clicks operations ====================
 
     /**
-     * Incrementa el contador de clics de una campana.
+     * Incrementa el contador de clics de una campana. El clic se acumula en memoria
+     * y se escribe en el siguiente volcado.
      *
      * @param campaignId identificador de la campana
-     * @return la campana con clics actualizados
+     * @return la campana con los clics escritos mas los pendientes
      * @throws com.app.panama_trips.exception.ResourceNotFoundException si no se encuentra
      */
     MarketingCampaignResponse incrementClicks(Integer campaignId);
@@ -459,7 +461,7 @@ public interface IMarketingCampaignService {
     List<MarketingCampaignResponse> getCampaignsNeedingClicksUpdate();
 
     /**
-     * Actualiza los clics de todas las campanas activas.
+     * Escribe en la base de datos los clics acumulados en memoria. Se ejecuta periodicamente.
      */
     void updateClicksForActiveCampaigns();
 
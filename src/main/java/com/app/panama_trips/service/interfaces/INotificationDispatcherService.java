@@ -0,0 +1,20 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
+
+public interface INotificationDispatcherService {
+
+    /**
+     * Envia las notificaciones pendientes hasta vaciar la cola. Se ejecuta periodicamente.
+     *
+     * @return cantidad de notificaciones procesadas
+     */
+    int dispatch();
+
+    /**
+     * Obtiene las metricas de envio del despachador.
+     *
+     * @return contadores y rendimiento del ultimo lote
+     */
+    NotificationDispatchStatsResponse getStats();
+}
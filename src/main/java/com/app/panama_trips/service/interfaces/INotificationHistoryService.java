@@ -1,9 +1,12 @@
 package com.app.panama_trips.service.interfaces;
 
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
 import com.app.panama_trips.presentation.dto.NotificationHistoryRequest;
 import com.app.panama_trips.presentation.dto.NotificationHistoryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,6 +30,15 @@ public interface INotificationHistoryService {
      */
     Page<NotificationHistoryResponse> getAllNotificationHistory(Pageable pageable);
 
+    /**
+     * Recorre notificaciones por cursor (keyset), del mas reciente al mas antiguo, sin consulta de conteo.
+     *
+     * @param position posicion a partir de la cual continuar
+     * @param size cantidad maxima de elementos a devolver
+     * @return ventana de notificaciones
+     */
+    Window<NotificationHistoryResponse> scrollNotificationHistory(ScrollPosition position, int size);
+
     /**
      * Obtiene una notificacion del historial por su identificador.
      *
@@ -299,10 +311,17 @@ public interface INotificationHistoryService {
     void markAsFailed(Integer notificationId, String failureReason);
 
     /**
-     * Reintenta el envio de todas las notificaciones fallidas.
+     * Devuelve todas las notificaciones fallidas a la cola de envio con sus intentos reiniciados.
      */
     void retryFailedNotifications();
 
+    /**
+     * Obtiene las metricas del despachador de notificaciones.
+     *
+     * @return contadores y rendimiento del despachador
+     */
+    NotificationDispatchStatsResponse getDispatchStats();
+
     /**
      * Elimina notificaciones antiguas segun la cantidad de dias a conservar.
      *
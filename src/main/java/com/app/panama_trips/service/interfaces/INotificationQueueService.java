@@ -0,0 +1,29 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.app.panama_trips.presentation.dto.DeliveryResult;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+
+public interface INotificationQueueService {
+
+    /**
+     * Reserva un lote de notificaciones pendientes cuyo intento ya vencio y renderiza su
+     * contenido. Las filas reservadas no vuelven a entregarse a otro trabajador hasta que
+     * vence la reserva.
+     *
+     * @param limit tamano maximo del lote
+     * @param lease duracion de la reserva
+     * @return notificaciones listas para enviar, vacia si no hay pendientes
+     */
+    List<OutboundNotification> claim(int limit, Duration lease);
+
+    /**
+     * Registra el resultado de un lote: marca las entregadas y reprograma o da por
+     * fallidas las demas segun el numero de intentos.
+     *
+     * @param results resultado de cada notificacion del lote
+     */
+    void complete(List<DeliveryResult> results);
+}
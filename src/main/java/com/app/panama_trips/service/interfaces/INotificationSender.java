@@ -0,0 +1,29 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+
+public interface INotificationSender {
+
+    /**
+     * Canal que atiende este emisor, por ejemplo EMAIL o SMS.
+     *
+     * @return nombre del canal tal como se guarda en notification_history
+     */
+    String channel();
+
+    /**
+     * Cantidad maxima de envios simultaneos que acepta el proveedor del canal.
+     *
+     * @return limite de concurrencia del canal
+     */
+    int maxConcurrency();
+
+    /**
+     * Entrega una notificacion ya renderizada. Se invoca desde hilos virtuales,
+     * por lo que puede bloquear en E/S.
+     *
+     * @param notification notificacion a entregar
+     * @throws com.app.panama_trips.exception.NotificationDeliveryException si la entrega falla
+     */
+    void send(OutboundNotification notification);
+}
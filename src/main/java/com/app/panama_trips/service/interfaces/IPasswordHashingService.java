@@ -0,0 +1,40 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
+
+public interface IPasswordHashingService {
+
+    /**
+     * Genera el hash de una contrasena en el pool dedicado.
+     *
+     * @param rawPassword contrasena en texto plano
+     * @return hash codificado
+     * @throws com.app.panama_trips.exception.TooManyRequestsException si el pool esta saturado
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Verifica una contrasena contra su hash en el pool dedicado.
+     *
+     * @param rawPassword contrasena en texto plano
+     * @param passwordHash hash almacenado
+     * @return true si la contrasena coincide
+     * @throws com.app.panama_trips.exception.TooManyRequestsException si el pool esta saturado
+     */
+    boolean matches(String rawPassword, String passwordHash);
+
+    /**
+     * Indica si un hash fue generado con un costo menor al configurado y debe regenerarse.
+     *
+     * @param passwordHash hash almacenado
+     * @return true si conviene regenerarlo
+     */
+    boolean needsRehash(String passwordHash);
+
+    /**
+     * Obtiene las metricas del pool de hashing.
+     *
+     * @return estado y latencias del pool
+     */
+    PasswordHashingStatsResponse getStats();
+}
@@ -4,6 +4,8 @@ import com.app.panama_trips.presentation.dto.PaymentInstallmentRequest;
 import com.app.panama_trips.presentation.dto.PaymentInstallmentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,6 +29,15 @@ public interface IPaymentInstallmentService {
      */
     Page<PaymentInstallmentResponse> getAllPaymentInstallments(Pageable pageable);
 
+    /**
+     * Recorre cuotas de pago por cursor (keyset), del mas reciente al mas antiguo, sin consulta de conteo.
+     *
+     * @param position posicion a partir de la cual continuar
+     * @param size cantidad maxima de elementos a devolver
+     * @return ventana de cuotas de pago
+     */
+    Window<PaymentInstallmentResponse> scrollPaymentInstallments(ScrollPosition position, int size);
+
     /**
      * Obtiene una cuota de pago por su identificador.
      *
@@ -249,26 +260,29 @@ public interface IPaymentInstallmentService {
     void bulkCreatePaymentInstallments(List<PaymentInstallmentRequest> requests);
 
     /**
-     * Elimina multiples cuotas de pago por sus identificadores.
+     * Elimina multiples cuotas de pago por sus identificadores, con sentencias por lotes.
      *
      * @param installmentIds lista de identificadores a eliminar
+     * @return cantidad de cuotas eliminadas
      */
-    void bulkDeletePaymentInstallments(List<Integer> installmentIds);
+    int bulkDeletePaymentInstallments(List<Integer> installmentIds);
 
     /**
-     * Actualiza el estado de multiples cuotas de pago.
+     * Actualiza el estado de multiples cuotas de pago, con sentencias por lotes.
      *
      * @param installmentIds lista de identificadores de cuotas
      * @param newStatus nuevo estado a asignar
+     * @return cantidad de cuotas que cambiaron de estado
      */
-    void bulkUpdateStatus(List<Integer> installmentIds, String newStatus);
+    int bulkUpdateStatus(List<Integer> installmentIds, String newStatus);
 
     /**
-     * Marca multiples cuotas como recordatorio enviado.
+     * Marca multiples cuotas como recordatorio enviado, con sentencias por lotes.
      *
      * @param installmentIds lista de identificadores de cuotas
+     * @return cantidad de cuotas marcadas
      */
-    void bulkMarkAsReminderSent(List<Integer> installmentIds);
+    int bulkMarkAsReminderSent(List<Integer> installmentIds);
 
     // ==================== Check operations ====================
 
@@ -539,28 +553,33 @@ public interface IPaymentInstallmentService {
     List<PaymentInstallmentResponse> getInstallmentsNeedingReminder();
 
     /**
-     * Envia recordatorios para las cuotas proximas a vencer.
+     * Encola recordatorios para las cuotas pendientes que vencen en los proximos dias
+     * y las marca con recordatorio enviado. Una cuota nunca se encola dos veces.
      */
     void sendRemindersForDueInstallments();
 
     /**
-     * Envia recordatorios para las cuotas vencidas.
+     * Encola un recordatorio para cada cuota vencida que aun no lo tenga.
      */
     void sendRemindersForOverdueInstallments();
 
     // ==================== Utility operations ====================
 
     /**
-     * Recalcula el estado de vencimiento de todas las cuotas.
+     * Marca como vencidas todas las cuotas pendientes cuya fecha ya paso, con una sola
+     * sentencia. Tambien se ejecuta cada noche.
+     *
+     * @return cantidad de cuotas marcadas como vencidas
      */
-    void recalculateOverdueStatus();
+    int recalculateOverdueStatus();
 
     /**
      * Elimina cuotas antiguas segun la cantidad de dias a conservar.
      *
      * @param daysToKeep cantidad de dias a mantener
+     * @return cantidad de cuotas eliminadas
      */
-    void cleanupOldInstallments(int daysToKeep);
+    int cleanupOldInstallments(int daysToKeep);
 
     /**
      * Busca cuotas por monto exacto.
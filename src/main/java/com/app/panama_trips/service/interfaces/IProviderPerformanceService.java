@@ -0,0 +1,13 @@
+package com.app.panama_trips.service.interfaces;
+
+public interface IProviderPerformanceService {
+
+    /**
+     * Recalcula la vista materializada de rendimiento por proveedor. Si ya hay un recalculo
+     * en curso, esta solicitud se agrega a el y se vuelve a ejecutar al terminar, de modo que
+     * los datos importados antes de la llamada siempre quedan incluidos.
+     *
+     * @return cantidad de recalculos ejecutados por esta llamada, 0 si se agrego a uno en curso
+     */
+    int refresh();
+}
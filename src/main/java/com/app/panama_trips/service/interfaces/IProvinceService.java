@@ -2,6 +2,7 @@ package com.app.panama_trips.service.interfaces;
 
 import com.app.panama_trips.presentation.dto.ProvinceRequest;
 import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
 
 import java.util.List;
 
@@ -31,6 +32,20 @@ public interface IProvinceService {
      */
     ProvinceResponse getProvinceByName(String name);
 
+    /**
+     * Obtiene todas las provincias con sus distritos y regiones.
+     * @return lista de provincias con sus hijos
+     */
+    List<ProvinceTreeResponse> getProvinceTrees();
+
+    /**
+     * Obtiene una provincia con sus distritos y regiones.
+     * @param id identificador de la provincia
+     * @return la provincia con sus hijos
+     * @throws com.app.panama_trips.exception.ResourceNotFoundException si no existe
+     */
+    ProvinceTreeResponse getProvinceTree(Integer id);
+
     /**
      * Crea una nueva provincia.
      * @param provinceRequest datos de la provincia a crear
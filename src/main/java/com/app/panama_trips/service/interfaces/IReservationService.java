@@ -5,6 +5,8 @@ import com.app.panama_trips.presentation.dto.ReservationRequest;
 import com.app.panama_trips.presentation.dto.ReservationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,6 +26,15 @@ public interface IReservationService {
      */
     Page<ReservationResponse> getAllReservations(Pageable pageable);
 
+    /**
+     * Recorre reservaciones por cursor (keyset), del mas reciente al mas antiguo, sin consulta de conteo.
+     *
+     * @param position posicion a partir de la cual continuar
+     * @param size cantidad maxima de elementos a devolver
+     * @return ventana de reservaciones
+     */
+    Window<ReservationResponse> scrollReservations(ScrollPosition position, int size);
+
     /**
      * Obtiene una reservacion por su identificador.
      *
@@ -0,0 +1,41 @@
+package com.app.panama_trips.service.interfaces;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache de respuestas JSON ya serializadas (y su variante gzip) para endpoints de solo lectura.
+ * Cada cache tiene una version; invalidarla descarta todas sus respuestas.
+ */
+public interface IResponseCacheService {
+
+    String PROVINCES = "provinces";
+    String DISTRICTS = "districts";
+    String COMARCAS = "comarcas";
+    String ACTIVE_LANGUAGES = "active-languages";
+    String REVIEW_CATEGORIES = "review-categories";
+    String CANCELLATION_POLICIES = "cancellation-policies";
+
+    /**
+     * Responde con los bytes en cache para la URL de la peticion, o serializa el cuerpo y lo guarda.
+     * Devuelve 304 si el ETag de la peticion (If-None-Match) coincide.
+     * @param cacheName nombre de la cache
+     * @param request peticion HTTP en curso
+     * @param body proveedor del cuerpo, invocado solo cuando no hay respuesta en cache
+     * @return respuesta con el JSON (o gzip) y su ETag
+     */
+    ResponseEntity<byte[]> respond(String cacheName, HttpServletRequest request, Supplier<?> body);
+
+    /**
+     * Invalida una cache. Dentro de una transaccion se invalida de nuevo tras el commit.
+     * @param cacheName nombre de la cache
+     */
+    void invalidate(String cacheName);
+
+    /**
+     * Invalida todas las caches.
+     */
+    void invalidateAll();
+}
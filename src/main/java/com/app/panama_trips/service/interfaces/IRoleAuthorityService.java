@@ -0,0 +1,24 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import com.app.panama_trips.persistence.entity.RoleEnum;
+
+public interface IRoleAuthorityService {
+
+    /**
+     * Obtiene las autoridades de un rol (el propio rol y sus permisos), usando la cache
+     * cuando el rol ya fue cargado.
+     *
+     * @param role rol a consultar
+     * @return lista inmutable de autoridades
+     */
+    List<GrantedAuthority> getAuthorities(RoleEnum role);
+
+    /**
+     * Descarta todas las autoridades en cache. Se invoca al cambiar roles o permisos.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,31 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.time.LocalDate;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+
+public interface ISeatInventoryService {
+
+    /**
+     * Intenta descontar cupos del inventario de un tour para una fecha. Si la fecha aun
+     * no tiene registro de disponibilidad, se crea con la capacidad del tour menos las
+     * personas de las reservas ya confirmadas o pendientes para esa fecha, siempre que el
+     * tour opere ese dia segun su horario y temporada.
+     *
+     * @param tourPlan tour a reservar
+     * @param date fecha del tour
+     * @param seats cantidad de cupos solicitados
+     * @return true si los cupos fueron reservados, false si no hay cupos suficientes o el
+     *         dia esta cerrado o fuera del horario
+     */
+    boolean tryReserve(TourPlan tourPlan, LocalDate date, int seats);
+
+    /**
+     * Devuelve cupos al inventario, por ejemplo al cancelar o eliminar una reserva.
+     *
+     * @param tourPlan tour de la reserva
+     * @param date fecha del tour
+     * @param seats cantidad de cupos a liberar
+     */
+    void release(TourPlan tourPlan, LocalDate date, int seats);
+}
@@ -0,0 +1,14 @@
+package com.app.panama_trips.service.interfaces;
+
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+
+public interface ISecondLevelCacheService {
+
+    /**
+     * Obtiene los contadores del cache de segundo nivel de Hibernate, por region
+     * y para el cache de consultas.
+     *
+     * @return aciertos, fallos, escrituras y proporcion de aciertos
+     */
+    SecondLevelCacheStatsResponse getStats();
+}
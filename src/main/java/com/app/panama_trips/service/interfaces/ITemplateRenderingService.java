@@ -0,0 +1,54 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.util.List;
+import java.util.Map;
+
+import com.app.panama_trips.persistence.entity.NotificationTemplate;
+import com.app.panama_trips.utility.CompiledTemplate;
+
+public interface ITemplateRenderingService {
+
+    /**
+     * Devuelve el cuerpo compilado de la plantilla. Se compila una sola vez por id y
+     * version; una plantilla editada se vuelve a compilar en su primer uso.
+     *
+     * @param template plantilla a compilar
+     * @return cuerpo compilado
+     */
+    CompiledTemplate compileBody(NotificationTemplate template);
+
+    /**
+     * Renderiza el cuerpo de la plantilla. Las variables sin valor quedan como ${nombre}.
+     *
+     * @param template plantilla a renderizar
+     * @param variables valores de las variables
+     * @return cuerpo renderizado
+     */
+    String renderBody(NotificationTemplate template, Map<String, ?> variables);
+
+    /**
+     * Renderiza el asunto de la plantilla.
+     *
+     * @param template plantilla a renderizar
+     * @param variables valores de las variables
+     * @return asunto renderizado, null si la plantilla no tiene asunto
+     */
+    String renderSubject(NotificationTemplate template, Map<String, ?> variables);
+
+    /**
+     * Renderiza el cuerpo una vez por destinatario reutilizando el mismo buffer, pensado
+     * para envios masivos.
+     *
+     * @param template plantilla a renderizar
+     * @param variablesPerMessage valores de las variables de cada mensaje
+     * @return cuerpos renderizados, en el mismo orden que los valores
+     */
+    List<String> renderBodies(NotificationTemplate template, List<? extends Map<String, ?>> variablesPerMessage);
+
+    /**
+     * Descarta la version compilada de una plantilla.
+     *
+     * @param templateId id de la plantilla
+     */
+    void evict(Integer templateId);
+}
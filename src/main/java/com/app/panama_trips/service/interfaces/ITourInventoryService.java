@@ -0,0 +1,12 @@
+package com.app.panama_trips.service.interfaces;
+
+public interface ITourInventoryService {
+
+    /**
+     * Compara el inventario incremental de cada tour con un reconteo de las reservas
+     * y corrige las filas que se hayan desviado.
+     *
+     * @return cantidad de filas corregidas
+     */
+    int reconcile();
+}
@@ -1,5 +1,7 @@
 package com.app.panama_trips.service.interfaces;
 
+import com.app.panama_trips.presentation.dto.AvailabilityCalendarResponse;
+import com.app.panama_trips.presentation.dto.AvailabilityGenerationResponse;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityRequest;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityResponse;
 import org.springframework.data.domain.Page;
@@ -7,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -160,6 +163,44 @@ public interface ITourPlanAvailabilityService {
      */
     void deleteAllAvailabilitiesByTourPlanId(Integer tourPlanId);
 
+    /**
+     * Genera las disponibilidades diarias de un plan de tour a partir de su horario (dias
+     * disponibles y temporada) en una sola insercion. Los dias que ya existen no se modifican,
+     * salvo los que el generador cerro por quedar fuera del horario, que se vuelven a abrir.
+     *
+     * @param tourPlanId identificador del plan de tour
+     * @param startDate primer dia del rango
+     * @param endDate ultimo dia del rango (maximo 366 dias)
+     * @return cantidad de dias creados y de dias reabiertos
+     * @throws com.app.panama_trips.exception.ResourceNotFoundException si el plan no existe
+     */
+    AvailabilityGenerationResponse generateAvailability(Integer tourPlanId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Ajusta las disponibilidades al horario actual del plan: cierra los dias fuera del horario
+     * (no se eliminan, para que una reserva no los vuelva a abrir) y crea (o reabre) los que faltan.
+     *
+     * @param tourPlanId identificador del plan de tour
+     * @param startDate primer dia del rango
+     * @param endDate ultimo dia del rango (maximo 366 dias); {@code null} para llegar hasta la
+     *        ultima fecha generada, recorriendola en tramos de 366 dias
+     * @return cantidad de dias creados, reabiertos y cerrados
+     * @throws com.app.panama_trips.exception.ResourceNotFoundException si el plan no existe
+     */
+    AvailabilityGenerationResponse regenerateAvailability(Integer tourPlanId, LocalDate startDate, LocalDate endDate);
+
+    // Calendar operations
+
+    /**
+     * Obtiene los cupos abiertos de cada dia del mes para un plan de tour.
+     *
+     * @param tourPlanId identificador del plan de tour
+     * @param month mes a consultar
+     * @return arreglo con los cupos por dia del mes
+     * @throws com.app.panama_trips.exception.ResourceNotFoundException si el plan no existe
+     */
+    AvailabilityCalendarResponse getMonthCalendar(Integer tourPlanId, YearMonth month);
+
     // Check operations
 
     /**
@@ -1,7 +1,12 @@
 package com.app.panama_trips.service.interfaces;
 
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import com.app.panama_trips.presentation.dto.TourDiscoveryResponse;
 import com.app.panama_trips.presentation.dto.TourPlanRequest;
 import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import com.app.panama_trips.presentation.dto.TourSearchResultResponse;
+import com.app.panama_trips.presentation.dto.TourSuggestionResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -166,13 +171,35 @@ public interface ITourPlanService {
     Page<TourPlanResponse> getTourPlanByTitleAndPriceBetweenAndDurationBetween(String title, BigDecimal minPrice, BigDecimal maxPrice, Integer minDuration, Integer maxDuration, Pageable pageable);
 
     /**
-     * Obtiene los 10 primeros planes de tour cuyo titulo contenga la palabra clave.
+     * Busca planes de tour activos por texto completo en titulo, descripciones, etiquetas y
+     * traducciones, ordenados por relevancia.
      *
-     * @param keyword palabra clave a buscar en el titulo
-     * @param pageable configuracion de paginacion
-     * @return lista de hasta 10 planes que coinciden
+     * @param query texto de busqueda en formato web (frases entre comillas, {@code -} para excluir)
+     * @param pageable configuracion de paginacion; el orden siempre es por relevancia
+     * @return pagina de resultados con su puntaje y un fragmento resaltado
      */
-    List<TourPlanResponse> getTop10TourPlanByTitleContaining(String keyword, Pageable pageable);
+    Page<TourSearchResultResponse> searchTourPlans(String query, Pageable pageable);
+
+    /**
+     * Sugiere titulos de planes de tour activos mientras el usuario escribe.
+     *
+     * @param term texto parcial ingresado
+     * @param limit cantidad maxima de sugerencias
+     * @return sugerencias ordenadas por similitud; vacia si el texto es demasiado corto
+     */
+    List<TourSuggestionResponse> suggestTourPlanTitles(String term, int limit);
+
+    /**
+     * Busca planes de tour activos combinando todos los criterios presentes en el filtro y
+     * calcula los conteos por dificultad, rango de precio y region. Cada faceta se cuenta con
+     * todos los criterios excepto el suyo, para que las demas opciones sigan visibles.
+     *
+     * @param filter criterios opcionales de busqueda
+     * @param pageable paginacion; admite ordenar por price, duration, rating, title o newest
+     * @return pagina de planes y conteos por faceta
+     * @throws IllegalArgumentException si un rango es invalido o el orden no esta soportado
+     */
+    TourDiscoveryResponse discoverTourPlans(TourDiscoveryFilter filter, Pageable pageable);
 
     /**
      * Verifica si existe un plan de tour con el titulo dado.
@@ -188,4 +215,11 @@ public interface ITourPlanService {
      * @return cantidad total de planes de tour
      */
     long countTourPlan();
+
+    /**
+     * Obtiene las metricas del cache de segundo nivel que respalda el catalogo de tours.
+     *
+     * @return contadores por region y del cache de consultas
+     */
+    SecondLevelCacheStatsResponse getCacheStats();
 }
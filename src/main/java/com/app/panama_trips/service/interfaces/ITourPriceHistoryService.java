@@ -11,6 +11,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 /**
  * Contrato de servicio para la gestion del historial de precios de tours.
@@ -28,6 +30,15 @@ public interface ITourPriceHistoryService {
      */
     Page<TourPriceHistoryResponse> getAllTourPriceHistories(Pageable pageable);
 
+    /**
+     * Recorre registros del historial de precios por cursor (keyset), del mas reciente al mas antiguo, sin consulta de conteo.
+     *
+     * @param position posicion a partir de la cual continuar
+     * @param size cantidad maxima de elementos a devolver
+     * @return ventana de registros del historial de precios
+     */
+    Window<TourPriceHistoryResponse> scrollTourPriceHistories(ScrollPosition position, int size);
+
     /**
      * Obtiene un registro del historial de precios por su identificador.
      *
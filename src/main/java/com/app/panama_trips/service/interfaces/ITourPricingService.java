@@ -0,0 +1,61 @@
+package com.app.panama_trips.service.interfaces;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.presentation.dto.PriceQuoteResponse;
+
+public interface ITourPricingService {
+
+    /**
+     * Calcula el precio efectivo de un tour para una fecha y un grupo. El precio por persona
+     * sale del ajuste de la fecha en la disponibilidad, del precio especial vigente o del
+     * precio base, en ese orden; luego se aplican el descuento del tour, el cupon y el impuesto.
+     *
+     * @param tourPlanId id del tour
+     * @param date fecha del tour
+     * @param adults cantidad de adultos
+     * @param children cantidad de ninos
+     * @param couponCode codigo de cupon, opcional
+     * @return cotizacion con el desglose del precio
+     */
+    PriceQuoteResponse quote(Integer tourPlanId, LocalDate date, int adults, int children, String couponCode);
+
+    /**
+     * Igual que {@link #quote(Integer, LocalDate, int, int, String)} para un tour ya cargado.
+     *
+     * @param tourPlan tour a cotizar
+     * @param date fecha del tour
+     * @param adults cantidad de adultos
+     * @param children cantidad de ninos
+     * @param couponCode codigo de cupon, opcional
+     * @return cotizacion con el desglose del precio
+     */
+    PriceQuoteResponse quote(TourPlan tourPlan, LocalDate date, int adults, int children, String couponCode);
+
+    /**
+     * Cotiza todos los dias de un mes con una sola lectura de los ajustes por fecha.
+     *
+     * @param tourPlanId id del tour
+     * @param month mes a cotizar
+     * @param adults cantidad de adultos
+     * @param children cantidad de ninos
+     * @param couponCode codigo de cupon, opcional
+     * @return una cotizacion por dia del mes, en orden
+     */
+    List<PriceQuoteResponse> quoteMonth(Integer tourPlanId, YearMonth month, int adults, int children, String couponCode);
+
+    /**
+     * Descarta los precios especiales en memoria de un tour. Se invoca al modificarlos.
+     *
+     * @param tourPlanId id del tour
+     */
+    void invalidate(Integer tourPlanId);
+
+    /**
+     * Descarta los precios especiales en memoria de todos los tours.
+     */
+    void invalidateAll();
+}
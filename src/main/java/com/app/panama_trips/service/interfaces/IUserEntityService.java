@@ -1,5 +1,6 @@
 package com.app.panama_trips.service.interfaces;
 
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
 import com.app.panama_trips.presentation.dto.UserRequest;
 import com.app.panama_trips.presentation.dto.UserResponse;
 import org.springframework.data.domain.Page;
@@ -49,4 +50,10 @@ public interface IUserEntityService {
      * @throws com.app.panama_trips.exception.UserNotFoundException si no existe
      */
     void deleteUser(Long id);
+
+    /**
+     * Obtiene las métricas del pool dedicado al hashing de contraseñas.
+     * @return hilos, cola, rechazos y latencias promedio
+     */
+    PasswordHashingStatsResponse getPasswordHashingStats();
 }
@@ -0,0 +1,106 @@
+package com.app.panama_trips.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A ${name} template parsed once into alternating literal and variable slots:
+ * literals[0] variables[0] literals[1] ... variables[n-1] literals[n]. Rendering is a
+ * straight walk over the slots with one map lookup per variable, no scanning and no regex.
+ * A variable without a value is written back as its placeholder so the gap stays visible.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "${";
+    private static final char CLOSE = '}';
+    // Room reserved per variable when sizing the output
+    private static final int VALUE_LENGTH_HINT = 16;
+
+    private final String[] literals;
+    private final String[] variables;
+    private final String[] placeholders;
+    private final Set<String> variableNames;
+    private final int estimatedLength;
+
+    private CompiledTemplate(List<String> literals, List<String> variables, List<String> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.variables = variables.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.variableNames = Collections.unmodifiableSet(new LinkedHashSet<>(variables));
+        int length = 0;
+        for (String literal : this.literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length + this.variables.length * VALUE_LENGTH_HINT;
+    }
+
+    public static CompiledTemplate parse(String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The template source is required");
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int from = 0;
+        int start;
+        while ((start = source.indexOf(OPEN, from)) >= 0) {
+            int end = source.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                break;
+            }
+            String name = source.substring(start + OPEN.length(), end).strip();
+            literal.append(source, from, start);
+            if (name.isEmpty()) {
+                // "${}" is not a placeholder, it is kept as text
+                literal.append(source, start, end + 1);
+            } else {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                variables.add(name);
+                placeholders.add(source.substring(start, end + 1));
+            }
+            from = end + 1;
+        }
+        literals.add(literal.append(source, from, source.length()).toString());
+        return new CompiledTemplate(literals, variables, placeholders);
+    }
+
+    /**
+     * Names used by the template, in order of first appearance.
+     */
+    public Set<String> variableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Capacity that fits a rendering with short values without growing.
+     */
+    public int estimatedLength() {
+        return estimatedLength;
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        renderTo(values, out);
+        return out.toString();
+    }
+
+    /**
+     * Appends the rendering to {@code out}, so a caller rendering many messages can reuse
+     * one builder by resetting its length in between.
+     */
+    public void renderTo(Map<String, ?> values, StringBuilder out) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(variables[i]);
+            out.append(value != null ? value : placeholders[i]);
+        }
+        out.append(literals[variables.length]);
+    }
+}
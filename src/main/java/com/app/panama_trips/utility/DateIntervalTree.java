@@ -0,0 +1,101 @@
+package com.app.panama_trips.utility;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval tree over closed date ranges. The intervals are sorted by start and
+ * laid out as an implicit balanced tree (the middle of every slice is its root); each node
+ * keeps the latest end of its subtree, so a stabbing query skips every subtree that ends
+ * before the date and runs in O(log n + matches).
+ */
+public final class DateIntervalTree<T> {
+
+    private static final DateIntervalTree<?> EMPTY = new DateIntervalTree<>(List.of());
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final List<T> values;
+
+    private DateIntervalTree(List<Interval<T>> intervals) {
+        List<Interval<T>> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(Interval<T>::start));
+        int size = sorted.size();
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        List<T> sortedValues = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Interval<T> interval = sorted.get(i);
+            starts[i] = interval.start().toEpochDay();
+            ends[i] = interval.end().toEpochDay();
+            sortedValues.add(interval.value());
+        }
+        this.values = sortedValues;
+        computeMaxEnds(0, size - 1);
+    }
+
+    public static <T> DateIntervalTree<T> of(List<Interval<T>> intervals) {
+        for (Interval<T> interval : intervals) {
+            if (interval.end().isBefore(interval.start())) {
+                throw new IllegalArgumentException("Interval end must not be before its start: " + interval);
+            }
+        }
+        return new DateIntervalTree<>(intervals);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> DateIntervalTree<T> empty() {
+        return (DateIntervalTree<T>) EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    // Values of every interval that contains the date, in start order
+    public List<T> stab(LocalDate date) {
+        List<T> matches = new ArrayList<>(2);
+        stab(0, starts.length - 1, date.toEpochDay(), matches);
+        return matches;
+    }
+
+    private void stab(int lo, int hi, long day, List<T> matches) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] < day) {
+            return;
+        }
+        stab(lo, mid - 1, day, matches);
+        if (starts[mid] > day) {
+            // Everything to the right starts even later
+            return;
+        }
+        if (ends[mid] >= day) {
+            matches.add(values.get(mid));
+        }
+        stab(mid + 1, hi, day, matches);
+    }
+
+    private long computeMaxEnds(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid - 1), computeMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    public record Interval<T>(LocalDate start, LocalDate end, T value) {
+    }
+}
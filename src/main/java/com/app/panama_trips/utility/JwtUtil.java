@@ -27,8 +27,11 @@ public class JwtUtil {
     @Value("${security.jwt.expiration}")
     private long expirationTime;
 
+    // Built once on first use; both are immutable and thread-safe
+    private volatile Algorithm algorithm;
+    private volatile JWTVerifier verifier;
+
     public String generateToken(Authentication authentication, Long userId) {
-        Algorithm algorithm = Algorithm.HMAC256(privateKey);
         String username = authentication.getPrincipal().toString();
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -43,22 +46,37 @@ public class JwtUtil {
                 .withExpiresAt(new Date(System.currentTimeMillis() + expirationTime))
                 .withJWTId(UUID.randomUUID().toString())
                 .withNotBefore(new Date(System.currentTimeMillis()))
-                .sign(algorithm);
+                .sign(algorithm());
     }
 
     public DecodedJWT validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(privateKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(this.issuer)
-                    .build();
-
-            return verifier.verify(token);
+            return verifier().verify(token);
         } catch (JWTVerificationException ex) {
             throw new JWTVerificationException("Invalid token, not authorized");
         }
     }
 
+    private Algorithm algorithm() {
+        Algorithm current = algorithm;
+        if (current == null) {
+            current = Algorithm.HMAC256(privateKey);
+            algorithm = current;
+        }
+        return current;
+    }
+
+    private JWTVerifier verifier() {
+        JWTVerifier current = verifier;
+        if (current == null) {
+            current = JWT.require(algorithm())
+                    .withIssuer(this.issuer)
+                    .build();
+            verifier = current;
+        }
+        return current;
+    }
+
     public String getUsernameFromToken(DecodedJWT decodedJWT) {
         return decodedJWT.getSubject();
     }
@@ -0,0 +1,42 @@
+package com.app.panama_trips.utility;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public final class Pagination {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    // "Pagination disabled" no longer means the whole table: it returns the first capped page
+    public static Pageable of(Integer page, Integer size, Boolean enabledPagination) {
+        if (!Boolean.TRUE.equals(enabledPagination)) {
+            return PageRequest.of(0, MAX_SIZE);
+        }
+        return PageRequest.of(Math.max(page, 0), clampSize(size));
+    }
+
+    public static int clampSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // Pages an in-memory list; sorting is left to the caller
+    public static <T> Page<T> slice(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(items, pageable, items.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
+}
@@ -0,0 +1,50 @@
+package com.app.panama_trips.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Opaque continuation tokens for keyset scrolling. Every scrollable list is
+ * ordered by id, so the token only carries the id of the last row returned.
+ */
+public final class ScrollCursor {
+
+    private static final String ID_KEY = "id";
+    private static final String PREFIX = "k1:";
+
+    private ScrollCursor() {
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            Integer lastId = Integer.valueOf(raw.substring(PREFIX.length()));
+            return ScrollPosition.forward(Map.of(ID_KEY, lastId));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static String encode(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalStateException("Only keyset windows can be encoded as a cursor");
+        }
+        String raw = PREFIX + keyset.getKeys().get(ID_KEY);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
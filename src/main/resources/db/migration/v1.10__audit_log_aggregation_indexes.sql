@@ -0,0 +1,10 @@
+-- =============================================
+-- v1.10: Covering indexes for audit_log aggregations
+-- =============================================
+
+-- Each top-N query groups by one column and reads MIN/MAX(action_timestamp),
+-- so (group column, action_timestamp) lets PostgreSQL answer it from the index alone.
+CREATE INDEX IF NOT EXISTS idx_audit_log_user_timestamp ON audit_log(user_id, action_timestamp);
+CREATE INDEX IF NOT EXISTS idx_audit_log_entity_type_timestamp ON audit_log(entity_type, action_timestamp);
+CREATE INDEX IF NOT EXISTS idx_audit_log_action_timestamp ON audit_log(action, action_timestamp);
+CREATE INDEX IF NOT EXISTS idx_audit_log_ip_timestamp ON audit_log(ip_address, action_timestamp);
@@ -0,0 +1,15 @@
+-- =============================================
+-- v1.11: JSONB search support for audit_log old/new values
+-- =============================================
+
+-- GIN (jsonb_ops) indexes serve both key existence (?) and containment (@>)
+CREATE INDEX IF NOT EXISTS idx_audit_log_old_values_gin ON audit_log USING GIN (old_values);
+CREATE INDEX IF NOT EXISTS idx_audit_log_new_values_gin ON audit_log USING GIN (new_values);
+
+-- JDBC reserves '?' for bind parameters, so the key-existence operator is wrapped
+-- in a single-expression SQL function. The planner inlines it back into "doc ? key",
+-- which keeps the GIN indexes usable from native queries.
+CREATE OR REPLACE FUNCTION jsonb_has_key(doc JSONB, key TEXT)
+        RETURNS BOOLEAN AS $$
+            SELECT doc ? key
+        $$ LANGUAGE sql IMMUTABLE;
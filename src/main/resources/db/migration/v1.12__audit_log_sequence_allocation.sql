@@ -0,0 +1,7 @@
+-- =============================================
+-- v1.12: Pooled id allocation for audit_log
+-- =============================================
+
+-- AuditLog now uses a SEQUENCE generator with allocationSize = 50 so inserts can be
+-- JDBC-batched; the increment has to match the allocation size.
+ALTER SEQUENCE audit_log_id_seq INCREMENT BY 50;
@@ -0,0 +1,119 @@
+-- =============================================
+-- v1.13: Monthly range partitioning of audit_log on action_timestamp
+-- =============================================
+
+-- Keep the existing rows aside while the partitioned table is created
+ALTER TABLE audit_log RENAME TO audit_log_legacy;
+ALTER TABLE audit_log_legacy RENAME CONSTRAINT audit_log_pkey TO audit_log_legacy_pkey;
+
+-- The partition key has to be part of the primary key
+CREATE TABLE audit_log (
+        id INTEGER NOT NULL DEFAULT nextval('audit_log_id_seq'),
+        entity_type VARCHAR(50) NOT NULL,
+        entity_id INTEGER NOT NULL,
+        action VARCHAR(20) NOT NULL,
+        user_id INTEGER REFERENCES users(id) ON DELETE SET NULL,
+        action_timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+        old_values JSONB,
+        new_values JSONB,
+        ip_address VARCHAR(45),
+        user_agent TEXT,
+        CONSTRAINT audit_log_pkey PRIMARY KEY (id, action_timestamp)
+) PARTITION BY RANGE (action_timestamp);
+
+ALTER SEQUENCE audit_log_id_seq OWNED BY audit_log.id;
+
+-- Rows outside every monthly partition land here instead of failing the insert
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+-- Create the partition audit_log_pYYYYMM covering the month that starts at month_start.
+-- Rows of that month already sitting in audit_log_default would make CREATE ... PARTITION OF
+-- fail, so they are moved into the new table first and the table is attached afterwards.
+CREATE OR REPLACE FUNCTION create_audit_log_partition(month_start DATE)
+        RETURNS TEXT AS $$
+        DECLARE
+            range_start DATE := date_trunc('month', month_start)::DATE;
+            range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+            partition_name TEXT := 'audit_log_p' || to_char(range_start, 'YYYYMM');
+        BEGIN
+            IF to_regclass(partition_name) IS NOT NULL THEN
+                RETURN partition_name;
+            END IF;
+
+            -- Holds back inserts that would land in the default partition until the attach
+            LOCK TABLE audit_log_default IN SHARE ROW EXCLUSIVE MODE;
+
+            IF EXISTS (SELECT 1 FROM audit_log_default
+                       WHERE action_timestamp >= range_start AND action_timestamp < range_end) THEN
+                EXECUTE format('CREATE TABLE %I (LIKE audit_log INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                    partition_name);
+                EXECUTE format(
+                    'WITH moved AS (DELETE FROM audit_log_default WHERE action_timestamp >= %L AND action_timestamp < %L '
+                    'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                    range_start, range_end, partition_name);
+                -- Indexes, the primary key and foreign keys of the parent are added on attach
+                EXECUTE format('ALTER TABLE audit_log ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, range_start, range_end);
+            ELSE
+                EXECUTE format(
+                    'CREATE TABLE %I PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, range_start, range_end);
+            END IF;
+            RETURN partition_name;
+        END;
+        $$ LANGUAGE plpgsql;
+
+-- Detach and drop every monthly partition whose whole range is older than cutoff
+CREATE OR REPLACE FUNCTION drop_audit_log_partitions_before(cutoff TIMESTAMP)
+        RETURNS INTEGER AS $$
+        DECLARE
+            part RECORD;
+            dropped INTEGER := 0;
+        BEGIN
+            FOR part IN
+                SELECT c.relname
+                FROM pg_inherits i
+                         JOIN pg_class c ON c.oid = i.inhrelid
+                         JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'audit_log'
+                  AND c.relname ~ '^audit_log_p[0-9]{6}$'
+                  AND to_date(substring(c.relname FROM 12), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+            LOOP
+                EXECUTE format('ALTER TABLE audit_log DETACH PARTITION %I', part.relname);
+                EXECUTE format('DROP TABLE %I', part.relname);
+                dropped := dropped + 1;
+            END LOOP;
+            RETURN dropped;
+        END;
+        $$ LANGUAGE plpgsql;
+
+-- Partitions for the existing history plus the next three months
+DO $$
+    DECLARE
+        month_cursor DATE := date_trunc('month', COALESCE(
+                (SELECT MIN(action_timestamp) FROM audit_log_legacy), CURRENT_TIMESTAMP))::DATE;
+    BEGIN
+        WHILE month_cursor <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+            PERFORM create_audit_log_partition(month_cursor);
+            month_cursor := (month_cursor + INTERVAL '1 month')::DATE;
+        END LOOP;
+    END
+$$;
+
+INSERT INTO audit_log (id, entity_type, entity_id, action, user_id, action_timestamp,
+                       old_values, new_values, ip_address, user_agent)
+SELECT id, entity_type, entity_id, action, user_id, COALESCE(action_timestamp, CURRENT_TIMESTAMP),
+       old_values, new_values, ip_address, user_agent
+FROM audit_log_legacy;
+
+DROP TABLE audit_log_legacy;
+
+-- Indexes declared on the parent are created on every partition
+CREATE INDEX idx_audit_log_entity ON audit_log(entity_type, entity_id);
+CREATE INDEX idx_audit_log_timestamp ON audit_log(action_timestamp);
+CREATE INDEX idx_audit_log_user_timestamp ON audit_log(user_id, action_timestamp);
+CREATE INDEX idx_audit_log_entity_type_timestamp ON audit_log(entity_type, action_timestamp);
+CREATE INDEX idx_audit_log_action_timestamp ON audit_log(action, action_timestamp);
+CREATE INDEX idx_audit_log_ip_timestamp ON audit_log(ip_address, action_timestamp);
+CREATE INDEX idx_audit_log_old_values_gin ON audit_log USING GIN (old_values);
+CREATE INDEX idx_audit_log_new_values_gin ON audit_log USING GIN (new_values);
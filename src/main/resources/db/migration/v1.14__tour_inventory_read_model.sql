@@ -0,0 +1,102 @@
+-- =============================================
+-- v1.14: tour_inventory read model for available_tours
+-- =============================================
+
+-- Booked persons per tour plan, maintained incrementally by a trigger on reservations
+-- instead of re-aggregating every reservation on each read of available_tours.
+CREATE TABLE tour_inventory (
+        tour_plan_id INTEGER PRIMARY KEY REFERENCES tour_plans(id) ON DELETE CASCADE,
+        active_bookings BIGINT NOT NULL DEFAULT 0,
+        booked_persons BIGINT NOT NULL DEFAULT 0,
+        updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO tour_inventory (tour_plan_id, active_bookings, booked_persons)
+SELECT t.id,
+       COUNT(r.id),
+       COALESCE(SUM(CASE WHEN r.id IS NOT NULL THEN COALESCE(r.number_of_persons, 1) END), 0)
+FROM tour_plans t
+         LEFT JOIN reservations r ON r.tour_plan_id = t.id
+    AND r.reservation_status != 'cancelled'
+GROUP BY t.id;
+
+-- Applies the delta of one reservation row: the old version leaves the inventory,
+-- the new one enters it. Cancelled reservations and reservations without a tour plan never count.
+CREATE OR REPLACE FUNCTION tour_inventory_apply_reservation() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.tour_plan_id IS NOT NULL
+            AND OLD.reservation_status != 'cancelled' THEN
+        INSERT INTO tour_inventory AS i (tour_plan_id, active_bookings, booked_persons)
+        VALUES (OLD.tour_plan_id, -1, -COALESCE(OLD.number_of_persons, 1))
+        ON CONFLICT (tour_plan_id) DO UPDATE
+            SET active_bookings = i.active_bookings - 1,
+                booked_persons = i.booked_persons - COALESCE(OLD.number_of_persons, 1),
+                updated_at = CURRENT_TIMESTAMP;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.tour_plan_id IS NOT NULL
+            AND NEW.reservation_status != 'cancelled' THEN
+        INSERT INTO tour_inventory AS i (tour_plan_id, active_bookings, booked_persons)
+        VALUES (NEW.tour_plan_id, 1, COALESCE(NEW.number_of_persons, 1))
+        ON CONFLICT (tour_plan_id) DO UPDATE
+            SET active_bookings = i.active_bookings + 1,
+                booked_persons = i.booked_persons + COALESCE(NEW.number_of_persons, 1),
+                updated_at = CURRENT_TIMESTAMP;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reservations_tour_inventory
+    AFTER INSERT OR DELETE OR UPDATE OF reservation_status, number_of_persons, tour_plan_id
+    ON reservations
+    FOR EACH ROW
+EXECUTE FUNCTION tour_inventory_apply_reservation();
+
+-- Recomputes the inventory from reservations and repairs any drifted row.
+-- The table lock waits for in-flight bookings and holds new ones back, so the
+-- recount cannot overwrite a delta committed while it runs.
+CREATE OR REPLACE FUNCTION reconcile_tour_inventory() RETURNS INTEGER AS $$
+DECLARE
+    repaired INTEGER;
+BEGIN
+    LOCK TABLE tour_inventory IN SHARE ROW EXCLUSIVE MODE;
+
+    WITH expected AS (
+        SELECT t.id AS tour_plan_id,
+               COUNT(r.id) AS active_bookings,
+               COALESCE(SUM(CASE WHEN r.id IS NOT NULL THEN COALESCE(r.number_of_persons, 1) END), 0) AS booked_persons
+        FROM tour_plans t
+                 LEFT JOIN reservations r ON r.tour_plan_id = t.id
+            AND r.reservation_status != 'cancelled'
+        GROUP BY t.id
+    )
+    INSERT INTO tour_inventory AS i (tour_plan_id, active_bookings, booked_persons)
+    SELECT e.tour_plan_id, e.active_bookings, e.booked_persons
+    FROM expected e
+             LEFT JOIN tour_inventory cur ON cur.tour_plan_id = e.tour_plan_id
+    WHERE cur.tour_plan_id IS NULL
+       OR cur.active_bookings != e.active_bookings
+       OR cur.booked_persons != e.booked_persons
+    ON CONFLICT (tour_plan_id) DO UPDATE
+        SET active_bookings = EXCLUDED.active_bookings,
+            booked_persons = EXCLUDED.booked_persons,
+            updated_at = CURRENT_TIMESTAMP;
+
+    GET DIAGNOSTICS repaired = ROW_COUNT;
+    RETURN repaired;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Re-point the view at the read model: a primary-key join instead of a GROUP BY over reservations
+DROP VIEW IF EXISTS available_tours;
+
+CREATE VIEW available_tours AS
+        SELECT t.*,
+               COALESCE(i.active_bookings, 0) AS active_bookings,
+               (t.available_spots - COALESCE(i.booked_persons, 0)) AS remaining_spots
+        FROM tour_plans t
+                 LEFT JOIN tour_inventory i ON i.tour_plan_id = t.id
+        WHERE t.status = 'ACTIVE'
+          AND (t.available_spots - COALESCE(i.booked_persons, 0)) > 0;
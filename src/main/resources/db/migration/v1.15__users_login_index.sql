@@ -0,0 +1,7 @@
+-- =============================================
+-- v1.15: Covering index for the login lookup
+-- =============================================
+
+-- UserEntityRepository.findCredentialsByName reads id, password_hash and role_id by name;
+-- with these columns included the lookup is a single index probe.
+CREATE INDEX IF NOT EXISTS idx_users_name_login ON users(name) INCLUDE (id, password_hash, role_id);
@@ -0,0 +1,116 @@
+-- =============================================
+-- v1.16: Full-text and typeahead search for tour plans
+-- =============================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() is only STABLE; expression indexes need an IMMUTABLE wrapper with the
+-- dictionary pinned so the result cannot depend on search_path.
+CREATE OR REPLACE FUNCTION immutable_unaccent(TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT AS
+$$
+SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+-- Spanish and English configurations that fold accents before stemming, so
+-- "panama" matches "Panamá" and "excursion" matches "excursión".
+CREATE TEXT SEARCH CONFIGURATION tour_es (COPY = pg_catalog.spanish);
+ALTER TEXT SEARCH CONFIGURATION tour_es
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+
+CREATE TEXT SEARCH CONFIGURATION tour_en (COPY = pg_catalog.english);
+ALTER TEXT SEARCH CONFIGURATION tour_en
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, english_stem;
+
+ALTER TABLE tour_plans ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- Builds the document of one tour: its own text in Spanish plus every translation in the
+-- dictionary of its language. Titles weigh A, short descriptions and tags B, descriptions C.
+CREATE OR REPLACE FUNCTION tour_plan_search_vector(p_id INTEGER, p_title TEXT, p_short_description TEXT,
+                                                   p_description TEXT, p_tags JSONB) RETURNS TSVECTOR AS $$
+DECLARE
+    doc TSVECTOR;
+    cfg REGCONFIG;
+    tr RECORD;
+BEGIN
+    doc := setweight(to_tsvector('tour_es', COALESCE(p_title, '')), 'A')
+        || setweight(to_tsvector('tour_es', COALESCE(p_short_description, '')), 'B')
+        || setweight(to_tsvector('tour_es', COALESCE(p_description, '')), 'C');
+
+    IF jsonb_typeof(p_tags) = 'array' THEN
+        doc := doc || setweight(to_tsvector('tour_es',
+                COALESCE((SELECT string_agg(tag, ' ') FROM jsonb_array_elements_text(p_tags) AS tag), '')), 'B');
+    END IF;
+
+    FOR tr IN SELECT language_code, title, short_description, description
+              FROM tour_translations
+              WHERE tour_plan_id = p_id
+        LOOP
+            cfg := CASE tr.language_code
+                       WHEN 'es' THEN 'tour_es'::regconfig
+                       WHEN 'en' THEN 'tour_en'::regconfig
+                       ELSE 'simple'::regconfig
+                END;
+            doc := doc
+                || setweight(to_tsvector(cfg, COALESCE(tr.title, '')), 'A')
+                || setweight(to_tsvector(cfg, COALESCE(tr.short_description, '')), 'B')
+                || setweight(to_tsvector(cfg, COALESCE(tr.description, '')), 'C');
+        END LOOP;
+
+    RETURN doc;
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION tour_plans_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := tour_plan_search_vector(NEW.id, NEW.title, NEW.short_description,
+                                                 NEW.description, NEW.tags);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tour_plans_search_vector
+    BEFORE INSERT OR UPDATE OF title, short_description, description, tags
+    ON tour_plans
+    FOR EACH ROW
+EXECUTE FUNCTION tour_plans_refresh_search_vector();
+
+-- A translation change rebuilds the document of its tour; search_vector is not in the
+-- column list of the trigger above, so this update does not recurse.
+CREATE OR REPLACE FUNCTION tour_translations_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        UPDATE tour_plans t
+        SET search_vector = tour_plan_search_vector(t.id, t.title, t.short_description, t.description, t.tags)
+        WHERE t.id = NEW.tour_plan_id;
+    END IF;
+
+    IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND OLD.tour_plan_id IS DISTINCT FROM NEW.tour_plan_id) THEN
+        UPDATE tour_plans t
+        SET search_vector = tour_plan_search_vector(t.id, t.title, t.short_description, t.description, t.tags)
+        WHERE t.id = OLD.tour_plan_id;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tour_translations_search_vector
+    AFTER INSERT OR UPDATE OR DELETE
+    ON tour_translations
+    FOR EACH ROW
+EXECUTE FUNCTION tour_translations_refresh_search_vector();
+
+UPDATE tour_plans t
+SET search_vector = tour_plan_search_vector(t.id, t.title, t.short_description, t.description, t.tags);
+
+-- Ranked search: search_vector @@ query
+CREATE INDEX IF NOT EXISTS idx_tour_plans_search_vector ON tour_plans USING gin (search_vector);
+
+-- Typeahead: substring and word-similarity matches on the accent-folded title
+CREATE INDEX IF NOT EXISTS idx_tour_plans_title_trgm
+    ON tour_plans USING gin (immutable_unaccent(lower(title)) gin_trgm_ops);
+
+-- Tag lookups: tags @> '["playa"]'
+CREATE INDEX IF NOT EXISTS idx_tour_plans_tags ON tour_plans USING gin (tags jsonb_path_ops);
@@ -0,0 +1,12 @@
+-- =============================================
+-- v1.17: Indexes for the tour discovery search
+-- =============================================
+
+-- Region and province filters and the region facet walk tour_plan_regions by region;
+-- the primary key (tour_plan_id, region_id) only serves lookups by tour.
+CREATE INDEX IF NOT EXISTS idx_tour_plan_regions_region ON tour_plan_regions(region_id, tour_plan_id);
+
+-- Discovery only reads active tours; the difficulty facet groups on difficulty_level
+-- and the price ranges read price from the same index entries.
+CREATE INDEX IF NOT EXISTS idx_tour_plans_active_difficulty_price
+    ON tour_plans(difficulty_level, price) WHERE status = 'ACTIVE';
@@ -0,0 +1,19 @@
+-- =============================================
+-- v1.18: Non-overlapping special price periods per tour plan
+-- =============================================
+
+-- btree_gist lets the exclusion constraint combine "=" on tour_plan_id with "&&" on the period
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Closed range [start_date, end_date], derived so the existing columns stay the source of truth
+ALTER TABLE tour_plan_special_prices
+    ADD COLUMN IF NOT EXISTS period DATERANGE
+        GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+-- Two periods of the same tour can never overlap, whatever the interleaving of concurrent
+-- writes. Existing overlaps make this statement fail and must be fixed by hand first.
+-- The GiST index behind the constraint also serves the "period && range" and
+-- "period @> date" lookups of TourPlanSpecialPriceRepository.
+ALTER TABLE tour_plan_special_prices
+    ADD CONSTRAINT ex_tour_plan_special_prices_overlap
+        EXCLUDE USING gist (tour_plan_id WITH =, period WITH &&);
@@ -0,0 +1,7 @@
+-- =============================================
+-- v1.19: Pooled id allocation for payment_installments
+-- =============================================
+
+-- PaymentInstallment now uses a SEQUENCE generator with allocationSize = 50 so the bulk
+-- create path can be JDBC-batched; the increment has to match the allocation size.
+ALTER SEQUENCE payment_installments_id_seq INCREMENT BY 50;
@@ -0,0 +1,40 @@
+-- =============================================
+-- v1.20: notification_history as a durable dispatch queue
+-- =============================================
+
+-- PENDING rows are the queue. attempts and next_attempt_at drive the exponential backoff;
+-- while a row is being sent, next_attempt_at holds the lease of the worker that claimed it.
+-- payload carries the template variables, dedup_key makes enqueueing idempotent so a
+-- reminder job that runs twice (or on two nodes) never queues the same message twice.
+ALTER TABLE notification_history
+    ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP,
+    ADD COLUMN last_error TEXT,
+    ADD COLUMN payload JSONB,
+    ADD COLUMN dedup_key VARCHAR(100);
+
+ALTER TABLE notification_history
+    ADD CONSTRAINT uk_notification_history_dedup_key UNIQUE (dedup_key);
+
+-- Claim scan: "PENDING AND next_attempt_at <= now() ORDER BY id ... FOR UPDATE SKIP LOCKED".
+-- Delivered and failed rows, the bulk of the table, stay out of the index.
+CREATE INDEX idx_notification_history_dispatch
+    ON notification_history (id, next_attempt_at)
+    WHERE delivery_status = 'PENDING';
+
+-- Templates the installment reminder jobs queue with (PaymentInstallmentConstants). Their
+-- payload provides installmentId, reservationId, amount and dueDate; the user's name and
+-- email are added when the notification is claimed.
+INSERT INTO notification_templates (name, subject, body, type)
+SELECT 'PAYMENT_REMINDER_DUE',
+       'Recordatorio de pago de tu reserva #${reservationId}',
+       'Hola ${userName}, te recordamos que la cuota de ${amount} de tu reserva #${reservationId} vence el ${dueDate}.',
+       'EMAIL'
+WHERE NOT EXISTS (SELECT 1 FROM notification_templates WHERE name = 'PAYMENT_REMINDER_DUE');
+
+INSERT INTO notification_templates (name, subject, body, type)
+SELECT 'PAYMENT_REMINDER_OVERDUE',
+       'Cuota vencida de tu reserva #${reservationId}',
+       'Hola ${userName}, la cuota de ${amount} de tu reserva #${reservationId} venció el ${dueDate} y sigue pendiente de pago.',
+       'EMAIL'
+WHERE NOT EXISTS (SELECT 1 FROM notification_templates WHERE name = 'PAYMENT_REMINDER_OVERDUE');
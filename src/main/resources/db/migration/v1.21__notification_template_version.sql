@@ -0,0 +1,8 @@
+-- =============================================
+-- v1.21: revision counter for notification templates
+-- =============================================
+
+-- Bumped on every update of a template. Compiled templates are cached by (id, version),
+-- so an edited subject or body is recompiled on first use instead of being compared.
+ALTER TABLE notification_templates
+    ADD COLUMN version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,171 @@
+-- =============================================
+-- v1.22: daily_statistics rollup
+-- =============================================
+
+-- The entity reads daily_statistics by a surrogate id; date stays the primary key and
+-- is what the rollup upserts on.
+ALTER TABLE daily_statistics
+    ADD COLUMN IF NOT EXISTS id BIGINT GENERATED BY DEFAULT AS IDENTITY UNIQUE;
+
+-- Every day is bucketed by creation time, the rollup reads one day at a time by range.
+CREATE INDEX IF NOT EXISTS idx_reservations_created_at ON reservations(created_at);
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users(created_at);
+
+-- Recomputes the given days from reservations, users and tour_plan_regions in one statement
+-- and upserts their rows. A day is the creation date of its reservations and users:
+-- completed counts confirmed bookings, revenue sums confirmed bookings, and the top tour and
+-- region are the ones with the most bookings that were not cancelled (lowest id on ties).
+-- Running it twice gives the same rows; rows that did not change are not rewritten.
+CREATE OR REPLACE FUNCTION rollup_daily_statistics(days DATE[]) RETURNS INTEGER AS $$
+DECLARE
+    changed INTEGER;
+BEGIN
+    WITH target AS (
+        SELECT DISTINCT d AS day
+        FROM unnest(days) AS d
+        WHERE d IS NOT NULL
+    ),
+    per_tour AS (
+        SELECT t.day,
+               r.tour_plan_id,
+               COUNT(*) AS total,
+               COUNT(*) FILTER (WHERE r.reservation_status = 'confirmed') AS confirmed,
+               COUNT(*) FILTER (WHERE r.reservation_status = 'cancelled') AS cancelled,
+               COALESCE(SUM(r.total_price) FILTER (WHERE r.reservation_status = 'confirmed'), 0) AS revenue
+        FROM target t
+                 JOIN reservations r ON r.created_at >= t.day AND r.created_at < t.day + 1
+        GROUP BY t.day, r.tour_plan_id
+    ),
+    totals AS (
+        SELECT day,
+               SUM(total) AS total,
+               SUM(confirmed) AS confirmed,
+               SUM(cancelled) AS cancelled,
+               SUM(revenue) AS revenue
+        FROM per_tour
+        GROUP BY day
+    ),
+    top_tour AS (
+        SELECT DISTINCT ON (day) day, tour_plan_id
+        FROM per_tour
+        WHERE tour_plan_id IS NOT NULL
+          AND total > cancelled
+        ORDER BY day, total - cancelled DESC, tour_plan_id
+    ),
+    top_region AS (
+        SELECT DISTINCT ON (pt.day) pt.day, tpr.region_id
+        FROM per_tour pt
+                 JOIN tour_plan_regions tpr ON tpr.tour_plan_id = pt.tour_plan_id
+        WHERE pt.total > pt.cancelled
+        GROUP BY pt.day, tpr.region_id
+        ORDER BY pt.day, SUM(pt.total - pt.cancelled) DESC, tpr.region_id
+    ),
+    signups AS (
+        SELECT t.day, COUNT(u.id) AS new_users
+        FROM target t
+                 JOIN users u ON u.created_at >= t.day AND u.created_at < t.day + 1
+        GROUP BY t.day
+    )
+    INSERT INTO daily_statistics AS ds (date, total_reservations, completed_reservations, cancelled_reservations,
+                                        total_revenue, new_users, top_tour_id, top_region_id)
+    SELECT t.day,
+           COALESCE(tot.total, 0),
+           COALESCE(tot.confirmed, 0),
+           COALESCE(tot.cancelled, 0),
+           COALESCE(tot.revenue, 0),
+           COALESCE(s.new_users, 0),
+           tt.tour_plan_id,
+           tr.region_id
+    FROM target t
+             LEFT JOIN totals tot ON tot.day = t.day
+             LEFT JOIN signups s ON s.day = t.day
+             LEFT JOIN top_tour tt ON tt.day = t.day
+             LEFT JOIN top_region tr ON tr.day = t.day
+    ON CONFLICT (date) DO UPDATE
+        SET total_reservations = EXCLUDED.total_reservations,
+            completed_reservations = EXCLUDED.completed_reservations,
+            cancelled_reservations = EXCLUDED.cancelled_reservations,
+            total_revenue = EXCLUDED.total_revenue,
+            new_users = EXCLUDED.new_users,
+            top_tour_id = EXCLUDED.top_tour_id,
+            top_region_id = EXCLUDED.top_region_id
+        WHERE (ds.total_reservations, ds.completed_reservations, ds.cancelled_reservations, ds.total_revenue,
+               ds.new_users, ds.top_tour_id, ds.top_region_id)
+              IS DISTINCT FROM
+              (EXCLUDED.total_reservations, EXCLUDED.completed_reservations, EXCLUDED.cancelled_reservations,
+               EXCLUDED.total_revenue, EXCLUDED.new_users, EXCLUDED.top_tour_id, EXCLUDED.top_region_id);
+
+    GET DIAGNOSTICS changed = ROW_COUNT;
+    RETURN changed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Days touched since the last rollup. Append-only on purpose: a unique day row would make
+-- every booking of the same day wait on one row lock, and a change committed while the
+-- rollup runs must not be consumed by it.
+CREATE TABLE daily_statistics_changes (
+        id BIGSERIAL PRIMARY KEY,
+        date DATE NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION daily_statistics_track_change() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.created_at IS NOT NULL THEN
+        INSERT INTO daily_statistics_changes (date) VALUES (CAST(OLD.created_at AS DATE));
+    END IF;
+
+    IF TG_OP = 'INSERT' AND NEW.created_at IS NOT NULL THEN
+        INSERT INTO daily_statistics_changes (date) VALUES (CAST(NEW.created_at AS DATE));
+    ELSIF TG_OP = 'UPDATE' AND CAST(NEW.created_at AS DATE) IS DISTINCT FROM CAST(OLD.created_at AS DATE)
+            AND NEW.created_at IS NOT NULL THEN
+        INSERT INTO daily_statistics_changes (date) VALUES (CAST(NEW.created_at AS DATE));
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_reservations_daily_statistics
+    AFTER INSERT OR DELETE OR UPDATE OF reservation_status, total_price, tour_plan_id, created_at
+    ON reservations
+    FOR EACH ROW
+EXECUTE FUNCTION daily_statistics_track_change();
+
+CREATE TRIGGER trg_users_daily_statistics
+    AFTER INSERT OR DELETE OR UPDATE OF created_at
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION daily_statistics_track_change();
+
+-- Consumes up to max_changes tracked changes and recomputes their days. Changes of
+-- transactions still in flight are not visible here and stay for the next run.
+-- Returns how many changes were consumed.
+CREATE OR REPLACE FUNCTION rollup_changed_daily_statistics(max_changes INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    consumed INTEGER;
+    changed_days DATE[];
+BEGIN
+    WITH claimed AS (
+        DELETE FROM daily_statistics_changes
+        WHERE id IN (SELECT id
+                     FROM daily_statistics_changes
+                     ORDER BY id
+                     LIMIT max_changes
+                     FOR UPDATE SKIP LOCKED)
+        RETURNING date
+    )
+    SELECT COUNT(*), array_agg(DISTINCT date) INTO consumed, changed_days
+    FROM claimed;
+
+    IF consumed > 0 THEN
+        PERFORM rollup_daily_statistics(changed_days);
+    END IF;
+    RETURN consumed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Existing history is picked up by the first incremental run
+INSERT INTO daily_statistics_changes (date)
+SELECT CAST(created_at AS DATE) FROM reservations WHERE created_at IS NOT NULL
+UNION
+SELECT CAST(created_at AS DATE) FROM users WHERE created_at IS NOT NULL;
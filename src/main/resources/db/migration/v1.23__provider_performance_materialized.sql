@@ -0,0 +1,52 @@
+-- =============================================
+-- v1.23: provider_performance as a materialized read model
+-- =============================================
+
+-- The view joined tours, reservations and reviews side by side, so every reservation was
+-- repeated once per review of its tour (and the other way round): reservation counts,
+-- revenue and tour counts came out multiplied. Each measure is now aggregated on its own
+-- per provider before the join, and the result is stored instead of recomputed on every read.
+DROP VIEW IF EXISTS provider_performance;
+
+CREATE MATERIALIZED VIEW provider_performance AS
+        SELECT
+            p.id AS provider_id,
+            p.name AS provider_name,
+            COALESCE(t.total_tours, 0) AS total_tours,
+            COALESCE(r.total_reservations, 0) AS total_reservations,
+            COALESCE(r.total_revenue, 0) AS total_revenue,
+            rv.average_rating,
+            COALESCE(r.unique_customers, 0) AS unique_customers
+        FROM providers p
+                 LEFT JOIN (SELECT provider_id, COUNT(*) AS total_tours
+                            FROM tour_plans
+                            GROUP BY provider_id) t ON t.provider_id = p.id
+                 LEFT JOIN (SELECT tp.provider_id,
+                                   COUNT(*) AS total_reservations,
+                                   SUM(res.total_price) AS total_revenue,
+                                   COUNT(DISTINCT res.user_id) AS unique_customers
+                            FROM reservations res
+                                     JOIN tour_plans tp ON tp.id = res.tour_plan_id
+                            WHERE res.reservation_status = 'confirmed'
+                            GROUP BY tp.provider_id) r ON r.provider_id = p.id
+                 LEFT JOIN (SELECT tp.provider_id,
+                                   CAST(AVG(rev.rating) AS NUMERIC(3, 2)) AS average_rating
+                            FROM reviews rev
+                                     JOIN tour_plans tp ON tp.id = rev.tour_plan_id
+                            GROUP BY tp.provider_id) rv ON rv.provider_id = p.id;
+
+-- Required by REFRESH MATERIALIZED VIEW CONCURRENTLY, which keeps the view readable while it runs
+CREATE UNIQUE INDEX ux_provider_performance_provider_id ON provider_performance(provider_id);
+
+-- findAllOrderByRevenueDesc
+CREATE INDEX idx_provider_performance_revenue ON provider_performance(total_revenue DESC);
+
+-- findTopPerformers (rating floor, then tour count) and findByAverageRatingGreaterThanEqual
+CREATE INDEX idx_provider_performance_rating_tours ON provider_performance(average_rating, total_tours);
+
+-- findByTotalReservationsGreaterThan
+CREATE INDEX idx_provider_performance_reservations ON provider_performance(total_reservations);
+
+-- searchByProviderName: LOWER(provider_name) LIKE '%keyword%' (pg_trgm from v1.16)
+CREATE INDEX idx_provider_performance_name_trgm
+    ON provider_performance USING gin (lower(provider_name) gin_trgm_ops);
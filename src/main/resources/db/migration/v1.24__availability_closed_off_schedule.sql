@@ -0,0 +1,9 @@
+-- =============================================
+-- v1.24: Track the availability days the generator closed
+-- =============================================
+
+-- regenerateAvailability closes booked days that leave the schedule; when they come back
+-- the generator reopens them, but must not reopen days closed by hand. Rows closed before
+-- this migration cannot be told apart and stay closed.
+ALTER TABLE tour_plan_availability
+    ADD COLUMN IF NOT EXISTS closed_off_schedule BOOLEAN NOT NULL DEFAULT false;
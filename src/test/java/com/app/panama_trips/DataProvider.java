@@ -586,7 +586,10 @@ public class DataProvider {
                         List.of("Water", "Sunscreen"),
                         List.of("Adventure", "Nature"),
                         List.of("English", "Spanish"),
-                        List.of("http://example.com/image1.jpg"));
+                        List.of("http://example.com/image1.jpg"),
+                        null,
+                        null,
+                        null);
 
         public static List<TourPlanResponse> tourPlanResponseListMocks = List.of(
                         new TourPlanResponse(tourPlanOneMock),
@@ -2056,6 +2059,14 @@ public class DataProvider {
                                 auditLogFiveMock());
         }
 
+        public static List<AuditLogActivityResponse> auditLogActivityListMock() {
+                return List.of(
+                                new AuditLogActivityResponse("1", 3L, LocalDateTime.now().minusDays(2),
+                                                LocalDateTime.now().minusHours(1)),
+                                new AuditLogActivityResponse("2", 1L, LocalDateTime.now().minusHours(5),
+                                                LocalDateTime.now().minusHours(5)));
+        }
+
         // Additional mock data for specific test scenarios
         public static AuditLog auditLogWithNullUserMock() {
                 return AuditLog.builder()
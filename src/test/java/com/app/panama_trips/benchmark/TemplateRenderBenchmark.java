@@ -0,0 +1,78 @@
+package com.app.panama_trips.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.app.panama_trips.persistence.entity.NotificationTemplate;
+import com.app.panama_trips.service.implementation.TemplateRenderingService;
+
+/**
+ * Renders a mass mailing of one million messages through the batch API. The time of one
+ * invocation is the time of the whole mailing. Not part of the test suite; run it from the
+ * IDE or with the test classpath: java -cp ... com.app.panama_trips.benchmark.TemplateRenderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateRenderBenchmark {
+
+    private static final int MESSAGES = 1_000_000;
+
+    private final TemplateRenderingService renderer = new TemplateRenderingService();
+    private NotificationTemplate template;
+    private List<Map<String, Object>> recipients;
+
+    @Setup
+    public void setUp() {
+        template = NotificationTemplate.builder()
+                .id(1)
+                .name("PAYMENT_REMINDER_DUE")
+                .subject("Payment reminder for reservation ${reservationId}")
+                .body("Hello ${userName} ${userLastname}, the installment ${installmentId} of your "
+                        + "reservation ${reservationId} for ${amount} USD is due on ${dueDate}. "
+                        + "If you already paid it, please ignore this message.")
+                .type("EMAIL")
+                .variables("userName,userLastname,installmentId,reservationId,amount,dueDate")
+                .build();
+        recipients = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            recipients.add(Map.of(
+                    "userName", "User" + i,
+                    "userLastname", "Lastname" + i,
+                    "installmentId", i,
+                    "reservationId", i / 3,
+                    "amount", "150.00",
+                    "dueDate", "2026-11-01"));
+        }
+    }
+
+    @Benchmark
+    public List<String> renderMailing() {
+        return renderer.renderBodies(template, recipients);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TemplateRenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.app.panama_trips.persistence.entity.AuditLog;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
 import com.app.panama_trips.service.implementation.AuditLogService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -604,6 +605,38 @@ public class AuditLogControllerTest {
         verify(service).bulkCreateAuditLogs(anyList());
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    @DisplayName("Should accept an audit log for deferred writing when record is called")
+    void record_success() throws Exception {
+        // Given
+        when(service.recordAuditLog(any(AuditLog.class))).thenReturn(true);
+
+        // When/Then
+        mockMvc.perform(post("/api/audit-logs/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(auditLog))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isAccepted());
+
+        verify(service).recordAuditLog(any(AuditLog.class));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    @DisplayName("Should answer 429 when the write-behind buffer is full")
+    void record_whenBufferFull_shouldReturnTooManyRequests() throws Exception {
+        // Given
+        when(service.recordAuditLog(any(AuditLog.class))).thenReturn(false);
+
+        // When/Then
+        mockMvc.perform(post("/api/audit-logs/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(auditLog))
+                .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isTooManyRequests());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = { "ADMIN" })
     @DisplayName("Should delete multiple audit logs in bulk when bulkDelete is called")
@@ -1097,34 +1130,66 @@ public class AuditLogControllerTest {
         verify(service).getTotalAuditLogsByIpAddress(ipAddress);
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    @DisplayName("Should get write-behind buffer stats when getWriteBehindStats is called")
+    void getWriteBehindStats_success() throws Exception {
+        // Given
+        AuditLogWriterStatsResponse stats = new AuditLogWriterStatsResponse(5, 10000, 120L, 2L, 115L, 0L, 50L, 3L);
+        when(service.getWriteBehindStats()).thenReturn(stats);
+
+        // When/Then
+        mockMvc.perform(get("/api/audit-logs/write-behind/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(5))
+                .andExpect(jsonPath("$.rejected").value(2));
+
+        verify(service).getWriteBehindStats();
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = { "ADMIN" })
     @DisplayName("Should get top users by activity when getTopUsersByActivity is called")
     void getTopUsersByActivity_success() throws Exception {
         // Given
         int limit = 10;
-        when(service.getTopUsersByActivity(limit)).thenReturn(auditLogs);
+        when(service.getTopUsersByActivity(limit)).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/top-users/{limit}", limit))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getTopUsersByActivity(limit);
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    @DisplayName("Should return 400 when the top-N limit is not positive")
+    void getTopUsersByActivity_withInvalidLimit_shouldReturnBadRequest() throws Exception {
+        // Given
+        when(service.getTopUsersByActivity(0))
+                .thenThrow(new IllegalArgumentException("Limit must be between 1 and 1000"));
+
+        // When/Then
+        mockMvc.perform(get("/api/audit-logs/stats/top-users/{limit}", 0))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = { "ADMIN" })
     @DisplayName("Should get top entity types by activity when getTopEntityTypesByActivity is called")
     void getTopEntityTypesByActivity_success() throws Exception {
         // Given
         int limit = 5;
-        when(service.getTopEntityTypesByActivity(limit)).thenReturn(auditLogs);
+        when(service.getTopEntityTypesByActivity(limit)).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/top-entity-types/{limit}", limit))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getTopEntityTypesByActivity(limit);
     }
@@ -1135,12 +1200,13 @@ public class AuditLogControllerTest {
     void getTopActionsByActivity_success() throws Exception {
         // Given
         int limit = 8;
-        when(service.getTopActionsByActivity(limit)).thenReturn(auditLogs);
+        when(service.getTopActionsByActivity(limit)).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/top-actions/{limit}", limit))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getTopActionsByActivity(limit);
     }
@@ -1151,12 +1217,13 @@ public class AuditLogControllerTest {
     void getTopIpAddressesByActivity_success() throws Exception {
         // Given
         int limit = 6;
-        when(service.getTopIpAddressesByActivity(limit)).thenReturn(auditLogs);
+        when(service.getTopIpAddressesByActivity(limit)).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/top-ips/{limit}", limit))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getTopIpAddressesByActivity(limit);
     }
@@ -1166,12 +1233,13 @@ public class AuditLogControllerTest {
     @DisplayName("Should get activity by month when getActivityByMonth is called")
     void getActivityByMonth_success() throws Exception {
         // Given
-        when(service.getActivityByMonth()).thenReturn(auditLogs);
+        when(service.getActivityByMonth()).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/by-month"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getActivityByMonth();
     }
@@ -1181,12 +1249,13 @@ public class AuditLogControllerTest {
     @DisplayName("Should get activity by day of week when getActivityByDayOfWeek is called")
     void getActivityByDayOfWeek_success() throws Exception {
         // Given
-        when(service.getActivityByDayOfWeek()).thenReturn(auditLogs);
+        when(service.getActivityByDayOfWeek()).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/by-day-of-week"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getActivityByDayOfWeek();
     }
@@ -1196,12 +1265,13 @@ public class AuditLogControllerTest {
     @DisplayName("Should get activity by hour when getActivityByHour is called")
     void getActivityByHour_success() throws Exception {
         // Given
-        when(service.getActivityByHour()).thenReturn(auditLogs);
+        when(service.getActivityByHour()).thenReturn(auditLogActivityListMock());
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/stats/by-hour"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$[0].key").value("1"))
+                .andExpect(jsonPath("$[0].count").value(3));
 
         verify(service).getActivityByHour();
     }
@@ -1559,14 +1629,15 @@ public class AuditLogControllerTest {
         // Given
         String fieldName = "name";
         String fieldValue = "John";
-        when(service.getAuditLogsByJsonField(fieldName, fieldValue)).thenReturn(auditLogs);
+        when(service.getAuditLogsByJsonField(eq(fieldName), eq(fieldValue), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(auditLogs));
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/json-field/{fieldName}/{fieldValue}", fieldName, fieldValue))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$.content[0].id").value(auditLog.getId()));
 
-        verify(service).getAuditLogsByJsonField(fieldName, fieldValue);
+        verify(service).getAuditLogsByJsonField(eq(fieldName), eq(fieldValue), any(Pageable.class));
     }
 
     @Test
@@ -1576,14 +1647,15 @@ public class AuditLogControllerTest {
         // Given
         String fieldName = "description";
         String fieldValue = "test";
-        when(service.getAuditLogsByJsonFieldContaining(fieldName, fieldValue)).thenReturn(auditLogs);
+        when(service.getAuditLogsByJsonFieldContaining(eq(fieldName), eq(fieldValue), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(auditLogs));
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/json-field/containing/{fieldName}/{fieldValue}", fieldName, fieldValue))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$.content[0].id").value(auditLog.getId()));
 
-        verify(service).getAuditLogsByJsonFieldContaining(fieldName, fieldValue);
+        verify(service).getAuditLogsByJsonFieldContaining(eq(fieldName), eq(fieldValue), any(Pageable.class));
     }
 
     @Test
@@ -1592,14 +1664,15 @@ public class AuditLogControllerTest {
     void getAuditLogsByJsonFieldExists_success() throws Exception {
         // Given
         String fieldName = "status";
-        when(service.getAuditLogsByJsonFieldExists(fieldName)).thenReturn(auditLogs);
+        when(service.getAuditLogsByJsonFieldExists(eq(fieldName), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(auditLogs));
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/json-field/exists/{fieldName}", fieldName))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$.content[0].id").value(auditLog.getId()));
 
-        verify(service).getAuditLogsByJsonFieldExists(fieldName);
+        verify(service).getAuditLogsByJsonFieldExists(eq(fieldName), any(Pageable.class));
     }
 
     @Test
@@ -1608,13 +1681,14 @@ public class AuditLogControllerTest {
     void getAuditLogsByJsonFieldNotExists_success() throws Exception {
         // Given
         String fieldName = "nonExistentField";
-        when(service.getAuditLogsByJsonFieldNotExists(fieldName)).thenReturn(auditLogs);
+        when(service.getAuditLogsByJsonFieldNotExists(eq(fieldName), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(auditLogs));
 
         // When/Then
         mockMvc.perform(get("/api/audit-logs/json-field/not-exists/{fieldName}", fieldName))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(auditLog.getId()));
+                .andExpect(jsonPath("$.content[0].id").value(auditLog.getId()));
 
-        verify(service).getAuditLogsByJsonFieldNotExists(fieldName);
+        verify(service).getAuditLogsByJsonFieldNotExists(eq(fieldName), any(Pageable.class));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.presentation.dto.CancellationPolicyRequest;
 import com.app.panama_trips.presentation.dto.CancellationPolicyResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.implementation.CancellationPolicyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -31,11 +33,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CancellationPolicyController.class)
+@Import(ResponseCacheService.class)
 public class CancellationPolicyControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
     @MockitoBean
     private CancellationPolicyService service;
 
@@ -45,6 +51,7 @@ public class CancellationPolicyControllerTest {
 
     @BeforeEach
     void setUp() {
+        responseCacheService.invalidateAll();
         request = cancellationPolicyRequestMock;
         response = cancellationPolicyResponseMock;
         responseList = cancellationPolicyResponseListMock;
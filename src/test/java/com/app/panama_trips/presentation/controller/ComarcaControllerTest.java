@@ -3,12 +3,15 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.presentation.dto.ComarcaRequest;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.interfaces.IComarcaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -23,17 +26,26 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ComarcaController.class)
+@Import(ResponseCacheService.class)
 class ComarcaControllerTest {
 
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private ResponseCacheService responseCacheService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
   @MockitoBean
   private IComarcaService comarcaService;
 
+  @BeforeEach
+  void clearResponseCache() {
+    responseCacheService.invalidateAll();
+  }
+
   @Test
   @WithMockUser(roles = "ADMIN")
   @DisplayName("Should get all comarcas")
@@ -3,10 +3,13 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.presentation.dto.DistrictRequest;
 import com.app.panama_trips.presentation.dto.DistrictResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.implementation.DistrictService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -22,11 +25,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DistrictController.class)
+@Import(ResponseCacheService.class)
 public class DistrictControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
     @MockitoBean
     private DistrictService districtService;
 
@@ -35,6 +42,11 @@ public class DistrictControllerTest {
         return new com.fasterxml.jackson.databind.ObjectMapper().writeValueAsString(obj);
     }
 
+    @BeforeEach
+    void clearResponseCache() {
+        responseCacheService.invalidateAll();
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void findAllDistricts_success() throws Exception {
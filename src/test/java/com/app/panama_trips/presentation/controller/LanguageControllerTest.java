@@ -22,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -34,14 +35,19 @@ import org.springframework.http.MediaType;
 import com.app.panama_trips.presentation.dto.LanguageRequest;
 import com.app.panama_trips.presentation.dto.LanguageResponse;
 import com.app.panama_trips.service.implementation.LanguageService;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.utility.ParseJson;
 
 @WebMvcTest(LanguageController.class)
+@Import(ResponseCacheService.class)
 public class LanguageControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
     @MockitoBean
     private LanguageService languageService;
 
@@ -51,6 +57,7 @@ public class LanguageControllerTest {
 
     @BeforeEach
     void setUp() {
+        responseCacheService.invalidateAll();
         request = languageRequestMock();
         response = languageResponseMock();
         responseList = languageResponseListMock();
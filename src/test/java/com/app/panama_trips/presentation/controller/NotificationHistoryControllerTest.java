@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,7 @@ import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequ
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
 import com.app.panama_trips.presentation.dto.NotificationHistoryRequest;
 import com.app.panama_trips.presentation.dto.NotificationHistoryResponse;
 import com.app.panama_trips.service.implementation.NotificationHistoryService;
@@ -602,6 +604,22 @@ public class NotificationHistoryControllerTest {
         verify(service).retryFailedNotifications();
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    @DisplayName("Should return dispatcher metrics when getDispatchStats is called")
+    void getDispatchStats_success() throws Exception {
+        // Given
+        when(service.getDispatchStats()).thenReturn(new NotificationDispatchStatsResponse(
+                500, 480, 20, Map.of("EMAIL", 3), 200, 400, 500.0));
+
+        // When/Then
+        mockMvc.perform(get("/api/notification-history/dispatch/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.delivered").value(480))
+                .andExpect(jsonPath("$.inFlightByChannel.EMAIL").value(3))
+                .andExpect(jsonPath("$.lastBatchPerSecond").value(500.0));
+    }
+
     // ========== ERROR HANDLING TESTS ==========
 
     @Test
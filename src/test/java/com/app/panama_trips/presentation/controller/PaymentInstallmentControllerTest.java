@@ -524,7 +524,7 @@ public class PaymentInstallmentControllerTest {
     void bulkDelete_success() throws Exception {
         // Given
         List<Integer> installmentIds = Collections.singletonList(1);
-        doNothing().when(service).bulkDeletePaymentInstallments(anyList());
+        when(service.bulkDeletePaymentInstallments(anyList())).thenReturn(1);
 
         // When/Then
         mockMvc.perform(delete("/api/payment-installments/bulk")
@@ -543,7 +543,7 @@ public class PaymentInstallmentControllerTest {
         // Given
         List<Integer> installmentIds = Collections.singletonList(1);
         String newStatus = "PAID";
-        doNothing().when(service).bulkUpdateStatus(anyList(), eq(newStatus));
+        when(service.bulkUpdateStatus(anyList(), eq(newStatus))).thenReturn(1);
 
         // When/Then
         mockMvc.perform(put("/api/payment-installments/bulk/status")
@@ -562,7 +562,7 @@ public class PaymentInstallmentControllerTest {
     void bulkMarkAsReminderSent_success() throws Exception {
         // Given
         List<Integer> installmentIds = Collections.singletonList(1);
-        doNothing().when(service).bulkMarkAsReminderSent(anyList());
+        when(service.bulkMarkAsReminderSent(anyList())).thenReturn(1);
 
         // When/Then
         mockMvc.perform(put("/api/payment-installments/bulk/reminder-sent")
@@ -1162,12 +1162,13 @@ public class PaymentInstallmentControllerTest {
     @DisplayName("Should recalculate overdue status when recalculateOverdueStatus is called")
     void recalculateOverdueStatus_success() throws Exception {
         // Given
-        doNothing().when(service).recalculateOverdueStatus();
+        when(service.recalculateOverdueStatus()).thenReturn(3);
 
         // When/Then
         mockMvc.perform(post("/api/payment-installments/recalculate-overdue")
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
 
         verify(service).recalculateOverdueStatus();
     }
@@ -1178,12 +1179,13 @@ public class PaymentInstallmentControllerTest {
     void cleanupOldInstallments_success() throws Exception {
         // Given
         int daysToKeep = 30;
-        doNothing().when(service).cleanupOldInstallments(daysToKeep);
+        when(service.cleanupOldInstallments(daysToKeep)).thenReturn(2);
 
         // When/Then
         mockMvc.perform(delete("/api/payment-installments/cleanup/{daysToKeep}", daysToKeep)
                 .with(SecurityMockMvcRequestPostProcessors.csrf()))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
 
         verify(service).cleanupOldInstallments(daysToKeep);
     }
@@ -3,6 +3,7 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.presentation.dto.ProviderRequest;
 import com.app.panama_trips.presentation.dto.ProviderResponse;
+import com.app.panama_trips.service.implementation.ProviderPerformanceService;
 import com.app.panama_trips.service.implementation.ProviderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +35,9 @@ public class ProviderControllerTest {
     @MockitoBean
     private ProviderService providerService;
 
+    @MockitoBean
+    private ProviderPerformanceService providerPerformanceService;
+
     // Método auxiliar para convertir objetos a JSON
     private String asJsonString(Object obj) throws Exception {
         return new com.fasterxml.jackson.databind.ObjectMapper().writeValueAsString(obj);
@@ -278,4 +282,24 @@ public class ProviderControllerTest {
                 .andExpect(jsonPath("$[0].id").value(providerResponseListMocks.getFirst().id()))
                 .andExpect(jsonPath("$[0].name").value(providerResponseListMocks.getFirst().name()));
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void refreshProviderPerformance_success() throws Exception {
+        when(providerPerformanceService.refresh()).thenReturn(1);
+
+        mockMvc.perform(post("/api/providers/performance/refresh")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void refreshProviderPerformance_whenAlreadyRunning_shouldBeAccepted() throws Exception {
+        when(providerPerformanceService.refresh()).thenReturn(0);
+
+        mockMvc.perform(post("/api/providers/performance/refresh")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isAccepted());
+    }
 }
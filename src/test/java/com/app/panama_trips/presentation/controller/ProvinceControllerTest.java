@@ -2,32 +2,47 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.presentation.dto.DistrictResponse;
 import com.app.panama_trips.presentation.dto.ProvinceRequest;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.implementation.ProvinceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static com.app.panama_trips.DataProvider.provinceResponseListMocks;
 import static com.app.panama_trips.DataProvider.provinceResponseMock;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ProvinceController.class)
+@Import(ResponseCacheService.class)
 public class ProvinceControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
     @MockitoBean
     private ProvinceService provinceService;
 
@@ -35,6 +50,11 @@ public class ProvinceControllerTest {
         return new ObjectMapper().writeValueAsString(obj);
     }
 
+    @BeforeEach
+    void clearResponseCache() {
+        responseCacheService.invalidateAll();
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void findAllProvince_success() throws Exception{
@@ -46,6 +66,47 @@ public class ProvinceControllerTest {
                 .andExpect(jsonPath("$[0].name").value(DataProvider.provinceListsMock.getFirst().getName()));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void findAllProvince_withMatchingETag_returnsNotModifiedWithoutCallingService() throws Exception{
+        when(provinceService.getAllProvinces()).thenReturn(provinceResponseListMocks);
+
+        String etag = mockMvc.perform(get("/api/provinces"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/provinces").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(provinceService, times(1)).getAllProvinces();
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void findAllProvince_acceptingGzip_returnsCompressedBody() throws Exception{
+        when(provinceService.getAllProvinces()).thenReturn(provinceResponseListMocks);
+
+        mockMvc.perform(get("/api/provinces").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void findProvinceTree_success() throws Exception{
+        ProvinceTreeResponse tree = new ProvinceTreeResponse(1, "Bocas del Toro",
+                List.of(new DistrictResponse(1, "Almirante", 1)), List.of());
+        when(provinceService.getProvinceTree(1)).thenReturn(tree);
+
+        mockMvc.perform(get("/api/provinces/1/tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Bocas del Toro"))
+                .andExpect(jsonPath("$.districts[0].name").value("Almirante"));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void saveProvince_success() throws Exception{
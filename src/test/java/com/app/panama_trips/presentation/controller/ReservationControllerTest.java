@@ -13,6 +13,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
@@ -21,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 import static com.app.panama_trips.DataProvider.reservationRequestMock;
 import static com.app.panama_trips.DataProvider.reservationResponseListMocks;
@@ -63,6 +66,29 @@ public class ReservationControllerTest {
                 .andExpect(jsonPath("$.content[0].nameTourPlan").value(reservationResponseListMocks.getFirst().nameTourPlan()));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void scrollReservations_shouldReturnOpaqueNextCursor() throws Exception {
+        Window<ReservationResponse> window = Window.from(reservationResponseListMocks,
+                i -> ScrollPosition.forward(Map.of("id", reservationResponseListMocks.get(i).id())), true);
+        when(reservationService.scrollReservations(any(ScrollPosition.class), anyInt())).thenReturn(window);
+
+        mockMvc.perform(get("/api/reservations/scroll")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(reservationResponseListMocks.getFirst().id()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void scrollReservations_withInvalidCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/reservations/scroll")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void getReservationById_success() throws Exception {
@@ -3,13 +3,16 @@ package com.app.panama_trips.presentation.controller;
 import com.app.panama_trips.persistence.entity.ReviewCategory;
 import com.app.panama_trips.presentation.dto.ReviewCategoryRequest;
 import com.app.panama_trips.presentation.dto.ReviewCategoryResponse;
+import com.app.panama_trips.service.implementation.ResponseCacheService;
 import com.app.panama_trips.service.implementation.ReviewCategoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,10 +31,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ReviewCategoryController.class)
+@Import(ResponseCacheService.class)
 public class ReviewCategoryControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
     @MockitoBean
     private ReviewCategoryService reviewCategoryService;
 
@@ -43,6 +50,11 @@ public class ReviewCategoryControllerTest {
         return mapper.writeValueAsString(obj);
     }
 
+    @BeforeEach
+    void clearResponseCache() {
+        responseCacheService.invalidateAll();
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = { "ADMIN" })
     void getAllReviewCategories_success() throws Exception {
@@ -1,5 +1,7 @@
 package com.app.panama_trips.presentation.controller;
 
+import com.app.panama_trips.presentation.dto.AvailabilityCalendarResponse;
+import com.app.panama_trips.presentation.dto.AvailabilityGenerationResponse;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityRequest;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityResponse;
 import com.app.panama_trips.service.implementation.TourPlanAvailabilityService;
@@ -20,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 import static com.app.panama_trips.DataProvider.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -261,4 +264,34 @@ public class TourPlanAvailabilityControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").value(true));
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void generateAvailability_success() throws Exception {
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        LocalDate end = LocalDate.of(2026, 3, 31);
+        when(tourPlanAvailabilityService.generateAvailability(1, start, end))
+                .thenReturn(new AvailabilityGenerationResponse(1, start, end, 13, 0, 0));
+
+        mockMvc.perform(post("/api/tour-plan-availability/tour-plan/1/generate")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf())
+                        .param("startDate", "2026-03-01")
+                        .param("endDate", "2026-03-31"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(13));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getMonthCalendar_success() throws Exception {
+        int[] spots = new int[31];
+        spots[0] = 8;
+        when(tourPlanAvailabilityService.getMonthCalendar(1, YearMonth.of(2026, 3)))
+                .thenReturn(new AvailabilityCalendarResponse(1, YearMonth.of(2026, 3), spots));
+
+        mockMvc.perform(get("/api/tour-plan-availability/tour-plan/1/calendar").param("month", "2026-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spots.length()").value(31))
+                .andExpect(jsonPath("$.spots[0]").value(8));
+    }
 }
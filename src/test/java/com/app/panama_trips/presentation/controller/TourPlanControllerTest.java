@@ -2,8 +2,17 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
+import com.app.panama_trips.presentation.dto.CacheRegionStatsResponse;
+import com.app.panama_trips.presentation.dto.FacetCountResponse;
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import com.app.panama_trips.presentation.dto.TourDiscoveryResponse;
+import com.app.panama_trips.presentation.dto.TourFacetsResponse;
 import com.app.panama_trips.presentation.dto.TourPlanRequest;
 import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import com.app.panama_trips.presentation.dto.TourSearchResultResponse;
+import com.app.panama_trips.presentation.dto.TourSuggestionResponse;
 import com.app.panama_trips.service.implementation.TourPlanService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +28,15 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 import static com.app.panama_trips.DataProvider.tourPlanResponseListMocks;
 import static com.app.panama_trips.DataProvider.tourPlanResponseMock;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -316,14 +329,70 @@ public class TourPlanControllerTest {
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void searchTourPlans_success() throws Exception {
-        when(tourPlanService.getTop10TourPlanByTitleContaining(any(String.class), any(Pageable.class))).thenReturn(tourPlanResponseListMocks);
+        TourSearchResultResponse hit = new TourSearchResultResponse(1, "Isla Coiba", "Snorkel", BigDecimal.TEN, 3,
+                "provider", 0.5f, "<b>Coiba</b>");
+        when(tourPlanService.searchTourPlans(any(String.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(hit)));
 
         mockMvc.perform(get("/api/tour-plan/search")
-                        .param("q", "title")
+                        .param("q", "coiba")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(tourPlanResponseListMocks.getFirst().id()))
-                .andExpect(jsonPath("$[0].address").value(tourPlanResponseListMocks.getFirst().address()));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].headline").value("<b>Coiba</b>"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void discoverTourPlans_success() throws Exception {
+        TourFacetsResponse facets = new TourFacetsResponse(3,
+                List.of(new FacetCountResponse("EASY", "EASY", 3)),
+                List.of(new FacetCountResponse("0-50", "0 - 50", 3)),
+                List.of(new FacetCountResponse("1", "Coiba", 3)));
+        TourDiscoveryResponse response = new TourDiscoveryResponse(new PageImpl<>(tourPlanResponseListMocks), facets);
+        TourDiscoveryFilter filter = new TourDiscoveryFilter(BigDecimal.ONE, null, null, null, Set.of(DifficultyLevel.EASY),
+                null, 1, "es", true, null, LocalDate.of(2026, 11, 1), 2);
+        when(tourPlanService.discoverTourPlans(eq(filter), any(Pageable.class))).thenReturn(response);
+
+        mockMvc.perform(get("/api/tour-plan/discover")
+                        .param("minPrice", "1")
+                        .param("difficulty", "EASY")
+                        .param("regionId", "1")
+                        .param("language", "es")
+                        .param("wheelchairAccessible", "true")
+                        .param("date", "2026-11-01")
+                        .param("spots", "2")
+                        .param("sortBy", "price")
+                        .param("direction", "ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tours.content[0].id").value(tourPlanResponseListMocks.getFirst().id()))
+                .andExpect(jsonPath("$.facets.total").value(3))
+                .andExpect(jsonPath("$.facets.regions[0].label").value("Coiba"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void suggestTourPlanTitles_success() throws Exception {
+        when(tourPlanService.suggestTourPlanTitles("coi", 5)).thenReturn(List.of(new TourSuggestionResponse(1, "Isla Coiba")));
+
+        mockMvc.perform(get("/api/tour-plan/typeahead")
+                        .param("q", "coi")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Isla Coiba"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getCacheStats_success() throws Exception {
+        SecondLevelCacheStatsResponse stats = new SecondLevelCacheStatsResponse(true, 90, 10, 10, 0.9, 4, 1, 1, 0.8,
+                List.of(new CacheRegionStatsResponse("tour-plan", 90, 10, 10, 10, 0.9)));
+        when(tourPlanService.getCacheStats()).thenReturn(stats);
+
+        mockMvc.perform(get("/api/tour-plan/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRatio").value(0.9))
+                .andExpect(jsonPath("$.queryCacheHitCount").value(4))
+                .andExpect(jsonPath("$.regions[0].region").value("tour-plan"));
     }
 }
@@ -2,6 +2,7 @@ package com.app.panama_trips.presentation.controller;
 
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.UserNotFoundException;
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
 import com.app.panama_trips.presentation.dto.UserRequest;
 import com.app.panama_trips.presentation.dto.UserResponse;
 import com.app.panama_trips.service.implementation.UserEntityService;
@@ -160,4 +161,17 @@ public class UserEntityControllerTest {
                         .with(SecurityMockMvcRequestPostProcessors.csrf()))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getPasswordHashingStats_success() throws Exception {
+        when(userEntityService.getPasswordHashingStats())
+                .thenReturn(new PasswordHashingStatsResponse(4, 2, 64, 100, 3, 55.0, 1.5));
+
+        mockMvc.perform(get("/api/user/password-hashing/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.threads").value(4))
+                .andExpect(jsonPath("$.queued").value(2))
+                .andExpect(jsonPath("$.rejected").value(3));
+    }
 }
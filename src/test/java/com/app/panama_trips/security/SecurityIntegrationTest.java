@@ -106,14 +106,14 @@ class SecurityIntegrationTest {
                 }
 
                 @Test
-                @DisplayName("Should return error when username does not exist")
-                void login_shouldReturnError_whenUserDoesNotExist() throws Exception {
+                @DisplayName("Should return 401 when username does not exist")
+                void login_shouldReturnUnauthorized_whenUserDoesNotExist() throws Exception {
                         AuthLoginRequest loginRequest = new AuthLoginRequest("nonexistent", "Password123!");
 
                         mockMvc.perform(post("/auth/login")
                                         .contentType(MediaType.APPLICATION_JSON)
                                         .content(objectMapper.writeValueAsString(loginRequest)))
-                                        .andExpect(status().isInternalServerError());
+                                        .andExpect(status().isUnauthorized());
                 }
 
                 @Test
@@ -332,6 +332,28 @@ class SecurityIntegrationTest {
                                         .andExpect(status().isForbidden());
                 }
 
+                @Test
+                @DisplayName("Should return 403 when CUSTOMER tries to start a daily statistics backfill")
+                void dailyStatisticsBackfill_shouldReturn403_whenUserIsCustomer() throws Exception {
+                        String token = generateTokenForRole(RoleEnum.CUSTOMER, "customer");
+
+                        mockMvc.perform(post("/api/daily-statistics/rollup/backfill")
+                                        .param("from", "2026-01-01")
+                                        .param("to", "2026-01-31")
+                                        .header("Authorization", "Bearer " + token))
+                                        .andExpect(status().isForbidden());
+                }
+
+                @Test
+                @DisplayName("Should return 403 when CUSTOMER tries to refresh provider performance")
+                void providerPerformanceRefresh_shouldReturn403_whenUserIsCustomer() throws Exception {
+                        String token = generateTokenForRole(RoleEnum.CUSTOMER, "customer");
+
+                        mockMvc.perform(post("/api/providers/performance/refresh")
+                                        .header("Authorization", "Bearer " + token))
+                                        .andExpect(status().isForbidden());
+                }
+
                 @Test
                 @DisplayName("Should throw exception when accessing protected endpoint with empty Bearer token")
                 void protectedEndpoint_shouldThrowException_whenBearerTokenIsEmpty() {
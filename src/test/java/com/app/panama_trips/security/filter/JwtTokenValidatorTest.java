@@ -12,7 +12,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
@@ -23,6 +22,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Date;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,7 +49,6 @@ class JwtTokenValidatorTest {
     @Mock
     private Claim claim;
 
-    @InjectMocks
     private JwtTokenValidator jwtTokenValidator;
 
     private static final String VALID_JWT = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJpc3MiOiJwYW5hbWEtdHJpcHMiLCJzdWIiOiJhZG1pbiIsImF1dGhvcml0aWVzIjoiQk9PS0lOR19DUkVBVEUsQk9PS0lOR19ERUxFVEUsQk9PS0lOR19SRUFELEJPT0tJTkdfVVBEQVRFLENPTlRFTlRfQ1JFQVRFLENPTlRFTlRfREVMRVRFLENPTlRFTlRfVVBEQVRFLFBBWU1FTlRfUkVBRCxQQVlNRU5UX1JFRlVORCxST0xFX0FETUlOLFNVUFBPUlRfVElDS0VUX1JFQUQsU1VQUE9SVF9USUNLRVRfUkVTUE9ORCxTWVNURU1fTE9HX1JFQUQsVVNFUl9DUkVBVEUsVVNFUl9ERUxFVEUsVVNFUl9SRUFELFVTRVJfVVBEQVRFIiwiaWF0IjoxNzQwNDI3NDg4LCJleHAiOjE3NDA0MjkyODgsImp0aSI6IjZkMjI0YTYwLTM4MjUtNDg0MC1iNDdiLThhYjUyNTZjZWM3MyIsIm5iZiI6MTc0MDQyNzQ4OH0.LLWT0vGqYCJbfjndWHiD0pJ_VKLxxhNOfzCHZ1hO6U4";
@@ -57,6 +56,7 @@ class JwtTokenValidatorTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
+        jwtTokenValidator = new JwtTokenValidator(jwtUtil);
     }
 
     @Nested
@@ -221,6 +221,120 @@ class JwtTokenValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Authentication Cache Tests")
+    class AuthenticationCacheTests {
+
+        @Test
+        @DisplayName("Should verify a token once and reuse the authentication until it expires")
+        void doFilterChain_shouldReuseCachedAuthentication_whenTokenSeenBefore() throws ServletException, IOException {
+            // Given
+            when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer ".concat(VALID_JWT));
+            when(jwtUtil.validateToken(VALID_JWT)).thenReturn(decodedJWT);
+            when(jwtUtil.getUsernameFromToken(decodedJWT)).thenReturn("admin");
+            when(jwtUtil.getSpecificClaim(decodedJWT, "authorities")).thenReturn(claim);
+            when(claim.asString()).thenReturn("ROLE_ADMIN");
+            when(decodedJWT.getExpiresAt()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+            // When
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+            SecurityContextHolder.clearContext();
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            // Then
+            assertNotNull(authentication);
+            assertEquals("admin", authentication.getName());
+            verify(jwtUtil, times(1)).validateToken(VALID_JWT);
+            verify(filterChain, times(2)).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should verify the token again once the cached entry has expired")
+        void doFilterChain_shouldRevalidate_whenCachedTokenExpired() throws ServletException, IOException {
+            // Given
+            when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer ".concat(VALID_JWT));
+            when(jwtUtil.validateToken(VALID_JWT)).thenReturn(decodedJWT);
+            when(jwtUtil.getUsernameFromToken(decodedJWT)).thenReturn("admin");
+            when(jwtUtil.getSpecificClaim(decodedJWT, "authorities")).thenReturn(claim);
+            when(claim.asString()).thenReturn("ROLE_ADMIN");
+            when(decodedJWT.getExpiresAt()).thenReturn(new Date(System.currentTimeMillis() - 1_000));
+
+            // When
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+
+            // Then
+            verify(jwtUtil, times(2)).validateToken(VALID_JWT);
+        }
+
+        @Test
+        @DisplayName("Should not cache tokens without an expiration")
+        void doFilterChain_shouldNotCache_whenTokenHasNoExpiration() throws ServletException, IOException {
+            // Given
+            when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer ".concat(VALID_JWT));
+            when(jwtUtil.validateToken(VALID_JWT)).thenReturn(decodedJWT);
+            when(jwtUtil.getUsernameFromToken(decodedJWT)).thenReturn("admin");
+            when(jwtUtil.getSpecificClaim(decodedJWT, "authorities")).thenReturn(claim);
+            when(claim.asString()).thenReturn("ROLE_ADMIN");
+
+            // When
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertEquals(0, jwtTokenValidator.cachedTokenCount());
+        }
+        @Test
+        @DisplayName("Should hand out a new authentication per request from a cached token")
+        void doFilterChain_shouldNotShareAuthenticationInstances_whenTokenCached() throws ServletException, IOException {
+            // Given
+            when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer ".concat(VALID_JWT));
+            when(jwtUtil.validateToken(VALID_JWT)).thenReturn(decodedJWT);
+            when(jwtUtil.getUsernameFromToken(decodedJWT)).thenReturn("admin");
+            when(jwtUtil.getSpecificClaim(decodedJWT, "authorities")).thenReturn(claim);
+            when(claim.asString()).thenReturn("ROLE_ADMIN");
+            when(decodedJWT.getExpiresAt()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+            // When
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+            Authentication first = SecurityContextHolder.getContext().getAuthentication();
+            first.setAuthenticated(false);
+            SecurityContextHolder.clearContext();
+            jwtTokenValidator.doFilterInternal(request, response, filterChain);
+            Authentication second = SecurityContextHolder.getContext().getAuthentication();
+
+            // Then
+            assertNotSame(first, second);
+            assertTrue(second.isAuthenticated());
+            assertThrows(UnsupportedOperationException.class, () -> second.getAuthorities().clear());
+            verify(jwtUtil, times(1)).validateToken(VALID_JWT);
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used token when the cache is full")
+        void doFilterChain_shouldEvictLeastRecentlyUsed_whenCacheFull() throws ServletException, IOException {
+            // Given
+            JwtTokenValidator boundedValidator = new JwtTokenValidator(jwtUtil, 2);
+            when(jwtUtil.validateToken(anyString())).thenReturn(decodedJWT);
+            when(jwtUtil.getUsernameFromToken(decodedJWT)).thenReturn("admin");
+            when(jwtUtil.getSpecificClaim(decodedJWT, "authorities")).thenReturn(claim);
+            when(claim.asString()).thenReturn("ROLE_ADMIN");
+            when(decodedJWT.getExpiresAt()).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+            // When: a and b fill the cache, a is used again, then c arrives
+            for (String token : new String[] {"a", "b", "a", "c", "a", "b"}) {
+                when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer ".concat(token));
+                boundedValidator.doFilterInternal(request, response, filterChain);
+            }
+
+            // Then: c was cached even though the cache was full, and b was the one evicted
+            assertEquals(2, boundedValidator.cachedTokenCount());
+            verify(jwtUtil, times(1)).validateToken("a");
+            verify(jwtUtil, times(2)).validateToken("b");
+            verify(jwtUtil, times(1)).validateToken("c");
+        }
+    }
+
     @Nested
     @DisplayName("Filter Chain Tests")
     class FilterChainTests {
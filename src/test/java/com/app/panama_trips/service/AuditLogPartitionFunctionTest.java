@@ -0,0 +1,140 @@
+package com.app.panama_trips.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the v1.13 migration in a throwaway schema of the PostgreSQL database in DB_URL;
+// H2 has no declarative partitioning or PL/pgSQL, so the test is skipped without one.
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = "jdbc:postgresql:.*")
+public class AuditLogPartitionFunctionTest {
+
+    private static final String MIGRATION = "/db/migration/v1.13__partition_audit_log.sql";
+
+    private Connection connection;
+    private String schema;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(System.getenv("DB_URL"), System.getenv("DB_USERNAME"),
+                System.getenv("DB_PASSWORD"));
+        schema = "audit_partition_test_" + UUID.randomUUID().toString().replace("-", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("SET search_path TO " + schema);
+            // The pre-partitioning tables v1.13 starts from
+            statement.execute("CREATE TABLE users (id SERIAL PRIMARY KEY)");
+            statement.execute("CREATE TABLE audit_log (id SERIAL PRIMARY KEY, entity_type VARCHAR(50) NOT NULL, "
+                    + "entity_id INTEGER NOT NULL, action VARCHAR(20) NOT NULL, "
+                    + "user_id INTEGER REFERENCES users(id) ON DELETE SET NULL, action_timestamp TIMESTAMP, "
+                    + "old_values JSONB, new_values JSONB, ip_address VARCHAR(45), user_agent TEXT)");
+            statement.execute(migration());
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static String migration() throws IOException {
+        try (InputStream in = AuditLogPartitionFunctionTest.class.getResourceAsStream(MIGRATION)) {
+            assertNotNull(in, "Migration not found on the classpath: " + MIGRATION);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void insertAuditLog(LocalDate day) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO audit_log (entity_type, entity_id, action, action_timestamp) "
+                        + "VALUES ('Reservation', 1, 'UPDATE', CAST(? AS timestamp))")) {
+            statement.setString(1, day.atTime(12, 0).toString());
+            statement.executeUpdate();
+        }
+    }
+
+    private String createPartition(LocalDate monthStart) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT create_audit_log_partition(CAST(? AS date))")) {
+            statement.setString(1, monthStart.toString());
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should move the default partition rows of the month into the new partition")
+    void createPartition_whenDefaultHoldsRowsOfTheMonth_shouldMoveThem() throws Exception {
+        // Given: a month beyond the partitions v1.13 created, so its rows land in the default
+        LocalDate month = LocalDate.now().withDayOfMonth(1).plusMonths(12);
+        insertAuditLog(month.plusDays(3));
+        insertAuditLog(month.plusDays(20));
+        insertAuditLog(month.plusMonths(1).plusDays(1));
+        assertEquals(3, count("SELECT COUNT(*) FROM audit_log_default"));
+
+        // When
+        String partition = createPartition(month);
+
+        // Then
+        assertEquals(2, count("SELECT COUNT(*) FROM " + partition));
+        assertEquals(1, count("SELECT COUNT(*) FROM audit_log_default"));
+        assertEquals(3, count("SELECT COUNT(*) FROM audit_log"));
+        assertEquals(1, count("SELECT COUNT(*) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = CAST('audit_log' AS regclass) AND c.relname = '" + partition + "'"));
+        // The parent's primary key was added on attach
+        assertEquals(1, count("SELECT COUNT(*) FROM pg_index WHERE indisprimary "
+                + "AND indrelid = CAST('" + partition + "' AS regclass)"));
+
+        // And new rows of the month are routed to it
+        insertAuditLog(month.plusDays(5));
+        assertEquals(3, count("SELECT COUNT(*) FROM " + partition));
+        assertEquals(partition, createPartition(month));
+    }
+
+    @Test
+    @DisplayName("Should create an empty partition when the default holds nothing of the month")
+    void createPartition_whenDefaultHasNoRowsOfTheMonth_shouldCreateIt() throws Exception {
+        // Given
+        LocalDate month = LocalDate.now().withDayOfMonth(1).plusMonths(12);
+
+        // When
+        String partition = createPartition(month);
+        insertAuditLog(month.plusDays(1));
+
+        // Then
+        assertEquals(1, count("SELECT COUNT(*) FROM " + partition));
+        assertEquals(0, count("SELECT COUNT(*) FROM audit_log_default"));
+    }
+}
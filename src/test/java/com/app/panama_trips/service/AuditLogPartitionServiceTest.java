@@ -0,0 +1,105 @@
+package com.app.panama_trips.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.service.implementation.AuditLogPartitionService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogPartitionServiceTest {
+
+    @Mock
+    private AuditLogRepository repository;
+
+    @InjectMocks
+    private AuditLogPartitionService service;
+
+    @Test
+    @DisplayName("Should ensure the current month and the configured months ahead")
+    void createUpcomingPartitions_shouldCreateCurrentAndFutureMonths() {
+        // Given
+        ReflectionTestUtils.setField(service, "monthsAhead", 2);
+        when(repository.createMonthlyPartition(any(LocalDate.class)))
+                .thenAnswer(invocation -> "audit_log_p" + invocation.getArgument(0));
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        // When
+        List<String> result = service.createUpcomingPartitions();
+
+        // Then
+        assertEquals(3, result.size());
+        verify(repository).createMonthlyPartition(currentMonth);
+        verify(repository).createMonthlyPartition(currentMonth.plusMonths(1));
+        verify(repository).createMonthlyPartition(currentMonth.plusMonths(2));
+    }
+
+    @Test
+    @DisplayName("Should return the number of dropped partitions")
+    void dropPartitionsBefore_shouldReturnDroppedCount() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        when(repository.dropPartitionsBefore(cutoff)).thenReturn(4);
+
+        // When
+        int result = service.dropPartitionsBefore(cutoff);
+
+        // Then
+        assertEquals(4, result);
+    }
+
+    @Test
+    @DisplayName("Should treat a null result as no partitions dropped")
+    void dropPartitionsBefore_whenNull_shouldReturnZero() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        when(repository.dropPartitionsBefore(cutoff)).thenReturn(null);
+
+        // When
+        int result = service.dropPartitionsBefore(cutoff);
+
+        // Then
+        assertEquals(0, result);
+    }
+
+    @Test
+    @DisplayName("Should drop whole months older than the retention window")
+    void maintainPartitions_withRetention_shouldDropOldPartitions() {
+        // Given
+        ReflectionTestUtils.setField(service, "monthsAhead", 0);
+        ReflectionTestUtils.setField(service, "retentionMonths", 12);
+        LocalDateTime expectedCutoff = LocalDate.now().withDayOfMonth(1).minusMonths(12).atStartOfDay();
+
+        // When
+        service.maintainPartitions();
+
+        // Then
+        verify(repository).createMonthlyPartition(any(LocalDate.class));
+        verify(repository).dropPartitionsBefore(expectedCutoff);
+    }
+
+    @Test
+    @DisplayName("Should keep every partition when retention is disabled")
+    void maintainPartitions_withoutRetention_shouldNotDrop() {
+        // Given
+        ReflectionTestUtils.setField(service, "monthsAhead", 0);
+
+        // When
+        service.maintainPartitions();
+
+        // Then
+        verify(repository, never()).dropPartitionsBefore(any(LocalDateTime.class));
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.panama_trips.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,13 +19,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.persistence.entity.AuditLog;
 import com.app.panama_trips.persistence.entity.UserEntity;
 import com.app.panama_trips.persistence.entity.enums.AuditAction;
 import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.presentation.dto.AuditLogActivityResponse;
 import com.app.panama_trips.service.implementation.AuditLogService;
+import com.app.panama_trips.service.interfaces.IAuditLogPartitionService;
+import com.app.panama_trips.service.interfaces.IAuditLogWriterService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static com.app.panama_trips.DataProvider.*;
@@ -41,6 +47,12 @@ public class AuditLogServiceTest {
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Mock
+    private IAuditLogWriterService auditLogWriter;
+
+    @Mock
+    private IAuditLogPartitionService partitionService;
+
     @InjectMocks
     private AuditLogService service;
 
@@ -814,7 +826,7 @@ public class AuditLogServiceTest {
 
     // Bulk Operations Tests
     @Test
-    @DisplayName("Should bulk create audit logs")
+    @DisplayName("Should bulk create audit logs synchronously")
     void bulkCreateAuditLogs_success() {
         // Given
         List<AuditLog> auditLogsToCreate = auditLogListForBulkCreateMock();
@@ -824,8 +836,73 @@ public class AuditLogServiceTest {
 
         // Then
         verify(repository).saveAll(auditLogsCaptor.capture());
-        List<AuditLog> savedAuditLogs = auditLogsCaptor.getValue();
-        assertEquals(auditLogsToCreate.size(), savedAuditLogs.size());
+        assertEquals(auditLogsToCreate, auditLogsCaptor.getValue());
+        verifyNoInteractions(auditLogWriter);
+    }
+
+    @Test
+    @DisplayName("Should not write any audit log of the bulk when one is invalid")
+    void bulkCreateAuditLogs_withInvalidEntry_shouldWriteNothing() {
+        // Given
+        List<AuditLog> auditLogsToCreate = new ArrayList<>(auditLogListForBulkCreateMock());
+        AuditLog invalid = auditLogOneMock();
+        invalid.setAction(null);
+        auditLogsToCreate.add(invalid);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> service.bulkCreateAuditLogs(auditLogsToCreate));
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed bulk write")
+    void bulkCreateAuditLogs_whenWriteFails_shouldThrowException() {
+        // Given
+        List<AuditLog> auditLogsToCreate = auditLogListForBulkCreateMock();
+        when(repository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("fk_audit_log_user"));
+
+        // When/Then
+        assertThrows(DataIntegrityViolationException.class, () -> service.bulkCreateAuditLogs(auditLogsToCreate));
+    }
+
+    @Test
+    @DisplayName("Should enqueue audit log when recordAuditLog is called")
+    void recordAuditLog_shouldEnqueueWithoutWriting() {
+        // Given
+        when(auditLogWriter.enqueue(auditLog)).thenReturn(true);
+
+        // When
+        boolean result = service.recordAuditLog(auditLog);
+
+        // Then
+        assertTrue(result);
+        verify(auditLogWriter).enqueue(auditLog);
+        verify(repository, never()).save(any(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("Should report dropped audit log when the buffer is full")
+    void recordAuditLog_whenBufferFull_shouldReturnFalse() {
+        // Given
+        when(auditLogWriter.enqueue(auditLog)).thenReturn(false);
+
+        // When
+        boolean result = service.recordAuditLog(auditLog);
+
+        // Then
+        assertFalse(result);
+        verify(repository, never()).save(any(AuditLog.class));
+    }
+
+    @Test
+    @DisplayName("Should validate audit log before enqueueing it")
+    void recordAuditLog_withNullAction_shouldThrowException() {
+        // Given
+        auditLog.setAction(null);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> service.recordAuditLog(auditLog));
+        verify(auditLogWriter, never()).enqueue(any(AuditLog.class));
     }
 
     @Test
@@ -875,16 +952,13 @@ public class AuditLogServiceTest {
         // Given
         LocalDateTime startDate = LocalDateTime.now().minusDays(1);
         LocalDateTime endDate = LocalDateTime.now().plusDays(1);
-        when(repository.findByActionTimestampBetween(startDate, endDate)).thenReturn(auditLogListByDateRangeMock());
 
         // When
         service.bulkDeleteAuditLogsByDateRange(startDate, endDate);
 
         // Then
-        verify(repository).findByActionTimestampBetween(startDate, endDate);
-        verify(repository).deleteAll(auditLogsCaptor.capture());
-        List<AuditLog> deletedLogs = auditLogsCaptor.getValue();
-        assertEquals(5, deletedLogs.size());
+        verify(repository).deleteByActionTimestampBetween(startDate, endDate);
+        verify(repository, never()).findByActionTimestampBetween(startDate, endDate);
     }
 
     @Test
@@ -1354,114 +1428,140 @@ public class AuditLogServiceTest {
     }
 
     @Test
-    @DisplayName("Should get top users by activity")
+    @DisplayName("Should get top users by activity from the aggregation query")
     void getTopUsersByActivity_shouldReturnTopUsers() {
         // Given
         int limit = 2;
-        when(repository.findAll()).thenReturn(auditLogs);
+        List<AuditLogActivityResponse> counts = auditLogActivityListMock();
+        when(repository.countActivityByUser(PageRequest.of(0, limit))).thenReturn(counts);
 
         // When
-        List<AuditLog> result = service.getTopUsersByActivity(limit);
+        List<AuditLogActivityResponse> result = service.getTopUsersByActivity(limit);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.size() <= limit);
-        assertTrue(result.stream().allMatch(log -> log.getUser() != null));
-        verify(repository).findAll();
+        assertEquals(counts, result);
+        verify(repository).countActivityByUser(PageRequest.of(0, limit));
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject a top-N limit below one or above the maximum")
+    void getTopUsersByActivity_withInvalidLimit_shouldThrowException() {
+        // When/Then
+        for (int limit : new int[] { 0, -1, 1001 }) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> service.getTopUsersByActivity(limit));
+            assertEquals("Limit must be between 1 and 1000", exception.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> service.getTopEntityTypesByActivity(0));
+        assertThrows(IllegalArgumentException.class, () -> service.getTopActionsByActivity(0));
+        assertThrows(IllegalArgumentException.class, () -> service.getTopIpAddressesByActivity(0));
+        assertThrows(IllegalArgumentException.class, () -> service.getRecentActivity(0));
+        verifyNoInteractions(repository);
     }
 
     @Test
-    @DisplayName("Should get top entity types by activity")
+    @DisplayName("Should get top entity types by activity from the aggregation query")
     void getTopEntityTypesByActivity_shouldReturnTopEntityTypes() {
         // Given
         int limit = 3;
-        when(repository.findAll()).thenReturn(auditLogs);
+        List<AuditLogActivityResponse> counts = auditLogActivityListMock();
+        when(repository.countActivityByEntityType(PageRequest.of(0, limit))).thenReturn(counts);
 
         // When
-        List<AuditLog> result = service.getTopEntityTypesByActivity(limit);
+        List<AuditLogActivityResponse> result = service.getTopEntityTypesByActivity(limit);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.size() <= limit);
-        verify(repository).findAll();
+        assertEquals(counts, result);
+        verify(repository).countActivityByEntityType(PageRequest.of(0, limit));
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get top actions by activity")
+    @DisplayName("Should get top actions by activity from the aggregation query")
     void getTopActionsByActivity_shouldReturnTopActions() {
         // Given
         int limit = 2;
-        when(repository.findAll()).thenReturn(auditLogs);
+        List<AuditLogActivityResponse> counts = auditLogActivityListMock();
+        when(repository.countActivityByAction(PageRequest.of(0, limit))).thenReturn(counts);
 
         // When
-        List<AuditLog> result = service.getTopActionsByActivity(limit);
+        List<AuditLogActivityResponse> result = service.getTopActionsByActivity(limit);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.size() <= limit);
-        verify(repository).findAll();
+        assertEquals(counts, result);
+        verify(repository).countActivityByAction(PageRequest.of(0, limit));
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get top ip addresses by activity")
+    @DisplayName("Should get top ip addresses by activity from the aggregation query")
     void getTopIpAddressesByActivity_shouldReturnTopIpAddresses() {
         // Given
         int limit = 2;
-        when(repository.findAll()).thenReturn(auditLogs);
+        List<AuditLogActivityResponse> counts = auditLogActivityListMock();
+        when(repository.countActivityByIpAddress(PageRequest.of(0, limit))).thenReturn(counts);
 
         // When
-        List<AuditLog> result = service.getTopIpAddressesByActivity(limit);
+        List<AuditLogActivityResponse> result = service.getTopIpAddressesByActivity(limit);
 
         // Then
-        assertNotNull(result);
-        assertTrue(result.size() <= limit);
-        assertTrue(result.stream().allMatch(log -> log.getIpAddress() != null));
-        verify(repository).findAll();
+        assertEquals(counts, result);
+        verify(repository).countActivityByIpAddress(PageRequest.of(0, limit));
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get activity by month")
+    @DisplayName("Should get activity by month with month names as keys")
     void getActivityByMonth_shouldReturnMonthlyActivity() {
         // Given
-        when(repository.findAll()).thenReturn(auditLogs);
+        when(repository.countActivityByMonth()).thenReturn(auditLogActivityListMock());
 
         // When
-        List<AuditLog> result = service.getActivityByMonth();
+        List<AuditLogActivityResponse> result = service.getActivityByMonth();
 
         // Then
-        assertNotNull(result);
-        assertEquals(auditLogs.size(), result.size());
-        verify(repository).findAll();
+        assertEquals(2, result.size());
+        assertEquals("JANUARY", result.get(0).key());
+        assertEquals(3L, result.get(0).count());
+        assertEquals("FEBRUARY", result.get(1).key());
+        verify(repository).countActivityByMonth();
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get activity by day of week")
+    @DisplayName("Should get activity by day of week with day names as keys")
     void getActivityByDayOfWeek_shouldReturnWeeklyActivity() {
         // Given
-        when(repository.findAll()).thenReturn(auditLogs);
+        when(repository.countActivityByDayOfWeek()).thenReturn(auditLogActivityListMock());
 
         // When
-        List<AuditLog> result = service.getActivityByDayOfWeek();
+        List<AuditLogActivityResponse> result = service.getActivityByDayOfWeek();
 
         // Then
-        assertNotNull(result);
-        assertEquals(auditLogs.size(), result.size());
-        verify(repository).findAll();
+        assertEquals(2, result.size());
+        assertEquals("SUNDAY", result.get(0).key());
+        assertEquals("MONDAY", result.get(1).key());
+        assertEquals(1L, result.get(1).count());
+        verify(repository).countActivityByDayOfWeek();
+        verify(repository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should get activity by hour")
     void getActivityByHour_shouldReturnHourlyActivity() {
         // Given
-        when(repository.findAll()).thenReturn(auditLogs);
+        List<AuditLogActivityResponse> counts = auditLogActivityListMock();
+        when(repository.countActivityByHour()).thenReturn(counts);
 
         // When
-        List<AuditLog> result = service.getActivityByHour();
+        List<AuditLogActivityResponse> result = service.getActivityByHour();
 
         // Then
-        assertNotNull(result);
-        assertEquals(auditLogs.size(), result.size());
-        verify(repository).findAll();
+        assertEquals(counts, result);
+        verify(repository).countActivityByHour();
+        verify(repository, never()).findAll();
     }
 
     // Security and Monitoring Operations Tests
@@ -1702,6 +1802,7 @@ public class AuditLogServiceTest {
         service.cleanupOldAuditLogs(daysToKeep);
 
         // Then
+        verify(partitionService).dropPartitionsBefore(any(LocalDateTime.class));
         verify(repository).deleteByActionTimestampBefore(any(LocalDateTime.class));
     }
 
@@ -1715,6 +1816,7 @@ public class AuditLogServiceTest {
         service.deleteOldAuditLogs(beforeDate);
 
         // Then
+        verify(partitionService).dropPartitionsBefore(beforeDate);
         verify(repository).deleteByActionTimestampBefore(beforeDate);
     }
 
@@ -1802,64 +1904,127 @@ public class AuditLogServiceTest {
     }
 
     @Test
-    @DisplayName("Should get audit logs by json field")
+    @DisplayName("Should get audit logs by json field using the JSONB key and value query")
     void getAuditLogsByJsonField_shouldReturnMatchingLogs() {
         // Given
-        String fieldName = "name";
-        String fieldValue = "John";
-        when(repository.findAll()).thenReturn(auditLogs);
+        String fieldName = "status";
+        String fieldValue = "pending";
+        Pageable pageable = PageRequest.of(0, 10);
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "action_timestamp"));
+        Page<AuditLog> page = new PageImpl<>(List.of(auditLogTwoMock()), pageable, 1);
+        when(repository.findByJsonFieldValue(fieldName, fieldValue, newestFirst)).thenReturn(page);
 
         // When
-        List<AuditLog> result = service.getAuditLogsByJsonField(fieldName, fieldValue);
+        Page<AuditLog> result = service.getAuditLogsByJsonField(fieldName, fieldValue, pageable);
 
         // Then
-        assertNotNull(result);
-        verify(repository).findAll();
+        assertEquals(1, result.getTotalElements());
+        verify(repository).findByJsonFieldValue(fieldName, fieldValue, newestFirst);
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get audit logs by json field containing")
+    @DisplayName("Should get audit logs by json field containing using the JSONB query")
     void getAuditLogsByJsonFieldContaining_shouldReturnMatchingLogs() {
         // Given
         String fieldName = "description";
         String fieldValue = "test";
-        when(repository.findAll()).thenReturn(auditLogs);
+        Pageable pageable = PageRequest.of(0, 10);
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "action_timestamp"));
+        Page<AuditLog> page = new PageImpl<>(List.of(), pageable, 0);
+        when(repository.findByJsonFieldValueContaining(fieldName, fieldValue, newestFirst)).thenReturn(page);
 
         // When
-        List<AuditLog> result = service.getAuditLogsByJsonFieldContaining(fieldName, fieldValue);
+        Page<AuditLog> result = service.getAuditLogsByJsonFieldContaining(fieldName, fieldValue, pageable);
 
         // Then
-        assertNotNull(result);
-        verify(repository).findAll();
+        assertTrue(result.isEmpty());
+        verify(repository).findByJsonFieldValueContaining(fieldName, fieldValue, newestFirst);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards in the json field value")
+    void getAuditLogsByJsonFieldContaining_shouldEscapeWildcards() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "action_timestamp"));
+        Page<AuditLog> page = new PageImpl<>(List.of(), pageable, 0);
+        when(repository.findByJsonFieldValueContaining("note", "50\\% off\\_x\\\\", newestFirst)).thenReturn(page);
+
+        // When
+        Page<AuditLog> result = service.getAuditLogsByJsonFieldContaining("note", "50% off_x\\", pageable);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(repository).findByJsonFieldValueContaining("note", "50\\% off\\_x\\\\", newestFirst);
     }
 
     @Test
-    @DisplayName("Should get audit logs by json field exists")
+    @DisplayName("Should get audit logs by json field exists using the JSONB key query")
     void getAuditLogsByJsonFieldExists_shouldReturnMatchingLogs() {
         // Given
         String fieldName = "status";
-        when(repository.findAll()).thenReturn(auditLogs);
+        Pageable pageable = PageRequest.of(0, 10);
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "action_timestamp"));
+        Page<AuditLog> page = new PageImpl<>(List.of(auditLogTwoMock(), auditLogThreeMock()), pageable, 2);
+        when(repository.findByJsonFieldExists(fieldName, newestFirst)).thenReturn(page);
 
         // When
-        List<AuditLog> result = service.getAuditLogsByJsonFieldExists(fieldName);
+        Page<AuditLog> result = service.getAuditLogsByJsonFieldExists(fieldName, pageable);
 
         // Then
-        assertNotNull(result);
-        verify(repository).findAll();
+        assertEquals(2, result.getTotalElements());
+        verify(repository).findByJsonFieldExists(fieldName, newestFirst);
+        verify(repository, never()).findAll();
     }
 
     @Test
-    @DisplayName("Should get audit logs by json field not exists")
+    @DisplayName("Should get audit logs by json field not exists using the JSONB key query")
     void getAuditLogsByJsonFieldNotExists_shouldReturnMatchingLogs() {
         // Given
         String fieldName = "nonExistentField";
-        when(repository.findAll()).thenReturn(auditLogs);
+        Pageable pageable = PageRequest.of(0, 10);
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "action_timestamp"));
+        Page<AuditLog> page = new PageImpl<>(auditLogs, pageable, auditLogs.size());
+        when(repository.findByJsonFieldNotExists(fieldName, newestFirst)).thenReturn(page);
 
         // When
-        List<AuditLog> result = service.getAuditLogsByJsonFieldNotExists(fieldName);
+        Page<AuditLog> result = service.getAuditLogsByJsonFieldNotExists(fieldName, pageable);
 
         // Then
-        assertNotNull(result);
-        verify(repository).findAll();
+        assertEquals(auditLogs.size(), result.getTotalElements());
+        verify(repository).findByJsonFieldNotExists(fieldName, newestFirst);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should translate sort properties to columns for the native JSON queries")
+    void getAuditLogsByJsonField_withEntitySort_shouldSortByColumns() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 5, Sort.by(Sort.Order.asc("actionTimestamp"), Sort.Order.desc("entityType")));
+        Pageable byColumns = PageRequest.of(1, 5, Sort.by(Sort.Order.asc("action_timestamp"), Sort.Order.desc("entity_type")));
+        when(repository.findByJsonFieldValue("status", "pending", byColumns)).thenReturn(Page.empty(byColumns));
+
+        // When
+        Page<AuditLog> result = service.getAuditLogsByJsonField("status", "pending", pageable);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(repository).findByJsonFieldValue("status", "pending", byColumns);
+    }
+
+    @Test
+    @DisplayName("Should reject sorting the native JSON queries by an unknown property")
+    void getAuditLogsByJsonFieldExists_withUnknownSort_shouldThrowException() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("oldValues"));
+
+        // When/Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getAuditLogsByJsonFieldExists("status", pageable));
+        assertEquals("Cannot sort audit logs by oldValues", exception.getMessage());
+        verifyNoInteractions(repository);
     }
 }
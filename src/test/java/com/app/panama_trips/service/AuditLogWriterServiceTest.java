@@ -0,0 +1,180 @@
+package com.app.panama_trips.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.app.panama_trips.persistence.entity.AuditLog;
+import com.app.panama_trips.persistence.repository.AuditLogRepository;
+import com.app.panama_trips.presentation.dto.AuditLogWriterStatsResponse;
+import com.app.panama_trips.service.implementation.AuditLogWriterService;
+
+import static com.app.panama_trips.DataProvider.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogWriterServiceTest {
+
+    private static final int CAPACITY = 3;
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private AuditLogRepository repository;
+
+    private AuditLogWriterService writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new AuditLogWriterService(repository, CAPACITY, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should accept audit logs without touching the repository")
+    void enqueue_shouldBufferWithoutWriting() {
+        // When
+        boolean accepted = writer.enqueue(auditLogOneMock());
+
+        // Then
+        assertTrue(accepted);
+        assertEquals(1, writer.getStats().pending());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should reject audit logs once the buffer is full")
+    void enqueue_whenFull_shouldRejectAndCount() {
+        // Given
+        for (int i = 0; i < CAPACITY; i++) {
+            writer.enqueue(auditLogOneMock());
+        }
+
+        // When
+        boolean accepted = writer.enqueue(auditLogTwoMock());
+
+        // Then
+        assertFalse(accepted);
+        AuditLogWriterStatsResponse stats = writer.getStats();
+        assertEquals(CAPACITY, stats.pending());
+        assertEquals(CAPACITY, stats.accepted());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    @DisplayName("Should flush the buffer in batches of the configured size")
+    void flush_shouldWriteInBatches() {
+        // Given
+        List<Integer> batchSizes = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch;
+        });
+        writer.enqueue(auditLogOneMock());
+        writer.enqueue(auditLogTwoMock());
+        writer.enqueue(auditLogThreeMock());
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(List.of(2, 1), batchSizes);
+        AuditLogWriterStatsResponse stats = writer.getStats();
+        assertEquals(0, stats.pending());
+        assertEquals(3, stats.written());
+    }
+
+    @Test
+    @DisplayName("Should isolate the entry the database rejects and write the rest of its batch")
+    void flush_whenBatchHasPoisonedEntry_shouldDeadLetterOnlyThatEntry() {
+        // Given
+        AuditLog retried = auditLogOneMock();
+        AuditLog poisoned = auditLogTwoMock();
+        List<AuditLog> saved = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            if (batch.contains(poisoned)) {
+                throw new DataIntegrityViolationException("value too long for type character varying(20)");
+            }
+            saved.addAll(batch);
+            return batch;
+        });
+        writer.enqueue(retried);
+        writer.enqueue(poisoned);
+        writer.enqueue(auditLogThreeMock());
+
+        // When
+        writer.flush();
+
+        // Then
+        assertEquals(2, saved.size());
+        assertFalse(saved.contains(poisoned));
+        // Re-sent as a new row, not merged under the id the rolled back attempt assigned
+        assertNull(retried.getId());
+        AuditLogWriterStatsResponse stats = writer.getStats();
+        assertEquals(0, stats.pending());
+        assertEquals(1, stats.failed());
+        assertEquals(2, stats.written());
+    }
+
+    @Test
+    @DisplayName("Should keep the batch buffered while the database is unavailable")
+    void flush_whenDatabaseUnavailable_shouldKeepBatchForNextFlush() {
+        // Given
+        when(repository.saveAll(anyList()))
+                .thenThrow(new CannotCreateTransactionException("Connection refused"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        writer.enqueue(auditLogOneMock());
+        writer.enqueue(auditLogTwoMock());
+        writer.enqueue(auditLogThreeMock());
+
+        // When
+        writer.flush();
+
+        // Then
+        AuditLogWriterStatsResponse stats = writer.getStats();
+        assertEquals(3, stats.pending());
+        assertEquals(0, stats.failed());
+        assertEquals(0, stats.written());
+        verify(repository, times(1)).saveAll(anyList());
+
+        // And the next flush writes it
+        writer.flush();
+        stats = writer.getStats();
+        assertEquals(0, stats.pending());
+        assertEquals(3, stats.written());
+    }
+
+    @Test
+    @DisplayName("Should write everything still buffered on shutdown")
+    void shutdown_shouldDrainBuffer() {
+        // Given
+        writer.enqueue(auditLogOneMock());
+        writer.enqueue(auditLogTwoMock());
+
+        // When
+        writer.shutdown();
+
+        // Then
+        verify(repository).saveAll(anyList());
+        assertEquals(0, writer.getStats().pending());
+    }
+
+    @Test
+    @DisplayName("Should not hit the repository when there is nothing to flush")
+    void flush_whenEmpty_shouldDoNothing() {
+        // When
+        writer.flush();
+
+        // Then
+        verifyNoInteractions(repository);
+    }
+}
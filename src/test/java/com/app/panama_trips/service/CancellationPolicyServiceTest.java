@@ -6,6 +6,7 @@ import com.app.panama_trips.persistence.repository.CancellationPolicyRepository;
 import com.app.panama_trips.presentation.dto.CancellationPolicyRequest;
 import com.app.panama_trips.presentation.dto.CancellationPolicyResponse;
 import com.app.panama_trips.service.implementation.CancellationPolicyService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,9 @@ public class CancellationPolicyServiceTest {
     @Mock
     private CancellationPolicyRepository repository;
 
+    @Mock
+    private IResponseCacheService responseCacheService;
+
     @InjectMocks
     private CancellationPolicyService service;
 
@@ -234,6 +238,7 @@ public class CancellationPolicyServiceTest {
         // Then
         verify(repository).existsById(id);
         verify(repository).deleteById(id);
+        verify(responseCacheService).invalidate(IResponseCacheService.CANCELLATION_POLICIES);
     }
 
     @Test
@@ -0,0 +1,165 @@
+package com.app.panama_trips.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.app.panama_trips.persistence.repository.MarketingCampaignRepository;
+import com.app.panama_trips.service.implementation.ClickCounterService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClickCounterServiceTest {
+
+    @Mock
+    private MarketingCampaignRepository repository;
+
+    private ClickCounterService counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ClickCounterService(repository);
+    }
+
+    @Test
+    @DisplayName("Should accumulate clicks without touching the repository")
+    void record_shouldBufferWithoutWriting() {
+        // When
+        counter.record(1, 1);
+        counter.record(1, 2);
+
+        // Then
+        assertEquals(3, counter.pendingClicks(1));
+        assertEquals(0, counter.pendingClicks(2));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should reject empty or negative clicks")
+    void record_shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> counter.record(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> counter.record(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> counter.record(null, 1));
+    }
+
+    @Test
+    @DisplayName("Should flush the deltas of every campaign in one statement")
+    void flush_shouldWriteAllDeltasAtOnce() {
+        // Given
+        when(repository.addClicks(any(Integer[].class), any(Long[].class))).thenReturn(2);
+        counter.record(1, 5);
+        counter.record(2, 1);
+
+        // When
+        int updated = counter.flush();
+
+        // Then
+        assertEquals(2, updated);
+        ArgumentCaptor<Integer[]> ids = ArgumentCaptor.forClass(Integer[].class);
+        ArgumentCaptor<Long[]> deltas = ArgumentCaptor.forClass(Long[].class);
+        verify(repository, times(1)).addClicks(ids.capture(), deltas.capture());
+        List<Integer> flushedIds = Arrays.asList(ids.getValue());
+        assertEquals(5L, deltas.getValue()[flushedIds.indexOf(1)]);
+        assertEquals(1L, deltas.getValue()[flushedIds.indexOf(2)]);
+        assertEquals(0, counter.pendingClicks(1));
+        assertEquals(0, counter.pendingClicks(2));
+    }
+
+    @Test
+    @DisplayName("Should skip the repository when there is nothing to flush")
+    void flush_withoutClicks_shouldNotWrite() {
+        // Given
+        counter.record(1, 1);
+        when(repository.addClicks(any(Integer[].class), any(Long[].class))).thenReturn(1);
+        counter.flush();
+
+        // When
+        int updated = counter.flush();
+
+        // Then
+        assertEquals(0, updated);
+        verify(repository, times(1)).addClicks(any(Integer[].class), any(Long[].class));
+    }
+
+    @Test
+    @DisplayName("Should keep taken clicks visible until the UPDATE returns")
+    void flush_whileUpdateRuns_shouldStillCountTakenClicks() {
+        // Given
+        long[] seenDuringUpdate = new long[1];
+        when(repository.addClicks(any(Integer[].class), any(Long[].class))).thenAnswer(invocation -> {
+            seenDuringUpdate[0] = counter.pendingClicks(1);
+            return 1;
+        });
+        counter.record(1, 3);
+
+        // When
+        counter.flush();
+
+        // Then
+        assertEquals(3, seenDuringUpdate[0]);
+        assertEquals(0, counter.pendingClicks(1));
+    }
+
+    @Test
+    @DisplayName("Should keep the clicks pending when the flush fails")
+    void flush_whenRepositoryFails_shouldRestoreDeltas() {
+        // Given
+        when(repository.addClicks(any(Integer[].class), any(Long[].class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        counter.record(1, 4);
+
+        // When
+        assertThrows(QueryTimeoutException.class, () -> counter.flush());
+
+        // Then
+        assertEquals(4, counter.pendingClicks(1));
+        assertEquals(1, counter.flush());
+        assertEquals(0, counter.pendingClicks(1));
+    }
+
+    @Test
+    @DisplayName("Should not lose clicks recorded concurrently")
+    void record_concurrently_shouldCountEveryClick() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            executor.submit(() -> counter.record(1, 1));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(10_000, counter.pendingClicks(1));
+    }
+
+    @Test
+    @DisplayName("Should flush pending clicks on shutdown")
+    void shutdown_shouldDrainPendingClicks() {
+        // Given
+        when(repository.addClicks(any(Integer[].class), any(Long[].class))).thenReturn(1);
+        counter.record(7, 3);
+
+        // When
+        counter.shutdown();
+
+        // Then
+        verify(repository).addClicks(new Integer[] {7}, new Long[] {3L});
+        assertEquals(0, counter.pendingClicks(7));
+    }
+}
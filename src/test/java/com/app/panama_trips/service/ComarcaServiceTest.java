@@ -6,6 +6,7 @@ import com.app.panama_trips.persistence.entity.Comarca;
 import com.app.panama_trips.persistence.repository.ComarcaRepository;
 import com.app.panama_trips.presentation.dto.ComarcaResponse;
 import com.app.panama_trips.service.implementation.ComarcaService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,36 +28,39 @@ class ComarcaServiceTest {
   @Mock
   private ComarcaRepository comarcaRepository;
 
+  @Mock
+  private IGeoReferenceService geoReferenceService;
+
   @InjectMocks
   private ComarcaService comarcaService;
 
   @Test
   @DisplayName("Should return all comarcas")
   void getAllComarcas_Success() {
-    when(comarcaRepository.findAll()).thenReturn(List.of(DataProvider.comarcaGunaYalaMock));
+    when(geoReferenceService.getComarcas()).thenReturn(List.of(new ComarcaResponse(DataProvider.comarcaGunaYalaMock)));
 
     List<ComarcaResponse> result = comarcaService.getAllComarcas();
 
     assertThat(result).hasSize(1);
     assertThat(result.get(0).name()).isEqualTo("Guna Yala");
-    verify(comarcaRepository).findAll();
+    verifyNoInteractions(comarcaRepository);
   }
 
   @Test
   @DisplayName("Should return comarca by ID")
   void getComarcaById_Success() {
-    when(comarcaRepository.findById(1)).thenReturn(Optional.of(DataProvider.comarcaGunaYalaMock));
+    when(geoReferenceService.findComarca(1)).thenReturn(Optional.of(new ComarcaResponse(DataProvider.comarcaGunaYalaMock)));
 
     ComarcaResponse result = comarcaService.getComarcaById(1);
 
     assertThat(result.name()).isEqualTo("Guna Yala");
-    verify(comarcaRepository).findById(1);
+    verify(geoReferenceService).findComarca(1);
   }
 
   @Test
   @DisplayName("Should throw exception when comarca ID not found")
   void getComarcaById_NotFound() {
-    when(comarcaRepository.findById(1)).thenReturn(Optional.empty());
+    when(geoReferenceService.findComarca(1)).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> comarcaService.getComarcaById(1))
         .isInstanceOf(ResourceNotFoundException.class)
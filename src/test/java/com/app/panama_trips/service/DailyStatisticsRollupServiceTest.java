@@ -0,0 +1,151 @@
+package com.app.panama_trips.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.repository.DailyStatisticsRepository;
+import com.app.panama_trips.presentation.dto.DailyStatisticsBackfillResponse;
+import com.app.panama_trips.service.implementation.DailyStatisticsRollupService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DailyStatisticsRollupServiceTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+    @Mock
+    private DailyStatisticsRepository repository;
+
+    private DailyStatisticsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DailyStatisticsRollupService(repository, 2, 10, 3, 31);
+    }
+
+    @Test
+    @DisplayName("Should keep consuming tracked changes while batches come back full")
+    void rollupChangedDays_shouldDrainTrackedChanges() {
+        // Given
+        when(repository.rollupChangedDays(2)).thenReturn(2, 2, 1);
+
+        // When
+        int result = service.rollupChangedDays();
+
+        // Then
+        assertEquals(5, result);
+        verify(repository, times(3)).rollupChangedDays(2);
+    }
+
+    @Test
+    @DisplayName("Should treat a null result as no tracked changes")
+    void rollupChangedDays_whenNull_shouldReturnZero() {
+        // Given
+        when(repository.rollupChangedDays(2)).thenReturn(null);
+
+        // When
+        int result = service.rollupChangedDays();
+
+        // Then
+        assertEquals(0, result);
+        verify(repository, times(1)).rollupChangedDays(2);
+    }
+
+    @Test
+    @DisplayName("Should recompute the previous day")
+    void closePreviousDay_shouldRollUpYesterday() {
+        // Given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        when(repository.rollupDays(aryEq(new LocalDate[] { yesterday }))).thenReturn(1);
+
+        // When
+        int result = service.closePreviousDay();
+
+        // Then
+        assertEquals(1, result);
+    }
+
+    @Test
+    @DisplayName("Should recompute every day of the range once, in chunks")
+    void backfill_shouldCoverTheRangeInChunks() {
+        // Given
+        List<LocalDate> covered = Collections.synchronizedList(new ArrayList<>());
+        when(repository.rollupDays(any(LocalDate[].class))).thenAnswer(invocation -> {
+            LocalDate[] days = invocation.getArgument(0);
+            covered.addAll(List.of(days));
+            return days.length;
+        });
+
+        // When
+        DailyStatisticsBackfillResponse result = service.backfill(JAN_1, JAN_1.plusDays(24));
+
+        // Then
+        assertEquals(25, result.days());
+        assertEquals(3, result.chunks());
+        assertEquals(25, result.rowsChanged());
+        assertTrue(result.failedChunks().isEmpty());
+        assertEquals(JAN_1.datesUntil(JAN_1.plusDays(25)).toList(), covered.stream().sorted().toList());
+        verify(repository, times(3)).rollupDays(any(LocalDate[].class));
+    }
+
+    @Test
+    @DisplayName("Should report the chunks that failed and keep the rest")
+    void backfill_whenChunkFails_shouldReportIt() {
+        // Given
+        when(repository.rollupDays(any(LocalDate[].class))).thenAnswer(invocation -> {
+            LocalDate[] days = invocation.getArgument(0);
+            if (days[0].equals(JAN_1.plusDays(10))) {
+                throw new IllegalStateException("deadlock detected");
+            }
+            return days.length;
+        });
+
+        // When
+        DailyStatisticsBackfillResponse result = service.backfill(JAN_1, JAN_1.plusDays(24));
+
+        // Then
+        assertEquals(15, result.rowsChanged());
+        assertEquals(List.of("2026-01-11..2026-01-20"), result.failedChunks());
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void backfill_withInvalidRange_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> service.backfill(JAN_1, JAN_1.minusDays(1)));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should reject a range longer than the configured maximum")
+    void backfill_withRangeOverMaximum_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> service.backfill(JAN_1, JAN_1.plusDays(31)));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should accept a range of exactly the configured maximum")
+    void backfill_withRangeAtMaximum_shouldRecomputeIt() {
+        // Given
+        when(repository.rollupDays(any(LocalDate[].class))).thenAnswer(invocation -> ((LocalDate[]) invocation.getArgument(0)).length);
+
+        // When
+        DailyStatisticsBackfillResponse result = service.backfill(JAN_1, JAN_1.plusDays(30));
+
+        // Then
+        assertEquals(31, result.days());
+        assertEquals(31, result.rowsChanged());
+    }
+}
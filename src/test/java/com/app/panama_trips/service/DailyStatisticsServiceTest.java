@@ -10,6 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -59,20 +63,20 @@ class DailyStatisticsServiceTest {
     }
 
     @Test
-    void getAllDailyStatistics_shouldReturnListOfResponses() {
+    void getAllDailyStatistics_shouldReturnPageOfResponses() {
         // Given
         DailyStatistics entity = createMockEntity();
-        List<DailyStatistics> entities = List.of(entity);
-        when(dailyStatisticsRepository.findAll()).thenReturn(entities);
+        Pageable pageable = PageRequest.of(0, 31);
+        when(dailyStatisticsRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(entity), pageable, 1));
 
         // When
-        List<DailyStatisticsResponse> result = dailyStatisticsService.getAllDailyStatistics();
+        Page<DailyStatisticsResponse> result = dailyStatisticsService.getAllDailyStatistics(pageable);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(testDate, result.get(0).date());
-        verify(dailyStatisticsRepository, times(1)).findAll();
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testDate, result.getContent().get(0).date());
+        verify(dailyStatisticsRepository, times(1)).findAll(pageable);
     }
 
     @Test
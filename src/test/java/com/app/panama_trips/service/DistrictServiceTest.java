@@ -8,6 +8,7 @@ import com.app.panama_trips.persistence.repository.ProvinceRepository;
 import com.app.panama_trips.presentation.dto.DistrictRequest;
 import com.app.panama_trips.presentation.dto.DistrictResponse;
 import com.app.panama_trips.service.implementation.DistrictService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,13 +30,16 @@ public class DistrictServiceTest {
     @Mock
     private ProvinceRepository provinceRepository;
 
+    @Mock
+    private IGeoReferenceService geoReferenceService;
+
     @InjectMocks
     private DistrictService districtService;
 
     @Test
     void getAllDistricts_shouldReturnAllDistricts() {
         // When
-        when(districtRepository.findAll()).thenReturn(DataProvider.districtListsMock);
+        when(geoReferenceService.getDistricts()).thenReturn(DataProvider.districtListsMock.stream().map(DistrictResponse::new).toList());
         List<DistrictResponse> districtList = districtService.getAllDistricts();
 
         // Then
@@ -46,7 +50,7 @@ public class DistrictServiceTest {
     @Test
     void getDistrictById_shouldReturnDistrictById() {
         // When
-        when(districtRepository.findById(1)).thenReturn(Optional.of(DataProvider.districtAlmiranteMock));
+        when(geoReferenceService.findDistrict(1)).thenReturn(Optional.of(new DistrictResponse(DataProvider.districtAlmiranteMock)));
         DistrictResponse district = districtService.getDistrictById(1);
 
         // Then
@@ -57,7 +61,7 @@ public class DistrictServiceTest {
     @Test
     void getDistrictById_shouldThrowExceptionWhenNotFoundId() {
         // When
-        when(districtRepository.findById(99)).thenReturn(Optional.empty());
+        when(geoReferenceService.findDistrict(99)).thenReturn(Optional.empty());
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> districtService.getDistrictById(99));
 
         // Then
@@ -67,7 +71,7 @@ public class DistrictServiceTest {
     @Test
     void getDistrictByName_shouldReturnDistrictByName() {
         // When
-        when(districtRepository.findByName("Almirante")).thenReturn(Optional.of(DataProvider.districtAlmiranteMock));
+        when(geoReferenceService.findDistrictByName("Almirante")).thenReturn(Optional.of(new DistrictResponse(DataProvider.districtAlmiranteMock)));
         DistrictResponse district = districtService.getDistrictByName("Almirante");
 
         // Then
@@ -78,7 +82,7 @@ public class DistrictServiceTest {
     @Test
     void getDistrictByName_shouldThrowExceptionWhenNotFoundName() {
         // When
-        when(districtRepository.findByName("Distrito")).thenReturn(Optional.empty());
+        when(geoReferenceService.findDistrictByName("Distrito")).thenReturn(Optional.empty());
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> districtService.getDistrictByName("Distrito"));
 
         // Then
@@ -88,7 +92,7 @@ public class DistrictServiceTest {
     @Test
     void getDistrictsByProvinceId_shouldReturnDistrictsByProvinceId() {
         // When
-        when(districtRepository.findDistrictByProvinceId_Id(1)).thenReturn(DataProvider.districtListBocasMock);
+        when(geoReferenceService.getDistrictsByProvince(1)).thenReturn(DataProvider.districtListBocasMock.stream().map(DistrictResponse::new).toList());
         List<DistrictResponse> districtList = districtService.getDistrictsByProvinceId(1);
 
         // Then
@@ -97,6 +101,16 @@ public class DistrictServiceTest {
         assertEquals(1, districtList.getFirst().id());
     }
 
+    @Test
+    void getDistrictsByProvinceId_shouldReturnNullWhenProvinceHasNoDistricts() {
+        // When
+        when(geoReferenceService.getDistrictsByProvince(99)).thenReturn(List.of());
+        List<DistrictResponse> districtList = districtService.getDistrictsByProvinceId(99);
+
+        // Then
+        assertNull(districtList);
+    }
+
     @Test
     void saveDistrict_shouldSaveAndReturnDistrict() {
         // Given
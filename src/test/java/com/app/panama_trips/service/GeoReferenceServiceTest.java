@@ -0,0 +1,181 @@
+package com.app.panama_trips.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.entity.Province;
+import com.app.panama_trips.persistence.repository.ComarcaRepository;
+import com.app.panama_trips.persistence.repository.DistrictRepository;
+import com.app.panama_trips.persistence.repository.ProvinceRepository;
+import com.app.panama_trips.persistence.repository.RegionRepository;
+import com.app.panama_trips.presentation.dto.DistrictResponse;
+import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
+import com.app.panama_trips.presentation.dto.RegionResponse;
+import com.app.panama_trips.service.implementation.GeoReferenceService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+
+import static com.app.panama_trips.DataProvider.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GeoReferenceServiceTest {
+
+    @Mock
+    private ProvinceRepository provinceRepository;
+
+    @Mock
+    private DistrictRepository districtRepository;
+
+    @Mock
+    private ComarcaRepository comarcaRepository;
+
+    @Mock
+    private RegionRepository regionRepository;
+
+    @Mock
+    private IResponseCacheService responseCacheService;
+
+    @InjectMocks
+    private GeoReferenceService geoReferenceService;
+
+    private void givenReferenceData() {
+        when(provinceRepository.findAll()).thenReturn(provinceListsMock);
+        when(districtRepository.findAll()).thenReturn(districtListsMock);
+        when(comarcaRepository.findAll()).thenReturn(comarcaListsMock);
+        when(regionRepository.findAll()).thenReturn(regionListsMock);
+    }
+
+    @Test
+    @DisplayName("Should load everything once and answer later reads from memory")
+    void reads_shouldLoadOnceAndServeFromMemory() {
+        // Given
+        givenReferenceData();
+
+        // When
+        List<ProvinceResponse> provinces = geoReferenceService.getProvinces();
+        geoReferenceService.getDistricts();
+        geoReferenceService.findComarca(1);
+        geoReferenceService.findRegionByName("region one");
+
+        // Then
+        assertEquals(provinceListsMock.size(), provinces.size());
+        verify(provinceRepository, times(1)).findAll();
+        verify(districtRepository, times(1)).findAll();
+        verify(comarcaRepository, times(1)).findAll();
+        verify(regionRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should look up provinces, districts and comarcas by id and name")
+    void lookups_shouldResolveByIdAndName() {
+        // Given
+        givenReferenceData();
+
+        // Then
+        assertEquals("Bocas del Toro", geoReferenceService.findProvince(1).orElseThrow().name());
+        assertEquals(5, geoReferenceService.findProvinceByName("Herrera").orElseThrow().id());
+        assertEquals("Almirante", geoReferenceService.findDistrict(1).orElseThrow().name());
+        assertEquals(4, geoReferenceService.findDistrictByName("Antón").orElseThrow().id());
+        assertEquals("Comarca Two", geoReferenceService.findComarca(2).orElseThrow().name());
+        assertEquals(3, geoReferenceService.findComarcaByName("Comarca Three").orElseThrow().id());
+        assertTrue(geoReferenceService.findProvince(99).isEmpty());
+        assertTrue(geoReferenceService.findDistrict(null).isEmpty());
+        assertTrue(geoReferenceService.findComarcaByName("Unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should build regions with parent names and find them ignoring case")
+    void regions_shouldCarryParentNames() {
+        // Given
+        givenReferenceData();
+
+        // When
+        RegionResponse region = geoReferenceService.findRegionByName("REGION TWO").orElseThrow();
+
+        // Then
+        assertEquals(2, region.id());
+        assertEquals("Coclé", region.provinceName());
+        assertEquals("Comarca Two", region.comarcaName());
+        assertEquals(List.of(region), geoReferenceService.getRegionsByComarca(2));
+        assertEquals(List.of(region), geoReferenceService.getRegionsByProvince(2));
+    }
+
+    @Test
+    @DisplayName("Should expose districts of a province through the adjacency lists")
+    void getDistrictsByProvince_shouldReturnChildren() {
+        // Given
+        givenReferenceData();
+
+        // When
+        List<DistrictResponse> bocas = geoReferenceService.getDistrictsByProvince(1);
+
+        // Then
+        assertEquals(List.of(1, 2, 3), bocas.stream().map(DistrictResponse::id).toList());
+        assertTrue(geoReferenceService.getDistrictsByProvince(5).isEmpty());
+        assertTrue(geoReferenceService.getDistrictsByProvince(99).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> bocas.add(bocas.getFirst()));
+    }
+
+    @Test
+    @DisplayName("Should assemble a province tree with districts and regions")
+    void findProvinceTree_shouldIncludeChildren() {
+        // Given
+        givenReferenceData();
+
+        // When
+        ProvinceTreeResponse tree = geoReferenceService.findProvinceTree(1).orElseThrow();
+
+        // Then
+        assertEquals("Bocas del Toro", tree.name());
+        assertEquals(3, tree.districts().size());
+        assertEquals(1, tree.regions().size());
+        assertEquals(provinceListsMock.size(), geoReferenceService.getProvinceTrees().size());
+        assertTrue(geoReferenceService.findProvinceTree(99).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot on refresh without touching the one already handed out")
+    void refresh_shouldReplaceSnapshot() {
+        // Given
+        givenReferenceData();
+        List<ProvinceResponse> before = geoReferenceService.getProvinces();
+        Province darien = Province.builder().id(9).name("Darién").build();
+        when(provinceRepository.findAll()).thenReturn(List.of(provinceBocasMock, darien));
+
+        // When
+        geoReferenceService.refresh();
+
+        // Then
+        assertEquals(provinceListsMock.size(), before.size());
+        assertEquals(2, geoReferenceService.getProvinces().size());
+        assertEquals("Darién", geoReferenceService.findProvince(9).orElseThrow().name());
+        assertTrue(geoReferenceService.findProvince(2).isEmpty());
+        verify(responseCacheService, times(2)).invalidate(IResponseCacheService.PROVINCES);
+    }
+
+    @Test
+    @DisplayName("Should not fail startup when the database is unavailable")
+    void loadOnStartup_whenLoadFails_shouldRetryOnFirstRead() {
+        // Given
+        when(provinceRepository.findAll())
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(provinceListsMock);
+        when(districtRepository.findAll()).thenReturn(districtListsMock);
+        when(comarcaRepository.findAll()).thenReturn(comarcaListsMock);
+        when(regionRepository.findAll()).thenReturn(regionListsMock);
+
+        // When
+        assertDoesNotThrow(() -> geoReferenceService.loadOnStartup());
+
+        // Then
+        assertEquals(provinceListsMock.size(), geoReferenceService.getProvinces().size());
+    }
+}
@@ -23,6 +23,7 @@ import com.app.panama_trips.persistence.repository.LanguageRepository;
 import com.app.panama_trips.presentation.dto.LanguageRequest;
 import com.app.panama_trips.presentation.dto.LanguageResponse;
 import com.app.panama_trips.service.implementation.LanguageService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 
 import static com.app.panama_trips.DataProvider.*;
 
@@ -35,6 +36,9 @@ public class LanguageServiceTest {
     @Mock
     private LanguageRepository repository;
 
+    @Mock
+    private IResponseCacheService responseCacheService;
+
     @InjectMocks
     private LanguageService service;
 
@@ -125,6 +129,7 @@ public class LanguageServiceTest {
         Language savedLanguage = languageCaptor.getValue();
         assertEquals(languageRequest.code(), savedLanguage.getCode());
         assertEquals(languageRequest.name(), savedLanguage.getName());
+        verify(responseCacheService).invalidate(IResponseCacheService.ACTIVE_LANGUAGES);
     }
 
     @Test
@@ -13,6 +13,7 @@ import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.MarketingCampaignRequest;
 import com.app.panama_trips.presentation.dto.MarketingCampaignResponse;
 import com.app.panama_trips.service.implementation.MarketingCampaignService;
+import com.app.panama_trips.service.interfaces.IClickCounterService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,8 +33,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -57,6 +60,9 @@ class MarketingCampaignServiceTest {
     @Mock
     private UserEntityRepository userEntityRepository;
 
+    @Mock
+    private IClickCounterService clickCounterService;
+
     // ==================== SERVICE UNDER TEST ====================
     @InjectMocks
     private MarketingCampaignService service;
@@ -586,23 +592,19 @@ class MarketingCampaignServiceTest {
     }
 
     @Test
-    @DisplayName("CP-079: bulkIncrementClicks incrementa clics en cada campaña")
+    @DisplayName("CP-079: bulkIncrementClicks acumula un clic por campaña existente")
     void testBulkIncrementClicks_HappyPath() {
         // Given
-        campaign1.setActualClicks(50L);
-        campaign2.setActualClicks(150L);
-        when(marketingCampaignRepository.findAllById(List.of(1, 2))).thenReturn(List.of(campaign1, campaign2));
-        when(marketingCampaignRepository.saveAll(anyList())).thenReturn(List.of(campaign1, campaign2));
+        when(marketingCampaignRepository.findExistingIds(Set.of(1, 2, 99))).thenReturn(List.of(1, 2));
 
         // When
-        service.bulkIncrementClicks(List.of(1, 2));
+        service.bulkIncrementClicks(List.of(1, 2, 99));
 
         // Then
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<MarketingCampaign>> captor = ArgumentCaptor.forClass(List.class);
-        verify(marketingCampaignRepository).saveAll(captor.capture());
-        assertThat(captor.getValue())
-                .allMatch(c -> c.getActualClicks() > 0);
+        verify(clickCounterService).record(1, 1);
+        verify(clickCounterService).record(2, 1);
+        verifyNoMoreInteractions(clickCounterService);
+        verify(marketingCampaignRepository, never()).saveAll(anyList());
     }
 
     // ==================== GRUPO 4: VERIFICACIONES DE EXISTENCIA ====================
@@ -920,21 +922,32 @@ class MarketingCampaignServiceTest {
     // ==================== GRUPO 8: OPERACIONES ESPECIALIZADAS ====================
 
     @Test
-    @DisplayName("CP-154: incrementClicks aumenta en 1")
+    @DisplayName("CP-154: incrementClicks aumenta en 1 sin escribir la campaña")
     void testIncrementClicks_HappyPath() {
         // Given
         campaign1.setActualClicks(50L);
         when(marketingCampaignRepository.findById(1)).thenReturn(Optional.of(campaign1));
-        when(marketingCampaignRepository.save(any(MarketingCampaign.class))).thenReturn(campaign1);
+        when(clickCounterService.pendingClicks(1)).thenReturn(1L);
 
         // When
         MarketingCampaignResponse result = service.incrementClicks(1);
 
         // Then
-        assertThat(result).isNotNull();
-        ArgumentCaptor<MarketingCampaign> captor = ArgumentCaptor.forClass(MarketingCampaign.class);
-        verify(marketingCampaignRepository).save(captor.capture());
-        assertThat(captor.getValue().getActualClicks()).isEqualTo(51L);
+        verify(clickCounterService).record(1, 1);
+        verify(marketingCampaignRepository, never()).save(any(MarketingCampaign.class));
+        assertThat(result.actualClicks()).isEqualTo(51L);
+    }
+
+    @Test
+    @DisplayName("CP-197: incrementClicks con campaña inexistente no acumula clics")
+    void testIncrementClicks_NotFound() {
+        // Given
+        when(marketingCampaignRepository.findById(99)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.incrementClicks(99))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(clickCounterService);
     }
 
     @Test
@@ -1143,21 +1156,40 @@ class MarketingCampaignServiceTest {
     }
 
     @Test
-    @DisplayName("CL-010: bulkIncrementClicks con IDs duplicados deduplicados por findAllById")
+    @DisplayName("CL-010: bulkIncrementClicks con IDs duplicados cuenta un clic por campaña")
     void testBulkIncrementClicks_DuplicateIds() {
         // Given
-        campaign1.setActualClicks(50L);
-        when(marketingCampaignRepository.findAllById(List.of(1, 1))).thenReturn(List.of(campaign1));
-        when(marketingCampaignRepository.saveAll(anyList())).thenReturn(List.of(campaign1));
+        when(marketingCampaignRepository.findExistingIds(Set.of(1))).thenReturn(List.of(1));
 
         // When
         service.bulkIncrementClicks(List.of(1, 1));
 
         // Then
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<MarketingCampaign>> captor = ArgumentCaptor.forClass(List.class);
-        verify(marketingCampaignRepository).saveAll(captor.capture());
-        assertThat(captor.getValue()).hasSize(1);
+        verify(clickCounterService, times(1)).record(1, 1);
+    }
+
+    @Test
+    @DisplayName("CL-011: bulkIncrementClicks ignora los IDs nulos")
+    void testBulkIncrementClicks_NullIds() {
+        // Given
+        when(marketingCampaignRepository.findExistingIds(Set.of(1))).thenReturn(List.of(1));
+
+        // When
+        service.bulkIncrementClicks(Arrays.asList(1, null, 1));
+
+        // Then
+        verify(clickCounterService, times(1)).record(1, 1);
+    }
+
+    @Test
+    @DisplayName("CL-012: bulkIncrementClicks solo con IDs nulos no consulta la base de datos")
+    void testBulkIncrementClicks_OnlyNullIds() {
+        // When
+        service.bulkIncrementClicks(Arrays.asList((Integer) null));
+
+        // Then
+        verifyNoInteractions(clickCounterService);
+        verify(marketingCampaignRepository, never()).findExistingIds(any());
     }
 
     @Test
@@ -1546,12 +1578,16 @@ class MarketingCampaignServiceTest {
     }
 
     @Test
-    @DisplayName("CP-159: updateClicksForActiveCampaigns es NO-OP (placeholder)")
-    void testUpdateClicksForActiveCampaigns_NoOp() {
+    @DisplayName("CP-159: updateClicksForActiveCampaigns vuelca los clics pendientes")
+    void testUpdateClicksForActiveCampaigns_FlushesPendingClicks() {
+        // Given
+        when(clickCounterService.flush()).thenReturn(2);
+
         // When
         service.updateClicksForActiveCampaigns();
 
-        // Then - Debe ser NO-OP, no guardar nada
+        // Then
+        verify(clickCounterService).flush();
         verify(marketingCampaignRepository, never()).saveAll(anyList());
     }
 
@@ -0,0 +1,181 @@
+package com.app.panama_trips.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.exception.NotificationDeliveryException;
+import com.app.panama_trips.presentation.dto.DeliveryResult;
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+import com.app.panama_trips.service.implementation.NotificationDispatcherService;
+import com.app.panama_trips.service.interfaces.INotificationQueueService;
+import com.app.panama_trips.service.interfaces.INotificationSender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatcherServiceTest {
+
+    @Mock
+    private INotificationQueueService queue;
+
+    // Local fake channel: records what it sends and tracks how many sends overlap
+    private static class FakeSender implements INotificationSender {
+
+        private final String channel;
+        private final int maxConcurrency;
+        private final List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        FakeSender(String channel, int maxConcurrency) {
+            this.channel = channel;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public String channel() {
+            return channel;
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public void send(OutboundNotification notification) {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                if ("bounce@example.com".equals(notification.recipient())) {
+                    throw new NotificationDeliveryException("Mailbox does not exist", false);
+                }
+                if ("busy@example.com".equals(notification.recipient())) {
+                    throw new IllegalStateException("Provider busy");
+                }
+                Thread.sleep(5);
+                sent.add(notification.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private NotificationDispatcherService dispatcher(List<INotificationSender> senders, int workers) {
+        return new NotificationDispatcherService(queue, senders, 100, workers, 300);
+    }
+
+    private static List<OutboundNotification> batch(int firstId, int size, String channel, String recipient) {
+        List<OutboundNotification> batch = new ArrayList<>();
+        for (int id = firstId; id < firstId + size; id++) {
+            batch.add(new OutboundNotification(id, channel, 1L, recipient, "Subject", "Body", 1));
+        }
+        return batch;
+    }
+
+    @Test
+    @DisplayName("Should send every claimed notification and drain the queue")
+    void dispatch_shouldDrainQueue() {
+        // Given
+        FakeSender email = new FakeSender("EMAIL", 4);
+        when(queue.claim(eq(100), any(Duration.class)))
+                .thenReturn(batch(1, 40, "EMAIL", "user@example.com"))
+                .thenReturn(batch(41, 40, "EMAIL", "user@example.com"))
+                .thenReturn(List.of());
+
+        // When
+        int processed = dispatcher(List.of(email), 1).dispatch();
+
+        // Then
+        assertEquals(80, processed);
+        assertEquals(80, email.sent.size());
+        assertTrue(email.maxInFlight.get() <= 4, "channel limit exceeded: " + email.maxInFlight.get());
+        verify(queue, times(2)).complete(argThat(results -> results.stream().allMatch(DeliveryResult::delivered)));
+    }
+
+    @Test
+    @DisplayName("Should report permanent, retryable and unroutable failures")
+    void dispatch_shouldReportFailures() {
+        // Given
+        FakeSender email = new FakeSender("EMAIL", 2);
+        List<OutboundNotification> claimed = new ArrayList<>();
+        claimed.addAll(batch(1, 1, "EMAIL", "bounce@example.com"));
+        claimed.addAll(batch(2, 1, "EMAIL", "busy@example.com"));
+        claimed.addAll(batch(3, 1, "FAX", "user@example.com"));
+        claimed.addAll(batch(4, 1, "EMAIL", "user@example.com"));
+        when(queue.claim(eq(100), any(Duration.class))).thenReturn(claimed).thenReturn(List.of());
+
+        // When
+        NotificationDispatcherService dispatcher = dispatcher(List.of(email), 1);
+        dispatcher.dispatch();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeliveryResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(queue).complete(captor.capture());
+        assertEquals(List.of(
+                DeliveryResult.failed(1, false, "Mailbox does not exist"),
+                DeliveryResult.failed(2, true, "Provider busy"),
+                DeliveryResult.failed(3, false, "No sender for channel FAX"),
+                DeliveryResult.delivered(4)), captor.getValue());
+
+        NotificationDispatchStatsResponse stats = dispatcher.getStats();
+        assertEquals(4, stats.claimed());
+        assertEquals(1, stats.delivered());
+        assertEquals(3, stats.failedAttempts());
+        assertEquals(0, stats.inFlightByChannel().get("EMAIL"));
+    }
+
+    @Test
+    @DisplayName("Should stop the worker when the outcome cannot be recorded")
+    void dispatch_whenCompleteFails_shouldLeaveRowsToTheLease() {
+        // Given
+        FakeSender email = new FakeSender("EMAIL", 2);
+        when(queue.claim(eq(100), any(Duration.class))).thenReturn(batch(1, 3, "EMAIL", "user@example.com"));
+        doThrow(new IllegalStateException("connection lost")).when(queue).complete(anyList());
+
+        // When
+        int processed = dispatcher(List.of(email), 1).dispatch();
+
+        // Then
+        assertEquals(0, processed);
+        verify(queue, times(1)).claim(eq(100), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should reject two senders for the same channel")
+    void constructor_shouldRejectDuplicateChannels() {
+        List<INotificationSender> senders = List.of(new FakeSender("EMAIL", 1), new FakeSender("EMAIL", 1));
+
+        assertThrows(IllegalStateException.class, () -> dispatcher(senders, 1));
+    }
+
+    @Test
+    @DisplayName("Should not claim anything after shutdown")
+    void shutdown_shouldStopDispatching() {
+        // Given
+        NotificationDispatcherService dispatcher = dispatcher(List.of(new FakeSender("EMAIL", 1)), 2);
+
+        // When
+        dispatcher.shutdown();
+
+        // Then
+        assertEquals(0, dispatcher.dispatch());
+        verifyNoInteractions(queue);
+    }
+}
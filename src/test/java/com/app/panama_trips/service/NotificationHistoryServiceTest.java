@@ -9,9 +9,11 @@ import com.app.panama_trips.persistence.repository.NotificationHistoryRepository
 import com.app.panama_trips.persistence.repository.NotificationTemplateRepository;
 import com.app.panama_trips.persistence.repository.ReservationRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.NotificationDispatchStatsResponse;
 import com.app.panama_trips.presentation.dto.NotificationHistoryRequest;
 import com.app.panama_trips.presentation.dto.NotificationHistoryResponse;
 import com.app.panama_trips.service.implementation.NotificationHistoryService;
+import com.app.panama_trips.service.interfaces.INotificationDispatcherService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.app.panama_trips.DataProvider.*;
@@ -50,6 +53,9 @@ public class NotificationHistoryServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private INotificationDispatcherService notificationDispatcherService;
+
     @InjectMocks
     private NotificationHistoryService service;
 
@@ -795,20 +801,33 @@ public class NotificationHistoryServiceTest {
     }
 
     @Test
-    @DisplayName("Should retry failed notifications using saveAll batch")
+    @DisplayName("Should requeue failed notifications in one statement")
     void retryFailedNotifications_success() {
         // Given
-        when(repository.findByDeliveryStatus("FAILED")).thenReturn(notifications);
-        when(repository.saveAll(anyList())).thenReturn(notifications);
+        when(repository.requeueFailed()).thenReturn(3);
 
         // When
         service.retryFailedNotifications();
 
         // Then
-        verify(repository).findByDeliveryStatus("FAILED");
-        verify(repository).saveAll(notificationsCaptor.capture());
-        List<NotificationHistory> retried = notificationsCaptor.getValue();
-        retried.forEach(n -> assertEquals("PENDING", n.getDeliveryStatus()));
+        verify(repository).requeueFailed();
+        verify(repository, never()).findByDeliveryStatus(anyString());
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should expose the dispatcher metrics")
+    void getDispatchStats_shouldDelegateToDispatcher() {
+        // Given
+        NotificationDispatchStatsResponse stats = new NotificationDispatchStatsResponse(
+                10, 9, 1, Map.of("EMAIL", 0), 10, 20, 500.0);
+        when(notificationDispatcherService.getStats()).thenReturn(stats);
+
+        // When
+        NotificationDispatchStatsResponse result = service.getDispatchStats();
+
+        // Then
+        assertSame(stats, result);
     }
 
     @Test
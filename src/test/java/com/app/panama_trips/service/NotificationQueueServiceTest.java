@@ -0,0 +1,166 @@
+package com.app.panama_trips.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.entity.NotificationHistory;
+import com.app.panama_trips.persistence.repository.NotificationHistoryRepository;
+import com.app.panama_trips.presentation.dto.DeliveryResult;
+import com.app.panama_trips.presentation.dto.OutboundNotification;
+import com.app.panama_trips.service.implementation.NotificationQueueService;
+import com.app.panama_trips.service.implementation.TemplateRenderingService;
+
+import static com.app.panama_trips.DataProvider.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationQueueServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private NotificationHistoryRepository repository;
+
+    private NotificationQueueService queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new NotificationQueueService(repository, new TemplateRenderingService(), MAX_ATTEMPTS, 30, 3600);
+    }
+
+    private NotificationHistory queued(int id, int attempts) {
+        NotificationHistory notification = notificationHistoryOneMock();
+        notification.setId(id);
+        notification.setContent(null);
+        notification.setAttempts(attempts);
+        return notification;
+    }
+
+    @Test
+    @DisplayName("Should lease the locked rows and render their content")
+    void claim_shouldLeaseAndRender() {
+        // Given
+        NotificationHistory notification = queued(1, 1);
+        notification.setPayload(Map.of("email", "reminder@example.com"));
+        when(repository.lockDueForDispatch(any(LocalDateTime.class), eq(50))).thenReturn(List.of(1));
+        when(repository.findAllForDispatch(List.of(1))).thenReturn(List.of(notification));
+
+        // When
+        List<OutboundNotification> batch = queue.claim(50, LEASE);
+
+        // Then
+        verify(repository).leaseForDispatch(eq(List.of(1)), any(LocalDateTime.class));
+        assertEquals(1, batch.size());
+        OutboundNotification outbound = batch.getFirst();
+        assertEquals("admin@example.com", outbound.recipient());
+        assertEquals("Subject one", outbound.subject());
+        // ${name} has no value and stays visible in the text
+        assertEquals("Hello ${name}, your email is reminder@example.com", outbound.body());
+        assertEquals(outbound.body(), notification.getContent());
+        assertEquals(1, outbound.attempt());
+    }
+
+    @Test
+    @DisplayName("Should keep the stored content of a row that was already rendered")
+    void claim_shouldNotRenderTwice() {
+        // Given
+        NotificationHistory notification = queued(1, 2);
+        notification.setContent("Already rendered");
+        when(repository.lockDueForDispatch(any(LocalDateTime.class), eq(50))).thenReturn(List.of(1));
+        when(repository.findAllForDispatch(List.of(1))).thenReturn(List.of(notification));
+
+        // When
+        List<OutboundNotification> batch = queue.claim(50, LEASE);
+
+        // Then
+        assertEquals("Already rendered", batch.getFirst().body());
+    }
+
+    @Test
+    @DisplayName("Should fail a claimed row that has no user instead of leasing it again")
+    void claim_withoutUser_shouldFailTheRow() {
+        // Given
+        NotificationHistory orphan = queued(1, 1);
+        orphan.setUser(null);
+        NotificationHistory notification = queued(2, 1);
+        when(repository.lockDueForDispatch(any(LocalDateTime.class), eq(50))).thenReturn(List.of(1, 2));
+        when(repository.findAllForDispatch(List.of(1, 2))).thenReturn(List.of(orphan, notification));
+
+        // When
+        List<OutboundNotification> batch = queue.claim(50, LEASE);
+
+        // Then
+        assertEquals(1, batch.size());
+        assertEquals(2, batch.getFirst().id());
+        assertEquals("FAILED", orphan.getDeliveryStatus());
+        assertNull(orphan.getNextAttemptAt());
+        assertNotNull(orphan.getLastError());
+    }
+
+    @Test
+    @DisplayName("Should not touch the queue when nothing is due")
+    void claim_whenNothingDue_shouldReturnEmpty() {
+        // Given
+        when(repository.lockDueForDispatch(any(LocalDateTime.class), eq(50))).thenReturn(List.of());
+
+        // When
+        List<OutboundNotification> batch = queue.claim(50, LEASE);
+
+        // Then
+        assertTrue(batch.isEmpty());
+        verify(repository, never()).leaseForDispatch(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should mark delivered rows in one statement")
+    void complete_shouldMarkDelivered() {
+        // When
+        queue.complete(List.of(DeliveryResult.delivered(1), DeliveryResult.delivered(2)));
+
+        // Then
+        verify(repository).markDelivered(eq(List.of(1, 2)), any(LocalDateTime.class));
+        verify(repository, never()).findAllById(anySet());
+    }
+
+    @Test
+    @DisplayName("Should back off retryable failures and fail the rest")
+    void complete_shouldScheduleRetryOrFail() {
+        // Given
+        NotificationHistory retryable = queued(1, 2);
+        NotificationHistory exhausted = queued(2, MAX_ATTEMPTS);
+        NotificationHistory permanent = queued(3, 1);
+        when(repository.findAllById(Set.of(1, 2, 3))).thenReturn(List.of(retryable, exhausted, permanent));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        queue.complete(List.of(
+                DeliveryResult.failed(1, true, "timeout"),
+                DeliveryResult.failed(2, true, "timeout"),
+                DeliveryResult.failed(3, false, "bad address")));
+
+        // Then
+        verify(repository, never()).markDelivered(anyList(), any(LocalDateTime.class));
+        verify(repository).saveAll(List.of(retryable, exhausted, permanent));
+        // Second attempt failed: 30s base doubled once
+        assertEquals("PENDING", retryable.getDeliveryStatus());
+        assertFalse(retryable.getNextAttemptAt().isBefore(before.plusSeconds(60)));
+        assertTrue(retryable.getNextAttemptAt().isBefore(before.plusSeconds(61)));
+        assertEquals("timeout", retryable.getLastError());
+        assertEquals("FAILED", exhausted.getDeliveryStatus());
+        assertNull(exhausted.getNextAttemptAt());
+        assertEquals("FAILED", permanent.getDeliveryStatus());
+        assertEquals("bad address", permanent.getLastError());
+    }
+}
@@ -7,6 +7,8 @@ import com.app.panama_trips.persistence.repository.NotificationTemplateRepositor
 import com.app.panama_trips.presentation.dto.NotificationTemplateRequest;
 import com.app.panama_trips.presentation.dto.NotificationTemplateResponse;
 import com.app.panama_trips.service.implementation.NotificationTemplateService;
+import com.app.panama_trips.service.implementation.TemplateRenderingService;
+import com.app.panama_trips.utility.CompiledTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -39,6 +42,9 @@ public class NotificationTemplateServiceTest {
     @Mock
     private NotificationHistoryRepository notificationHistoryRepository;
 
+    @Spy
+    private TemplateRenderingService templateRenderingService = new TemplateRenderingService();
+
     @InjectMocks
     private NotificationTemplateService service;
 
@@ -152,6 +158,23 @@ public class NotificationTemplateServiceTest {
         verify(repository, never()).save(any(NotificationTemplate.class));
     }
 
+    @Test
+    @DisplayName("Should reject a body placeholder that is not declared")
+    void saveTemplate_withUndeclaredVariable_shouldThrowException() {
+        // Given
+        NotificationTemplateRequest undeclared = new NotificationTemplateRequest(
+                "Test one", "Subject one", "Hello ${name}, your code is ${ code }", "EMAIL", "name");
+        when(repository.existsByName(undeclared.name())).thenReturn(false);
+
+        // When/Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.saveTemplate(undeclared)
+        );
+        assertEquals("Variable 'code' is used in the template body but not declared", exception.getMessage());
+        verify(repository, never()).save(any(NotificationTemplate.class));
+    }
+
     @Test
     @DisplayName("Should update template successfully")
     void updateTemplate_success() {
@@ -236,6 +259,7 @@ public class NotificationTemplateServiceTest {
         verify(repository).existsById(id);
         verify(notificationHistoryRepository).existsByTemplate_Id(id);
         verify(repository).deleteById(id);
+        verify(templateRenderingService).evict(id);
     }
 
     @Test
@@ -476,6 +500,7 @@ public class NotificationTemplateServiceTest {
 
         // Then
         verify(repository).deleteAllById(templateIds);
+        verify(templateRenderingService).evict(3);
     }
 
     @Test
@@ -599,4 +624,26 @@ public class NotificationTemplateServiceTest {
         assertFalse(result);
         verify(repository).findById(templateId);
     }
+
+    @Test
+    @DisplayName("Should reuse the compiled body until the template changes")
+    void validateTemplateVariables_shouldRecompileOnlyNewVersions() {
+        // Given
+        Integer templateId = 1;
+        when(repository.findById(templateId)).thenReturn(Optional.of(template));
+        CompiledTemplate compiled = templateRenderingService.compileBody(template);
+
+        // When
+        boolean beforeEdit = service.validateTemplateVariables(templateId, List.of("phone"));
+        CompiledTemplate cached = templateRenderingService.compileBody(template);
+        template.setBody("Hello ${name}, your phone is ${phone}");
+        template.setVersion(template.getVersion() + 1);
+        boolean afterEdit = service.validateTemplateVariables(templateId, List.of("phone"));
+
+        // Then
+        assertFalse(beforeEdit);
+        assertTrue(afterEdit);
+        assertSame(compiled, cached);
+        assertNotSame(compiled, templateRenderingService.compileBody(template));
+    }
 }
@@ -0,0 +1,135 @@
+package com.app.panama_trips.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.app.panama_trips.exception.TooManyRequestsException;
+import com.app.panama_trips.presentation.dto.PasswordHashingStatsResponse;
+import com.app.panama_trips.service.implementation.PasswordHashingService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash and verify passwords on the dedicated pool")
+    void hashAndMatches_shouldRoundTrip() {
+        // Given
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), 2, 8, 5000);
+
+        // When
+        String hash = service.hash("Secret123!");
+
+        // Then
+        assertTrue(service.matches("Secret123!", hash));
+        assertFalse(service.matches("wrong", hash));
+        PasswordHashingStatsResponse stats = service.getStats();
+        assertEquals(3, stats.completed());
+        assertEquals(0, stats.rejected());
+        assertTrue(stats.averageHashMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Should flag hashes created with a different work factor for rehash")
+    void needsRehash_whenStrengthChanged_shouldReturnTrue() {
+        // Given
+        String weakHash = new BCryptPasswordEncoder(4).encode("Secret123!");
+        service = new PasswordHashingService(new BCryptPasswordEncoder(5), 1, 1, 5000);
+
+        // When & Then
+        assertTrue(service.needsRehash(weakHash));
+        assertFalse(service.needsRehash(service.hash("Secret123!")));
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the pool and its queue are full")
+    void matches_whenSaturated_shouldThrowTooManyRequests() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        service = new PasswordHashingService(encoder, 1, 1, 5000);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            callers.submit(() -> service.matches("a", "hash"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> service.matches("b", "hash"));
+            waitForQueued(1);
+
+            // When & Then
+            assertThrows(TooManyRequestsException.class, () -> service.matches("c", "hash"));
+            assertEquals(1, service.getStats().rejected());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should give up with 429 when the result is not ready within the max wait")
+    void hash_whenWaitExceeded_shouldThrowTooManyRequests() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        service = new PasswordHashingService(encoder, 1, 1, 50);
+
+        try {
+            // When & Then
+            assertThrows(TooManyRequestsException.class, () -> service.hash("slow"));
+            assertEquals(1, service.getStats().rejected());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate encoder failures unchanged")
+    void matches_whenEncoderFails_shouldRethrow() {
+        // Given
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenThrow(new IllegalArgumentException("bad hash"));
+        service = new PasswordHashingService(encoder, 1, 1, 5000);
+
+        // When & Then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> service.matches("a", "b"));
+        assertEquals("bad hash", ex.getMessage());
+    }
+
+    private void waitForQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getStats().queued() < expected) {
+            assertTrue(System.nanoTime() < deadline, "task was never queued");
+            Thread.sleep(5);
+        }
+    }
+}
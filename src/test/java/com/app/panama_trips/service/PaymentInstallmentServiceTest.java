@@ -2,6 +2,7 @@ package com.app.panama_trips.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +21,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.persistence.entity.NotificationTemplate;
 import com.app.panama_trips.persistence.entity.PaymentInstallment;
 import com.app.panama_trips.persistence.entity.PaymentInstallmentStatus;
+import com.app.panama_trips.persistence.repository.NotificationHistoryRepository;
+import com.app.panama_trips.persistence.repository.NotificationTemplateRepository;
 import com.app.panama_trips.persistence.repository.PaymentInstallmentRepository;
 import com.app.panama_trips.persistence.repository.PaymentRepository;
 import com.app.panama_trips.persistence.repository.ReservationRepository;
@@ -46,6 +50,12 @@ public class PaymentInstallmentServiceTest {
   @Mock
   private PaymentRepository paymentRepository;
 
+  @Mock
+  private NotificationHistoryRepository notificationHistoryRepository;
+
+  @Mock
+  private NotificationTemplateRepository notificationTemplateRepository;
+
   @InjectMocks
   private PaymentInstallmentService service;
 
@@ -59,6 +69,10 @@ public class PaymentInstallmentServiceTest {
   private PaymentInstallmentRequest request;
   private List<PaymentInstallment> paymentInstallments;
 
+  private static List<PaymentInstallmentResponse> responses(List<PaymentInstallment> installments) {
+    return installments.stream().map(PaymentInstallmentResponse::new).toList();
+  }
+
   @BeforeEach
   void setUp() {
     paymentInstallment = paymentInstallmentOneMock();
@@ -71,10 +85,10 @@ public class PaymentInstallmentServiceTest {
   @DisplayName("Should return all payment installments when getAllPaymentInstallments is called with pagination")
   void getAllPaymentInstallments_shouldReturnAllData() {
     // Given
-    Page<PaymentInstallment> page = new PageImpl<>(paymentInstallments);
+    Page<PaymentInstallmentResponse> page = new PageImpl<>(responses(paymentInstallments));
     Pageable pageable = PageRequest.of(0, 10);
 
-    when(repository.findAll(pageable)).thenReturn(page);
+    when(repository.findAllResponses(pageable)).thenReturn(page);
 
     // When
     Page<PaymentInstallmentResponse> response = service.getAllPaymentInstallments(pageable);
@@ -82,7 +96,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(response);
     assertEquals(paymentInstallments.size(), response.getTotalElements());
-    verify(repository).findAll(pageable);
+    verify(repository).findAllResponses(pageable);
   }
 
   @Test
@@ -239,8 +253,8 @@ public class PaymentInstallmentServiceTest {
   void findByReservationId_shouldReturnMatchingInstallments() {
     // Given
     Integer reservationId = 1;
-    when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservationOneMock));
-    when(repository.findByReservation(reservationOneMock)).thenReturn(paymentInstallments);
+    when(reservationRepository.existsById(reservationId)).thenReturn(true);
+    when(repository.findByReservation_Id(reservationId)).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByReservationId(reservationId);
@@ -248,8 +262,8 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(paymentInstallments.size(), result.size());
-    verify(reservationRepository).findById(reservationId);
-    verify(repository).findByReservation(reservationOneMock);
+    verify(reservationRepository).existsById(reservationId);
+    verify(repository).findByReservation_Id(reservationId);
   }
 
   @Test
@@ -257,14 +271,14 @@ public class PaymentInstallmentServiceTest {
   void findByReservationId_withNonExistentReservation_shouldThrowException() {
     // Given
     Integer reservationId = 999;
-    when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
+    when(reservationRepository.existsById(reservationId)).thenReturn(false);
 
     // When/Then
     ResourceNotFoundException exception = assertThrows(
         ResourceNotFoundException.class,
         () -> service.findByReservationId(reservationId));
     assertEquals("Reservation not found", exception.getMessage());
-    verify(reservationRepository).findById(reservationId);
+    verify(reservationRepository).existsById(reservationId);
   }
 
   @Test
@@ -272,7 +286,7 @@ public class PaymentInstallmentServiceTest {
   void findByPaymentId_shouldReturnMatchingInstallments() {
     // Given
     Integer paymentId = 1;
-    when(repository.findByPayment_Id(paymentId)).thenReturn(paymentInstallments);
+    when(repository.findByPayment_Id(paymentId.longValue())).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByPaymentId(paymentId);
@@ -280,7 +294,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(paymentInstallments.size(), result.size());
-    verify(repository).findByPayment_Id(paymentId);
+    verify(repository).findByPayment_Id(paymentId.longValue());
   }
 
   @Test
@@ -288,7 +302,7 @@ public class PaymentInstallmentServiceTest {
   void findByStatus_shouldReturnMatchingInstallments() {
     // Given
     String status = PaymentInstallmentStatus.PENDING.getCode();
-    when(repository.findByStatus(status)).thenReturn(pendingInstallmentsListMock());
+    when(repository.findResponsesByStatus(status)).thenReturn(responses(pendingInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByStatus(status);
@@ -296,7 +310,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatus(status);
+    verify(repository).findResponsesByStatus(status);
   }
 
   @Test
@@ -304,7 +318,7 @@ public class PaymentInstallmentServiceTest {
   void findByDueDateBefore_shouldReturnMatchingInstallments() {
     // Given
     LocalDate date = LocalDate.now();
-    when(repository.findByDueDateBefore(date)).thenReturn(overdueInstallmentsListMock());
+    when(repository.findResponsesByDueDateBefore(date)).thenReturn(responses(overdueInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByDueDateBefore(date);
@@ -312,7 +326,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByDueDateBefore(date);
+    verify(repository).findResponsesByDueDateBefore(date);
   }
 
   @Test
@@ -321,7 +335,7 @@ public class PaymentInstallmentServiceTest {
     // Given
     LocalDate startDate = LocalDate.now().minusDays(10);
     LocalDate endDate = LocalDate.now().plusDays(10);
-    when(repository.findByDueDateBetween(startDate, endDate)).thenReturn(paymentInstallments);
+    when(repository.findResponsesByDueDateBetween(startDate, endDate)).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByDueDateBetween(startDate, endDate);
@@ -329,7 +343,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(paymentInstallments.size(), result.size());
-    verify(repository).findByDueDateBetween(startDate, endDate);
+    verify(repository).findResponsesByDueDateBetween(startDate, endDate);
   }
 
   @Test
@@ -337,7 +351,7 @@ public class PaymentInstallmentServiceTest {
   void findByReminderSent_shouldReturnMatchingInstallments() {
     // Given
     Boolean reminderSent = true;
-    when(repository.findByReminderSent(reminderSent)).thenReturn(List.of(paymentInstallmentTwoMock()));
+    when(repository.findByReminderSent(reminderSent)).thenReturn(responses(List.of(paymentInstallmentTwoMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByReminderSent(reminderSent);
@@ -354,7 +368,7 @@ public class PaymentInstallmentServiceTest {
   void getOverdueInstallments_shouldReturnOverdueInstallments() {
     // Given
     String status = PaymentInstallmentStatus.OVERDUE.getCode();
-    when(repository.findByStatus(status)).thenReturn(overdueInstallmentsListMock());
+    when(repository.findResponsesByStatus(status)).thenReturn(responses(overdueInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.getOverdueInstallments();
@@ -362,7 +376,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatus(status);
+    verify(repository).findResponsesByStatus(status);
   }
 
   @Test
@@ -370,7 +384,7 @@ public class PaymentInstallmentServiceTest {
   void getPendingInstallments_shouldReturnPendingInstallments() {
     // Given
     String status = PaymentInstallmentStatus.PENDING.getCode();
-    when(repository.findByStatus(status)).thenReturn(pendingInstallmentsListMock());
+    when(repository.findResponsesByStatus(status)).thenReturn(responses(pendingInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.getPendingInstallments();
@@ -378,7 +392,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatus(status);
+    verify(repository).findResponsesByStatus(status);
   }
 
   @Test
@@ -386,7 +400,7 @@ public class PaymentInstallmentServiceTest {
   void getPaidInstallments_shouldReturnPaidInstallments() {
     // Given
     String status = PaymentInstallmentStatus.PAID.getCode();
-    when(repository.findByStatus(status)).thenReturn(paidInstallmentsListMock());
+    when(repository.findResponsesByStatus(status)).thenReturn(responses(paidInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.getPaidInstallments();
@@ -394,7 +408,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatus(status);
+    verify(repository).findResponsesByStatus(status);
   }
 
   @Test
@@ -402,7 +416,7 @@ public class PaymentInstallmentServiceTest {
   void getCancelledInstallments_shouldReturnCancelledInstallments() {
     // Given
     String status = PaymentInstallmentStatus.CANCELLED.getCode();
-    when(repository.findByStatus(status)).thenReturn(cancelledInstallmentsListMock());
+    when(repository.findResponsesByStatus(status)).thenReturn(responses(cancelledInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.getCancelledInstallments();
@@ -410,14 +424,14 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatus(status);
+    verify(repository).findResponsesByStatus(status);
   }
 
   @Test
   @DisplayName("Should get installments requiring reminder")
   void getInstallmentsRequiringReminder_shouldReturnInstallmentsWithoutReminder() {
     // Given
-    when(repository.findByReminderSent(false)).thenReturn(List.of(paymentInstallmentOneMock()));
+    when(repository.findByReminderSent(false)).thenReturn(responses(List.of(paymentInstallmentOneMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsRequiringReminder();
@@ -435,8 +449,8 @@ public class PaymentInstallmentServiceTest {
     // Given
     Integer reservationId = 1;
     String status = PaymentInstallmentStatus.PENDING.getCode();
-    when(repository.findByReservationIdAndStatus(reservationId, status))
-        .thenReturn(List.of(paymentInstallmentOneMock()));
+    when(repository.findResponsesByReservationIdAndStatus(reservationId, status))
+        .thenReturn(responses(List.of(paymentInstallmentOneMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.findByReservationIdAndStatus(reservationId, status);
@@ -444,7 +458,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(1, result.size());
-    verify(repository).findByReservationIdAndStatus(reservationId, status);
+    verify(repository).findResponsesByReservationIdAndStatus(reservationId, status);
   }
 
   @Test
@@ -452,7 +466,7 @@ public class PaymentInstallmentServiceTest {
   void findPendingInstallmentsWithoutReminder_shouldReturnMatchingInstallments() {
     // Given
     LocalDate date = LocalDate.now();
-    when(repository.findPendingInstallmentsWithoutReminder(date)).thenReturn(List.of(paymentInstallmentOneMock()));
+    when(repository.findPendingInstallmentsWithoutReminder(date)).thenReturn(responses(List.of(paymentInstallmentOneMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.findPendingInstallmentsWithoutReminder(date);
@@ -518,12 +532,44 @@ public class PaymentInstallmentServiceTest {
   void bulkDeletePaymentInstallments_success() {
     // Given
     List<Integer> installmentIds = List.of(1, 2, 3);
+    when(repository.deleteByIdIn(installmentIds)).thenReturn(3);
+
+    // When
+    int deleted = service.bulkDeletePaymentInstallments(installmentIds);
+
+    // Then
+    assertEquals(3, deleted);
+    verify(repository, never()).deleteAllById(any());
+  }
+
+  @Test
+  @DisplayName("Should split large id lists into chunks and add up the affected rows")
+  void bulkDeletePaymentInstallments_largeIdList_runsOneStatementPerChunk() {
+    // Given
+    List<Integer> installmentIds = new ArrayList<>();
+    for (int id = 1; id <= 2500; id++) {
+      installmentIds.add(id);
+    }
+    installmentIds.add(1); // duplicates are bound once
+    when(repository.deleteByIdIn(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
 
     // When
-    service.bulkDeletePaymentInstallments(installmentIds);
+    int deleted = service.bulkDeletePaymentInstallments(installmentIds);
 
     // Then
-    verify(repository).deleteAllById(installmentIds);
+    assertEquals(2500, deleted);
+    verify(repository, times(3)).deleteByIdIn(anyList());
+  }
+
+  @Test
+  @DisplayName("Should not touch the database for an empty id list")
+  void bulkMarkAsReminderSent_emptyList_returnsZero() {
+    // When
+    int updated = service.bulkMarkAsReminderSent(List.of());
+
+    // Then
+    assertEquals(0, updated);
+    verifyNoInteractions(repository);
   }
 
   @Test
@@ -532,15 +578,23 @@ public class PaymentInstallmentServiceTest {
     // Given
     List<Integer> installmentIds = List.of(1, 2);
     String newStatus = PaymentInstallmentStatus.PAID.getCode();
-    when(repository.findAllById(installmentIds)).thenReturn(paymentInstallments);
+    when(repository.updateStatusByIdIn(installmentIds, newStatus)).thenReturn(2);
 
     // When
-    service.bulkUpdateStatus(installmentIds, newStatus);
+    int updated = service.bulkUpdateStatus(installmentIds, newStatus.toLowerCase());
 
     // Then
-    verify(repository).findAllById(installmentIds);
-    verify(repository).saveAll(paymentInstallments);
-    paymentInstallments.forEach(installment -> assertEquals(newStatus, installment.getStatus()));
+    assertEquals(2, updated);
+    verify(repository, never()).findAllById(any());
+    verify(repository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown status in bulk update")
+  void bulkUpdateStatus_unknownStatus_throwsException() {
+    // When & Then
+    assertThrows(IllegalArgumentException.class, () -> service.bulkUpdateStatus(List.of(1), "ARCHIVED"));
+    verifyNoInteractions(repository);
   }
 
   @Test
@@ -548,15 +602,14 @@ public class PaymentInstallmentServiceTest {
   void bulkMarkAsReminderSent_success() {
     // Given
     List<Integer> installmentIds = List.of(1, 2);
-    when(repository.findAllById(installmentIds)).thenReturn(paymentInstallments);
+    when(repository.markReminderSentByIdIn(installmentIds)).thenReturn(2);
 
     // When
-    service.bulkMarkAsReminderSent(installmentIds);
+    int updated = service.bulkMarkAsReminderSent(installmentIds);
 
     // Then
-    verify(repository).findAllById(installmentIds);
-    verify(repository).saveAll(paymentInstallments);
-    paymentInstallments.forEach(installment -> assertTrue(installment.getReminderSent()));
+    assertEquals(2, updated);
+    verify(repository, never()).findAllById(any());
   }
 
   // Check Operations Tests
@@ -897,7 +950,7 @@ public class PaymentInstallmentServiceTest {
   @DisplayName("Should get installments needing reminder")
   void getInstallmentsNeedingReminder_shouldReturnInstallmentsWithoutReminder() {
     // Given
-    when(repository.findByReminderSent(false)).thenReturn(List.of(paymentInstallmentOneMock()));
+    when(repository.findByReminderSent(false)).thenReturn(responses(List.of(paymentInstallmentOneMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsNeedingReminder();
@@ -908,22 +961,68 @@ public class PaymentInstallmentServiceTest {
     verify(repository).findByReminderSent(false);
   }
 
+  @Test
+  @DisplayName("Should queue due installment reminders in one statement")
+  void sendRemindersForDueInstallments_shouldQueueReminders() {
+    // Given
+    NotificationTemplate template = notificationTemplateOneMock();
+    when(notificationTemplateRepository.findByName("PAYMENT_REMINDER_DUE")).thenReturn(Optional.of(template));
+    when(notificationHistoryRepository.enqueueDueInstallmentReminders(template.getId(), "EMAIL",
+        LocalDate.now().plusDays(3))).thenReturn(120);
+
+    // When
+    service.sendRemindersForDueInstallments();
+
+    // Then
+    verify(notificationHistoryRepository).enqueueDueInstallmentReminders(template.getId(), "EMAIL",
+        LocalDate.now().plusDays(3));
+    verify(repository, never()).save(any(PaymentInstallment.class));
+  }
+
+  @Test
+  @DisplayName("Should not queue reminders nor flag installments when the template is missing")
+  void sendRemindersForDueInstallments_whenTemplateMissing_shouldSkip() {
+    // Given
+    when(notificationTemplateRepository.findByName("PAYMENT_REMINDER_DUE")).thenReturn(Optional.empty());
+
+    // When
+    service.sendRemindersForDueInstallments();
+
+    // Then
+    verifyNoInteractions(notificationHistoryRepository, repository);
+  }
+
+  @Test
+  @DisplayName("Should queue overdue installment reminders in one statement")
+  void sendRemindersForOverdueInstallments_shouldQueueReminders() {
+    // Given
+    NotificationTemplate template = notificationTemplateTwoMock();
+    when(notificationTemplateRepository.findByName("PAYMENT_REMINDER_OVERDUE")).thenReturn(Optional.of(template));
+    when(notificationHistoryRepository.enqueueOverdueInstallmentReminders(template.getId(), "EMAIL")).thenReturn(7);
+
+    // When
+    service.sendRemindersForOverdueInstallments();
+
+    // Then
+    verify(notificationHistoryRepository).enqueueOverdueInstallmentReminders(template.getId(), "EMAIL");
+  }
+
   // Utility Operations Tests
   @Test
   @DisplayName("Should recalculate overdue status")
   void recalculateOverdueStatus_shouldUpdateOverdueInstallments() {
     // Given
     String pendingStatus = PaymentInstallmentStatus.PENDING.getCode();
-    List<PaymentInstallment> pendingOverdue = List.of(paymentInstallmentTwoMock());
-    when(repository.findByStatusAndDueDateBefore(eq(pendingStatus), any(LocalDate.class)))
-        .thenReturn(pendingOverdue);
+    String overdueStatus = PaymentInstallmentStatus.OVERDUE.getCode();
+    when(repository.markOverdue(pendingStatus, overdueStatus, LocalDate.now())).thenReturn(4);
 
     // When
-    service.recalculateOverdueStatus();
+    int updated = service.recalculateOverdueStatus();
 
     // Then
-    verify(repository).findByStatusAndDueDateBefore(eq(pendingStatus), any(LocalDate.class));
-    verify(repository).saveAll(pendingOverdue);
+    assertEquals(4, updated);
+    verify(repository, never()).findByStatusAndDueDateBefore(any(), any());
+    verify(repository, never()).saveAll(any());
   }
 
   @Test
@@ -931,7 +1030,7 @@ public class PaymentInstallmentServiceTest {
   void searchInstallmentsByAmount_shouldReturnMatchingInstallments() {
     // Given
     BigDecimal amount = BigDecimal.valueOf(100.00);
-    when(repository.findByAmount(amount)).thenReturn(List.of(paymentInstallmentOneMock()));
+    when(repository.findByAmount(amount)).thenReturn(responses(List.of(paymentInstallmentOneMock())));
 
     // When
     List<PaymentInstallmentResponse> result = service.searchInstallmentsByAmount(amount);
@@ -963,8 +1062,8 @@ public class PaymentInstallmentServiceTest {
   void getInstallmentsWithLateFees_shouldReturnOverdueInstallments() {
     // Given
     String overdueStatus = PaymentInstallmentStatus.OVERDUE.getCode();
-    when(repository.findByStatusAndDueDateBefore(eq(overdueStatus), any(LocalDate.class)))
-        .thenReturn(overdueInstallmentsListMock());
+    when(repository.findResponsesByStatusAndDueDateBefore(eq(overdueStatus), any(LocalDate.class)))
+        .thenReturn(responses(overdueInstallmentsListMock()));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsWithLateFees();
@@ -972,7 +1071,7 @@ public class PaymentInstallmentServiceTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(repository).findByStatusAndDueDateBefore(eq(overdueStatus), any(LocalDate.class));
+    verify(repository).findResponsesByStatusAndDueDateBefore(eq(overdueStatus), any(LocalDate.class));
   }
 
   @Test
@@ -1015,7 +1114,7 @@ public class PaymentInstallmentServiceTest {
     // Given
     int limit = 2;
     when(repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, limit)))
-        .thenReturn(paymentInstallments.subList(0, 2));
+        .thenReturn(responses(paymentInstallments.subList(0, 2)));
 
     // When
     List<PaymentInstallmentResponse> result = service.getRecentInstallments(limit);
@@ -1032,7 +1131,7 @@ public class PaymentInstallmentServiceTest {
     // Given
     BigDecimal minAmount = BigDecimal.valueOf(50.00);
     BigDecimal maxAmount = BigDecimal.valueOf(150.00);
-    when(repository.findByAmountBetween(minAmount, maxAmount)).thenReturn(paymentInstallments);
+    when(repository.findByAmountBetween(minAmount, maxAmount)).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsByAmountRange(minAmount, maxAmount);
@@ -1048,7 +1147,7 @@ public class PaymentInstallmentServiceTest {
   void getInstallmentsByUser_shouldReturnMatchingInstallments() {
     // Given
     Long userId = 1L;
-    when(repository.findByReservationUserId(userId)).thenReturn(paymentInstallments);
+    when(repository.findByReservationUserId(userId)).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsByUser(userId);
@@ -1064,7 +1163,7 @@ public class PaymentInstallmentServiceTest {
   void getInstallmentsByTourPlan_shouldReturnMatchingInstallments() {
     // Given
     Integer tourPlanId = 1;
-    when(repository.findByReservationTourPlanId(tourPlanId)).thenReturn(paymentInstallments);
+    when(repository.findByReservationTourPlanId(tourPlanId)).thenReturn(responses(paymentInstallments));
 
     // When
     List<PaymentInstallmentResponse> result = service.getInstallmentsByTourPlan(tourPlanId);
@@ -1080,14 +1179,14 @@ public class PaymentInstallmentServiceTest {
   void cleanupOldInstallments_shouldDeleteOldRecords() {
     // Given
     int daysToKeep = 30;
-    List<PaymentInstallment> oldInstallments = List.of(paymentInstallmentTwoMock());
-    when(repository.findByDueDateBefore(any(LocalDate.class))).thenReturn(oldInstallments);
+    when(repository.deleteByDueDateBeforeInBulk(LocalDate.now().minusDays(daysToKeep))).thenReturn(5);
 
     // When
-    service.cleanupOldInstallments(daysToKeep);
+    int deleted = service.cleanupOldInstallments(daysToKeep);
 
     // Then
-    verify(repository).findByDueDateBefore(any(LocalDate.class));
-    verify(repository).deleteAll(oldInstallments);
+    assertEquals(5, deleted);
+    verify(repository, never()).findByDueDateBefore(any());
+    verify(repository, never()).deleteAll(any());
   }
 }
@@ -0,0 +1,75 @@
+package com.app.panama_trips.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.repository.ProviderPerformanceRepository;
+import com.app.panama_trips.service.implementation.ProviderPerformanceService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProviderPerformanceServiceTest {
+
+    @Mock
+    private ProviderPerformanceRepository repository;
+
+    @InjectMocks
+    private ProviderPerformanceService service;
+
+    @Test
+    @DisplayName("Should refresh the materialized view once")
+    void refresh_shouldRefreshOnce() {
+        // When
+        int result = service.refresh();
+
+        // Then
+        assertEquals(1, result);
+        verify(repository, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should fold a request made during a refresh into one more pass")
+    void refresh_whenAlreadyRunning_shouldCoalesce() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return null;
+        }).doNothing().when(repository).refresh();
+
+        // When
+        CompletableFuture<Integer> running = CompletableFuture.supplyAsync(service::refresh);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        int joined = service.refresh();
+        release.countDown();
+
+        // Then
+        assertEquals(0, joined);
+        assertEquals(2, running.get(5, TimeUnit.SECONDS));
+        verify(repository, times(2)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed refresh and run again on the next call")
+    void refresh_whenRefreshFails_shouldRetryOnNextCall() {
+        // Given
+        doThrow(new IllegalStateException("lock timeout")).doNothing().when(repository).refresh();
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> service.refresh());
+        assertEquals(1, service.refresh());
+        verify(repository, times(2)).refresh();
+    }
+}
@@ -4,8 +4,11 @@ import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.persistence.entity.Province;
 import com.app.panama_trips.persistence.repository.ProvinceRepository;
+import com.app.panama_trips.presentation.dto.DistrictResponse;
 import com.app.panama_trips.presentation.dto.ProvinceResponse;
+import com.app.panama_trips.presentation.dto.ProvinceTreeResponse;
 import com.app.panama_trips.service.implementation.ProvinceService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -25,14 +28,17 @@ public class ProvinceServiceTest {
     @Mock
     private ProvinceRepository provinceRepository;
 
+    @Mock
+    private IGeoReferenceService geoReferenceService;
+
     @InjectMocks
     private ProvinceService provinceService;
 
     @Test
     void getAllProvinces_shouldReturnAllRecords() {
         // Given
-        List<Province> provinceList = DataProvider.provinceListsMock;
-        when(provinceRepository.findAll()).thenReturn(provinceList);
+        List<ProvinceResponse> provinceList = DataProvider.provinceListsMock.stream().map(ProvinceResponse::new).toList();
+        when(geoReferenceService.getProvinces()).thenReturn(provinceList);
 
         // When
         List<ProvinceResponse> response = provinceService.getAllProvinces();
@@ -40,12 +46,13 @@ public class ProvinceServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(provinceList.size(), response.size());
+        verifyNoInteractions(provinceRepository);
     }
 
     @Test
     void getAllProvinces_shouldReturnEmptyList() {
         // Given
-        when(provinceRepository.findAll()).thenReturn(List.of());
+        when(geoReferenceService.getProvinces()).thenReturn(List.of());
 
         // When
         List<ProvinceResponse> response = provinceService.getAllProvinces();
@@ -58,7 +65,7 @@ public class ProvinceServiceTest {
     void getProvinceById_shouldReturnOneProvince() {
         // Given
         Province provinceBocas = DataProvider.provinceBocasMock;
-        when(provinceRepository.findById(1)).thenReturn(Optional.ofNullable(provinceBocas));
+        when(geoReferenceService.findProvince(1)).thenReturn(Optional.of(new ProvinceResponse(provinceBocas)));
 
         // When
         ProvinceResponse response = provinceService.getProvinceById(1);
@@ -72,7 +79,7 @@ public class ProvinceServiceTest {
     void getProvinceByName_shouldReturnOneProvinceByName() {
         // Given
         Province provinceBocas = DataProvider.provinceBocasMock;
-        when(provinceRepository.findByName("Bocas del Toro")).thenReturn(Optional.ofNullable(provinceBocas));
+        when(geoReferenceService.findProvinceByName("Bocas del Toro")).thenReturn(Optional.of(new ProvinceResponse(provinceBocas)));
 
         // When
         ProvinceResponse response = provinceService.getProvinceByName("Bocas del Toro");
@@ -85,7 +92,7 @@ public class ProvinceServiceTest {
     @Test
     void getProvinceByName_shouldReturnEmptyProvince() {
         // Given
-        when(provinceRepository.findByName("EEUU")).thenReturn(Optional.empty());
+        when(geoReferenceService.findProvinceByName("EEUU")).thenReturn(Optional.empty());
 
         // When
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> provinceService.getProvinceByName("EEUU"));
@@ -95,6 +102,33 @@ public class ProvinceServiceTest {
         assertEquals("Province not found with name EEUU", exception.getMessage());
     }
 
+    @Test
+    void getProvinceTree_shouldReturnProvinceWithChildren() {
+        // Given
+        ProvinceTreeResponse tree = new ProvinceTreeResponse(1, "Bocas del Toro",
+                List.of(new DistrictResponse(1, "Almirante", 1)), List.of());
+        when(geoReferenceService.findProvinceTree(1)).thenReturn(Optional.of(tree));
+
+        // When
+        ProvinceTreeResponse response = provinceService.getProvinceTree(1);
+
+        // Then
+        assertEquals("Bocas del Toro", response.name());
+        assertEquals(1, response.districts().size());
+    }
+
+    @Test
+    void getProvinceTree_shouldThrowExceptionWhenProvinceNotExist() {
+        // Given
+        when(geoReferenceService.findProvinceTree(99)).thenReturn(Optional.empty());
+
+        // When
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> provinceService.getProvinceTree(99));
+
+        // Then
+        assertEquals("Province not found with id 99", exception.getMessage());
+    }
+
     @Test
     void saveProvince_shouldSaveAndReturnOneProvince() {
         // Given
@@ -7,6 +7,7 @@ import com.app.panama_trips.persistence.repository.ProvinceRepository;
 import com.app.panama_trips.persistence.repository.RegionRepository;
 import com.app.panama_trips.presentation.dto.RegionResponse;
 import com.app.panama_trips.service.implementation.RegionService;
+import com.app.panama_trips.service.interfaces.IGeoReferenceService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Optional;
 
@@ -36,6 +38,9 @@ public class RegionServiceTest {
     @Mock
     private ComarcaRepository comarcaRepository;
 
+    @Mock
+    private IGeoReferenceService geoReferenceService;
+
     @InjectMocks
     private RegionService regionService;
 
@@ -43,6 +48,37 @@ public class RegionServiceTest {
     void getAllRegions_shouldReturnAllRegions() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
+        when(geoReferenceService.getRegions()).thenReturn(regionResponseListMocks);
+
+        // when
+        Page<RegionResponse> result = regionService.getAllRegions(pageable);
+
+        // then
+        assertNotNull(result);
+        assertEquals(3, result.getContent().size());
+        assertEquals(regionListsMock.size(), result.getTotalElements());
+        verifyNoInteractions(regionRepository);
+    }
+
+    @Test
+    void getAllRegions_shouldSliceTheRequestedPage() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(geoReferenceService.getRegions()).thenReturn(regionResponseListMocks);
+
+        // when
+        Page<RegionResponse> result = regionService.getAllRegions(pageable);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals(3, result.getContent().getFirst().id());
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    void getAllRegions_withSort_shouldQueryRepository() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
         PageImpl<Region> page = new PageImpl<>(regionListsMock, pageable, regionListsMock.size());
         when(regionRepository.findAll(pageable)).thenReturn(page);
 
@@ -50,16 +86,15 @@ public class RegionServiceTest {
         Page<RegionResponse> result = regionService.getAllRegions(pageable);
 
         // then
-        assertNotNull(result);
         assertEquals(3, result.getContent().size());
-        assertEquals(regionListsMock.size(), result.getContent().size());
+        verifyNoInteractions(geoReferenceService);
     }
 
     @Test
     void getRegionById_shouldReturnRegion() {
         // given
         Region region = regionOneMock;
-        when(regionRepository.findById(anyInt())).thenReturn(Optional.of(region));
+        when(geoReferenceService.findRegion(1)).thenReturn(Optional.of(new RegionResponse(region)));
 
         // when
         RegionResponse result = regionService.getRegionById(1);
@@ -73,7 +108,7 @@ public class RegionServiceTest {
     @Test
     void getRegionById_shouldThrowException() {
         // given
-        when(regionRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(geoReferenceService.findRegion(1)).thenReturn(Optional.empty());
 
         // when
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> regionService.getRegionById(1));
@@ -135,7 +170,7 @@ public class RegionServiceTest {
     void getRegionByName_shouldReturnRegion() {
         // given
         Region region = regionOneMock;
-        when(regionRepository.findByNameIgnoreCase(anyString())).thenReturn(Optional.of(region));
+        when(geoReferenceService.findRegionByName("Region Name")).thenReturn(Optional.of(new RegionResponse(region)));
 
         // when
         RegionResponse result = regionService.getRegionByName("Region Name");
@@ -149,11 +184,10 @@ public class RegionServiceTest {
     void getRegionsByName_shouldReturnRegions() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Region> page = new PageImpl<>(regionListsMock, pageable, regionListsMock.size());
-        when(regionRepository.findByNameContainingIgnoreCase(anyString(), any(Pageable.class))).thenReturn(page);
+        when(geoReferenceService.getRegions()).thenReturn(regionResponseListMocks);
 
         // when
-        Page<RegionResponse> result = regionService.getRegionsByName("Region", pageable);
+        Page<RegionResponse> result = regionService.getRegionsByName("region", pageable);
 
         // then
         assertNotNull(result);
@@ -161,12 +195,25 @@ public class RegionServiceTest {
         assertEquals(regionListsMock.size(), result.getContent().size());
     }
 
+    @Test
+    void getRegionsByName_shouldOnlyReturnMatchingRegions() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(geoReferenceService.getRegions()).thenReturn(regionResponseListMocks);
+
+        // when
+        Page<RegionResponse> result = regionService.getRegionsByName("TWO", pageable);
+
+        // then
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Region Two", result.getContent().getFirst().name());
+    }
+
     @Test
     void getRegionByProvinceId_shouldReturnRegions() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Region> page = new PageImpl<>(regionListsMock, pageable, regionListsMock.size());
-        when(regionRepository.findByProvince_Id(anyInt(), any(Pageable.class))).thenReturn(page);
+        when(geoReferenceService.getRegionsByProvince(1)).thenReturn(regionResponseListMocks);
 
         // when
         Page<RegionResponse> result = regionService.getRegionByProvinceId(1, pageable);
@@ -181,8 +228,7 @@ public class RegionServiceTest {
     void getRegionByComarcaId_shouldReturnRegions() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Region> page = new PageImpl<>(regionListsMock, pageable, regionListsMock.size());
-        when(regionRepository.findByComarca_Id(anyInt(), any(Pageable.class))).thenReturn(page);
+        when(geoReferenceService.getRegionsByComarca(1)).thenReturn(regionResponseListMocks);
 
         // when
         Page<RegionResponse> result = regionService.getRegionByComarcaId(1, pageable);
@@ -196,20 +242,20 @@ public class RegionServiceTest {
     @Test
     void countRegions_shouldReturnCount() {
         // given
-        when(regionRepository.count()).thenReturn(10L);
+        when(geoReferenceService.getRegions()).thenReturn(regionResponseListMocks);
 
         // when
         Long result = regionService.countRegions();
 
         // then
         assertNotNull(result);
-        assertEquals(10L, result);
+        assertEquals(3L, result);
     }
 
     @Test
     void existsRegionByName_shouldReturnTrue() {
         // given
-        when(regionRepository.existsByNameIgnoreCase(anyString())).thenReturn(true);
+        when(geoReferenceService.findRegionByName("Region Name")).thenReturn(Optional.of(regionResponseMock));
 
         // when
         boolean result = regionService.existsRegionByName("Region Name");
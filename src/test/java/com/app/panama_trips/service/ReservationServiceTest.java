@@ -7,20 +7,29 @@ import com.app.panama_trips.persistence.entity.ReservationStatus;
 import com.app.panama_trips.persistence.repository.ReservationRepository;
 import com.app.panama_trips.persistence.repository.TourPlanRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.PriceQuoteResponse;
+import com.app.panama_trips.presentation.dto.ReservationRequest;
 import com.app.panama_trips.presentation.dto.ReservationResponse;
 import com.app.panama_trips.service.implementation.ReservationService;
+import com.app.panama_trips.service.interfaces.ISeatInventoryService;
+import com.app.panama_trips.service.interfaces.ITourPricingService;
+import com.app.panama_trips.utility.Pagination;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.app.panama_trips.DataProvider.*;
@@ -40,15 +49,26 @@ public class ReservationServiceTest {
     @Mock
     private TourPlanRepository tourPlanRepository;
 
+    @Mock
+    private ISeatInventoryService seatInventory;
+
+    @Mock
+    private ITourPricingService tourPricingService;
+
     @InjectMocks
     private ReservationService reservationService;
 
+    private PriceQuoteResponse quoteFor(int persons, BigDecimal total) {
+        return new PriceQuoteResponse(1, LocalDate.now(), "USD", "BASE", BigDecimal.valueOf(100.00),
+                BigDecimal.valueOf(100.00), persons, 0, total, BigDecimal.ZERO, BigDecimal.ZERO, total);
+    }
+
     @Test
     void getAllReservations_shouldReturnAllReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> page = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
-        when(reservationRepository.findAll(pageable)).thenReturn(page);
+        PageImpl<ReservationResponse> page = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
+        when(reservationRepository.findAllResponses(pageable)).thenReturn(page);
 
         // When
         Page<ReservationResponse> result = reservationService.getAllReservations(pageable);
@@ -59,6 +79,23 @@ public class ReservationServiceTest {
         assertEquals(reservationListsMock.size(), result.getContent().size());
     }
 
+    @Test
+    void scrollReservations_shouldReturnWindowWithCappedLimit() {
+        // Given
+        Window<Reservation> window = Window.from(reservationListsMock,
+                i -> ScrollPosition.forward(Map.of("id", reservationListsMock.get(i).getId())), true);
+        when(reservationRepository.findAllByOrderByIdDesc(any(ScrollPosition.class), eq(Limit.of(Pagination.MAX_SIZE))))
+                .thenReturn(window);
+
+        // When
+        Window<ReservationResponse> result = reservationService.scrollReservations(ScrollPosition.keyset(), 5000);
+
+        // Then
+        assertEquals(reservationListsMock.size(), result.size());
+        assertTrue(result.hasNext());
+        assertEquals(reservationListsMock.getFirst().getId(), result.getContent().getFirst().id());
+    }
+
     @Test
     void getReservationById_shouldReturnReservation() {
         // Given
@@ -89,8 +126,10 @@ public class ReservationServiceTest {
         // Given
         when(tourPlanRepository.findById(anyInt())).thenReturn(Optional.of(tourPlanOneMock));
         when(userEntityRepository.findById(anyLong())).thenReturn(Optional.of(userAdmin()));
-        when(reservationRepository.countByTourPlan_Id(anyInt())).thenReturn(1L);
+        when(tourPricingService.quote(tourPlanOneMock, reservationRequestMock.reservationDate(), 1, 0, null))
+                .thenReturn(quoteFor(1, BigDecimal.valueOf(100.00)));
         when(reservationRepository.existsByUser_IdAndTourPlanId(anyLong(), anyInt())).thenReturn(false);
+        when(seatInventory.tryReserve(tourPlanOneMock, reservationRequestMock.reservationDate(), 1)).thenReturn(true);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(reservationOneMock);
 
         // When
@@ -99,6 +138,41 @@ public class ReservationServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(reservationOneMock.getId(), result.id());
+        verify(reservationRepository, never()).countByTourPlan_Id(anyInt());
+    }
+
+    @Test
+    void saveReservation_shouldThrowException_whenNotEnoughSeats() {
+        // Given
+        ReservationRequest request = new ReservationRequest(1L, 1, LocalDate.now(), BigDecimal.valueOf(400.00), 4);
+        when(tourPlanRepository.findById(anyInt())).thenReturn(Optional.of(tourPlanOneMock));
+        when(userEntityRepository.findById(anyLong())).thenReturn(Optional.of(userAdmin()));
+        when(tourPricingService.quote(tourPlanOneMock, request.reservationDate(), 4, 0, null))
+                .thenReturn(quoteFor(4, BigDecimal.valueOf(400.00)));
+        when(reservationRepository.existsByUser_IdAndTourPlanId(anyLong(), anyInt())).thenReturn(false);
+        when(seatInventory.tryReserve(tourPlanOneMock, request.reservationDate(), 4)).thenReturn(false);
+
+        // When & Then
+        Exception exception = assertThrows(IllegalStateException.class, () -> reservationService.saveReservation(request));
+
+        assertEquals("No hay cupos disponibles para este tour", exception.getMessage());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
+    @Test
+    void saveReservation_shouldThrowException_whenPriceDoesNotMatchQuote() {
+        // Given
+        ReservationRequest request = new ReservationRequest(1L, 1, LocalDate.now(), BigDecimal.valueOf(100.00), 2);
+        when(tourPlanRepository.findById(anyInt())).thenReturn(Optional.of(tourPlanOneMock));
+        when(userEntityRepository.findById(anyLong())).thenReturn(Optional.of(userAdmin()));
+        when(tourPricingService.quote(tourPlanOneMock, request.reservationDate(), 2, 0, null))
+                .thenReturn(quoteFor(2, BigDecimal.valueOf(180.00)));
+
+        // When & Then
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> reservationService.saveReservation(request));
+
+        assertEquals("The booking price must match the tour price", exception.getMessage());
+        verify(seatInventory, never()).tryReserve(any(), any(), anyInt());
     }
 
     @Test
@@ -131,6 +205,8 @@ public class ReservationServiceTest {
         // Given
         when(tourPlanRepository.findById(anyInt())).thenReturn(Optional.of(tourPlanOneMock));
         when(userEntityRepository.findById(anyLong())).thenReturn(Optional.of(userAdmin()));
+        when(tourPricingService.quote(tourPlanOneMock, reservationRequestMock.reservationDate(), 1, 0, null))
+                .thenReturn(quoteFor(1, BigDecimal.valueOf(100.00)));
         when(reservationRepository.existsByUser_IdAndTourPlanId(anyLong(), anyInt())).thenReturn(true);
 
         // When & Then
@@ -190,23 +266,60 @@ public class ReservationServiceTest {
     }
 
     @Test
-    void deleteReservation_shouldDeleteReservation() {
+    void deleteReservation_shouldDeleteReservationAndReleaseSeats() {
+        // Given
+        Reservation reservation = Reservation.builder()
+                .id(1)
+                .tourPlan(tourPlanOneMock)
+                .reservationDate(LocalDate.now().plusDays(7))
+                .reservationStatus(ReservationStatus.pending)
+                .numberOfPersons(3)
+                .build();
+        when(reservationRepository.findById(1)).thenReturn(Optional.of(reservation));
+
+        // When
+        reservationService.deleteReservation(1);
+
+        // Then
+        verify(seatInventory).release(tourPlanOneMock, reservation.getReservationDate(), 3);
+        verify(reservationRepository, times(1)).delete(reservation);
+    }
+
+    @Test
+    void deleteReservation_whenCancelled_shouldNotReleaseSeatsAgain() {
         // Given
-        when(reservationRepository.existsById(anyInt())).thenReturn(true);
+        Reservation reservation = Reservation.builder()
+                .id(1)
+                .tourPlan(tourPlanOneMock)
+                .reservationDate(LocalDate.now().plusDays(7))
+                .reservationStatus(ReservationStatus.cancelled)
+                .numberOfPersons(3)
+                .build();
+        when(reservationRepository.findById(1)).thenReturn(Optional.of(reservation));
 
         // When
         reservationService.deleteReservation(1);
 
         // Then
-        assertTrue(true);
-        verify(reservationRepository, times(1)).deleteById(anyInt());
+        verify(seatInventory, never()).release(any(), any(), anyInt());
+        verify(reservationRepository, times(1)).delete(reservation);
+    }
+
+    @Test
+    void deleteReservation_shouldThrowException_whenReservationNotFound() {
+        // Given
+        when(reservationRepository.findById(1)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> reservationService.deleteReservation(1));
+        verify(reservationRepository, never()).delete(any(Reservation.class));
     }
 
     @Test
     void getReservationByUserId_shouldReturnReservation() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findRecentReservationsByUser(anyLong(), any(LocalDate.class), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -223,7 +336,7 @@ public class ReservationServiceTest {
     void getReservationByTourPlanId_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByTourPlan_Id(anyInt(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -239,7 +352,7 @@ public class ReservationServiceTest {
     void getReservationByReservationStatus_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByReservationStatus(any(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -255,7 +368,7 @@ public class ReservationServiceTest {
     void getReservationByReservationDate_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByReservationDate(any(LocalDate.class), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -271,7 +384,7 @@ public class ReservationServiceTest {
     void getReservationsByUserAndStatus_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByUser_IdAndReservationStatus(anyLong(), any(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -287,7 +400,7 @@ public class ReservationServiceTest {
     void getReservationsByTourPlanAndStatus_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByTourPlan_IdAndReservationStatus(anyInt(), any(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -303,7 +416,7 @@ public class ReservationServiceTest {
     void getReservationsBetweenDates_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByReservationDateBetween(any(LocalDate.class), any(LocalDate.class), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -319,7 +432,7 @@ public class ReservationServiceTest {
     void getReservationsByMonth_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByReservationDate_Month(anyShort(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -335,7 +448,7 @@ public class ReservationServiceTest {
     void getReservationsByYear_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByReservationDate_Year(anyInt(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -351,7 +464,7 @@ public class ReservationServiceTest {
     void getReservationsWithPriceGreaterThan_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByTotalPriceGreaterThan(any(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -367,7 +480,7 @@ public class ReservationServiceTest {
     void getReservationsByPriceRange_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByTotalPriceBetween(any(), any(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -383,7 +496,7 @@ public class ReservationServiceTest {
     void getReservationsByDayOfWeek_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByDayOfWeek(anyInt(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -399,7 +512,7 @@ public class ReservationServiceTest {
     void getReservationsByProvince_shouldReturnReservations() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Reservation> pageImpl = new PageImpl<>(reservationListsMock, pageable, reservationListsMock.size());
+        PageImpl<ReservationResponse> pageImpl = new PageImpl<>(reservationResponseListMocks, pageable, reservationListsMock.size());
         when(reservationRepository.findByRegion(anyInt(), any(Pageable.class))).thenReturn(pageImpl);
 
         // When
@@ -467,6 +580,28 @@ public class ReservationServiceTest {
         verify(reservationRepository).save(any(Reservation.class));
     }
 
+    @Test
+    void cancelReservation_shouldReleaseSeats() {
+        // Given
+        Reservation reservation = Reservation.builder()
+                .id(1)
+                .user(userCustomer())
+                .tourPlan(tourPlanOneMock)
+                .reservationDate(LocalDate.now().plusDays(7))
+                .reservationStatus(ReservationStatus.confirmed)
+                .numberOfPersons(2)
+                .build();
+        when(reservationRepository.findById(1)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        // When
+        reservationService.cancelReservation(1);
+
+        // Then
+        assertEquals(ReservationStatus.cancelled, reservation.getReservationStatus());
+        verify(seatInventory).release(tourPlanOneMock, reservation.getReservationDate(), 2);
+    }
+
     @Test
     void confirmReservation_shouldConfirmReservation() {
         // Given
@@ -0,0 +1,184 @@
+package com.app.panama_trips.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.app.panama_trips.service.implementation.ResponseCacheService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCacheServiceTest {
+
+    private ResponseCacheService cache;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseCacheService(new ObjectMapper(), 2);
+        calls = new AtomicInteger();
+    }
+
+    private Object body() {
+        calls.incrementAndGet();
+        return List.of("Bocas del Toro", "Coclé");
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    @Test
+    @DisplayName("Should serialize once and serve the same bytes afterwards")
+    void respond_shouldReuseSerializedBytes() {
+        // When
+        ResponseEntity<byte[]> first = cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body);
+        ResponseEntity<byte[]> second = cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body);
+
+        // Then
+        assertEquals(1, calls.get());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals("[\"Bocas del Toro\",\"Coclé\"]", new String(first.getBody(), StandardCharsets.UTF_8));
+        assertNotNull(first.getHeaders().getETag());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when If-None-Match carries the current ETag")
+    void respond_withMatchingETag_shouldReturnNotModified() {
+        // Given
+        String etag = cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body)
+                .getHeaders().getETag();
+        MockHttpServletRequest conditional = request("/api/provinces");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+
+        // When
+        ResponseEntity<byte[]> response = cache.respond(IResponseCacheService.PROVINCES, conditional, this::body);
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should serve the gzip variant when the client accepts it")
+    void respond_acceptingGzip_shouldReturnCompressedBytes() throws IOException {
+        // Given
+        MockHttpServletRequest gzipRequest = request("/api/provinces");
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip");
+        MockHttpServletRequest refusing = request("/api/provinces");
+        refusing.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+        // When
+        ResponseEntity<byte[]> compressed = cache.respond(IResponseCacheService.PROVINCES, gzipRequest, this::body);
+        ResponseEntity<byte[]> plain = cache.respond(IResponseCacheService.PROVINCES, refusing, this::body);
+
+        // Then
+        assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the response after the cache is invalidated")
+    void invalidate_shouldDropCachedResponses() {
+        // Given
+        cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body);
+        cache.respond(IResponseCacheService.DISTRICTS, request("/api/districts"), this::body);
+
+        // When
+        cache.invalidate(IResponseCacheService.PROVINCES);
+        cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body);
+        cache.respond(IResponseCacheService.DISTRICTS, request("/api/districts"), this::body);
+
+        // Then
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should key responses by query string and evict the least recently used past the entry limit")
+    void respond_shouldKeyByQueryAndEvictLeastRecentlyUsed() {
+        // Given
+        MockHttpServletRequest page0 = request("/api/review-categories");
+        page0.setQueryString("page=0");
+        MockHttpServletRequest page1 = request("/api/review-categories");
+        page1.setQueryString("page=1");
+        MockHttpServletRequest page2 = request("/api/review-categories");
+        page2.setQueryString("page=2");
+
+        // When: page1 is the least recently used when page2 arrives
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page0, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page1, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page0, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page2, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page2, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page0, this::body);
+        cache.respond(IResponseCacheService.REVIEW_CATEGORIES, page1, this::body);
+
+        // Then: page2 was stored even though the cache was full, page1 had to be rebuilt
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should give the gzip variant its own ETag and only honour it for gzip requests")
+    void respond_shouldValidateEachEncodingAgainstItsOwnETag() {
+        // Given
+        MockHttpServletRequest gzipRequest = request("/api/provinces");
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        String gzipEtag = cache.respond(IResponseCacheService.PROVINCES, gzipRequest, this::body).getHeaders().getETag();
+        String plainEtag = cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body)
+                .getHeaders().getETag();
+
+        MockHttpServletRequest plainWithGzipTag = request("/api/provinces");
+        plainWithGzipTag.addHeader(HttpHeaders.IF_NONE_MATCH, gzipEtag);
+        MockHttpServletRequest gzipWithGzipTag = request("/api/provinces");
+        gzipWithGzipTag.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        gzipWithGzipTag.addHeader(HttpHeaders.IF_NONE_MATCH, gzipEtag);
+
+        // When
+        ResponseEntity<byte[]> plain = cache.respond(IResponseCacheService.PROVINCES, plainWithGzipTag, this::body);
+        ResponseEntity<byte[]> notModified = cache.respond(IResponseCacheService.PROVINCES, gzipWithGzipTag, this::body);
+
+        // Then
+        assertNotEquals(plainEtag, gzipEtag);
+        assertEquals(plainEtag.substring(0, plainEtag.length() - 1) + "-gz\"", gzipEtag);
+        assertEquals(HttpStatus.OK, plain.getStatusCode());
+        assertEquals(plainEtag, plain.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(gzipEtag, notModified.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, notModified.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should not keep bytes built from data that was invalidated meanwhile")
+    void respond_whenInvalidatedWhileBuilding_shouldNotStore() {
+        // When
+        cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), () -> {
+            calls.incrementAndGet();
+            cache.invalidate(IResponseCacheService.PROVINCES);
+            return List.of("stale");
+        });
+        cache.respond(IResponseCacheService.PROVINCES, request("/api/provinces"), this::body);
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+}
@@ -23,6 +23,7 @@ import com.app.panama_trips.persistence.repository.ReviewCategoryRepository;
 import com.app.panama_trips.presentation.dto.ReviewCategoryRequest;
 import com.app.panama_trips.presentation.dto.ReviewCategoryResponse;
 import com.app.panama_trips.service.implementation.ReviewCategoryService;
+import com.app.panama_trips.service.interfaces.IResponseCacheService;
 
 import static com.app.panama_trips.DataProvider.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +35,9 @@ public class ReviewCategoryServiceTest {
     @Mock
     private ReviewCategoryRepository repository;
 
+    @Mock
+    private IResponseCacheService responseCacheService;
+
     @InjectMocks
     private ReviewCategoryService service;
 
@@ -184,6 +188,7 @@ public class ReviewCategoryServiceTest {
         // Then
         verify(repository).existsById(id);
         verify(repository).deleteById(id);
+        verify(responseCacheService).invalidate(IResponseCacheService.REVIEW_CATEGORIES);
     }
 
     @Test
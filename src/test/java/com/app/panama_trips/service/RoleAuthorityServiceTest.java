@@ -0,0 +1,88 @@
+package com.app.panama_trips.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.app.panama_trips.persistence.entity.RoleEnum;
+import com.app.panama_trips.persistence.repository.RoleRepository;
+import com.app.panama_trips.service.implementation.RoleAuthorityService;
+
+import static com.app.panama_trips.DataProvider.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RoleAuthorityServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleAuthorityService service;
+
+    @Test
+    @DisplayName("Should build the role authority followed by its permissions")
+    void getAuthorities_shouldIncludeRoleAndPermissions() {
+        // Given
+        when(roleRepository.findByRoleEnum(RoleEnum.ADMIN)).thenReturn(ROLE_ADMIN);
+
+        // When
+        List<GrantedAuthority> result = service.getAuthorities(RoleEnum.ADMIN);
+
+        // Then
+        assertEquals("ROLE_ADMIN", result.getFirst().getAuthority());
+        assertEquals(ROLE_ADMIN.getPermissions().size() + 1, result.size());
+        assertTrue(result.stream().anyMatch(authority -> authority.getAuthority().equals("USER_READ")));
+    }
+
+    @Test
+    @DisplayName("Should load each role only once")
+    void getAuthorities_shouldServeRepeatedCallsFromCache() {
+        // Given
+        when(roleRepository.findByRoleEnum(RoleEnum.ADMIN)).thenReturn(ROLE_ADMIN);
+
+        // When
+        List<GrantedAuthority> first = service.getAuthorities(RoleEnum.ADMIN);
+        List<GrantedAuthority> second = service.getAuthorities(RoleEnum.ADMIN);
+
+        // Then
+        assertSame(first, second);
+        verify(roleRepository, times(1)).findByRoleEnum(RoleEnum.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should reload authorities after invalidation")
+    void invalidateAll_shouldForceReload() {
+        // Given
+        when(roleRepository.findByRoleEnum(RoleEnum.ADMIN)).thenReturn(ROLE_ADMIN);
+        service.getAuthorities(RoleEnum.ADMIN);
+
+        // When
+        service.invalidateAll();
+        service.getAuthorities(RoleEnum.ADMIN);
+
+        // Then
+        verify(roleRepository, times(2)).findByRoleEnum(RoleEnum.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the role authority when the role has no row")
+    void getAuthorities_whenRoleMissing_shouldReturnRoleOnly() {
+        // Given
+        when(roleRepository.findByRoleEnum(RoleEnum.GUEST)).thenReturn(null);
+
+        // When
+        List<GrantedAuthority> result = service.getAuthorities(RoleEnum.GUEST);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("ROLE_GUEST", result.getFirst().getAuthority());
+    }
+}
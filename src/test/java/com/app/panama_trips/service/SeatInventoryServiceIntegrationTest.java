@@ -0,0 +1,176 @@
+package com.app.panama_trips.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanSchedule;
+import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
+import com.app.panama_trips.service.implementation.SeatInventoryService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the conditional UPDATE against the test database, one transaction per booking. H2 cannot
+// create tour_plans (JSONB columns), so the departure row is written directly and the tour plan
+// only carries its id.
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeatInventoryServiceIntegrationTest {
+
+    private static final int CAPACITY = 40;
+    // A fresh departure per test: sold-out marks outlive the test that set them
+    private static final AtomicInteger TOUR_PLAN_IDS = new AtomicInteger(9_000);
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private TourPlanAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private TourPlan tourPlan;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        tourPlan = TourPlan.builder().id(TOUR_PLAN_IDS.incrementAndGet()).availableSpots(CAPACITY).build();
+        date = LocalDate.now().plusDays(7);
+        jdbcTemplate.update("INSERT INTO tour_plan_availability (tour_plan_id, available_date, available_spots, is_available) "
+                + "VALUES (?, ?, ?, true)", tourPlan.getId(), date, CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tour_plan_availability WHERE tour_plan_id = ?", tourPlan.getId());
+    }
+
+    private int remainingSpots() {
+        return remainingSpots(date);
+    }
+
+    private int remainingSpots(LocalDate day) {
+        return availabilityRepository.findAvailableSpots(tourPlan.getId(), day).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should never oversell when concurrent bookings commit against the same departure")
+    void tryReserve_underContention_shouldNeverOversell() throws Exception {
+        // Given
+        int threads = 8;
+        int attemptsPerThread = 20;
+        AtomicInteger bookedSeats = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        int seats = ThreadLocalRandom.current().nextInt(1, 4);
+                        Boolean reserved = transactionTemplate
+                                .execute(status -> seatInventoryService.tryReserve(tourPlan, date, seats));
+                        if (Boolean.TRUE.equals(reserved)) {
+                            bookedSeats.addAndGet(seats);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then
+        int remaining = remainingSpots();
+        assertTrue(remaining >= 0);
+        assertEquals(CAPACITY, bookedSeats.get() + remaining);
+        assertTrue(remaining < 3, "Demand far exceeds supply, so at most a couple of seats may remain unsold");
+    }
+
+    @Test
+    @DisplayName("Should give the seats back when the booking transaction rolls back")
+    void tryReserve_whenTransactionRollsBack_shouldKeepSeats() {
+        // When
+        Boolean reserved = transactionTemplate.execute(status -> {
+            boolean result = seatInventoryService.tryReserve(tourPlan, date, 5);
+            status.setRollbackOnly();
+            return result;
+        });
+
+        // Then
+        assertEquals(Boolean.TRUE, reserved);
+        assertEquals(CAPACITY, remainingSpots());
+    }
+
+    @Test
+    @DisplayName("Should return released seats to the departure")
+    void release_shouldReturnSeats() {
+        // Given
+        transactionTemplate.execute(status -> seatInventoryService.tryReserve(tourPlan, date, CAPACITY));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> seatInventoryService.release(tourPlan, date, 3));
+
+        // Then
+        assertEquals(3, remainingSpots());
+        assertEquals(Boolean.TRUE,
+                transactionTemplate.execute(status -> seatInventoryService.tryReserve(tourPlan, date, 3)));
+    }
+
+    @Test
+    @DisplayName("Should reject bookings on a weekday the regenerated schedule dropped")
+    void tryReserve_afterScheduleDropsWeekday_shouldReject() {
+        // Given: a daily tour with an open Wednesday, then the schedule shrinks to weekends
+        LocalDate wednesday = date.plusWeeks(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.WEDNESDAY));
+        LocalDate thursday = wednesday.plusDays(1);
+        jdbcTemplate.update("INSERT INTO tour_plan_availability (tour_plan_id, available_date, available_spots, is_available) "
+                + "VALUES (?, ?, ?, true)", tourPlan.getId(), wednesday, CAPACITY);
+        tourPlan.setSchedule(TourPlanSchedule.builder().availableDays(List.of("SAT", "SUN")).build());
+        Integer closed = transactionTemplate.execute(status -> availabilityRepository.closeOffScheduleDays(
+                tourPlan.getId(), wednesday, thursday, wednesday, thursday, List.of(6, 7)));
+
+        // When
+        Boolean onClosedDay = transactionTemplate.execute(status -> seatInventoryService.tryReserve(tourPlan, wednesday, 1));
+        Boolean onDayWithoutRow = transactionTemplate.execute(status -> seatInventoryService.tryReserve(tourPlan, thursday, 1));
+
+        // Then
+        assertEquals(1, closed);
+        assertEquals(Boolean.FALSE, onClosedDay);
+        assertEquals(Boolean.FALSE, onDayWithoutRow);
+        assertEquals(CAPACITY, remainingSpots(wednesday));
+        assertTrue(availabilityRepository.findAvailableSpots(tourPlan.getId(), thursday).isEmpty(),
+                "A day off the schedule must not be seeded by a booking");
+    }
+}
@@ -0,0 +1,195 @@
+package com.app.panama_trips.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanSchedule;
+import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
+import com.app.panama_trips.service.implementation.SeatInventoryService;
+
+import static com.app.panama_trips.DataProvider.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatInventoryServiceTest {
+
+    @Mock
+    private TourPlanAvailabilityRepository availabilityRepository;
+
+    private SeatInventoryService service;
+    private TourPlan tourPlan;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        service = new SeatInventoryService(availabilityRepository, 60_000);
+        tourPlan = tourPlanOneMock;
+        date = LocalDate.now().plusDays(7);
+    }
+
+    // Emulates the conditional UPDATE on a single availability row
+    private void backInventoryWith(AtomicInteger row) {
+        when(availabilityRepository.decrementAvailableSpots(eq(tourPlan.getId()), eq(date), anyInt()))
+                .thenAnswer(invocation -> {
+                    int seats = invocation.getArgument(2);
+                    if (row.get() < seats) {
+                        return 0;
+                    }
+                    row.addAndGet(-seats);
+                    return 1;
+                });
+        lenient().when(availabilityRepository.findAvailableSpots(tourPlan.getId(), date))
+                .thenAnswer(invocation -> Optional.of(row.get()));
+    }
+
+    @Test
+    @DisplayName("Should reserve seats when the departure has enough capacity")
+    void tryReserve_withCapacity_shouldReserve() {
+        // Given
+        AtomicInteger row = new AtomicInteger(5);
+        backInventoryWith(row);
+
+        // When
+        boolean reserved = service.tryReserve(tourPlan, date, 3);
+
+        // Then
+        assertTrue(reserved);
+        assertEquals(2, row.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a booking larger than the remaining seats")
+    void tryReserve_withoutEnoughSeats_shouldReject() {
+        // Given
+        AtomicInteger row = new AtomicInteger(2);
+        backInventoryWith(row);
+        when(availabilityRepository.existsByTourPlanAndAvailableDate(tourPlan, date)).thenReturn(true);
+
+        // When
+        boolean reserved = service.tryReserve(tourPlan, date, 3);
+
+        // Then
+        assertFalse(reserved);
+        assertEquals(2, row.get());
+        verify(availabilityRepository, never()).seedAvailableSpots(anyInt(), any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should seed the availability row on first booking and retry")
+    void tryReserve_withoutRow_shouldSeedAndRetry() {
+        // Given
+        when(availabilityRepository.decrementAvailableSpots(tourPlan.getId(), date, 2)).thenReturn(0, 1);
+        when(availabilityRepository.existsByTourPlanAndAvailableDate(tourPlan, date)).thenReturn(false);
+        when(availabilityRepository.findAvailableSpots(tourPlan.getId(), date))
+                .thenReturn(Optional.of(tourPlan.getAvailableSpots() - 2));
+
+        // When
+        boolean reserved = service.tryReserve(tourPlan, date, 2);
+
+        // Then
+        assertTrue(reserved);
+        verify(availabilityRepository).seedAvailableSpots(tourPlan.getId(), date, tourPlan.getAvailableSpots());
+        verify(availabilityRepository, times(2)).decrementAvailableSpots(tourPlan.getId(), date, 2);
+    }
+
+    @Test
+    @DisplayName("Should not seed a day that is off the tour schedule")
+    void tryReserve_onUnscheduledWeekday_shouldRejectWithoutSeeding() {
+        // Given
+        TourPlan weekendTour = TourPlan.builder()
+                .id(tourPlan.getId())
+                .availableSpots(10)
+                .schedule(TourPlanSchedule.builder().availableDays(List.of("SAT", "SUN")).build())
+                .build();
+        LocalDate wednesday = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.WEDNESDAY));
+        when(availabilityRepository.decrementAvailableSpots(tourPlan.getId(), wednesday, 1)).thenReturn(0);
+
+        // When
+        boolean reserved = service.tryReserve(weekendTour, wednesday, 1);
+
+        // Then
+        assertFalse(reserved);
+        verify(availabilityRepository, never()).seedAvailableSpots(anyInt(), any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not seed a day outside the tour season")
+    void tryReserve_outOfSeason_shouldRejectWithoutSeeding() {
+        // Given
+        TourPlan seasonalTour = TourPlan.builder()
+                .id(tourPlan.getId())
+                .availableSpots(10)
+                .schedule(TourPlanSchedule.builder()
+                        .isSeasonal(true)
+                        .seasonStartDate(date.plusMonths(1))
+                        .seasonEndDate(date.plusMonths(3))
+                        .build())
+                .build();
+        when(availabilityRepository.decrementAvailableSpots(tourPlan.getId(), date, 1)).thenReturn(0);
+
+        // When
+        boolean reserved = service.tryReserve(seasonalTour, date, 1);
+
+        // Then
+        assertFalse(reserved);
+        verify(availabilityRepository, never()).seedAvailableSpots(anyInt(), any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should fail fast without touching the database once a departure is sold out")
+    void tryReserve_whenSoldOut_shouldShortCircuit() {
+        // Given
+        AtomicInteger row = new AtomicInteger(1);
+        backInventoryWith(row);
+        service.tryReserve(tourPlan, date, 1);
+
+        // When
+        boolean reserved = service.tryReserve(tourPlan, date, 1);
+
+        // Then
+        assertFalse(reserved);
+        verify(availabilityRepository, times(1)).decrementAvailableSpots(anyInt(), any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return seats and clear the sold-out mark on release")
+    void release_shouldIncrementAndReopenDeparture() {
+        // Given
+        AtomicInteger row = new AtomicInteger(1);
+        backInventoryWith(row);
+        service.tryReserve(tourPlan, date, 1);
+        when(availabilityRepository.incrementAvailableSpots(tourPlan.getId(), date, 1)).thenAnswer(invocation -> {
+            row.addAndGet(1);
+            return 1;
+        });
+
+        // When
+        service.release(tourPlan, date, 1);
+        boolean reserved = service.tryReserve(tourPlan, date, 1);
+
+        // Then
+        assertTrue(reserved);
+        assertEquals(0, row.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive number of persons")
+    void tryReserve_withZeroSeats_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> service.tryReserve(tourPlan, date, 0));
+        verifyNoInteractions(availabilityRepository);
+    }
+}
@@ -0,0 +1,114 @@
+package com.app.panama_trips.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.app.panama_trips.persistence.entity.CacheRegions;
+import com.app.panama_trips.persistence.entity.Language;
+import com.app.panama_trips.persistence.repository.LanguageRepository;
+import com.app.panama_trips.presentation.dto.CacheRegionStatsResponse;
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.service.implementation.SecondLevelCacheService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheServiceTest {
+
+    private static final String CODE = "qz";
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        languageRepository.save(Language.builder().code(CODE).name("Quechua").isActive(true).build());
+        sessionFactory.getCache().evictEntityData(Language.class);
+        sessionFactory.getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        languageRepository.deleteById(CODE);
+    }
+
+    private CacheRegionStatsResponse languageRegion() {
+        return secondLevelCacheService.getStats().regions().stream()
+                .filter(region -> region.region().equals(CacheRegions.LANGUAGE))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated reads from the cache and report the hit ratio")
+    void repeatedReads_shouldHitTheCache() throws Exception {
+        // Given
+        int threads = 8;
+        int readsPerThread = 250;
+
+        // When
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    for (int j = 0; j < readsPerThread; j++) {
+                        assertEquals("Quechua", languageRepository.findById(CODE).orElseThrow().getName());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        SecondLevelCacheStatsResponse stats = secondLevelCacheService.getStats();
+        CacheRegionStatsResponse language = languageRegion();
+        assertTrue(stats.statisticsEnabled());
+        assertEquals(threads * readsPerThread, language.hitCount() + language.missCount());
+        // Only the reads that raced the first load can miss
+        assertTrue(language.missCount() <= threads, "misses: " + language.missCount());
+        assertTrue(language.hitRatio() > 0.99, "hit ratio: " + language.hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should serve the new state after an update instead of the cached one")
+    void update_shouldInvalidateCachedEntity() {
+        // Given
+        languageRepository.findById(CODE).orElseThrow();
+        languageRepository.findById(CODE).orElseThrow();
+        assertEquals(1, languageRegion().hitCount());
+
+        // When
+        Language language = languageRepository.findById(CODE).orElseThrow();
+        language.setName("Runasimi");
+        languageRepository.save(language);
+
+        // Then
+        assertEquals("Runasimi", languageRepository.findById(CODE).orElseThrow().getName());
+    }
+}
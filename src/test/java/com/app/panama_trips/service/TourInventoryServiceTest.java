@@ -0,0 +1,51 @@
+package com.app.panama_trips.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.app.panama_trips.persistence.repository.TourInventoryRepository;
+import com.app.panama_trips.service.implementation.TourInventoryService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TourInventoryServiceTest {
+
+    @Mock
+    private TourInventoryRepository repository;
+
+    @InjectMocks
+    private TourInventoryService service;
+
+    @Test
+    @DisplayName("Should return the number of repaired inventory rows")
+    void reconcile_shouldReturnRepairedRows() {
+        // Given
+        when(repository.reconcile()).thenReturn(3);
+
+        // When
+        int result = service.reconcile();
+
+        // Then
+        assertEquals(3, result);
+        verify(repository).reconcile();
+    }
+
+    @Test
+    @DisplayName("Should treat a null result as no drift")
+    void reconcile_whenNull_shouldReturnZero() {
+        // Given
+        when(repository.reconcile()).thenReturn(null);
+
+        // When
+        int result = service.reconcile();
+
+        // Then
+        assertEquals(0, result);
+    }
+}
@@ -1,9 +1,14 @@
 package com.app.panama_trips.service;
 
 import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.persistence.entity.TourPlan;
 import com.app.panama_trips.persistence.entity.TourPlanAvailability;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanSchedule;
 import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
 import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.presentation.dto.AvailabilityCalendarResponse;
+import com.app.panama_trips.presentation.dto.AvailabilityGenerationResponse;
+import com.app.panama_trips.presentation.dto.DailySpots;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityRequest;
 import com.app.panama_trips.presentation.dto.TourPlanAvailabilityResponse;
 import com.app.panama_trips.service.implementation.TourPlanAvailabilityService;
@@ -19,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +32,11 @@ import static com.app.panama_trips.DataProvider.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -455,4 +465,156 @@ public class TourPlanAvailabilityServiceTest {
         assertThrows(ResourceNotFoundException.class,
                 () -> tourPlanAvailabilityService.getTourPlanAvailabilitiesByTourPlanId(tourPlanId));
     }
+
+    private static TourPlan seasonalTour(List<String> days) {
+        return TourPlan.builder()
+                .id(5)
+                .availableSpots(12)
+                .schedule(TourPlanSchedule.builder()
+                        .availableDays(days)
+                        .isSeasonal(true)
+                        .seasonStartDate(LocalDate.of(2026, 3, 10))
+                        .seasonEndDate(LocalDate.of(2026, 6, 30))
+                        .build())
+                .build();
+    }
+
+    @Test
+    void generateAvailability_shouldInsertScheduledDaysClippedToTheSeason() {
+        // Given
+        when(tourPlanRepository.findById(5)).thenReturn(Optional.of(seasonalTour(List.of("MON", "wed", "Friday"))));
+        when(tourPlanAvailabilityRepository.insertScheduledDays(5, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 31),
+                List.of(1, 3, 5), 12)).thenReturn(9);
+        when(tourPlanAvailabilityRepository.reopenScheduledDays(5, LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 31),
+                List.of(1, 3, 5))).thenReturn(2);
+
+        // When
+        AvailabilityGenerationResponse result = tourPlanAvailabilityService.generateAvailability(5,
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+        // Then
+        assertEquals(9, result.created());
+        assertEquals(2, result.reopened());
+        assertEquals(0, result.closed());
+    }
+
+    @Test
+    void generateAvailability_outsideTheSeason_shouldNotInsert() {
+        // Given
+        when(tourPlanRepository.findById(5)).thenReturn(Optional.of(seasonalTour(List.of("MON"))));
+
+        // When
+        AvailabilityGenerationResponse result = tourPlanAvailabilityService.generateAvailability(5,
+                LocalDate.of(2026, 8, 1), LocalDate.of(2026, 8, 31));
+
+        // Then
+        assertEquals(0, result.created());
+        verify(tourPlanAvailabilityRepository, never()).insertScheduledDays(anyInt(), any(), any(), anyList(), anyInt());
+        verify(tourPlanAvailabilityRepository, never()).reopenScheduledDays(anyInt(), any(), any(), anyList());
+    }
+
+    @Test
+    void generateAvailability_shouldRejectInvalidRanges() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tourPlanAvailabilityService.generateAvailability(5,
+                LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1)));
+        assertThrows(IllegalArgumentException.class, () -> tourPlanAvailabilityService.generateAvailability(5,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 2)));
+        verifyNoInteractions(tourPlanRepository, tourPlanAvailabilityRepository);
+    }
+
+    @Test
+    void regenerateAvailability_withoutEndDate_shouldRunUpToTheLastGeneratedDay() {
+        // Given
+        LocalDate start = LocalDate.of(2026, 4, 1);
+        LocalDate last = LocalDate.of(2026, 5, 31);
+        when(tourPlanRepository.findById(5)).thenReturn(Optional.of(seasonalTour(List.of("SAT", "SUN"))));
+        when(tourPlanAvailabilityRepository.findLastAvailableDate(5)).thenReturn(Optional.of(last));
+        when(tourPlanAvailabilityRepository.closeOffScheduleDays(5, start, last, start, last, List.of(6, 7)))
+                .thenReturn(2);
+        when(tourPlanAvailabilityRepository.insertScheduledDays(5, start, last, List.of(6, 7), 12)).thenReturn(17);
+
+        // When
+        AvailabilityGenerationResponse result = tourPlanAvailabilityService.regenerateAvailability(5, start, null);
+
+        // Then
+        assertEquals(new AvailabilityGenerationResponse(5, start, last, 17, 0, 2), result);
+    }
+
+    @Test
+    void regenerateAvailability_withoutEndDate_shouldSplitLongHorizonsIntoAllowedWindows() {
+        // Given
+        TourPlan tourPlan = TourPlan.builder()
+                .id(5)
+                .availableSpots(12)
+                .schedule(TourPlanSchedule.builder().availableDays(List.of("SAT", "SUN")).build())
+                .build();
+        LocalDate start = LocalDate.of(2026, 4, 1);
+        LocalDate firstEnd = start.plusDays(365);
+        LocalDate secondStart = start.plusDays(366);
+        LocalDate last = start.plusDays(400);
+        when(tourPlanRepository.findById(5)).thenReturn(Optional.of(tourPlan));
+        when(tourPlanAvailabilityRepository.findLastAvailableDate(5)).thenReturn(Optional.of(last));
+        when(tourPlanAvailabilityRepository.closeOffScheduleDays(5, start, firstEnd, start, firstEnd, List.of(6, 7)))
+                .thenReturn(0);
+        when(tourPlanAvailabilityRepository.closeOffScheduleDays(5, secondStart, last, secondStart, last, List.of(6, 7)))
+                .thenReturn(1);
+        when(tourPlanAvailabilityRepository.reopenScheduledDays(5, start, firstEnd, List.of(6, 7))).thenReturn(3);
+        when(tourPlanAvailabilityRepository.insertScheduledDays(5, start, firstEnd, List.of(6, 7), 12)).thenReturn(100);
+        when(tourPlanAvailabilityRepository.insertScheduledDays(5, secondStart, last, List.of(6, 7), 12)).thenReturn(10);
+
+        // When
+        AvailabilityGenerationResponse result = tourPlanAvailabilityService.regenerateAvailability(5, start, null);
+
+        // Then
+        assertEquals(new AvailabilityGenerationResponse(5, start, last, 110, 3, 1), result);
+    }
+
+    @Test
+    void regenerateAvailability_withNoScheduledWeekday_shouldOnlyClose() {
+        // Given
+        LocalDate start = LocalDate.of(2026, 4, 1);
+        LocalDate end = LocalDate.of(2026, 4, 30);
+        when(tourPlanRepository.findById(5)).thenReturn(Optional.of(seasonalTour(List.of())));
+        when(tourPlanAvailabilityRepository.closeOffScheduleDays(5, start, end, start, end, List.of(0)))
+                .thenReturn(30);
+
+        // When
+        AvailabilityGenerationResponse result = tourPlanAvailabilityService.regenerateAvailability(5, start, end);
+
+        // Then
+        assertEquals(30, result.closed());
+        assertEquals(0, result.created());
+        verify(tourPlanAvailabilityRepository, never()).insertScheduledDays(anyInt(), any(), any(), anyList(), anyInt());
+        verify(tourPlanAvailabilityRepository, never()).reopenScheduledDays(anyInt(), any(), any(), anyList());
+    }
+
+    @Test
+    void getMonthCalendar_shouldFoldOneRangeScanIntoADayArray() {
+        // Given
+        YearMonth february = YearMonth.of(2026, 2);
+        when(tourPlanRepository.existsById(5)).thenReturn(true);
+        when(tourPlanAvailabilityRepository.findOpenDailySpots(5, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)))
+                .thenReturn(List.of(new DailySpots(LocalDate.of(2026, 2, 1), 8),
+                        new DailySpots(LocalDate.of(2026, 2, 28), 3)));
+
+        // When
+        AvailabilityCalendarResponse result = tourPlanAvailabilityService.getMonthCalendar(5, february);
+
+        // Then
+        assertEquals(28, result.spots().length);
+        assertEquals(8, result.spots()[0]);
+        assertEquals(0, result.spots()[13]);
+        assertEquals(3, result.spots()[27]);
+    }
+
+    @Test
+    void getMonthCalendar_shouldThrowWhenTourPlanDoesNotExist() {
+        // Given
+        when(tourPlanRepository.existsById(999)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> tourPlanAvailabilityService.getMonthCalendar(999, YearMonth.of(2026, 2)));
+    }
 }
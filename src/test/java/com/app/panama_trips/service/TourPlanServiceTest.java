@@ -3,12 +3,25 @@ package com.app.panama_trips.service;
 import com.app.panama_trips.DataProvider;
 import com.app.panama_trips.exception.ResourceNotFoundException;
 import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanSchedule;
+import com.app.panama_trips.persistence.entity.enums.DifficultyLevel;
 import com.app.panama_trips.persistence.repository.ProviderRepository;
+import com.app.panama_trips.persistence.repository.TourPlanDiscoveryRepository;
 import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.presentation.dto.FacetCountResponse;
+import com.app.panama_trips.presentation.dto.SecondLevelCacheStatsResponse;
+import com.app.panama_trips.presentation.dto.TourDiscoveryFilter;
+import com.app.panama_trips.presentation.dto.TourDiscoveryResponse;
+import com.app.panama_trips.presentation.dto.TourPlanRequest;
 import com.app.panama_trips.presentation.dto.TourPlanResponse;
+import com.app.panama_trips.presentation.dto.TourSearchResultResponse;
+import com.app.panama_trips.presentation.dto.TourSuggestionResponse;
 import com.app.panama_trips.service.implementation.TourPlanService;
+import com.app.panama_trips.service.interfaces.ISecondLevelCacheService;
+import com.app.panama_trips.service.interfaces.ITourPlanAvailabilityService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,7 +29,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.app.panama_trips.DataProvider.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +52,12 @@ public class TourPlanServiceTest {
     @Mock
     private ProviderRepository providerRepository;
 
+    @Mock
+    private ISecondLevelCacheService secondLevelCacheService;
+
+    @Mock
+    private ITourPlanAvailabilityService tourPlanAvailabilityService;
+
     @InjectMocks
     private TourPlanService tourPlanService;
 
@@ -39,8 +65,8 @@ public class TourPlanServiceTest {
     void getAllTourPlan_shouldReturnAllTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
-        when(tourPlanRepository.findAll(pageable)).thenReturn(page);
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
+        when(tourPlanRepository.findAllResponses(pageable)).thenReturn(page);
 
         // When
         Page<TourPlanResponse> result = tourPlanService.getAllTourPlan(pageable);
@@ -129,6 +155,90 @@ public class TourPlanServiceTest {
         assertEquals(tourPlanOneMock.getPricing().getPrice(), result.price());
     }
 
+    @Test
+    void updateTourPlan_whenAvailableDaysChange_shouldRegenerateUpcomingAvailability() {
+        // Given
+        TourPlan tourPlan = TourPlan.builder()
+                .id(1)
+                .title("title")
+                .schedule(TourPlanSchedule.builder().availableDays(List.of("SAT", "SUN")).build())
+                .build();
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(tourPlan));
+        when(providerRepository.findById(anyInt())).thenReturn(Optional.of(DataProvider.providerOneMock));
+        when(tourPlanRepository.save(tourPlan)).thenReturn(tourPlan);
+
+        // When
+        tourPlanService.updateTourPlan(1, tourPlanRequestMock);
+
+        // Then
+        verify(tourPlanAvailabilityService).regenerateAvailability(1, LocalDate.now(), null);
+    }
+
+    @Test
+    void updateTourPlan_whenSeasonChanges_shouldRegenerateUpcomingAvailability() {
+        // Given
+        TourPlan tourPlan = TourPlan.builder()
+                .id(1)
+                .title("title")
+                .schedule(TourPlanSchedule.builder()
+                        .availableDays(tourPlanRequestMock.availableDays())
+                        .isSeasonal(true)
+                        .seasonStartDate(LocalDate.of(2026, 12, 1))
+                        .seasonEndDate(LocalDate.of(2027, 3, 31))
+                        .build())
+                .build();
+        TourPlanRequest request = withSeason(tourPlanRequestMock, true, LocalDate.of(2026, 12, 15),
+                LocalDate.of(2027, 4, 30));
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(tourPlan));
+        when(providerRepository.findById(anyInt())).thenReturn(Optional.of(DataProvider.providerOneMock));
+        when(tourPlanRepository.save(tourPlan)).thenReturn(tourPlan);
+
+        // When
+        tourPlanService.updateTourPlan(1, request);
+
+        // Then
+        assertEquals(LocalDate.of(2026, 12, 15), tourPlan.getSchedule().getSeasonStartDate());
+        assertEquals(LocalDate.of(2027, 4, 30), tourPlan.getSchedule().getSeasonEndDate());
+        verify(tourPlanAvailabilityService).regenerateAvailability(1, LocalDate.now(), null);
+    }
+
+    @Test
+    void updateTourPlan_whenSeasonEndsBeforeItStarts_shouldThrowException() {
+        // Given
+        TourPlan tourPlan = TourPlan.builder()
+                .id(1)
+                .title("title")
+                .schedule(TourPlanSchedule.builder().seasonStartDate(LocalDate.of(2026, 12, 1)).build())
+                .build();
+        TourPlanRequest request = withSeason(tourPlanRequestMock, true, null, LocalDate.of(2026, 11, 1));
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(tourPlan));
+        when(providerRepository.findById(anyInt())).thenReturn(Optional.of(DataProvider.providerOneMock));
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> tourPlanService.updateTourPlan(1, request));
+        verify(tourPlanRepository, never()).save(any(TourPlan.class));
+        verifyNoInteractions(tourPlanAvailabilityService);
+    }
+
+    @Test
+    void updateTourPlan_whenAvailableDaysStayTheSame_shouldNotTouchAvailability() {
+        // Given
+        TourPlan tourPlan = TourPlan.builder()
+                .id(1)
+                .title("title")
+                .schedule(TourPlanSchedule.builder().availableDays(tourPlanRequestMock.availableDays()).build())
+                .build();
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(tourPlan));
+        when(providerRepository.findById(anyInt())).thenReturn(Optional.of(DataProvider.providerOneMock));
+        when(tourPlanRepository.save(tourPlan)).thenReturn(tourPlan);
+
+        // When
+        tourPlanService.updateTourPlan(1, tourPlanRequestMock);
+
+        // Then
+        verifyNoInteractions(tourPlanAvailabilityService);
+    }
+
     @Test
     void updateTourPlan_shouldThrowExceptionWhenTourPlanNotExits() {
         // Given
@@ -198,7 +308,7 @@ public class TourPlanServiceTest {
     @Test
     void getTourPlanByPrice_shouldReturnTourPlan() {
         // Given
-        when(tourPlanRepository.findByPricing_Price(any())).thenReturn(tourPlanListsMock);
+        when(tourPlanRepository.findByPricing_Price(any())).thenReturn(tourPlanResponseListMocks);
 
         // When
         var result = tourPlanService.getTourPlanByPrice(tourPlanOneMock.getPricing().getPrice());
@@ -212,7 +322,7 @@ public class TourPlanServiceTest {
     void getTourPlanByPriceBetween_shouldReturnTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
         when(tourPlanRepository.findByPricing_PriceBetween(any(), any(), any())).thenReturn(page);
 
         // When
@@ -227,7 +337,7 @@ public class TourPlanServiceTest {
     @Test
     void getTourPlanByDuration_shouldReturnTourPlan() {
         // Given
-        when(tourPlanRepository.findByDuration(anyInt())).thenReturn(tourPlanListsMock);
+        when(tourPlanRepository.findByDuration(anyInt())).thenReturn(tourPlanResponseListMocks);
 
         // When
         var result = tourPlanService.getTourPlanByDuration(1);
@@ -241,7 +351,7 @@ public class TourPlanServiceTest {
     void getTourPlanByDurationBetween_shouldReturnTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
         when(tourPlanRepository.findByDurationBetween(anyInt(), anyInt(), any())).thenReturn(page);
 
         // When
@@ -255,7 +365,7 @@ public class TourPlanServiceTest {
     @Test
     void getTourPlanByAvailableSpots_shouldReturnTourPlan() {
         // Given
-        when(tourPlanRepository.findByAvailableSpots(anyInt())).thenReturn(tourPlanListsMock);
+        when(tourPlanRepository.findByAvailableSpots(anyInt())).thenReturn(tourPlanResponseListMocks);
 
         // When
         var result = tourPlanService.getTourPlanByAvailableSpots(1);
@@ -269,7 +379,7 @@ public class TourPlanServiceTest {
     void getTourPlanByAvailableSpotsBetween_shouldReturnTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
         when(tourPlanRepository.findByAvailableSpotsBetween(anyInt(), anyInt(), any())).thenReturn(page);
 
         // When
@@ -283,7 +393,7 @@ public class TourPlanServiceTest {
     @Test
     void getTourPlanByProviderId_shouldReturnTourPlan() {
         // Given
-        when(tourPlanRepository.findByProvider_Id(anyInt())).thenReturn(tourPlanListsMock);
+        when(tourPlanRepository.findByProvider_Id(anyInt())).thenReturn(tourPlanResponseListMocks);
 
         // When
         var result = tourPlanService.getTourPlanByProviderId(1);
@@ -297,7 +407,7 @@ public class TourPlanServiceTest {
     void getTourPlanByTitleAndPrice_shouldReturnTourPlan() {
         // Given
         when(tourPlanRepository.findByTitleContainingIgnoreCaseAndPricing_Price(anyString(), any()))
-                .thenReturn(tourPlanListsMock);
+                .thenReturn(tourPlanResponseListMocks);
 
         // When
         var result = tourPlanService.getTourPlanByTitleAndPrice("title", tourPlanOneMock.getPricing().getPrice());
@@ -311,7 +421,7 @@ public class TourPlanServiceTest {
     void getTourPlanByTitleAndPriceBetween_shouldReturnTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
         when(tourPlanRepository.findByTitleContainingIgnoreCaseAndPricing_PriceBetween(anyString(), any(), any(),
                 any())).thenReturn(page);
 
@@ -328,7 +438,7 @@ public class TourPlanServiceTest {
     void getTourPlanByTitleAndPriceBetweenAndDurationBetween_shouldReturnTourPlan() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<TourPlan> page = new PageImpl<>(tourPlanListsMock, pageable, tourPlanListsMock.size());
+        PageImpl<TourPlanResponse> page = new PageImpl<>(tourPlanResponseListMocks, pageable, tourPlanListsMock.size());
         when(tourPlanRepository.findByTitleContainingIgnoreCaseAndPricing_PriceBetweenAndDurationBetween(anyString(),
                 any(), any(), anyInt(), anyInt(), any())).thenReturn(page);
 
@@ -341,18 +451,66 @@ public class TourPlanServiceTest {
         assertEquals(tourPlanListsMock.size(), result.getTotalElements());
     }
 
+    private static TourPlanRepository.SearchHit searchHit(Integer id, String title, float rank) {
+        return new TourPlanRepository.SearchHit() {
+            public Integer getId() { return id; }
+            public String getTitle() { return title; }
+            public String getShortDescription() { return "short"; }
+            public BigDecimal getPrice() { return BigDecimal.TEN; }
+            public Integer getDuration() { return 3; }
+            public String getProviderName() { return "provider"; }
+            public Float getRank() { return rank; }
+            public String getHeadline() { return "<b>" + title + "</b>"; }
+        };
+    }
+
     @Test
-    void getTop10TourPlanByTitleContaining_shouldReturnTourPlan() {
+    void searchTourPlans_shouldReturnRankedResultsWithoutClientSort() {
         // Given
-        when(tourPlanRepository.findTop10ByTitleContainingIgnoreCaseOrderByTitleAsc(anyString(), any(Pageable.class)))
-                .thenReturn(tourPlanListsMock);
+        Page<TourPlanRepository.SearchHit> hits = new PageImpl<>(
+                List.of(searchHit(2, "Isla Coiba", 0.8f), searchHit(1, "Coiba Snorkel", 0.4f)));
+        when(tourPlanRepository.searchRanked(anyString(), any(Pageable.class))).thenReturn(hits);
 
         // When
-        var result = tourPlanService.getTop10TourPlanByTitleContaining("title", PageRequest.of(0, 10));
+        var result = tourPlanService.searchTourPlans("  coiba  ", PageRequest.of(1, 5, Sort.by("title")));
 
         // Then
-        assertNotNull(result);
-        assertEquals(tourPlanListsMock.size(), result.size());
+        assertEquals(List.of(2, 1), result.getContent().stream().map(TourSearchResultResponse::id).toList());
+        assertEquals(0.8f, result.getContent().getFirst().rank());
+        verify(tourPlanRepository).searchRanked("coiba", PageRequest.of(1, 5));
+    }
+
+    @Test
+    void searchTourPlans_shouldRejectBlankQuery() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tourPlanService.searchTourPlans(" ", PageRequest.of(0, 10)));
+        verify(tourPlanRepository, never()).searchRanked(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void suggestTourPlanTitles_shouldEscapeWildcardsAndBoundLimit() {
+        // Given
+        TourPlanRepository.TitleSuggestion suggestion = new TourPlanRepository.TitleSuggestion() {
+            public Integer getId() { return 7; }
+            public String getTitle() { return "Panamá Viejo 100%"; }
+        };
+        when(tourPlanRepository.suggestTitles("100%_pa", "100\\%\\_pa", 20)).thenReturn(List.of(suggestion));
+
+        // When
+        var result = tourPlanService.suggestTourPlanTitles(" 100%_pa ", 500);
+
+        // Then
+        assertEquals(List.of(new TourSuggestionResponse(7, "Panamá Viejo 100%")), result);
+    }
+
+    @Test
+    void suggestTourPlanTitles_shouldSkipTooShortTerms() {
+        // When
+        var result = tourPlanService.suggestTourPlanTitles("p", 8);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(tourPlanRepository, never()).suggestTitles(anyString(), anyString(), anyInt());
     }
 
     @Test
@@ -378,4 +536,150 @@ public class TourPlanServiceTest {
         // Then
         assertEquals(10, result);
     }
+
+    @Test
+    void getCacheStats_shouldDelegateToSecondLevelCacheService() {
+        // Given
+        SecondLevelCacheStatsResponse stats = new SecondLevelCacheStatsResponse(
+                true, 90, 10, 10, 0.9, 5, 5, 5, 0.5, List.of());
+        when(secondLevelCacheService.getStats()).thenReturn(stats);
+
+        // When
+        var result = tourPlanService.getCacheStats();
+
+        // Then
+        assertSame(stats, result);
+        verify(secondLevelCacheService).getStats();
+    }
+
+    private static TourDiscoveryFilter emptyFilter() {
+        return new TourDiscoveryFilter(null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void discoverTourPlans_shouldReturnPageAndFacetsFromTheSameFilter() {
+        // Given
+        when(tourPlanRepository.countByDifficultyAndPriceRange(any(Specification.class), anyList())).thenReturn(List.of(
+                new TourPlanDiscoveryRepository.DifficultyPriceFacet("EASY", 2, List.of(1L, 1L, 0L, 0L, 0L)),
+                new TourPlanDiscoveryRepository.DifficultyPriceFacet("HARD", 1, List.of(0L, 0L, 0L, 0L, 1L))));
+        List<FacetCountResponse> regions = List.of(new FacetCountResponse("3", "Coiba", 2));
+        when(tourPlanRepository.countByRegion(any(Specification.class))).thenReturn(regions);
+        when(tourPlanRepository.findResponses(any(Specification.class), any(Pageable.class)))
+                .thenReturn(tourPlanResponseListMocks);
+
+        // When
+        TourDiscoveryResponse result = tourPlanService.discoverTourPlans(emptyFilter(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price")));
+
+        // Then
+        assertEquals(3, result.facets().total());
+        assertEquals(3, result.tours().getTotalElements());
+        assertEquals(tourPlanResponseListMocks, result.tours().getContent());
+        assertEquals(List.of(2L, 0L, 1L), result.facets().difficulty().stream().map(FacetCountResponse::count).toList());
+        assertEquals(List.of(1L, 1L, 0L, 0L, 1L), result.facets().priceRanges().stream().map(FacetCountResponse::count).toList());
+        assertEquals("500+", result.facets().priceRanges().getLast().value());
+        assertSame(regions, result.facets().regions());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(tourPlanRepository).findResponses(any(Specification.class), pageable.capture());
+        assertEquals(Sort.by(Sort.Direction.ASC, "pricing.price"), pageable.getValue().getSort());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void discoverTourPlans_withoutMatches_shouldSkipPageAndRegionQueries() {
+        // Given
+        when(tourPlanRepository.countByDifficultyAndPriceRange(any(Specification.class), anyList())).thenReturn(List.of());
+
+        // When
+        TourDiscoveryResponse result = tourPlanService.discoverTourPlans(emptyFilter(), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(0, result.facets().total());
+        assertTrue(result.tours().isEmpty());
+        assertEquals(List.of(0L, 0L, 0L), result.facets().difficulty().stream().map(FacetCountResponse::count).toList());
+        verify(tourPlanRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
+        verify(tourPlanRepository, never()).countByRegion(any(Specification.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void discoverTourPlans_shouldCountEachFacetWithoutItsOwnCriterion() {
+        // Given: EASY and tours from 100 up are selected
+        TourDiscoveryFilter filter = new TourDiscoveryFilter(new BigDecimal("100"), null, null, null,
+                Set.of(DifficultyLevel.EASY), null, null, null, null, null, null, null);
+        when(tourPlanRepository.countByDifficultyAndPriceRange(any(Specification.class), anyList())).thenReturn(
+                // any difficulty, price >= 100
+                List.of(new TourPlanDiscoveryRepository.DifficultyPriceFacet("EASY", 2, List.of(0L, 1L, 1L, 0L, 0L)),
+                        new TourPlanDiscoveryRepository.DifficultyPriceFacet("HARD", 4, List.of(0L, 0L, 2L, 0L, 2L))),
+                // any difficulty, any price
+                List.of(new TourPlanDiscoveryRepository.DifficultyPriceFacet("EASY", 5, List.of(3L, 1L, 1L, 0L, 0L)),
+                        new TourPlanDiscoveryRepository.DifficultyPriceFacet("HARD", 6, List.of(2L, 0L, 2L, 0L, 2L))));
+        when(tourPlanRepository.countByRegion(any(Specification.class))).thenReturn(List.of());
+        when(tourPlanRepository.findResponses(any(Specification.class), any(Pageable.class)))
+                .thenReturn(tourPlanResponseListMocks);
+
+        // When
+        TourDiscoveryResponse result = tourPlanService.discoverTourPlans(filter, PageRequest.of(0, 10));
+
+        // Then: the total honours both criteria, each facet only the other one
+        assertEquals(2, result.facets().total());
+        assertEquals(List.of(2L, 0L, 4L), result.facets().difficulty().stream().map(FacetCountResponse::count).toList());
+        assertEquals(List.of(3L, 1L, 1L, 0L, 0L), result.facets().priceRanges().stream().map(FacetCountResponse::count).toList());
+        verify(tourPlanRepository, times(2)).countByDifficultyAndPriceRange(any(Specification.class), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void discoverTourPlans_withRegionSelected_shouldStillCountOtherRegions() {
+        // Given
+        TourDiscoveryFilter filter = new TourDiscoveryFilter(null, null, null, null, null, null, 3,
+                null, null, null, null, null);
+        when(tourPlanRepository.countByDifficultyAndPriceRange(any(Specification.class), anyList())).thenReturn(List.of());
+        List<FacetCountResponse> regions = List.of(new FacetCountResponse("5", "Darien", 4));
+        when(tourPlanRepository.countByRegion(any(Specification.class))).thenReturn(regions);
+
+        // When
+        TourDiscoveryResponse result = tourPlanService.discoverTourPlans(filter, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(0, result.facets().total());
+        assertSame(regions, result.facets().regions());
+        verify(tourPlanRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void discoverTourPlans_shouldRejectInvertedRange() {
+        // Given
+        TourDiscoveryFilter inverted = new TourDiscoveryFilter(BigDecimal.TEN, BigDecimal.ONE, null, null, null, null,
+                null, null, null, null, null, null);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> tourPlanService.discoverTourPlans(inverted, PageRequest.of(0, 10)));
+        verifyNoInteractions(tourPlanRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void discoverTourPlans_shouldRejectUnsupportedSortProperty() {
+        // Given
+        when(tourPlanRepository.countByDifficultyAndPriceRange(any(Specification.class), anyList())).thenReturn(List.of(
+                new TourPlanDiscoveryRepository.DifficultyPriceFacet("EASY", 1, List.of(1L, 0L, 0L, 0L, 0L))));
+        when(tourPlanRepository.countByRegion(any(Specification.class))).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tourPlanService.discoverTourPlans(emptyFilter(),
+                PageRequest.of(0, 10, Sort.by("provider.user.password"))));
+    }
+
+    private static TourPlanRequest withSeason(TourPlanRequest request, Boolean isSeasonal, LocalDate seasonStart,
+            LocalDate seasonEnd) {
+        return new TourPlanRequest(request.title(), request.description(), request.price(), request.duration(),
+                request.availableSpots(), request.providerId(), request.status(), request.difficultyLevel(),
+                request.startTime(), request.endTime(), request.includedServices(), request.excludedServices(),
+                request.whatToBring(), request.tags(), request.languageOptions(), request.availableDays(),
+                request.imageGallery(), isSeasonal, seasonStart, seasonEnd);
+    }
 }
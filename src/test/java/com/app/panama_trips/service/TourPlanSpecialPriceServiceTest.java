@@ -14,12 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -221,7 +223,7 @@ public class TourPlanSpecialPriceServiceTest {
 
         when(tourPlanSpecialPriceRepository.findById(id)).thenReturn(Optional.of(specialPrice1));
         when(tourPlanRepository.findById(tourPlan.getId())).thenReturn(Optional.of(tourPlan));
-        when(tourPlanSpecialPriceRepository.save(any(TourPlanSpecialPrice.class))).thenAnswer(invocation -> {
+        when(tourPlanSpecialPriceRepository.saveAndFlush(any(TourPlanSpecialPrice.class))).thenAnswer(invocation -> {
             TourPlanSpecialPrice updated = invocation.getArgument(0);
             return updated;
         });
@@ -236,7 +238,41 @@ public class TourPlanSpecialPriceServiceTest {
         assertEquals(updateRequest.description(), result.description());
         verify(tourPlanSpecialPriceRepository).findById(id);
         verify(tourPlanRepository).findById(tourPlan.getId());
-        verify(tourPlanSpecialPriceRepository).save(any(TourPlanSpecialPrice.class));
+        verify(tourPlanSpecialPriceRepository).saveAndFlush(any(TourPlanSpecialPrice.class));
+    }
+
+    @Test
+    void update_whenPeriodOverlapsAnotherOne_shouldThrowException() {
+        // Given
+        Integer id = 1;
+        when(tourPlanSpecialPriceRepository.findById(id)).thenReturn(Optional.of(specialPrice1));
+        when(tourPlanSpecialPriceRepository.existsOverlappingPeriodExcluding(validRequest.tourPlanId(),
+                validRequest.startDate(), validRequest.endDate(), id)).thenReturn(true);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service.update(id, validRequest));
+        assertEquals("There is already a special price defined for this tour plan during the specified date range",
+                exception.getMessage());
+        verify(tourPlanSpecialPriceRepository, never()).saveAndFlush(any(TourPlanSpecialPrice.class));
+    }
+
+    @Test
+    void save_whenConcurrentWriteViolatesExclusionConstraint_shouldThrowOverlapException() {
+        // Given
+        when(tourPlanRepository.findById(tourPlan.getId())).thenReturn(Optional.of(tourPlan));
+        when(tourPlanSpecialPriceRepository.findOverlappingPricePeriodsForTourPlan(
+                validRequest.tourPlanId(), validRequest.startDate(), validRequest.endDate())).thenReturn(List.of());
+        when(tourPlanSpecialPriceRepository.save(any(TourPlanSpecialPrice.class))).thenThrow(
+                new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("ERROR: conflicting key value violates exclusion constraint \""
+                                + TourPlanSpecialPriceRepository.OVERLAP_CONSTRAINT + "\"", "23P01")));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> service.save(validRequest));
+        assertEquals("There is already a special price defined for this tour plan during the specified date range",
+                exception.getMessage());
     }
 
     @Test
@@ -0,0 +1,237 @@
+package com.app.panama_trips.service;
+
+import com.app.panama_trips.exception.BusinessRuleException;
+import com.app.panama_trips.exception.ResourceNotFoundException;
+import com.app.panama_trips.persistence.entity.Coupon;
+import com.app.panama_trips.persistence.entity.TourPlan;
+import com.app.panama_trips.persistence.entity.TourPlanSpecialPrice;
+import com.app.panama_trips.persistence.entity.embeddable.TourPlanPricing;
+import com.app.panama_trips.persistence.repository.CouponRepository;
+import com.app.panama_trips.persistence.repository.TourPlanAvailabilityRepository;
+import com.app.panama_trips.persistence.repository.TourPlanRepository;
+import com.app.panama_trips.persistence.repository.TourPlanSpecialPriceRepository;
+import com.app.panama_trips.presentation.dto.DailyPriceOverride;
+import com.app.panama_trips.presentation.dto.PriceQuoteResponse;
+import com.app.panama_trips.service.implementation.TourPricingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TourPricingServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 12, 10);
+
+    @Mock
+    private TourPlanRepository tourPlanRepository;
+
+    @Mock
+    private TourPlanSpecialPriceRepository specialPriceRepository;
+
+    @Mock
+    private TourPlanAvailabilityRepository availabilityRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private TourPricingService tourPricingService;
+
+    // 100.00 per adult, 60.00 per child, 10% tour discount, 7% tax
+    private TourPlan pricedTour() {
+        return TourPlan.builder()
+                .id(1)
+                .title("Isla Taboga")
+                .pricing(TourPlanPricing.builder()
+                        .price(new BigDecimal("100.00"))
+                        .childPrice(new BigDecimal("60.00"))
+                        .discountPercentage(new BigDecimal("10.00"))
+                        .taxPercentage(new BigDecimal("7.00"))
+                        .build())
+                .build();
+    }
+
+    private TourPlanSpecialPrice specialPrice(LocalDate start, LocalDate end, String price) {
+        return TourPlanSpecialPrice.builder()
+                .startDate(start)
+                .endDate(end)
+                .price(new BigDecimal(price))
+                .build();
+    }
+
+    private Coupon coupon(String code, int percentage, LocalDate expiration) {
+        Coupon coupon = new Coupon();
+        coupon.setCode(code);
+        coupon.setDiscountPercentage(percentage);
+        coupon.setExpirationDate(expiration);
+        return coupon;
+    }
+
+    @Test
+    void quote_shouldApplyDiscountAndTaxToBasePrice() {
+        // Given
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(pricedTour()));
+        when(availabilityRepository.findPriceOverrides(1, DATE, DATE)).thenReturn(List.of());
+        when(specialPriceRepository.findByTourPlan_Id(1)).thenReturn(List.of());
+
+        // When
+        PriceQuoteResponse quote = tourPricingService.quote(1, DATE, 2, 1, null);
+
+        // Then
+        assertEquals("BASE", quote.priceSource());
+        assertEquals(new BigDecimal("90.00"), quote.adultPrice());
+        assertEquals(new BigDecimal("54.00"), quote.childPrice());
+        assertEquals(new BigDecimal("234.00"), quote.subtotal());
+        assertEquals(new BigDecimal("0.00"), quote.couponDiscount());
+        assertEquals(new BigDecimal("16.38"), quote.tax());
+        assertEquals(new BigDecimal("250.38"), quote.total());
+        verifyNoInteractions(couponRepository);
+    }
+
+    @Test
+    void quote_shouldUseSpecialPriceInsideItsPeriodOnly() {
+        // Given
+        TourPlan tour = pricedTour();
+        when(availabilityRepository.findPriceOverrides(eq(1), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+        when(specialPriceRepository.findByTourPlan_Id(1))
+                .thenReturn(List.of(specialPrice(DATE.minusDays(2), DATE, "80.00")));
+
+        // When
+        PriceQuoteResponse inside = tourPricingService.quote(tour, DATE, 1, 1, null);
+        PriceQuoteResponse after = tourPricingService.quote(tour, DATE.plusDays(1), 1, 1, null);
+
+        // Then
+        assertEquals("SPECIAL_PRICE", inside.priceSource());
+        assertEquals(new BigDecimal("72.00"), inside.adultPrice());
+        assertEquals(new BigDecimal("54.00"), inside.childPrice());
+        assertEquals("BASE", after.priceSource());
+        assertEquals(new BigDecimal("90.00"), after.adultPrice());
+        // The periods of the tour are loaded once and answered from memory afterwards
+        verify(specialPriceRepository, times(1)).findByTourPlan_Id(1);
+    }
+
+    @Test
+    void quote_shouldPreferDateOverrideOverSpecialPrice() {
+        // Given
+        TourPlan tour = pricedTour();
+        when(availabilityRepository.findPriceOverrides(1, DATE, DATE))
+                .thenReturn(List.of(new DailyPriceOverride(DATE, new BigDecimal("50.00"))));
+        when(specialPriceRepository.findByTourPlan_Id(1))
+                .thenReturn(List.of(specialPrice(DATE.minusDays(2), DATE.plusDays(2), "80.00")));
+
+        // When
+        PriceQuoteResponse quote = tourPricingService.quote(tour, DATE, 1, 1, null);
+
+        // Then
+        assertEquals("DATE_OVERRIDE", quote.priceSource());
+        assertEquals(new BigDecimal("45.00"), quote.adultPrice());
+        // The child price is capped at the adult price of the day
+        assertEquals(new BigDecimal("45.00"), quote.childPrice());
+    }
+
+    @Test
+    void quote_shouldApplyCouponBeforeTax() {
+        // Given
+        TourPlan tour = pricedTour();
+        when(couponRepository.findByCode("VERANO20"))
+                .thenReturn(Optional.of(coupon("VERANO20", 20, LocalDate.now().plusDays(1))));
+        when(availabilityRepository.findPriceOverrides(1, DATE, DATE)).thenReturn(List.of());
+        when(specialPriceRepository.findByTourPlan_Id(1)).thenReturn(List.of());
+
+        // When
+        PriceQuoteResponse quote = tourPricingService.quote(tour, DATE, 2, 1, "VERANO20");
+
+        // Then
+        assertEquals(new BigDecimal("234.00"), quote.subtotal());
+        assertEquals(new BigDecimal("46.80"), quote.couponDiscount());
+        assertEquals(new BigDecimal("13.10"), quote.tax());
+        assertEquals(new BigDecimal("200.30"), quote.total());
+    }
+
+    @Test
+    void quote_shouldThrowException_whenCouponExpired() {
+        // Given
+        when(couponRepository.findByCode("VIEJO"))
+                .thenReturn(Optional.of(coupon("VIEJO", 20, LocalDate.now().minusDays(1))));
+
+        // When & Then
+        BusinessRuleException exception = assertThrows(BusinessRuleException.class,
+                () -> tourPricingService.quote(pricedTour(), DATE, 1, 0, "VIEJO"));
+        assertEquals("Coupon with code VIEJO has expired", exception.getMessage());
+    }
+
+    @Test
+    void quote_shouldThrowException_whenPartyIsEmpty() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> tourPricingService.quote(pricedTour(), DATE, 0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> tourPricingService.quote(pricedTour(), DATE, 2, -1, null));
+        verifyNoInteractions(availabilityRepository, specialPriceRepository);
+    }
+
+    @Test
+    void quote_shouldThrowException_whenTourPlanNotFound() {
+        // Given
+        when(tourPlanRepository.findById(99)).thenReturn(Optional.empty());
+
+        // When & Then
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> tourPricingService.quote(99, DATE, 1, 0, null));
+        assertEquals("TourPlan with id 99 not found", exception.getMessage());
+    }
+
+    @Test
+    void quoteMonth_shouldQuoteEveryDayWithOneOverrideRead() {
+        // Given
+        YearMonth month = YearMonth.of(2026, 12);
+        when(tourPlanRepository.findById(1)).thenReturn(Optional.of(pricedTour()));
+        when(availabilityRepository.findPriceOverrides(1, month.atDay(1), month.atEndOfMonth()))
+                .thenReturn(List.of(new DailyPriceOverride(month.atDay(31), new BigDecimal("150.00"))));
+        when(specialPriceRepository.findByTourPlan_Id(1)).thenReturn(List.of(
+                specialPrice(month.atDay(1), month.atDay(10), "80.00"),
+                specialPrice(month.atDay(5), month.atDay(7), "70.00")));
+
+        // When
+        List<PriceQuoteResponse> days = tourPricingService.quoteMonth(1, month, 1, 0, null);
+
+        // Then
+        assertEquals(31, days.size());
+        assertEquals(new BigDecimal("72.00"), days.get(0).adultPrice());
+        // Overlapping periods resolve to the lowest price
+        assertEquals(new BigDecimal("63.00"), days.get(5).adultPrice());
+        assertEquals("BASE", days.get(10).priceSource());
+        assertEquals("DATE_OVERRIDE", days.get(30).priceSource());
+        assertEquals(new BigDecimal("135.00"), days.get(30).adultPrice());
+        verify(availabilityRepository, times(1)).findPriceOverrides(anyInt(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    void invalidate_shouldReloadSpecialPricesOnNextQuote() {
+        // Given
+        TourPlan tour = pricedTour();
+        when(availabilityRepository.findPriceOverrides(1, DATE, DATE)).thenReturn(List.of());
+        when(specialPriceRepository.findByTourPlan_Id(1))
+                .thenReturn(List.of())
+                .thenReturn(List.of(specialPrice(DATE, DATE, "80.00")));
+        assertEquals("BASE", tourPricingService.quote(tour, DATE, 1, 0, null).priceSource());
+
+        // When
+        tourPricingService.invalidate(1);
+        PriceQuoteResponse quote = tourPricingService.quote(tour, DATE, 1, 0, null);
+
+        // Then
+        assertEquals("SPECIAL_PRICE", quote.priceSource());
+        verify(specialPriceRepository, times(2)).findByTourPlan_Id(1);
+    }
+}
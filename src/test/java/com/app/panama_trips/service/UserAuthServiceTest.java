@@ -1,12 +1,16 @@
 package com.app.panama_trips.service;
 
 import com.app.panama_trips.DataProvider;
-import com.app.panama_trips.persistence.repository.RoleRepository;
+import com.app.panama_trips.exception.TooManyRequestsException;
+import com.app.panama_trips.persistence.entity.RoleEnum;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.AuthLoginRequest;
 import com.app.panama_trips.presentation.dto.AuthResponse;
+import com.app.panama_trips.presentation.dto.UserCredentials;
 import com.app.panama_trips.service.implementation.UserAuthService;
 import com.app.panama_trips.service.implementation.UserDetailServiceImpl;
+import com.app.panama_trips.service.interfaces.IPasswordHashingService;
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
 import com.app.panama_trips.utility.JwtUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,7 +33,7 @@ class UserAuthServiceTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private IPasswordHashingService passwordHashingService;
 
     @Mock
     private UserDetailServiceImpl userDetailService;
@@ -39,26 +42,25 @@ class UserAuthServiceTest {
     private UserEntityRepository userEntityRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private IRoleAuthorityService roleAuthorityService;
 
     @InjectMocks
     private UserAuthService userAuthService;
 
-    private UserDetails mockUserDetails;
-
     @Test
     void login_shouldReturnValidAuthResponse() {
-        mockUserDetails = new User(
+        UserCredentials credentials = new UserCredentials(
+                1L,
                 "admin",
                 "Admin123!", // Contraseña encriptada
-                List.of(() -> "ROLE_ADMIN")
+                RoleEnum.ADMIN
         );
 
         // Given
-        when(userDetailService.loadUserByUsername("admin")).thenReturn(mockUserDetails);
-        when(userEntityRepository.findUserEntitiesByName("admin")).thenReturn(Optional.of(DataProvider.userAdmin()));
+        when(userDetailService.loadCredentials("admin")).thenReturn(credentials);
+        when(roleAuthorityService.getAuthorities(RoleEnum.ADMIN)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
         when(jwtUtil.generateToken(any(Authentication.class), eq(1L))).thenReturn("mocked_jwt_token");
-        when(passwordEncoder.matches("Admin123!", mockUserDetails.getPassword())).thenReturn(true);
+        when(passwordHashingService.matches("Admin123!", credentials.passwordHash())).thenReturn(true);
         AuthLoginRequest authLoginRequest = DataProvider.userAuthLoginRequestMock();
 
         // When
@@ -69,12 +71,75 @@ class UserAuthServiceTest {
         assertEquals("admin", response.username());
         assertEquals("Logged in successfully", response.message());
         assertEquals("mocked_jwt_token", response.jwt());
+        verify(userEntityRepository, never()).findUserEntitiesByName(anyString());
+        verify(userEntityRepository, never()).updatePasswordHash(anyLong(), anyString());
+    }
+
+    @Test
+    void login_shouldRehashPasswordWhenWorkFactorChanged() {
+        // Given
+        UserCredentials credentials = new UserCredentials(1L, "admin", "old-hash", RoleEnum.ADMIN);
+        when(userDetailService.loadCredentials("admin")).thenReturn(credentials);
+        when(passwordHashingService.matches("Admin123!", "old-hash")).thenReturn(true);
+        when(passwordHashingService.needsRehash("old-hash")).thenReturn(true);
+        when(passwordHashingService.hash("Admin123!")).thenReturn("new-hash");
+        when(jwtUtil.generateToken(any(Authentication.class), eq(1L))).thenReturn("mocked_jwt_token");
+
+        // When
+        AuthResponse response = userAuthService.login(DataProvider.userAuthLoginRequestMock());
+
+        // Then
+        assertEquals("mocked_jwt_token", response.jwt());
+        verify(userEntityRepository).updatePasswordHash(1L, "new-hash");
+    }
+
+    @Test
+    void login_shouldSucceedWhenRehashIsRejected() {
+        // Given
+        UserCredentials credentials = new UserCredentials(1L, "admin", "old-hash", RoleEnum.ADMIN);
+        when(userDetailService.loadCredentials("admin")).thenReturn(credentials);
+        when(passwordHashingService.matches("Admin123!", "old-hash")).thenReturn(true);
+        when(passwordHashingService.needsRehash("old-hash")).thenReturn(true);
+        when(passwordHashingService.hash("Admin123!")).thenThrow(new TooManyRequestsException("busy"));
+        when(jwtUtil.generateToken(any(Authentication.class), eq(1L))).thenReturn("mocked_jwt_token");
+
+        // When
+        AuthResponse response = userAuthService.login(DataProvider.userAuthLoginRequestMock());
+
+        // Then
+        assertTrue(response.status());
+        verify(userEntityRepository, never()).updatePasswordHash(anyLong(), anyString());
+    }
+
+    @Test
+    void login_shouldPropagateRejectionWhenVerificationPoolIsSaturated() {
+        // Given
+        UserCredentials credentials = new UserCredentials(1L, "admin", "hash", RoleEnum.ADMIN);
+        when(userDetailService.loadCredentials("admin")).thenReturn(credentials);
+        when(passwordHashingService.matches("Admin123!", "hash")).thenThrow(new TooManyRequestsException("busy"));
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class, () -> userAuthService.login(DataProvider.userAuthLoginRequestMock()));
+        verify(jwtUtil, never()).generateToken(any(Authentication.class), anyLong());
+    }
+
+    @Test
+    void login_shouldThrowExceptionForWrongPassword() {
+        // Given
+        UserCredentials credentials = new UserCredentials(1L, "admin", "hash", RoleEnum.ADMIN);
+        when(userDetailService.loadCredentials("admin")).thenReturn(credentials);
+        when(passwordHashingService.matches("wrong", "hash")).thenReturn(false);
+
+        // When & Then
+        AuthLoginRequest request = new AuthLoginRequest("admin", "wrong");
+        assertThrows(BadCredentialsException.class, () -> userAuthService.login(request));
+        verify(jwtUtil, never()).generateToken(any(Authentication.class), anyLong());
     }
 
     @Test
     void login_shouldThrowExceptionForNonExistentUser() {
         // Given: Usuario no encontrado
-        when(userDetailService.loadUserByUsername("unknownUser")).thenReturn(null);
+        when(userDetailService.loadCredentials("unknownUser")).thenThrow(new UsernameNotFoundException("User not found"));
 
         // When & Then: Se espera una excepción BadCredentialsException
         AuthLoginRequest request = new AuthLoginRequest("unknownUser", "testPassword");
@@ -84,15 +149,46 @@ class UserAuthServiceTest {
     @Test
     void create_shouldCreateUser() {
         // Given
-        when(userEntityRepository.save(any())).thenReturn(DataProvider.userAdmin());
+        when(passwordHashingService.hash("Admin123!")).thenReturn("hashed");
+        when(userDetailService.createUser(any(), eq(RoleEnum.CUSTOMER))).thenReturn(DataProvider.userAdmin());
+        when(roleAuthorityService.getAuthorities(RoleEnum.CUSTOMER))
+                .thenReturn(List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
         when(jwtUtil.generateToken(any(Authentication.class), eq(1L))).thenReturn("mocked_jwt_token");
 
         // When
         AuthResponse response = userAuthService.create(DataProvider.userAuthCreateUserRequestMock());
 
         // Then
-        verify(userEntityRepository, times(1)).save(any());
+        verify(userDetailService, times(1)).createUser(argThat(user -> "hashed".equals(user.getPasswordHash())), eq(RoleEnum.CUSTOMER));
         assertEquals("User created successfully", response.message());
         assertEquals("mocked_jwt_token", response.jwt());
     }
+
+    @Test
+    void create_shouldHashBeforeTheTransactionalInsert() {
+        // Given
+        when(passwordHashingService.hash("Admin123!")).thenReturn("hashed");
+        when(userDetailService.createUser(any(), eq(RoleEnum.CUSTOMER))).thenReturn(DataProvider.userAdmin());
+
+        // When
+        userAuthService.create(DataProvider.userAuthCreateUserRequestMock());
+
+        // Then
+        var inOrder = inOrder(passwordHashingService, userDetailService);
+        inOrder.verify(passwordHashingService).hash("Admin123!");
+        inOrder.verify(userDetailService).createUser(any(), eq(RoleEnum.CUSTOMER));
+    }
+
+    @Test
+    void create_shouldRejectExistingEmailWithoutHashing() {
+        // Given
+        when(userEntityRepository.findUserEntitiesByEmail("admin@example.com"))
+                .thenReturn(Optional.of(DataProvider.userAdmin()));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class,
+                () -> userAuthService.create(DataProvider.userAuthCreateUserRequestMock()));
+        verify(passwordHashingService, never()).hash(any());
+        verify(userDetailService, never()).createUser(any(), any());
+    }
 }
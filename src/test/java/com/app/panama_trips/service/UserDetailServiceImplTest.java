@@ -1,18 +1,28 @@
 package com.app.panama_trips.service;
 
 import com.app.panama_trips.DataProvider;
+import com.app.panama_trips.persistence.entity.RoleEnum;
 import com.app.panama_trips.persistence.entity.UserEntity;
+import com.app.panama_trips.persistence.repository.RoleRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
+import com.app.panama_trips.presentation.dto.UserCredentials;
 import com.app.panama_trips.service.implementation.UserDetailServiceImpl;
+import com.app.panama_trips.service.interfaces.IRoleAuthorityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class UserDetailServiceImplTest {
@@ -20,6 +30,12 @@ public class UserDetailServiceImplTest {
     @Mock
     private UserEntityRepository userEntityRepository;
 
+    @Mock
+    private IRoleAuthorityService roleAuthorityService;
+
+    @Mock
+    private RoleRepository roleRepository;
+
     @InjectMocks
     private UserDetailServiceImpl userDetailServiceImpl;
 
@@ -32,9 +48,11 @@ public class UserDetailServiceImplTest {
     void loadUserByUsername_shouldReturnUserDetailsWhenUserExists() {
         // Given
         UserEntity user = DataProvider.userAdmin();
+        UserCredentials credentials = new UserCredentials(user.getId(), user.getName(), user.getPasswordHash(), RoleEnum.ADMIN);
 
         // When
-        when(userEntityRepository.findUserEntitiesByName("admin")).thenReturn(Optional.of(user));
+        when(userEntityRepository.findCredentialsByName("admin")).thenReturn(Optional.of(credentials));
+        when(roleAuthorityService.getAuthorities(RoleEnum.ADMIN)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
         UserDetails userDetails = userDetailServiceImpl.loadUserByUsername("admin");
 
         // Then
@@ -48,9 +66,36 @@ public class UserDetailServiceImplTest {
     @Test
     void loadUserByUsername_shouldThrowExceptionWhenUserDoesNotExist() {
         // When
-        when(userEntityRepository.findUserEntitiesByName("nonExistentUser")).thenReturn(Optional.empty());
+        when(userEntityRepository.findCredentialsByName("nonExistentUser")).thenReturn(Optional.empty());
 
         // Then
         assertThrows(UsernameNotFoundException.class, () -> userDetailServiceImpl.loadUserByUsername("nonExistentUser"));
     }
+
+    @Test
+    void createUser_shouldAssignRoleAndSave() {
+        // Given
+        UserEntity user = UserEntity.builder().name("new").email("new@example.com").passwordHash("hashed").build();
+        when(userEntityRepository.findUserEntitiesByEmail("new@example.com")).thenReturn(Optional.empty());
+        when(roleRepository.findByRoleEnum(RoleEnum.CUSTOMER)).thenReturn(DataProvider.ROLE_CUSTOMER);
+        when(userEntityRepository.save(user)).thenReturn(user);
+
+        // When
+        UserEntity saved = userDetailServiceImpl.createUser(user, RoleEnum.CUSTOMER);
+
+        // Then
+        assertSame(DataProvider.ROLE_CUSTOMER, saved.getRole());
+        assertEquals("hashed", saved.getPasswordHash());
+    }
+
+    @Test
+    void createUser_shouldRejectEmailTakenMeanwhile() {
+        // Given
+        UserEntity user = UserEntity.builder().name("new").email("admin@example.com").passwordHash("hashed").build();
+        when(userEntityRepository.findUserEntitiesByEmail("admin@example.com")).thenReturn(Optional.of(DataProvider.userAdmin()));
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> userDetailServiceImpl.createUser(user, RoleEnum.CUSTOMER));
+        verify(userEntityRepository, never()).save(any());
+    }
 }
@@ -8,6 +8,7 @@ import com.app.panama_trips.persistence.repository.RoleRepository;
 import com.app.panama_trips.persistence.repository.UserEntityRepository;
 import com.app.panama_trips.presentation.dto.UserResponse;
 import com.app.panama_trips.service.implementation.UserEntityService;
+import com.app.panama_trips.utility.Pagination;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -57,7 +58,7 @@ public class UserEntityServiceTest {
     void getAllUser_shouldReturnAllUsersWhenPaginationDisabled() {
         // Given
         List<UserEntity> userEntityList = DataProvider.userListMocks();
-        Pageable pageable = Pageable.unpaged();
+        Pageable pageable = PageRequest.of(0, Pagination.MAX_SIZE);
         PageImpl<UserEntity> pageMock = new PageImpl<>(userEntityList, pageable, userEntityList.size());
 
         // When
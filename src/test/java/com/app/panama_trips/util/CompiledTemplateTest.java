@@ -0,0 +1,68 @@
+package com.app.panama_trips.util;
+
+import com.app.panama_trips.utility.CompiledTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledTemplateTest {
+
+    @Test
+    void render_shouldReplaceEveryPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.parse("Hello ${name}, your email is ${ email }. Bye ${name}!");
+
+        assertEquals("Hello Ana, your email is ana@example.com. Bye Ana!",
+                template.render(Map.of("name", "Ana", "email", "ana@example.com")));
+        assertEquals(List.of("name", "email"), List.copyOf(template.variableNames()));
+    }
+
+    @Test
+    void render_shouldKeepPlaceholdersWithoutValue() {
+        CompiledTemplate template = CompiledTemplate.parse("Hello ${name}, you owe ${ amount }");
+
+        assertEquals("Hello ${name}, you owe 25.00", template.render(Map.of("amount", "25.00")));
+    }
+
+    @Test
+    void parse_shouldTreatMalformedPlaceholdersAsText() {
+        CompiledTemplate template = CompiledTemplate.parse("Price: $5, ${} and ${open");
+
+        assertEquals(Set.of(), template.variableNames());
+        assertEquals("Price: $5, ${} and ${open", template.render(Map.of()));
+        assertEquals("", CompiledTemplate.parse("").render(Map.of()));
+    }
+
+    @Test
+    void parse_shouldHandlePlaceholdersAtTheEdges() {
+        CompiledTemplate template = CompiledTemplate.parse("${a}${b}");
+        Map<String, Object> values = new HashMap<>();
+        values.put("a", 1);
+        values.put("b", 2);
+
+        assertEquals("12", template.render(values));
+    }
+
+    @Test
+    void renderTo_shouldAppendSoBuffersCanBeReused() {
+        CompiledTemplate template = CompiledTemplate.parse("Hi ${name}");
+        StringBuilder buffer = new StringBuilder("stale");
+
+        buffer.setLength(0);
+        template.renderTo(Map.of("name", "Ana"), buffer);
+        assertEquals("Hi Ana", buffer.toString());
+
+        buffer.setLength(0);
+        template.renderTo(Map.of("name", "Luis"), buffer);
+        assertEquals("Hi Luis", buffer.toString());
+    }
+
+    @Test
+    void parse_shouldRejectNull() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.parse(null));
+    }
+}
@@ -0,0 +1,65 @@
+package com.app.panama_trips.util;
+
+import com.app.panama_trips.utility.DateIntervalTree;
+import com.app.panama_trips.utility.DateIntervalTree.Interval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateIntervalTreeTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void stab_shouldReturnEveryIntervalContainingTheDate() {
+        DateIntervalTree<String> tree = DateIntervalTree.of(List.of(
+                new Interval<>(JAN_1.plusDays(10), JAN_1.plusDays(20), "b"),
+                new Interval<>(JAN_1, JAN_1.plusDays(30), "a"),
+                new Interval<>(JAN_1.plusDays(15), JAN_1.plusDays(15), "c")));
+
+        assertEquals(List.of("a"), tree.stab(JAN_1));
+        assertEquals(List.of("a", "b"), tree.stab(JAN_1.plusDays(10)));
+        assertEquals(List.of("a", "b", "c"), tree.stab(JAN_1.plusDays(15)));
+        assertEquals(List.of("a"), tree.stab(JAN_1.plusDays(30)));
+        assertTrue(tree.stab(JAN_1.minusDays(1)).isEmpty());
+        assertTrue(tree.stab(JAN_1.plusDays(31)).isEmpty());
+    }
+
+    @Test
+    void stab_shouldMatchLinearScanOnDisjointPeriods() {
+        List<Interval<Integer>> intervals = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            intervals.add(new Interval<>(JAN_1.plusDays(i * 7L), JAN_1.plusDays(i * 7L + 3), i));
+        }
+        DateIntervalTree<Integer> tree = DateIntervalTree.of(intervals);
+
+        for (int day = -5; day < 360; day++) {
+            LocalDate date = JAN_1.plusDays(day);
+            List<Integer> expected = intervals.stream()
+                    .filter(interval -> !date.isBefore(interval.start()) && !date.isAfter(interval.end()))
+                    .map(Interval::value)
+                    .toList();
+            assertEquals(expected, tree.stab(date), "date " + date);
+        }
+        assertEquals(50, tree.size());
+    }
+
+    @Test
+    void empty_shouldMatchNothing() {
+        DateIntervalTree<String> tree = DateIntervalTree.empty();
+
+        assertTrue(tree.isEmpty());
+        assertTrue(tree.stab(JAN_1).isEmpty());
+    }
+
+    @Test
+    void of_shouldRejectIntervalEndingBeforeItStarts() {
+        List<Interval<String>> intervals = List.of(new Interval<>(JAN_1, JAN_1.minusDays(1), "x"));
+
+        assertThrows(IllegalArgumentException.class, () -> DateIntervalTree.of(intervals));
+    }
+}
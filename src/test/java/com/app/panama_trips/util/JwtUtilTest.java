@@ -54,6 +54,18 @@ public class JwtUtilTest {
         assertNotNull(decodedJWT);
     }
 
+    @Test
+    void validateToken_shouldReuseTheSameVerifier() {
+        String token = jwtUtil.generateToken(authentication, 1L);
+        jwtUtil.validateToken(token);
+        Object verifier = ReflectionTestUtils.getField(jwtUtil, "verifier");
+
+        jwtUtil.validateToken(token);
+
+        assertNotNull(verifier);
+        assertSame(verifier, ReflectionTestUtils.getField(jwtUtil, "verifier"));
+    }
+
     @Test
     void validateToken_shouldThrowExceptionForInvalidToken() {
         assertThrows(JWTVerificationException.class, () -> jwtUtil.validateToken("invalidToken"));